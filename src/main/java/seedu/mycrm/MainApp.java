@@ -1,14 +1,20 @@
 package seedu.mycrm;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.mycrm.commons.core.Config;
 import seedu.mycrm.commons.core.LogsCenter;
+import seedu.mycrm.commons.core.StorageFormat;
 import seedu.mycrm.commons.core.Version;
 import seedu.mycrm.commons.exceptions.DataConversionException;
 import seedu.mycrm.commons.util.ConfigUtil;
@@ -21,13 +27,22 @@ import seedu.mycrm.model.MyCrm;
 import seedu.mycrm.model.ReadOnlyMyCrm;
 import seedu.mycrm.model.ReadOnlyUserPrefs;
 import seedu.mycrm.model.UserPrefs;
+import seedu.mycrm.model.job.JobArchive;
 import seedu.mycrm.model.util.SampleDataUtil;
+import seedu.mycrm.storage.BinaryMyCrmStorage;
+import seedu.mycrm.storage.CommandHistoryStorage;
+import seedu.mycrm.storage.JournaledMyCrmStorage;
+import seedu.mycrm.storage.JsonJobArchive;
 import seedu.mycrm.storage.JsonMyCrmStorage;
 import seedu.mycrm.storage.JsonUserPrefsStorage;
+import seedu.mycrm.storage.MyCrmFormatConverter;
 import seedu.mycrm.storage.MyCrmStorage;
+import seedu.mycrm.storage.SegmentedMyCrmStorage;
 import seedu.mycrm.storage.Storage;
 import seedu.mycrm.storage.StorageManager;
+import seedu.mycrm.storage.TextCommandHistoryStorage;
 import seedu.mycrm.storage.UserPrefsStorage;
+import seedu.mycrm.storage.WriteBehindMyCrmStorage;
 import seedu.mycrm.ui.Ui;
 import seedu.mycrm.ui.UiManager;
 
@@ -38,6 +53,8 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 3, 1, true);
 
+    public static final String MESSAGE_SKIPPED_RECORDS = "%1$d invalid record(s) in the data file were skipped:\n%2$s";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -46,6 +63,9 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private WriteBehindMyCrmStorage myCrmStorage;
+    private final List<String> skippedRecords = new ArrayList<>();
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing MyCrm ]===========================");
@@ -56,22 +76,85 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        MyCrmStorage myCrmStorage = new JsonMyCrmStorage(userPrefs.getMyCrmFilePath());
-        storage = new StorageManager(myCrmStorage, userPrefsStorage);
+        MyCrmStorage fileStorage = initMyCrmFileStorage(userPrefs);
+        myCrmStorage = new WriteBehindMyCrmStorage(fileStorage, this::handleSaveFailure);
+        CommandHistoryStorage commandHistoryStorage = new TextCommandHistoryStorage(
+                TextCommandHistoryStorage.getHistoryFilePath(userPrefs.getMyCrmFilePath()));
+        storage = new StorageManager(myCrmStorage, userPrefsStorage, commandHistoryStorage);
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, Platform::runLater);
 
         ui = new UiManager(logic, getHostServices());
     }
 
+    /**
+     * Returns the storage for the myCrm data in the format chosen in {@code userPrefs}.
+     */
+    private MyCrmStorage initMyCrmFileStorage(ReadOnlyUserPrefs userPrefs) {
+        Path myCrmFilePath = userPrefs.getMyCrmFilePath();
+        logger.info("Using " + userPrefs.getMyCrmStorageFormat() + " storage for data file : " + myCrmFilePath);
+
+        if (userPrefs.getMyCrmStorageFormat() == StorageFormat.BINARY) {
+            return initBinaryFileStorage(myCrmFilePath);
+        }
+        return initJsonFileStorage(myCrmFilePath, userPrefs.getMyCrmStorageFormat());
+    }
+
+    private JsonMyCrmStorage initJsonFileStorage(Path myCrmFilePath, StorageFormat format) {
+        JsonMyCrmStorage jsonStorage;
+        switch (format) {
+        case SEGMENTED:
+            jsonStorage = new SegmentedMyCrmStorage(myCrmFilePath, this::handleSkippedRecord);
+            break;
+        case JOURNALED:
+        default:
+            jsonStorage = new JournaledMyCrmStorage(myCrmFilePath, this::handleSkippedRecord);
+            break;
+        }
+        jsonStorage.setPrettyPrinted(config.isPrettyPrintData());
+        return jsonStorage;
+    }
+
+    /**
+     * Returns the storage for the myCrm data in the binary format, next to the json data file at
+     * {@code jsonFilePath}. If there is no binary data file yet, the json data is converted first.
+     * The json data keeps being used if it cannot be converted in full.
+     */
+    private MyCrmStorage initBinaryFileStorage(Path jsonFilePath) {
+        BinaryMyCrmStorage binaryStorage = new BinaryMyCrmStorage(
+                BinaryMyCrmStorage.getBinaryFilePath(jsonFilePath), this::handleSkippedRecord);
+        if (Files.exists(binaryStorage.getMyCrmFilePath())) {
+            return binaryStorage;
+        }
+
+        SegmentedMyCrmStorage segmentedStorage = new SegmentedMyCrmStorage(jsonFilePath);
+        StorageFormat jsonFormat = Files.exists(segmentedStorage.getManifestFilePath())
+                ? StorageFormat.SEGMENTED
+                : StorageFormat.JOURNALED;
+        MyCrmStorage jsonStorage = jsonFormat == StorageFormat.SEGMENTED
+                ? segmentedStorage
+                : new JournaledMyCrmStorage(jsonFilePath);
+        try {
+            MyCrmFormatConverter.convert(jsonStorage, binaryStorage);
+            return binaryStorage;
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to convert data file to binary, the json data file will be used : "
+                    + StringUtil.getDetails(e));
+            return initJsonFileStorage(jsonFilePath, jsonFormat);
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s myCrm and {@code userPrefs}. <br>
      * The data from the sample myCrm will be used instead if {@code storage}'s myCrm is not found,
      * or an empty myCrm will be used instead if errors occur when reading {@code storage}'s myCrm.
+     * Invalid records in {@code storage}'s myCrm are skipped, and the rest of the data is kept.
+     * Old completed jobs are moved into the job archive next to {@code storage}'s myCrm.
+     * The latest entered commands are loaded from {@code storage}'s command history.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         Optional<ReadOnlyMyCrm> myCrmOptional;
@@ -90,7 +173,61 @@ public class MainApp extends Application {
             initialData = new MyCrm();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        JobArchive jobArchive = new JsonJobArchive(JsonJobArchive.getArchiveDirectory(userPrefs.getMyCrmFilePath()));
+        ModelManager modelManager = new ModelManager(initialData, userPrefs, jobArchive);
+        archiveCompletedJobs(modelManager, storage, userPrefs.getJobArchiveAgeInMonths());
+        loadCommandHistory(modelManager, storage);
+        return modelManager;
+    }
+
+    /**
+     * Adds the entered commands kept in {@code storage}'s command history to {@code modelManager}.
+     * The app starts with an empty command history if the command history file cannot be read.
+     */
+    private void loadCommandHistory(ModelManager modelManager, Storage storage) {
+        try {
+            storage.readCommandHistory().forEach(modelManager::addHistory);
+        } catch (IOException e) {
+            logger.warning("Problem while reading the command history file. Will be starting with an empty history : "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Moves the jobs completed more than {@code archiveAgeInMonths} months ago out of {@code modelManager}
+     * into its job archive, and saves the remaining data to {@code storage}.
+     * Jobs are not archived if {@code archiveAgeInMonths} is not positive.
+     */
+    private void archiveCompletedJobs(ModelManager modelManager, Storage storage, int archiveAgeInMonths) {
+        if (archiveAgeInMonths <= 0) {
+            return;
+        }
+
+        try {
+            int archivedCount = modelManager.archiveCompletedJobs(YearMonth.now().minusMonths(archiveAgeInMonths));
+            if (archivedCount > 0) {
+                logger.info("Archived " + archivedCount + " completed jobs");
+                storage.saveMyCrm(modelManager.getMyCrm());
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to archive completed jobs : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Records a data file record that was skipped because it is invalid, to be reported when the app starts.
+     */
+    private void handleSkippedRecord(String message) {
+        logger.warning(message);
+        skippedRecords.add(message);
+    }
+
+    /**
+     * Shows the failure of a background save to the user.
+     * Called from the storage writer thread.
+     */
+    private void handleSaveFailure(IOException e) {
+        Platform.runLater(() -> ui.showFeedbackToUser(LogicManager.FILE_OPS_ERROR_MESSAGE + e));
     }
 
     private void initLogging(Config config) {
@@ -169,6 +306,10 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting MyCrm " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (!skippedRecords.isEmpty()) {
+            ui.showFeedbackToUser(String.format(MESSAGE_SKIPPED_RECORDS, skippedRecords.size(),
+                    String.join("\n", skippedRecords)));
+        }
     }
 
     @Override
@@ -179,5 +320,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            myCrmStorage.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -15,6 +15,7 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean prettyPrintData = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +33,18 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if the data file should be written with indentation and line breaks, which makes it
+     * easier to read and edit by hand but larger and slower to write.
+     */
+    public boolean isPrettyPrintData() {
+        return prettyPrintData;
+    }
+
+    public void setPrettyPrintData(boolean prettyPrintData) {
+        this.prettyPrintData = prettyPrintData;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +57,13 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && prettyPrintData == o.prettyPrintData;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, prettyPrintData);
     }
 
     @Override
@@ -26,6 +26,9 @@ public class Messages {
     public static final String MESSAGE_INVALID_JOB_COMPLETION_DATE = "Job's completion date cannot be before "
             + "its received date. Please provide a valid completion date or change the job's received date.";
     public static final String MESSAGE_INVALID_JOB_UNDO_COMPLETE_REQUEST = "The job has not been completed yet!";
+    public static final String MESSAGE_INVALID_ARCHIVED_JOB_REQUEST = "The job has been archived and cannot be "
+            + "changed!";
+    public static final String MESSAGE_ARCHIVED_JOBS_NOT_LOADED = "Archived jobs could not be loaded: %1$s";
     public static final String MESSAGE_CONTACTS_LISTED_OVERVIEW = "%1$d contacts listed!";
     public static final String MESSAGE_JOBS_LISTED_OVERVIEW = "%1$d jobs listed!";
     public static final String MESSAGE_PRODUCTS_LISTED_OVERVIEW = "%1$d products listed!";
@@ -0,0 +1,13 @@
+package seedu.mycrm.commons.core;
+
+/**
+ * The layouts in which the myCrm data can be stored on disk.
+ */
+public enum StorageFormat {
+    /** A single json snapshot plus an append-only journal of changes. */
+    JOURNALED,
+    /** One json file per segment of the data, plus a manifest naming them. */
+    SEGMENTED,
+    /** A single compact binary file, next to where the json data file would be. */
+    BINARY
+}
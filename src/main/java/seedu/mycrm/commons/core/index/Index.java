@@ -1,54 +1,109 @@
 package seedu.mycrm.commons.core.index;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongFunction;
+
 /**
- * Represents a zero-based or one-based index.
+ * Represents a zero-based or one-based index, or a reference to an entity by its id.
  *
  * {@code Index} should be used right from the start (when parsing in a new user input), so that if the current
  * component wants to communicate with another component, it can send an {@code Index} to avoid having to know what
  * base the other component is using for its index. However, after receiving the {@code Index}, that component can
  * convert it back to an int if the index will not be passed to a different component again.
+ *
+ * An {@code Index} created by {@link Index#fromEntityId(long)} refers to the entity with that id instead, wherever
+ * it is displayed. Such an index is resolved with {@link #resolve(List, LongFunction)}.
  */
 public class Index {
+    /** Entity id of an index that refers to an element by its position. */
+    private static final long NO_ENTITY_ID = 0;
+
     private int zeroBasedIndex;
+    private final long entityId;
 
     /**
-     * Index can only be created by calling {@link Index#fromZeroBased(int)} or
-     * {@link Index#fromOneBased(int)}.
+     * Index can only be created by calling {@link Index#fromZeroBased(int)}, {@link Index#fromOneBased(int)} or
+     * {@link Index#fromEntityId(long)}.
      */
-    private Index(int zeroBasedIndex) {
-        if (zeroBasedIndex < 0) {
+    private Index(int zeroBasedIndex, long entityId) {
+        if (zeroBasedIndex < 0 || entityId < 0) {
             throw new IndexOutOfBoundsException();
         }
 
         this.zeroBasedIndex = zeroBasedIndex;
+        this.entityId = entityId;
     }
 
+    /**
+     * Returns the zero-based index. Must not be called on an index that refers to an entity by its id.
+     */
     public int getZeroBased() {
+        assert !isEntityId();
         return zeroBasedIndex;
     }
 
+    /**
+     * Returns the one-based index. Must not be called on an index that refers to an entity by its id.
+     */
     public int getOneBased() {
+        assert !isEntityId();
         return zeroBasedIndex + 1;
     }
 
+    /**
+     * Returns true if this index refers to an entity by its id rather than by its position.
+     */
+    public boolean isEntityId() {
+        return entityId != NO_ENTITY_ID;
+    }
+
+    public long getEntityId() {
+        assert isEntityId();
+        return entityId;
+    }
+
+    /**
+     * Returns the element this index refers to: the element with its entity id, looked up with {@code byId}, or
+     * else the element at its position in {@code shownList}.
+     * Returns an empty {@code Optional} if there is no such element.
+     */
+    public <T> Optional<T> resolve(List<T> shownList, LongFunction<Optional<T>> byId) {
+        if (isEntityId()) {
+            return byId.apply(entityId);
+        }
+        return zeroBasedIndex < shownList.size() ? Optional.of(shownList.get(zeroBasedIndex)) : Optional.empty();
+    }
+
     /**
      * Creates a new {@code Index} using a zero-based index.
      */
     public static Index fromZeroBased(int zeroBasedIndex) {
-        return new Index(zeroBasedIndex);
+        return new Index(zeroBasedIndex, NO_ENTITY_ID);
     }
 
     /**
      * Creates a new {@code Index} using a one-based index.
      */
     public static Index fromOneBased(int oneBasedIndex) {
-        return new Index(oneBasedIndex - 1);
+        return new Index(oneBasedIndex - 1, NO_ENTITY_ID);
+    }
+
+    /**
+     * Creates a new {@code Index} referring to the entity with the given positive {@code id}.
+     */
+    public static Index fromEntityId(long id) {
+        if (id == NO_ENTITY_ID) {
+            throw new IndexOutOfBoundsException();
+        }
+        return new Index(0, id);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Index // instanceof handles nulls
-                && zeroBasedIndex == ((Index) other).zeroBasedIndex); // state check
+                && zeroBasedIndex == ((Index) other).zeroBasedIndex // state check
+                && entityId == ((Index) other).entityId);
     }
 }
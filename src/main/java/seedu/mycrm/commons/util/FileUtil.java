@@ -1,10 +1,17 @@
 package seedu.mycrm.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +19,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -65,6 +73,50 @@ public class FileUtil {
         }
     }
 
+    /**
+     * Writes the content produced by {@code contentWriter} to a file, replacing it only once all the content
+     * has been written. If writing fails, the existing file is left unchanged.
+     * The content is forced to disk before it replaces the file, and the replacement is forced to disk after, so
+     * that a power loss leaves either the old or the new content rather than a renamed but empty file.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        Path absoluteFile = file.toAbsolutePath();
+        createParentDirsOfFile(absoluteFile);
+        Path tempFile = Files.createTempFile(absoluteFile.getParent(), absoluteFile.getFileName().toString(),
+                TEMP_FILE_SUFFIX);
+
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE);
+                    OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel))) {
+                contentWriter.write(out);
+                out.flush();
+                channel.force(true);
+            }
+            try {
+                Files.move(tempFile, absoluteFile, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, absoluteFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            forceDirectory(absoluteFile.getParent());
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory}, such as the name of a file just moved into it, to disk.
+     * Not every platform can open a directory for this, Windows among them, and those are left to persist the
+     * entries on their own, as the move itself has already succeeded.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // The directory cannot be forced on this platform.
+        }
+    }
+
     /**
      * Assumes file exists
      */
@@ -80,4 +132,12 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes the content of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
 }
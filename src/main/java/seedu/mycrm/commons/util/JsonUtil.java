@@ -3,6 +3,8 @@ package seedu.mycrm.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +13,15 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.TreeNode;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -39,6 +46,9 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    private static ObjectWriter valueWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
@@ -91,6 +101,51 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a parser that reads the JSON data in the given file one token at a time.
+     * Values read through the parser are bound with the same settings as the other methods of this class.
+     * @param filePath cannot be null.
+     * @throws IOException if the file cannot be opened
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(Files.newInputStream(filePath));
+    }
+
+    /**
+     * Returns a generator that writes JSON data to {@code out} one token or value at a time.
+     * The generator does not close {@code out} when it is closed.
+     * @param isPrettyPrinted whether the JSON data is written with indentation and line breaks.
+     */
+    public static JsonGenerator createGenerator(OutputStream out, boolean isPrettyPrinted) throws IOException {
+        requireNonNull(out);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (isPrettyPrinted) {
+            generator.useDefaultPrettyPrinter();
+        }
+        return generator;
+    }
+
+    /**
+     * Writes the given instance of a class as the next JSON value of a generator from
+     * {@link #createGenerator(OutputStream, boolean)}, without flushing the generator.
+     * @param instance The T object to be written
+     * @param <T> The generic type of the instance
+     */
+    public static <T> void writeJsonValue(JsonGenerator generator, T instance) throws IOException {
+        valueWriter.writeValue(generator, instance);
+    }
+
+    /**
+     * Converts a JSON tree read with a parser from {@link #createParser(Path)} to instance of a class
+     * @param <T> The generic type to create an instance of
+     * @return The instance of T with the specified values in the JSON tree
+     */
+    public static <T> T fromJsonTree(TreeNode tree, Class<T> instanceClass) throws JsonProcessingException {
+        return objectMapper.treeToValue(tree, instanceClass);
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -100,6 +155,16 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Reads the JSON data from {@code in} as an instance of a class. {@code in} is not closed.
+     * @param <T> The generic type to create an instance of
+     * @return The instance of T with the specified values in the JSON data
+     */
+    public static <T> T fromJsonStream(InputStream in, Class<T> instanceClass) throws IOException {
+        requireNonNull(in);
+        return objectMapper.readerFor(instanceClass).without(JsonParser.Feature.AUTO_CLOSE_SOURCE).readValue(in);
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      * @param instance The T object to be converted into the JSON string
@@ -110,6 +175,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a single-line JSON data string representation
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, without any line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
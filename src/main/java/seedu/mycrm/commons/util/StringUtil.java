@@ -38,6 +38,37 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the edit distance between {@code first} and {@code second}, which is the least number of characters
+     * inserted, deleted or replaced to turn one into the other.
+     *   <br>examples:<pre>
+     *       editDistance("jon", "john") == 1
+     *       editDistance("samsng", "samsung") == 1
+     *       editDistance("kitten", "sitting") == 3
+     *       </pre>
+     */
+    public static int editDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int replaceCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(previous[j - 1] + replaceCost, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
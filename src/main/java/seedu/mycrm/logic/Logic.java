@@ -1,13 +1,16 @@
 package seedu.mycrm.logic;
 
 import java.nio.file.Path;
-import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.collections.ObservableList;
 import seedu.mycrm.commons.core.GuiSettings;
 import seedu.mycrm.logic.commands.CommandResult;
+import seedu.mycrm.logic.commands.CommandType;
 import seedu.mycrm.logic.commands.exceptions.CommandException;
 import seedu.mycrm.logic.parser.exceptions.ParseException;
+import seedu.mycrm.model.EntityLookup;
 import seedu.mycrm.model.ReadOnlyMyCrm;
 import seedu.mycrm.model.contact.Contact;
 import seedu.mycrm.model.history.History;
@@ -18,10 +21,11 @@ import seedu.mycrm.model.product.Product;
 
 /**
  * API of the Logic component
+ * The observable lists it returns change only on the publisher of the lists, such as the JavaFX application thread.
  */
 public interface Logic {
     /**
-     * Executes the command and returns the result.
+     * Executes the command and returns the result, waiting for the commands passed before it to be executed first.
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
      * @throws CommandException If an error occurs during command execution.
@@ -29,6 +33,29 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command in the background and returns its result, once the changes it makes are handed to the
+     * publisher of the lists. Commands are executed one at a time, in the order they are passed, and the result
+     * completes exceptionally with a {@code CommandException} or {@code ParseException} if the command fails.
+     *
+     * @param commandText The command as entered by the user.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Previews the result of {@code commandText} while it is being typed, if it is a find command of contacts,
+     * products or jobs: the list searched shows the elements with a word starting with any of the keywords typed.
+     * The list is restored to the filter it had before its first preview when the text stops being such a command,
+     * or before a command is executed, so that the indexes of the command refer to the restored list.
+     * Previews are made in the background, in order with the commands executed, and a preview not made yet when
+     * another preview or a command is requested is cancelled.
+     *
+     * @param commandText The command as entered so far.
+     * @return the type of the list previewed, if any, once the preview is handed to the publisher of the lists,
+     *     or no type if the preview is cancelled.
+     */
+    CompletableFuture<Optional<CommandType>> previewFind(String commandText);
+
     /**
      * Returns the MyCrm.
      *
@@ -48,23 +75,30 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of products */
     ObservableList<Product> getFilteredProductList();
 
-    /** Returns an unmodifiable view of the filtered list of top three products */
-    ObservableList<Product> getFilteredTopThreeProductList();
+    /** Returns an unmodifiable view of the live list of the products most received in the report range */
+    ObservableList<Product> getTopProductList();
 
     /** Returns an unmodifiable view of the filtered list of jobs */
     ObservableList<Job> getFilteredJobList();
 
+    /**
+     * Returns the lookup of the clients and products of the jobs, which can be used from any thread.
+     *
+     * @see seedu.mycrm.model.Model#getEntityLookup()
+     */
+    EntityLookup getEntityLookup();
+
     /** Returns an unmodifiable view of the filtered list of incomplete jobs */
     ObservableList<Job> getFilteredIncompleteJobList();
 
-    /** Returns an unmodifiable view of the filtered list of monthly completed jobs */
-    ObservableList<Job> getFilteredMonthlyCompletedJobList();
+    /**
+     * Returns the report as it was after the last command, which changes only on the publisher of the lists.
+     */
+    ReportSnapshot getReport();
 
     /** Returns an unmodifiable view of the filtered list of history commands */
     ObservableList<History> getFilteredHistoryList();
 
-    double getRevenue(LocalDate date);
-
     /**
      * Returns the user prefs' myCrm file path.
      */
@@ -82,7 +116,11 @@ public interface Logic {
 
     /**
      * Tracing UserInput from CommandBox.
+     * The input is also appended to the command history file, unless it repeats the last input.
+     * Inputs are traced in the background, in order with the commands executed.
+     *
+     * @return a future that completes once the input is traced.
      */
-    void traceUserInput(History history);
+    CompletableFuture<Void> traceUserInput(History history);
 
 }
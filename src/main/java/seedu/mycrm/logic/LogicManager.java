@@ -1,30 +1,60 @@
 package seedu.mycrm.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
-import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.mycrm.commons.core.GuiSettings;
 import seedu.mycrm.commons.core.LogsCenter;
 import seedu.mycrm.logic.commands.Command;
 import seedu.mycrm.logic.commands.CommandResult;
+import seedu.mycrm.logic.commands.CommandType;
+import seedu.mycrm.logic.commands.contacts.FindContactCommand;
 import seedu.mycrm.logic.commands.exceptions.CommandException;
+import seedu.mycrm.logic.commands.history.ClearHistoryCommand;
+import seedu.mycrm.logic.commands.jobs.FindJobCommand;
+import seedu.mycrm.logic.commands.products.FindProductCommand;
 import seedu.mycrm.logic.parser.MyCrmParser;
+import seedu.mycrm.logic.parser.QueryParser;
 import seedu.mycrm.logic.parser.exceptions.ParseException;
+import seedu.mycrm.model.EntityLookup;
 import seedu.mycrm.model.Model;
 import seedu.mycrm.model.ReadOnlyMyCrm;
+import seedu.mycrm.model.WordPrefixPredicate;
 import seedu.mycrm.model.contact.Contact;
+import seedu.mycrm.model.contact.UniqueContactList;
 import seedu.mycrm.model.history.History;
 import seedu.mycrm.model.job.Job;
+import seedu.mycrm.model.job.UniqueJobList;
 import seedu.mycrm.model.mail.Mail;
 import seedu.mycrm.model.mail.Template;
 import seedu.mycrm.model.product.Product;
+import seedu.mycrm.model.product.UniqueProductList;
 import seedu.mycrm.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * Commands, find previews and traced inputs are run one at a time by a single command writer thread, which is then
+ * the only thread that changes the model. The lists returned to the UI are copies of the lists of the model that
+ * change only on the publisher, such as the JavaFX application thread: after each command, the writer hands the
+ * changes it made to every list to the publisher in one task, which replays them on the copies. The report is
+ * handed over in the same task, as a {@link ReportSnapshot} the writer takes after each command.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
@@ -34,48 +64,288 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final MyCrmParser myCrmParser;
     private final StateManager stateManager;
+    private final Executor publisher;
+    private final ExecutorService commandWriter;
+
+    private final MirroredList<Contact> contacts;
+    private final MirroredList<Template> templates;
+    private final MirroredList<Mail> mails;
+    private final MirroredList<Product> products;
+    private final MirroredList<Product> topProducts;
+    private final MirroredList<Job> jobs;
+    private final MirroredList<Job> incompleteJobs;
+    private final MirroredList<History> histories;
+    private final List<MirroredList<?>> mirroredLists;
+    // Read and replaced only on the publisher.
+    private ReportSnapshot report;
+
+    // The number of previews and commands requested, so that a preview requested before another is skipped.
+    private final AtomicLong requestCount = new AtomicLong();
+    // The type of the list showing a find preview, or null if there is no preview.
+    private CommandType previewedType;
+    // Restores the predicate the list showing a find preview had before the preview, or null if there is no preview.
+    private Runnable predicateRestorer;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, whose lists change on the
+     * command writer thread, right after each command.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Runnable::run);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, whose lists change on
+     * {@code publisher}, such as {@code Platform::runLater}.
+     * Must be constructed before the model is changed by anything else, as its lists start as copies of the model's.
+     */
+    public LogicManager(Model model, Storage storage, Executor publisher) {
+        requireNonNull(publisher);
         this.model = model;
         this.storage = storage;
+        this.publisher = publisher;
         myCrmParser = new MyCrmParser();
         stateManager = new StateManager(model);
+        commandWriter = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MyCrm command writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        contacts = new MirroredList<>(model.getFilteredContactList());
+        templates = new MirroredList<>(model.getFilteredTemplateList());
+        mails = new MirroredList<>(model.getFilteredMailList());
+        products = new MirroredList<>(model.getFilteredProductList());
+        topProducts = new MirroredList<>(model.getTopProductList());
+        jobs = new MirroredList<>(model.getFilteredJobList());
+        incompleteJobs = new MirroredList<>(model.getFilteredIncompleteJobList());
+        histories = new MirroredList<>(model.getFilteredHistoryList());
+        mirroredLists = List.of(contacts, templates, mails, products, topProducts, jobs, incompleteJobs, histories);
+        report = ReportSnapshot.of(model, YearMonth.now());
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        try {
+            return executeAsync(commandText).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CommandException) {
+                throw (CommandException) e.getCause();
+            }
+            if (e.getCause() instanceof ParseException) {
+                throw (ParseException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        requireNonNull(commandText);
+        requestCount.incrementAndGet();
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        commandWriter.execute(() -> {
+            try {
+                result.complete(executeOnWriter(commandText));
+            } catch (CommandException | ParseException | RuntimeException | Error e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Parses and executes the command, publishes the changes it makes, and then saves the data.
+     * Called on the command writer thread, so the next command is parsed only after the data is saved.
+     */
+    private CommandResult executeOnWriter(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        Command command = parseCommand(commandText);
 
         CommandResult commandResult;
-        Command command;
+        try {
+            endFindPreview();
+            commandResult = executeParsedCommand(command);
+        } finally {
+            // Changes made before the command fails are kept, so they are published either way.
+            publishChanges(ReportSnapshot.of(model, YearMonth.now()));
+        }
+        saveMyCrm();
+        return commandResult;
+    }
+
+    /**
+     * Hands the changes made to the lists of the model since they were last published to the publisher, in one task.
+     */
+    private void publishChanges() {
+        publishChanges(null);
+    }
+
+    /**
+     * Hands the changes made to the lists of the model since they were last published, and {@code newReport} if it
+     * is not null, to the publisher in one task, so that the report is replaced together with the lists.
+     */
+    private void publishChanges(ReportSnapshot newReport) {
+        List<Runnable> changes = mirroredLists.stream()
+                .filter(MirroredList::hasChanges)
+                .map(MirroredList::takeChanges)
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (newReport != null) {
+            changes.add(() -> report = newReport);
+        }
+        if (!changes.isEmpty()) {
+            publisher.execute(() -> changes.forEach(Runnable::run));
+        }
+    }
 
+    /**
+     * Parses {@code commandText} into a command allowed in the current state.
+     */
+    private Command parseCommand(String commandText) throws CommandException, ParseException {
         try {
             String commandWord = MyCrmParser.parseCommandWord(commandText);
             if (!stateManager.isCommandAllowedForState(commandWord)) {
                 throw new CommandException(stateManager.getCommandNotAllowedMessage(commandWord));
             }
-            command = myCrmParser.parseCommand(commandText);
-
+            return myCrmParser.parseCommand(commandText);
         } catch (ParseException e) {
             throw new ParseException(stateManager.getErrorMessage() + e.getMessage());
         }
+    }
 
+    /**
+     * Executes {@code command} on the model.
+     * Commands that change many elements batch their changes themselves, and the changes of every command are
+     * published together anyway, so commands are not batched here.
+     */
+    private CommandResult executeParsedCommand(Command command) throws CommandException {
+        CommandResult commandResult;
         try {
             commandResult = command.execute(model, stateManager);
         } catch (CommandException e) {
             throw new CommandException(stateManager.getErrorMessage() + e.getMessage());
         }
 
+        if (command instanceof ClearHistoryCommand) {
+            clearCommandHistory();
+        }
+        return commandResult;
+    }
+
+    /**
+     * Saves the data after a command.
+     */
+    private void saveMyCrm() throws CommandException {
         try {
             storage.saveMyCrm(model.getMyCrm());
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
+    }
 
-        return commandResult;
+    @Override
+    public CompletableFuture<Optional<CommandType>> previewFind(String commandText) {
+        requireNonNull(commandText);
+        long request = requestCount.incrementAndGet();
+        return CompletableFuture.supplyAsync(() -> {
+            // The preview is pending until the writer gets to it, and is cancelled by any later preview or command.
+            if (request != requestCount.get()) {
+                return Optional.empty();
+            }
+            Optional<CommandType> type = previewFindOnWriter(commandText);
+            publishChanges();
+            return type;
+        }, commandWriter);
+    }
+
+    /**
+     * Previews the find command being typed, if any, on the command writer thread.
+     */
+    private Optional<CommandType> previewFindOnWriter(String commandText) {
+        String[] words = commandText.trim().split("\\s+");
+        String commandWord = words[0];
+        // Only keywords are previewed, so the flags and field terms do not hide every element while typed.
+        List<String> prefixes = Arrays.stream(words, 1, words.length)
+                .filter(word -> !word.equals(FindContactCommand.FUZZY_FLAG)
+                        && !word.equals(FindJobCommand.ARCHIVE_FLAG)
+                        && !QueryParser.hasFieldTermFormat(word))
+                .collect(Collectors.toList());
+        if (prefixes.isEmpty() || !stateManager.isCommandAllowedForState(commandWord)) {
+            endFindPreview();
+            return Optional.empty();
+        }
+
+        switch (commandWord) {
+        case FindContactCommand.COMMAND_WORD:
+            startFindPreview(CommandType.CONTACTS);
+            model.updateFilteredContactList(new WordPrefixPredicate<>(prefixes, UniqueContactList.WORD_FIELDS,
+                    List.of(UniqueContactList.NAME_FIELD, UniqueContactList.PHONE_FIELD,
+                            UniqueContactList.EMAIL_FIELD)));
+            break;
+
+        case FindProductCommand.COMMAND_WORD:
+            startFindPreview(CommandType.PRODUCTS);
+            model.updateFilteredProductList(new WordPrefixPredicate<>(prefixes, UniqueProductList.WORD_FIELDS,
+                    List.of(UniqueProductList.NAME_FIELD)));
+            break;
+
+        case FindJobCommand.COMMAND_WORD:
+            startFindPreview(CommandType.JOBS);
+            model.updateFilteredJobList(new WordPrefixPredicate<>(prefixes, UniqueJobList.WORD_FIELDS,
+                    List.of(UniqueJobList.DESCRIPTION_FIELD)));
+            break;
+
+        default:
+            endFindPreview();
+            return Optional.empty();
+        }
+        return Optional.of(previewedType);
+    }
+
+    /**
+     * Ends any preview of another type of list, saving the predicate of the list of {@code type} before its first
+     * preview.
+     */
+    private void startFindPreview(CommandType type) {
+        if (previewedType == type) {
+            return;
+        }
+
+        endFindPreview();
+        switch (type) {
+        case CONTACTS:
+            Predicate<Contact> contactPredicate = model.getLatestContactPredicate();
+            predicateRestorer = () -> model.updateFilteredContactList(contactPredicate);
+            break;
+
+        case PRODUCTS:
+            Predicate<Product> productPredicate = model.getLatestProductPredicate();
+            predicateRestorer = () -> model.updateFilteredProductList(productPredicate);
+            break;
+
+        case JOBS:
+            Predicate<Job> jobPredicate = model.getLatestJobPredicate();
+            predicateRestorer = () -> model.updateFilteredJobList(jobPredicate);
+            break;
+
+        default:
+            assert false;
+        }
+        previewedType = type;
+    }
+
+    /**
+     * Restores the list showing a find preview, if any, to the predicate it had before the preview.
+     * Commands are executed only after this, so that the indexes they are given refer to the restored list.
+     */
+    private void endFindPreview() {
+        if (previewedType == null) {
+            return;
+        }
+
+        predicateRestorer.run();
+        predicateRestorer = null;
+        previewedType = null;
     }
 
     @Override
@@ -85,52 +355,52 @@ public class LogicManager implements Logic {
 
     @Override
     public ObservableList<Contact> getFilteredContactList() {
-        return model.getFilteredContactList();
+        return contacts.asUnmodifiableObservableList();
     }
 
     @Override
     public ObservableList<Template> getFilteredTemplateList() {
-        return model.getFilteredTemplateList();
+        return templates.asUnmodifiableObservableList();
     }
 
     @Override
     public ObservableList<Mail> getFilteredMailList() {
-        return model.getFilteredMailList();
+        return mails.asUnmodifiableObservableList();
     }
 
     @Override
     public ObservableList<Product> getFilteredProductList() {
-        return model.getFilteredProductList();
+        return products.asUnmodifiableObservableList();
     }
 
     @Override
-    public ObservableList<Product> getFilteredTopThreeProductList() {
-        return model.getFilteredTopThreeProductList();
+    public ObservableList<Product> getTopProductList() {
+        return topProducts.asUnmodifiableObservableList();
     }
 
     @Override
     public ObservableList<Job> getFilteredJobList() {
-        return model.getFilteredJobList();
+        return jobs.asUnmodifiableObservableList();
     }
 
     @Override
-    public ObservableList<Job> getFilteredIncompleteJobList() {
-        return model.getFilteredIncompleteJobList();
+    public EntityLookup getEntityLookup() {
+        return model.getEntityLookup();
     }
 
     @Override
-    public ObservableList<Job> getFilteredMonthlyCompletedJobList() {
-        return model.getFilteredMonthlyCompletedJobList();
+    public ObservableList<Job> getFilteredIncompleteJobList() {
+        return incompleteJobs.asUnmodifiableObservableList();
     }
 
     @Override
-    public double getRevenue(LocalDate date) {
-        return model.getRevenue(date);
+    public ReportSnapshot getReport() {
+        return report;
     }
 
     @Override
     public ObservableList<History> getFilteredHistoryList() {
-        return model.getFilteredHistoryList();
+        return histories.asUnmodifiableObservableList();
     };
 
     @Override
@@ -149,7 +419,32 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public void traceUserInput(History history) {
-        model.addHistory(history);
+    public CompletableFuture<Void> traceUserInput(History history) {
+        requireNonNull(history);
+        return CompletableFuture.runAsync(() -> {
+            boolean isAdded = model.addHistory(history);
+            publishChanges();
+            if (!isAdded) {
+                return;
+            }
+
+            try {
+                storage.appendCommandHistory(history);
+            } catch (IOException ioe) {
+                logger.warning("Failed to save entered command to history file: " + ioe);
+            }
+        }, commandWriter);
+    }
+
+    /**
+     * Removes the entered commands from the history file after they are cleared from the model.
+     * The command history is not important enough to fail the command over, so failures are only logged.
+     */
+    private void clearCommandHistory() {
+        try {
+            storage.clearCommandHistory();
+        } catch (IOException ioe) {
+            logger.warning("Failed to clear history file: " + ioe);
+        }
     }
 }
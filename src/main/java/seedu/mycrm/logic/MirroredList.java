@@ -0,0 +1,89 @@
+package seedu.mycrm.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.mycrm.model.RangeReplaceableList;
+
+/**
+ * A copy of a list of the model for the UI to show, which changes only when the changes of the list are published.
+ * The changes are recorded on the thread the list is changed on, and are replayed on the copy by whichever executor
+ * they are taken for, such as the JavaFX application thread, as the same ranges of elements the list replaced.
+ *
+ * @param <T> type of the elements.
+ */
+class MirroredList<T> {
+
+    private final RangeReplaceableList<T> mirror;
+    private final ObservableList<T> unmodifiableMirror;
+    private List<Replacement<T>> changes = new ArrayList<>();
+
+    /**
+     * Creates a copy of {@code source} that changes as {@code source} did when its changes are replayed.
+     * Must be created on the thread {@code source} is changed on, or before it is changed.
+     */
+    MirroredList(ObservableList<T> source) {
+        requireNonNull(source);
+        mirror = new RangeReplaceableList<>(source);
+        unmodifiableMirror = FXCollections.unmodifiableObservableList(mirror);
+        source.addListener(this::record);
+    }
+
+    /**
+     * Returns the copy, to be read only by the executor the changes are replayed on.
+     */
+    ObservableList<T> asUnmodifiableObservableList() {
+        return unmodifiableMirror;
+    }
+
+    private synchronized void record(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                changes.add(new Replacement<>(from, change.getTo(),
+                        new ArrayList<>(change.getList().subList(from, change.getTo()))));
+            } else {
+                changes.add(new Replacement<>(from, from + change.getRemovedSize(),
+                        new ArrayList<>(change.getAddedSubList())));
+            }
+        }
+    }
+
+    /**
+     * Returns whether the list has changed since its changes were last taken.
+     */
+    synchronized boolean hasChanges() {
+        return !changes.isEmpty();
+    }
+
+    /**
+     * Takes the changes recorded so far, and returns the task that replays them on the copy, in the order they were
+     * made.
+     */
+    synchronized Runnable takeChanges() {
+        List<Replacement<T>> taken = changes;
+        changes = new ArrayList<>();
+        return () -> taken.forEach(replacement ->
+                mirror.replaceRange(replacement.from, replacement.to, replacement.elements));
+    }
+
+    /**
+     * The elements that replace a range of the list.
+     */
+    private static class Replacement<T> {
+        private final int from;
+        private final int to;
+        private final List<T> elements;
+
+        Replacement(int from, int to, List<T> elements) {
+            this.from = from;
+            this.to = to;
+            this.elements = elements;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.mycrm.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.mycrm.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.YearMonth;
+
+import javafx.collections.ObservableList;
+import seedu.mycrm.model.Model;
+import seedu.mycrm.model.job.Job;
+import seedu.mycrm.model.job.JobAggregates;
+import seedu.mycrm.model.job.JobDateRange;
+import seedu.mycrm.model.job.RevenueGranularity;
+import seedu.mycrm.model.job.RevenueSeries;
+
+/**
+ * The data the report shows, copied from the model at one time.
+ * A snapshot is taken on the command writer thread after each command, including the revenue of any archived months
+ * the revenue graph shows, and published with the changes to the lists, so that the report is drawn without reading
+ * the model or the job archive on the thread that draws it.
+ */
+public class ReportSnapshot {
+
+    private final JobDateRange range;
+    private final int topProductCount;
+    private final ObservableList<Job> completedJobs;
+    private final JobAggregates aggregates;
+    private final YearMonth latestGraphMonth;
+    private final int graphMonths;
+    private final int graphYears;
+    private final RevenueSeries graphRevenue;
+
+    private ReportSnapshot(Model model, YearMonth latestGraphMonth) {
+        range = model.getReportRange();
+        topProductCount = model.getTopProductCount();
+        completedJobs = model.getReportCompletedJobList();
+        aggregates = model.getJobAggregates();
+        this.latestGraphMonth = latestGraphMonth;
+        graphMonths = model.getUserPrefs().getRevenueGraphMonths();
+        graphYears = model.getUserPrefs().getRevenueGraphYears();
+        YearMonth earliestGraphMonth = latestGraphMonth.minusYears(graphYears - 1).minusMonths(graphMonths - 1);
+        graphRevenue = model.getRevenueSeries(new JobDateRange(earliestGraphMonth.atDay(1),
+                latestGraphMonth.atEndOfMonth()), RevenueGranularity.MONTH);
+    }
+
+    /**
+     * Takes a snapshot of the report of {@code model}, whose revenue graph ends with {@code latestGraphMonth}.
+     * Must be called on the thread that changes {@code model}.
+     */
+    public static ReportSnapshot of(Model model, YearMonth latestGraphMonth) {
+        requireAllNonNull(model, latestGraphMonth);
+        return new ReportSnapshot(model, latestGraphMonth);
+    }
+
+    /**
+     * Returns the dates that the report covers.
+     */
+    public JobDateRange getRange() {
+        return range;
+    }
+
+    /**
+     * Returns the number of top products in the report.
+     */
+    public int getTopProductCount() {
+        return topProductCount;
+    }
+
+    /**
+     * Returns an unmodifiable list of the jobs completed in the report range, archived or not.
+     */
+    public ObservableList<Job> getCompletedJobs() {
+        return completedJobs;
+    }
+
+    /**
+     * Returns the counts and totals of the unarchived jobs.
+     */
+    public JobAggregates getAggregates() {
+        return new JobAggregates(aggregates);
+    }
+
+    /**
+     * Returns the month the revenue graph ends with.
+     */
+    public YearMonth getLatestGraphMonth() {
+        return latestGraphMonth;
+    }
+
+    /**
+     * Returns the number of latest months the revenue graph shows for each year, as set in the user prefs.
+     */
+    public int getGraphMonths() {
+        return graphMonths;
+    }
+
+    /**
+     * Returns the number of latest years the revenue graph compares, as set in the user prefs.
+     */
+    public int getGraphYears() {
+        return graphYears;
+    }
+
+    /**
+     * Returns the revenue in cents of the jobs completed in {@code month}, which must be a month the revenue graph
+     * shows.
+     */
+    public long getGraphRevenueCents(YearMonth month) {
+        requireNonNull(month);
+        return graphRevenue.getCents(month.atDay(1));
+    }
+}
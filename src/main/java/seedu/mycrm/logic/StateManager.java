@@ -168,7 +168,9 @@ public class StateManager {
 
         if (job.hasProduct() && job.hasClient()) {
             model.addJob(job);
-            return new CommandResult(String.format(AddJobCommand.MESSAGE_SUCCESS, job), CommandType.JOBS);
+            return new CommandResult(
+                    String.format(AddJobCommand.MESSAGE_SUCCESS, job.toDisplayString(model.getEntityLookup())),
+                    CommandType.JOBS);
         }
 
         if (!job.hasClient()) {
@@ -205,7 +207,8 @@ public class StateManager {
 
         if (!shouldEditContact && !shouldEditProduct) {
             model.setJob(jobToEdit, job);
-            return new CommandResult(String.format(EditJobCommand.MESSAGE_EDIT_JOB_SUCCESS, job),
+            String jobString = job.toDisplayString(model.getEntityLookup());
+            return new CommandResult(String.format(EditJobCommand.MESSAGE_EDIT_JOB_SUCCESS, jobString),
                     CommandType.JOBS);
         }
 
@@ -279,21 +282,15 @@ public class StateManager {
     public CommandResult handleIndex(Index targetIndex) throws CommandException {
         if (currentState == State.NEW_JOB_CONTACT || currentState == State.EDIT_JOB_CONTACT) {
             List<Contact> lastShownContactList = model.getFilteredContactList();
-            if (targetIndex.getZeroBased() >= lastShownContactList.size()) {
-                throw new CommandException(Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX);
-            }
-
-            Contact client = lastShownContactList.get(targetIndex.getZeroBased());
+            Contact client = targetIndex.resolve(lastShownContactList, model::getContactById)
+                    .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX));
             job.setClient(client);
             return constructCommandResult(null, String.format(currentState.getSuccessMessage(), client));
 
         } else if (currentState == State.NEW_JOB_PRODUCT || currentState == State.EDIT_JOB_PRODUCT) {
             List<Product> lastShownProductList = model.getFilteredProductList();
-            if (targetIndex.getZeroBased() >= lastShownProductList.size()) {
-                throw new CommandException(Messages.MESSAGE_INVALID_PRODUCT_DISPLAYED_INDEX);
-            }
-
-            Product product = lastShownProductList.get(targetIndex.getZeroBased());
+            Product product = targetIndex.resolve(lastShownProductList, model::getProductById)
+                    .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_PRODUCT_DISPLAYED_INDEX));
             job.setProduct(product);
             return constructCommandResult(null, String.format(currentState.getSuccessMessage(), product));
         } else {
@@ -395,7 +392,7 @@ public class StateManager {
                 throw new CommandException(MESSAGE_DUPLICATE_JOB);
             }
             model.addJob(job);
-            userFeedback += String.format(AddJobCommand.MESSAGE_SUCCESS, job);
+            userFeedback += String.format(AddJobCommand.MESSAGE_SUCCESS, job.toDisplayString(model.getEntityLookup()));
             clearState();
             return new CommandResult(userFeedback, CommandType.JOBS);
         } else if (isJobBeingEdited() && nextState == null) {
@@ -403,11 +400,12 @@ public class StateManager {
                 throw new CommandException(MESSAGE_DUPLICATE_JOB);
             }
             model.setJob(jobToEdit, job);
-            userFeedback += String.format(EditJobCommand.MESSAGE_EDIT_JOB_SUCCESS, job);
+            userFeedback += String.format(EditJobCommand.MESSAGE_EDIT_JOB_SUCCESS,
+                    job.toDisplayString(model.getEntityLookup()));
             clearState();
             return new CommandResult(userFeedback, CommandType.JOBS);
         } else {
-            userFeedback += String.format(nextState.getUserMessage(), job);
+            userFeedback += String.format(nextState.getUserMessage(), job.toDisplayString(model.getEntityLookup()));
             userFeedback += nextState.getInstructions();
             currentState = nextState;
             return new CommandResult(userFeedback, nextState.getCommandType());
@@ -19,7 +19,7 @@ public class ExportReportCommand extends Command {
     public CommandResult execute(Model model, StateManager stateManager) throws CommandException {
         requireNonNull(model);
 
-        if (model.getFilteredAllJobList().isEmpty()) {
+        if (model.queryJobs().isEmpty()) {
             throw new CommandException(MESSAGE_EMPTY_JOB_LIST);
         }
 
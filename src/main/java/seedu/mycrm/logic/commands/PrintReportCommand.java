@@ -1,10 +1,23 @@
 package seedu.mycrm.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.mycrm.commons.util.AppUtil.checkArgument;
+import static seedu.mycrm.logic.parser.CliSyntax.PREFIX_FROM_DATE;
+import static seedu.mycrm.logic.parser.CliSyntax.PREFIX_REPORT_PERIOD;
+import static seedu.mycrm.logic.parser.CliSyntax.PREFIX_TOP_PRODUCT_COUNT;
+import static seedu.mycrm.logic.parser.CliSyntax.PREFIX_TO_DATE;
 
+import java.time.LocalDate;
+import java.util.Objects;
+
+import seedu.mycrm.commons.core.Messages;
+import seedu.mycrm.commons.exceptions.DataConversionException;
 import seedu.mycrm.logic.StateManager;
 import seedu.mycrm.logic.commands.exceptions.CommandException;
 import seedu.mycrm.model.Model;
+import seedu.mycrm.model.job.JobDateRange;
+import seedu.mycrm.model.job.ProductRanking;
+import seedu.mycrm.model.job.ReportPeriod;
 
 /**
  * Prints out monthly job records and statistics.
@@ -16,8 +29,17 @@ public class PrintReportCommand extends Command {
 
     public static final String COMMAND_WORD = "printReport";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Print monthly job report.\n"
-            + "Example: " + COMMAND_WORD;
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Print monthly job report, or the report of the "
+            + "jobs completed and received from START_DATE to END_DATE, or in the current quarter or last 30 days. "
+            + "The report ranks the TOP_COUNT products received most often, 3 by default.\n"
+            + "Parameters: [FLAG] [" + PREFIX_FROM_DATE + "START_DATE] [" + PREFIX_TO_DATE + "END_DATE] ["
+            + PREFIX_REPORT_PERIOD + "month|quarter|30days] [" + PREFIX_TOP_PRODUCT_COUNT + "TOP_COUNT]\n"
+            + "Example: " + COMMAND_WORD + "\n"
+            + "Example: " + COMMAND_WORD + " -p " + PREFIX_FROM_DATE + "01/01/2021 " + PREFIX_TO_DATE + "31/12/2021\n"
+            + "Example: " + COMMAND_WORD + " -p " + PREFIX_REPORT_PERIOD + "quarter " + PREFIX_TOP_PRODUCT_COUNT + "5";
+
+    public static final String MESSAGE_PERIOD_AND_DATES = "A report covers either a period or the dates from "
+            + PREFIX_FROM_DATE + " and " + PREFIX_TO_DATE + ", not both.";
 
     public static final String SHOWING_REPORT_MESSAGE = "Opened report window.";
 
@@ -26,17 +48,42 @@ public class PrintReportCommand extends Command {
     private static final CommandType COMMAND_TYPE = CommandType.REPORT;
 
     private final String flag;
+    // The dates the report covers, or null for the dates of the period.
+    private final JobDateRange range;
+    // The period, relative to the day the command is executed, that the report covers, or null for the range.
+    private final ReportPeriod period;
+    private final int topProductCount;
 
     /**
-     * Creates an ListJobCommand to list jobs matching the {@code listPredicate}.
+     * Creates an PrintReportCommand to show the tab of {@code flag} of the report of the current month.
      */
     public PrintReportCommand(String flag) {
+        this(flag, null, ReportPeriod.MONTH, ProductRanking.DEFAULT_SIZE);
+    }
+
+    /**
+     * Creates an PrintReportCommand to show the tab of {@code flag} of the report of the dates in {@code range}.
+     */
+    public PrintReportCommand(String flag, JobDateRange range) {
+        this(flag, requireNonNull(range), null, ProductRanking.DEFAULT_SIZE);
+    }
+
+    /**
+     * Creates an PrintReportCommand to show the tab of {@code flag} of the report, ranking the top
+     * {@code topProductCount} products, of either the dates in {@code range} or the dates of {@code period}.
+     */
+    public PrintReportCommand(String flag, JobDateRange range, ReportPeriod period, int topProductCount) {
         requireNonNull(flag);
+        checkArgument((range == null) != (period == null), MESSAGE_PERIOD_AND_DATES);
+        checkArgument(ProductRanking.isValidSize(topProductCount), ProductRanking.MESSAGE_CONSTRAINTS);
         this.flag = flag;
+        this.range = range;
+        this.period = period;
+        this.topProductCount = topProductCount;
     }
 
     public PrintReportCommand() {
-        this.flag = SHOW_COMPLETED_FLAG;
+        this(SHOW_COMPLETED_FLAG);
     }
 
     @Override
@@ -44,10 +91,18 @@ public class PrintReportCommand extends Command {
         requireNonNull(model);
         requireNonNull(flag);
 
-        if (model.getFilteredAllJobList().isEmpty()) {
+        if (model.queryJobs().isEmpty()) {
             throw new CommandException(MESSAGE_EMPTY_JOB_LIST);
         }
 
+        LocalDate today = LocalDate.now();
+        JobDateRange reportRange = range == null ? period.getRange(today) : range;
+        try {
+            model.setReport(reportRange, topProductCount);
+        } catch (DataConversionException e) {
+            throw new CommandException(String.format(Messages.MESSAGE_ARCHIVED_JOBS_NOT_LOADED, e.getMessage()), e);
+        }
+
         return new CommandResult(SHOWING_REPORT_MESSAGE, COMMAND_TYPE, flag);
     }
 
@@ -55,4 +110,14 @@ public class PrintReportCommand extends Command {
     public CommandType getType() {
         return COMMAND_TYPE;
     }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PrintReportCommand // instanceof handles nulls
+                && Objects.equals(flag, ((PrintReportCommand) other).flag)
+                && Objects.equals(range, ((PrintReportCommand) other).range)
+                && period == ((PrintReportCommand) other).period
+                && topProductCount == ((PrintReportCommand) other).topProductCount); // state check
+    }
 }
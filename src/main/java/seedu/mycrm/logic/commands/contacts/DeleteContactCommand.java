@@ -1,12 +1,9 @@
 package seedu.mycrm.logic.commands.contacts;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.mycrm.model.Model.PREDICATE_SHOW_ALL_INCOMPLETE_JOBS;
-import static seedu.mycrm.model.Model.PREDICATE_SHOW_ALL_JOBS;
 import static seedu.mycrm.model.Model.PREDICATE_SHOW_NOT_HIDDEN_CONTACTS;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.mycrm.commons.core.Messages;
 import seedu.mycrm.commons.core.index.Index;
@@ -17,7 +14,6 @@ import seedu.mycrm.logic.commands.CommandType;
 import seedu.mycrm.logic.commands.exceptions.CommandException;
 import seedu.mycrm.model.Model;
 import seedu.mycrm.model.contact.Contact;
-import seedu.mycrm.model.job.Job;
 
 /**
  * Deletes a contact identified using it's displayed index from the myCrm.
@@ -46,19 +42,9 @@ public class DeleteContactCommand extends Command {
         requireNonNull(model);
         List<Contact> lastShownList = model.getFilteredContactList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX);
-        }
-
-        Contact contactToDelete = lastShownList.get(targetIndex.getZeroBased());
-        Predicate<Job> latestJobPredicate = model.getLatestJobPredicate() == null ? PREDICATE_SHOW_ALL_INCOMPLETE_JOBS
-                : model.getLatestJobPredicate();
-        model.updateFilteredJobList(PREDICATE_SHOW_ALL_JOBS);
-        boolean isLinkedToJob = model.getFilteredJobList().stream()
-                .anyMatch(job -> job.getClient() != null && job.getClient().isSameContact(contactToDelete));
-        model.updateFilteredJobList(latestJobPredicate);
-
-        if (isLinkedToJob) {
+        Contact contactToDelete = targetIndex.resolve(lastShownList, model::getContactById)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX));
+        if (model.hasJobsForContact(contactToDelete)) {
             throw new CommandException(Messages.MESSAGE_INVALID_CONTACT_DELETE_REQUEST);
         }
 
@@ -6,8 +6,6 @@ import static seedu.mycrm.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.mycrm.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.mycrm.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.mycrm.logic.parser.CliSyntax.PREFIX_TAG;
-import static seedu.mycrm.model.Model.PREDICATE_SHOW_ALL_INCOMPLETE_JOBS;
-import static seedu.mycrm.model.Model.PREDICATE_SHOW_ALL_JOBS;
 import static seedu.mycrm.model.Model.PREDICATE_SHOW_NOT_HIDDEN_CONTACTS;
 
 import java.util.Collections;
@@ -15,7 +13,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Predicate;
 
 import seedu.mycrm.commons.core.Messages;
 import seedu.mycrm.commons.core.index.Index;
@@ -32,7 +29,6 @@ import seedu.mycrm.model.contact.Email;
 import seedu.mycrm.model.contact.Name;
 import seedu.mycrm.model.contact.Phone;
 import seedu.mycrm.model.contact.tag.Tag;
-import seedu.mycrm.model.job.Job;
 
 /**
  * Edits a contact identified using it's displayed index from the myCrm.
@@ -80,29 +76,17 @@ public class EditContactCommand extends Command {
         requireNonNull(model);
         List<Contact> lastShownList = model.getFilteredContactList();
 
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX);
-        }
-
-        Contact contactToEdit = lastShownList.get(index.getZeroBased());
+        Contact contactToEdit = index.resolve(lastShownList, model::getContactById)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX));
         Contact editedContact = createEditedContact(contactToEdit, editContactDescriptor);
 
         if (!contactToEdit.isSameContact(editedContact) && model.hasContact(editedContact)) {
             throw new CommandException(MESSAGE_DUPLICATE_CONTACT);
         }
 
+        // The jobs of the contact refer to it by id, so they show the edited contact without being changed.
         model.setContact(contactToEdit, editedContact);
         model.updateFilteredContactList(PREDICATE_SHOW_NOT_HIDDEN_CONTACTS);
-        Predicate<Job> latestJobPredicate = model.getLatestJobPredicate() == null ? PREDICATE_SHOW_ALL_INCOMPLETE_JOBS
-                : model.getLatestJobPredicate();
-        model.updateFilteredJobList(PREDICATE_SHOW_ALL_JOBS);
-        model.getFilteredJobList().stream()
-                .filter(job -> job.getClient() != null && job.getClient().isSameContact(contactToEdit))
-                .forEach(job -> {
-                    job.setClient(editedContact);
-                    model.setJob(job, job);
-                });
-        model.updateFilteredJobList(latestJobPredicate);
         return new CommandResult(String.format(MESSAGE_EDIT_CONTACT_SUCCESS, editedContact), COMMAND_TYPE);
     }
 
@@ -120,7 +104,8 @@ public class EditContactCommand extends Command {
         Set<Tag> updatedTags = editContactDescriptor.getTags().orElse(contactToEdit.getTags());
         boolean isHidden = contactToEdit.checkIsHidden();
 
-        return new Contact(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedTags, isHidden);
+        return new Contact(contactToEdit.getId(), updatedName, updatedPhone, updatedEmail, updatedAddress,
+                updatedTags, isHidden);
     }
 
     @Override
@@ -2,13 +2,15 @@ package seedu.mycrm.logic.commands.contacts;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.function.Predicate;
+
 import seedu.mycrm.commons.core.Messages;
 import seedu.mycrm.logic.StateManager;
 import seedu.mycrm.logic.commands.Command;
 import seedu.mycrm.logic.commands.CommandResult;
 import seedu.mycrm.logic.commands.CommandType;
 import seedu.mycrm.model.Model;
-import seedu.mycrm.model.contact.NameContainsKeywordsPredicate;
+import seedu.mycrm.model.contact.Contact;
 
 /**
  * Finds and lists all contacts in myCrm whose name contains any of the argument keywords.
@@ -18,16 +20,23 @@ public class FindContactCommand extends Command {
 
     public static final String COMMAND_WORD = "findContact";
 
+    public static final String FUZZY_FLAG = "-f";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all contacts whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "With " + FUZZY_FLAG + ", names with words a few letters off a keyword are also found, "
+            + "closest first.\n"
+            + "Terms such as FIELD:WORD only find contacts meeting all of them, on the fields name, phone, email, "
+            + "address and tag. * in a word stands for any characters.\n"
+            + "Parameters: [" + FUZZY_FLAG + "] KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " tag:vip email:*@corp.com";
 
     private static final CommandType COMMAND_TYPE = CommandType.CONTACTS;
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final Predicate<Contact> predicate;
 
-    public FindContactCommand(NameContainsKeywordsPredicate predicate) {
+    public FindContactCommand(Predicate<Contact> predicate) {
         this.predicate = predicate;
     }
 
@@ -47,11 +47,8 @@ public class HideContactCommand extends Command {
         requireNonNull(model);
         List<Contact> lastShownList = model.getFilteredContactList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX);
-        }
-
-        Contact contactToHide = lastShownList.get(targetIndex.getZeroBased());
+        Contact contactToHide = targetIndex.resolve(lastShownList, model::getContactById)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX));
         String successMessage;
 
         if (contactToHide.checkIsHidden()) {
@@ -48,11 +48,8 @@ public class UndoHideContactCommand extends Command {
         requireNonNull(model);
         List<Contact> lastShownList = model.getFilteredContactList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX);
-        }
-
-        Contact contactToUndoHide = lastShownList.get(targetIndex.getZeroBased());
+        Contact contactToUndoHide = targetIndex.resolve(lastShownList, model::getContactById)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX));
         String successMessage;
 
         if (!contactToUndoHide.checkIsHidden()) {
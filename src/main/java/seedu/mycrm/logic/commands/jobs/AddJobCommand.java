@@ -9,7 +9,6 @@ import static seedu.mycrm.logic.parser.CliSyntax.PREFIX_JOB_DESCRIPTION;
 import static seedu.mycrm.logic.parser.CliSyntax.PREFIX_PRODUCT_INDEX;
 import static seedu.mycrm.logic.parser.CliSyntax.PREFIX_RECEIVED_DATE;
 
-import java.util.List;
 import java.util.Objects;
 
 import seedu.mycrm.commons.core.Messages;
@@ -70,8 +69,8 @@ public class AddJobCommand extends Command {
             throw new CommandException(MESSAGE_INVALID_JOB_EXPECTED_COMPLETION_DATE);
         }
 
-        linkContactToJob(toAdd, model.getFilteredContactList());
-        linkProductToJob(toAdd, model.getFilteredProductList());
+        linkContactToJob(toAdd, model);
+        linkProductToJob(toAdd, model);
 
         if (model.hasJob(toAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_JOB);
@@ -80,24 +79,18 @@ public class AddJobCommand extends Command {
         return stateManager.handleAddJob(toAdd);
     }
 
-    private void linkContactToJob(Job job, List<Contact> lastShownContactList) throws CommandException {
+    private void linkContactToJob(Job job, Model model) throws CommandException {
         if (contactIndex != null) {
-            if (contactIndex.getZeroBased() >= lastShownContactList.size()) {
-                throw new CommandException(Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX);
-            }
-
-            Contact client = lastShownContactList.get(contactIndex.getZeroBased());
+            Contact client = contactIndex.resolve(model.getFilteredContactList(), model::getContactById)
+                    .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX));
             job.setClient(client);
         }
     }
 
-    private void linkProductToJob(Job job, List<Product> lastShownProductList) throws CommandException {
+    private void linkProductToJob(Job job, Model model) throws CommandException {
         if (productIndex != null) {
-            if (productIndex.getZeroBased() >= lastShownProductList.size()) {
-                throw new CommandException(Messages.MESSAGE_INVALID_PRODUCT_DISPLAYED_INDEX);
-            }
-
-            Product product = lastShownProductList.get(productIndex.getZeroBased());
+            Product product = productIndex.resolve(model.getFilteredProductList(), model::getProductById)
+                    .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_PRODUCT_DISPLAYED_INDEX));
             job.setProduct(product);
         }
     }
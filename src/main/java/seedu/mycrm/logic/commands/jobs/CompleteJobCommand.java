@@ -47,11 +47,12 @@ public class CompleteJobCommand extends Command {
 
         List<Job> lastShownList = model.getFilteredJobList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_JOB_DISPLAYED_INDEX);
-        }
+        Job jobToMarkComplete = targetIndex.resolve(lastShownList, model::getJobById)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_JOB_DISPLAYED_INDEX));
 
-        Job jobToMarkComplete = lastShownList.get(targetIndex.getZeroBased());
+        if (model.isArchivedJob(jobToMarkComplete)) {
+            throw new CommandException(Messages.MESSAGE_INVALID_ARCHIVED_JOB_REQUEST);
+        }
 
         if (jobToMarkComplete.isCompleted()) {
             throw new CommandException(Messages.MESSAGE_INVALID_JOB_COMPLETE_REQUEST);
@@ -67,7 +68,8 @@ public class CompleteJobCommand extends Command {
         model.setJob(jobToMarkComplete, copiedJob);
         model.updateFilteredJobList(Model.PREDICATE_SHOW_ALL_INCOMPLETE_JOBS);
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, jobToMarkComplete), COMMAND_TYPE);
+        String jobString = jobToMarkComplete.toDisplayString(model.getEntityLookup());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, jobString), COMMAND_TYPE);
     }
 
     @Override
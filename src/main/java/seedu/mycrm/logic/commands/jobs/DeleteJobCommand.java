@@ -37,13 +37,15 @@ public class DeleteJobCommand extends Command {
         requireNonNull(model);
         List<Job> lastShownList = model.getFilteredJobList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_JOB_DISPLAYED_INDEX);
-        }
+        Job jobToDelete = targetIndex.resolve(lastShownList, model::getJobById)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_JOB_DISPLAYED_INDEX));
 
-        Job jobToDelete = lastShownList.get(targetIndex.getZeroBased());
+        if (model.isArchivedJob(jobToDelete)) {
+            throw new CommandException(Messages.MESSAGE_INVALID_ARCHIVED_JOB_REQUEST);
+        }
         model.deleteJob(jobToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_JOB_SUCCESS, jobToDelete), COMMAND_TYPE);
+        String jobString = jobToDelete.toDisplayString(model.getEntityLookup());
+        return new CommandResult(String.format(MESSAGE_DELETE_JOB_SUCCESS, jobString), COMMAND_TYPE);
     }
 
     @Override
@@ -71,15 +71,14 @@ public class EditJobCommand extends Command {
     public CommandResult execute(Model model, StateManager stateManager) throws CommandException {
         requireNonNull(model);
         List<Job> lastShownJobList = model.getFilteredJobList();
-        List<Contact> lastShownContactList = model.getFilteredContactList();
-        List<Product> lastShownProductList = model.getFilteredProductList();
 
-        if (index.getZeroBased() >= lastShownJobList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_JOB_DISPLAYED_INDEX);
-        }
+        Job jobToEdit = index.resolve(lastShownJobList, model::getJobById)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_JOB_DISPLAYED_INDEX));
 
-        Job jobToEdit = lastShownJobList.get(index.getZeroBased());
-        Job editedJob = createEditedJob(jobToEdit, editJobDescriptor, lastShownContactList, lastShownProductList);
+        if (model.isArchivedJob(jobToEdit)) {
+            throw new CommandException(Messages.MESSAGE_INVALID_ARCHIVED_JOB_REQUEST);
+        }
+        Job editedJob = createEditedJob(jobToEdit, editJobDescriptor, model);
 
 
         if (editedJob.getExpectedCompletionDate().value.isBefore(editedJob.getReceivedDate().value)) {
@@ -95,7 +94,9 @@ public class EditJobCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_JOB);
         }
 
-        CommandResult result = new CommandResult(String.format(MESSAGE_EDIT_JOB_SUCCESS, editedJob), COMMAND_TYPE);
+        CommandResult result = new CommandResult(
+                String.format(MESSAGE_EDIT_JOB_SUCCESS, editedJob.toDisplayString(model.getEntityLookup())),
+                COMMAND_TYPE);
 
         return stateManager.handleEditJob(jobToEdit, editedJob, editJobDescriptor.shouldEditContact,
                 editJobDescriptor.shouldEditProduct, result);
@@ -106,7 +107,7 @@ public class EditJobCommand extends Command {
      * edited with {@code editJobDescriptor}.
      */
     private static Job createEditedJob(Job jobToEdit, EditJobCommand.EditJobDescriptor editJobDescriptor,
-            List<Contact> lastShownContactList, List<Product> lastShownProductList) throws CommandException {
+            Model model) throws CommandException {
         assert jobToEdit != null;
 
         JobDescription updatedJobDescription = editJobDescriptor.getJobDescription()
@@ -119,29 +120,25 @@ public class EditJobCommand extends Command {
         JobDate completionDate = jobToEdit.getCompletionDate();
 
         Index clientIndex = editJobDescriptor.getClientIndex();
-        Contact updatedClient = jobToEdit.getClient();
+        long updatedClientId = jobToEdit.getClientId();
 
         if (clientIndex != null) {
-            if (clientIndex.getZeroBased() >= lastShownContactList.size()) {
-                throw new CommandException(Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX);
-            }
-
-            updatedClient = lastShownContactList.get(clientIndex.getZeroBased());
+            Contact updatedClient = clientIndex.resolve(model.getFilteredContactList(), model::getContactById)
+                    .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX));
+            updatedClientId = updatedClient.getId();
         }
 
         Index productIndex = editJobDescriptor.getProductIndex();
-        Product updatedProduct = jobToEdit.getProduct();
+        long updatedProductId = jobToEdit.getProductId();
 
         if (productIndex != null) {
-            if (productIndex.getZeroBased() >= lastShownProductList.size()) {
-                throw new CommandException(Messages.MESSAGE_INVALID_PRODUCT_DISPLAYED_INDEX);
-            }
-
-            updatedProduct = lastShownProductList.get(productIndex.getZeroBased());
+            Product updatedProduct = productIndex.resolve(model.getFilteredProductList(), model::getProductById)
+                    .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_PRODUCT_DISPLAYED_INDEX));
+            updatedProductId = updatedProduct.getId();
         }
 
-        return new Job(updatedJobDescription, updatedClient, updatedProduct, updatedExpectedCompletionDate,
-                jobStatus, updatedReceivedDate, completionDate, updatedFee);
+        return new Job(jobToEdit.getId(), updatedJobDescription, updatedClientId, updatedProductId,
+                updatedExpectedCompletionDate, jobStatus, updatedReceivedDate, completionDate, updatedFee);
     }
 
     @Override
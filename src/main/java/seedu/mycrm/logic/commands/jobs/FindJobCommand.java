@@ -2,33 +2,74 @@ package seedu.mycrm.logic.commands.jobs;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Objects;
+import java.util.function.Predicate;
+
 import seedu.mycrm.commons.core.Messages;
+import seedu.mycrm.commons.exceptions.DataConversionException;
 import seedu.mycrm.logic.StateManager;
 import seedu.mycrm.logic.commands.Command;
 import seedu.mycrm.logic.commands.CommandResult;
 import seedu.mycrm.logic.commands.CommandType;
+import seedu.mycrm.logic.commands.exceptions.CommandException;
 import seedu.mycrm.model.Model;
-import seedu.mycrm.model.job.JobContainsKeywordsPredicate;
+import seedu.mycrm.model.job.Job;
+import seedu.mycrm.model.job.JobDateRange;
 
 public class FindJobCommand extends Command {
     public static final String COMMAND_WORD = "findJob";
 
+    public static final String FUZZY_FLAG = "-f";
+    public static final String ARCHIVE_FLAG = "-a";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all jobs whose descriptions contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " Graphics card replacement needed";
+            + "With " + FUZZY_FLAG + ", jobs with words a few letters off a keyword in their descriptions, "
+            + "contacts or products are also found, closest first.\n"
+            + "Terms such as FIELD:WORD, FIELD>VALUE or FIELD:FROM..TO only find jobs meeting all of them, "
+            + "on the fields description, client, product, status (completed or inprogress), fee, received, by "
+            + "and completed. Dates are yyyy-MM-dd or yyyy-MM.\n"
+            + "Archived jobs are only found with " + ARCHIVE_FLAG + ", or by received or completed terms.\n"
+            + "Parameters: [" + FUZZY_FLAG + "] [" + ARCHIVE_FLAG + "] KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " Graphics card replacement needed\n"
+            + "Example: " + COMMAND_WORD + " fee>200 status:inprogress received:2021-09..2021-10 product:iphone";
 
     private static final CommandType COMMAND_TYPE = CommandType.JOBS;
 
-    private final JobContainsKeywordsPredicate predicate;
+    private final Predicate<Job> predicate;
+    // The completion dates of the archived jobs that may match, or null if none may.
+    private final JobDateRange archiveRange;
+
+    /**
+     * Creates a FindJobCommand to find the unarchived jobs matching {@code predicate}.
+     */
+    public FindJobCommand(Predicate<Job> predicate) {
+        this(predicate, null);
+    }
 
-    public FindJobCommand(JobContainsKeywordsPredicate predicate) {
+    /**
+     * Creates a FindJobCommand to find the jobs matching {@code predicate}, among which the archived jobs that may
+     * match were completed in {@code archiveRange}, or are none if it is null.
+     */
+    public FindJobCommand(Predicate<Job> predicate, JobDateRange archiveRange) {
+        requireNonNull(predicate);
         this.predicate = predicate;
+        this.archiveRange = archiveRange;
     }
 
     @Override
-    public CommandResult execute(Model model, StateManager stateManager) {
+    public CommandResult execute(Model model, StateManager stateManager) throws CommandException {
         requireNonNull(model);
+        if (archiveRange == null) {
+            model.unloadArchivedJobs();
+        } else {
+            try {
+                model.loadArchivedJobs(archiveRange);
+            } catch (DataConversionException e) {
+                throw new CommandException(String.format(Messages.MESSAGE_ARCHIVED_JOBS_NOT_LOADED, e.getMessage()),
+                        e);
+            }
+        }
         model.updateFilteredJobList(predicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_JOBS_LISTED_OVERVIEW, model.getFilteredJobList().size()), COMMAND_TYPE);
@@ -43,6 +84,7 @@ public class FindJobCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindJobCommand // instanceof handles nulls
-                && predicate.equals(((FindJobCommand) other).predicate)); // state check
+                && predicate.equals(((FindJobCommand) other).predicate)
+                && Objects.equals(archiveRange, ((FindJobCommand) other).archiveRange)); // state check
     }
 }
@@ -1,9 +1,15 @@
 package seedu.mycrm.logic.commands.jobs;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.mycrm.logic.parser.CliSyntax.PREFIX_FROM_DATE;
+import static seedu.mycrm.logic.parser.CliSyntax.PREFIX_TO_DATE;
 
+import java.time.LocalDate;
+import java.util.Objects;
 import java.util.function.Predicate;
 
+import seedu.mycrm.commons.core.Messages;
+import seedu.mycrm.commons.exceptions.DataConversionException;
 import seedu.mycrm.logic.StateManager;
 import seedu.mycrm.logic.commands.Command;
 import seedu.mycrm.logic.commands.CommandResult;
@@ -11,6 +17,7 @@ import seedu.mycrm.logic.commands.CommandType;
 import seedu.mycrm.logic.commands.exceptions.CommandException;
 import seedu.mycrm.model.Model;
 import seedu.mycrm.model.job.Job;
+import seedu.mycrm.model.job.JobDateRange;
 
 public class ListJobCommand extends Command {
     public static final String SHOW_ALL_FLAG = "-a";
@@ -23,15 +30,22 @@ public class ListJobCommand extends Command {
             + "Flags to modify list of jobs displayed (only one flag allowed at a time): \n"
             + SHOW_ALL_FLAG + ": to show all jobs\n"
             + SHOW_COMPLETED_FLAG + ": to show only completed jobs\n"
-            + "Example: " + COMMAND_WORD + " -a";
+            + "Optionally only lists the jobs with a date from START_DATE to END_DATE: the expected completion date "
+            + "of in-progress jobs, the completion date of completed jobs, or the received date when showing all jobs\n"
+            + "Parameters: [FLAG] [" + PREFIX_FROM_DATE + "START_DATE] [" + PREFIX_TO_DATE + "END_DATE]\n"
+            + "Example: " + COMMAND_WORD + " -a\n"
+            + "Example: " + COMMAND_WORD + " -c " + PREFIX_FROM_DATE + "01/01/2021 " + PREFIX_TO_DATE + "31/03/2021";
 
     public static final String MESSAGE_SUCCESS_ALL = "Listed all jobs";
     public static final String MESSAGE_SUCCESS_ONLY_COMPLETED = "Listed all completed jobs";
     public static final String MESSAGE_SUCCESS_ONLY_PENDING = "Listed all in-progress jobs";
+    public static final String MESSAGE_SUCCESS_IN_RANGE = "%1$s with a date %2$s";
 
     private static final CommandType COMMAND_TYPE = CommandType.JOBS;
 
     private final Predicate<Job> listPredicate;
+    // The range of dates of the listed jobs, or null if jobs of any date are listed.
+    private final JobDateRange range;
 
     /**
      * Creates an ListJobCommand to list jobs matching the {@code listPredicate}.
@@ -39,13 +53,51 @@ public class ListJobCommand extends Command {
     public ListJobCommand(Predicate<Job> listPredicate) {
         requireNonNull(listPredicate);
         this.listPredicate = listPredicate;
+        this.range = null;
+    }
+
+    /**
+     * Creates an ListJobCommand to list jobs matching the {@code listPredicate} with a date in {@code range}.
+     * In-progress jobs are listed by their expected completion dates, completed jobs by their completion dates,
+     * and all jobs by their received dates.
+     */
+    public ListJobCommand(Predicate<Job> listPredicate, JobDateRange range) {
+        requireNonNull(listPredicate);
+        requireNonNull(range);
+        this.listPredicate = listPredicate;
+        this.range = range;
+    }
+
+    /**
+     * Returns the completion dates of the archived jobs that may be listed.
+     */
+    private JobDateRange getArchiveRange() {
+        if (range == null) {
+            return JobDateRange.ALL_DATES;
+        }
+        if (listPredicate == Model.PREDICATE_SHOW_ALL_COMPLETED_JOBS) {
+            return range;
+        }
+        // All jobs are listed by their received dates, and a job is completed no earlier than it is received.
+        return new JobDateRange(range.getStart(), LocalDate.MAX);
     }
 
     @Override
     public CommandResult execute(Model model, StateManager stateManager) throws CommandException {
         requireNonNull(model);
 
-        model.updateFilteredJobList(listPredicate);
+        if (listPredicate == Model.PREDICATE_SHOW_ALL_INCOMPLETE_JOBS) {
+            // Only completed jobs are archived.
+            model.unloadArchivedJobs();
+        } else {
+            try {
+                model.loadArchivedJobs(getArchiveRange());
+            } catch (DataConversionException e) {
+                throw new CommandException(String.format(Messages.MESSAGE_ARCHIVED_JOBS_NOT_LOADED, e.getMessage()),
+                        e);
+            }
+        }
+        model.updateFilteredJobList(range == null ? listPredicate : listPredicate.and(this::isInRange));
         String userFeedback = MESSAGE_SUCCESS_ALL;
 
         if (listPredicate == Model.PREDICATE_SHOW_ALL_COMPLETED_JOBS) {
@@ -53,10 +105,27 @@ public class ListJobCommand extends Command {
         } else if (listPredicate == Model.PREDICATE_SHOW_ALL_INCOMPLETE_JOBS) {
             userFeedback = MESSAGE_SUCCESS_ONLY_PENDING;
         }
+        if (range != null) {
+            userFeedback = String.format(MESSAGE_SUCCESS_IN_RANGE, userFeedback, range);
+        }
 
         return new CommandResult(userFeedback, COMMAND_TYPE);
     }
 
+    /**
+     * Returns true if the date that {@code job} is listed by is in the range.
+     * The filtered job list tests every job against its predicate anyway, so the date is checked directly rather
+     * than looked up in the model's date indexes, which also keeps the list right as jobs are edited.
+     */
+    private boolean isInRange(Job job) {
+        if (listPredicate == Model.PREDICATE_SHOW_ALL_COMPLETED_JOBS) {
+            return range.contains(job.getCompletionDate());
+        } else if (listPredicate == Model.PREDICATE_SHOW_ALL_INCOMPLETE_JOBS) {
+            return range.contains(job.getExpectedCompletionDate());
+        }
+        return range.contains(job.getReceivedDate());
+    }
+
     @Override
     public CommandType getType() {
         return COMMAND_TYPE;
@@ -66,6 +135,7 @@ public class ListJobCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
             || (other instanceof ListJobCommand // instanceof handles nulls
-            && listPredicate.equals(((ListJobCommand) other).listPredicate)); // state check
+            && listPredicate.equals(((ListJobCommand) other).listPredicate)
+            && Objects.equals(range, ((ListJobCommand) other).range)); // state check
     }
 }
@@ -38,11 +38,12 @@ public class UndoCompleteJobCommand extends Command {
         requireNonNull(model);
         List<Job> lastShownList = model.getFilteredJobList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_JOB_DISPLAYED_INDEX);
-        }
+        Job jobToRevertStatus = targetIndex.resolve(lastShownList, model::getJobById)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_JOB_DISPLAYED_INDEX));
 
-        Job jobToRevertStatus = lastShownList.get(targetIndex.getZeroBased());
+        if (model.isArchivedJob(jobToRevertStatus)) {
+            throw new CommandException(Messages.MESSAGE_INVALID_ARCHIVED_JOB_REQUEST);
+        }
 
         if (!jobToRevertStatus.isCompleted()) {
             throw new CommandException(Messages.MESSAGE_INVALID_JOB_UNDO_COMPLETE_REQUEST);
@@ -53,7 +54,8 @@ public class UndoCompleteJobCommand extends Command {
 
         model.setJob(jobToRevertStatus, copiedJob);
         model.updateFilteredJobList(Model.PREDICATE_SHOW_ALL_INCOMPLETE_JOBS);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, jobToRevertStatus), COMMAND_TYPE);
+        String jobString = jobToRevertStatus.toDisplayString(model.getEntityLookup());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, jobString), COMMAND_TYPE);
     }
 
     @Override
@@ -41,11 +41,8 @@ public class DeleteTemplateCommand extends Command {
         requireNonNull(model);
         List<Template> lastShownList = model.getFilteredTemplateList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_TEMPLATE_DISPLAYED_INDEX);
-        }
-
-        Template templateToDelete = lastShownList.get(targetIndex.getZeroBased());
+        Template templateToDelete = targetIndex.resolve(lastShownList, model::getTemplateById)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_TEMPLATE_DISPLAYED_INDEX));
         model.deleteTemplate(templateToDelete);
         return new CommandResult(String.format(MESSAGE_DELETE_TEMPLATE_SUCCESS, templateToDelete), COMMAND_TYPE);
     }
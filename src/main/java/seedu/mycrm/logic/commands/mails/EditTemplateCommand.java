@@ -64,11 +64,8 @@ public class EditTemplateCommand extends Command {
         requireNonNull(model);
         List<Template> lastShownList = model.getFilteredTemplateList();
 
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_TEMPLATE_DISPLAYED_INDEX);
-        }
-
-        Template templateToEdit = lastShownList.get(index.getZeroBased());
+        Template templateToEdit = index.resolve(lastShownList, model::getTemplateById)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_TEMPLATE_DISPLAYED_INDEX));
         Template editedTemplate = createEditedTemplate(templateToEdit, editTemplateDescriptor);
 
         if (!templateToEdit.isSameTemplate(editedTemplate) && model.hasTemplate(editedTemplate)) {
@@ -91,7 +88,7 @@ public class EditTemplateCommand extends Command {
         Subject updatedSubject = editTemplateDescriptor.getSubject().orElse(templateToEdit.getSubject());
         Body updatedBody = editTemplateDescriptor.getBody().orElse(templateToEdit.getBody());
 
-        return new Template(updatedSubject, updatedBody);
+        return new Template(templateToEdit.getId(), updatedSubject, updatedBody);
     }
 
     @Override
@@ -12,6 +12,8 @@ import seedu.mycrm.logic.commands.CommandResult;
 import seedu.mycrm.logic.commands.CommandType;
 import seedu.mycrm.logic.commands.exceptions.CommandException;
 import seedu.mycrm.model.Model;
+import seedu.mycrm.model.contact.Contact;
+import seedu.mycrm.model.contact.Email;
 import seedu.mycrm.model.job.Job;
 import seedu.mycrm.model.mail.Mail;
 import seedu.mycrm.model.mail.Template;
@@ -55,22 +57,19 @@ public class MailCommand extends Command {
         java.util.List<Job> lastJobList = model.getFilteredJobList();
         java.util.List<Template> lastTemplateList = model.getFilteredTemplateList();
 
-        if (jobIndex.getZeroBased() >= lastJobList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_JOB_DISPLAYED_INDEX);
-        }
-
-        if (templateIndex.getZeroBased() >= lastTemplateList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_TEMPLATE_DISPLAYED_INDEX);
-        }
+        Job jobToMail = jobIndex.resolve(lastJobList, model::getJobById)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_JOB_DISPLAYED_INDEX));
 
-        Job jobToMail = lastJobList.get(jobIndex.getZeroBased());
+        Template templateToMail = templateIndex.resolve(lastTemplateList, model::getTemplateById)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_TEMPLATE_DISPLAYED_INDEX));
 
-        if (jobToMail.getClientEmail().equals("")) {
+        Email clientEmail = jobToMail.getClient(model.getEntityLookup()).map(Contact::getEmail)
+                .orElseGet(Email::getEmptyEmail);
+        if (clientEmail.isEmpty()) {
             throw new CommandException(Messages.MESSAGE_INVALID_JOB_NO_EMAIL);
         }
 
-        Template templateToMail = lastTemplateList.get(templateIndex.getZeroBased());
-        model.addMail(new Mail(jobToMail, templateToMail));
+        model.addMail(new Mail(jobToMail, templateToMail, clientEmail));
 
         return new CommandResult(String.format(MESSAGE_MAIL_SUCCESS, templateToMail.getSubject().toString()),
                 COMMAND_TYPE);
@@ -5,7 +5,6 @@ import static seedu.mycrm.commons.core.Messages.MESSAGE_INVALID_PRODUCT_DISPLAYE
 import static seedu.mycrm.commons.core.Messages.MESSAGE_REMOVE_LINKED_PRODUCT;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.mycrm.commons.core.index.Index;
 import seedu.mycrm.logic.StateManager;
@@ -14,7 +13,6 @@ import seedu.mycrm.logic.commands.CommandResult;
 import seedu.mycrm.logic.commands.CommandType;
 import seedu.mycrm.logic.commands.exceptions.CommandException;
 import seedu.mycrm.model.Model;
-import seedu.mycrm.model.job.Job;
 import seedu.mycrm.model.product.Product;
 
 /** Deletes the specified product from the CRM. */
@@ -48,24 +46,11 @@ public class DeleteProductCommand extends Command {
 
         List<Product> lastShownList = model.getFilteredProductList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(MESSAGE_INVALID_PRODUCT_DISPLAYED_INDEX);
-        }
-
-        Product productToDelete = lastShownList.get(targetIndex.getZeroBased());
+        Product productToDelete = targetIndex.resolve(lastShownList, model::getProductById)
+                .orElseThrow(() -> new CommandException(MESSAGE_INVALID_PRODUCT_DISPLAYED_INDEX));
 
         // check the full job list to find if the product is linked with any jobs
-        Predicate<Job> latestJobPredicate = model.getLatestJobPredicate() == null
-                ? model.PREDICATE_SHOW_ALL_INCOMPLETE_JOBS
-                : model.getLatestJobPredicate();
-        model.updateFilteredJobList(Model.PREDICATE_SHOW_ALL_JOBS);
-        boolean isLinkedToJob = model.getFilteredJobList().stream()
-                .anyMatch(j -> j.getProduct() != null && j.getProduct().isSameProduct(productToDelete));
-
-        // restore the user's job predicate
-        model.updateFilteredJobList(latestJobPredicate);
-
-        if (isLinkedToJob) {
+        if (model.hasJobsForProduct(productToDelete)) {
             throw new CommandException(MESSAGE_REMOVE_LINKED_PRODUCT);
         }
 
@@ -9,7 +9,6 @@ import static seedu.mycrm.logic.parser.CliSyntax.PREFIX_PRODUCT_NAME;
 import static seedu.mycrm.logic.parser.CliSyntax.PREFIX_PRODUCT_TYPE;
 
 import java.util.Arrays;
-import java.util.function.Predicate;
 
 import seedu.mycrm.commons.core.index.Index;
 import seedu.mycrm.logic.StateManager;
@@ -18,7 +17,6 @@ import seedu.mycrm.logic.commands.CommandResult;
 import seedu.mycrm.logic.commands.CommandType;
 import seedu.mycrm.logic.commands.exceptions.CommandException;
 import seedu.mycrm.model.Model;
-import seedu.mycrm.model.job.Job;
 import seedu.mycrm.model.product.Description;
 import seedu.mycrm.model.product.Manufacturer;
 import seedu.mycrm.model.product.Product;
@@ -66,11 +64,8 @@ public class EditProductCommand extends Command {
     public CommandResult execute(Model model, StateManager stateManager) throws CommandException {
         requireAllNonNull(model, stateManager);
 
-        if (index.getOneBased() > model.getFilteredProductList().size()) {
-            throw new CommandException(MESSAGE_INVALID_PRODUCT_DISPLAYED_INDEX);
-        }
-
-        Product toEdit = model.getFilteredProductList().get(index.getZeroBased());
+        Product toEdit = index.resolve(model.getFilteredProductList(), model::getProductById)
+                .orElseThrow(() -> new CommandException(MESSAGE_INVALID_PRODUCT_DISPLAYED_INDEX));
         Product edited = createEditedProduct(toEdit, descriptor);
 
         boolean hasDuplicateProduct = !edited.isSameProduct(toEdit) && model.hasProduct(edited);
@@ -78,26 +73,10 @@ public class EditProductCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_PRODUCT);
         }
 
-        // update product in product list
+        // the jobs of the product refer to it by id, so they show the edited product without being changed
         model.setProduct(toEdit, edited);
         model.updateFilteredProductList(Model.PREDICATE_SHOW_ALL_PRODUCTS);
 
-        // update product references in jobs
-        Predicate<Job> latestJobPredicate = model.getLatestJobPredicate() == null
-                ? model.PREDICATE_SHOW_ALL_INCOMPLETE_JOBS
-                : model.getLatestJobPredicate();
-
-        model.updateFilteredJobList(Model.PREDICATE_SHOW_ALL_JOBS);
-        model.getFilteredJobList().stream()
-                .filter(j -> j.getProduct() != null && j.getProduct().isSameProduct(toEdit))
-                .forEach(j -> {
-                    j.setProduct(edited);
-                    model.setJob(j, j);
-                });
-
-        // restore the user's job predicate
-        model.updateFilteredJobList(latestJobPredicate);
-
         return new CommandResult(String.format(MESSAGE_EDIT_PRODUCT_SUCCESS, edited), COMMAND_TYPE);
     }
 
@@ -115,7 +94,7 @@ public class EditProductCommand extends Command {
                 : descriptor.manufacturer;
         Description description = descriptor.description.isEmpty() ? toEdit.getDescription() : descriptor.description;
 
-        return new Product(name, type, manufacturer, description);
+        return new Product(toEdit.getId(), name, type, manufacturer, description);
     }
 
     @Override
@@ -4,12 +4,14 @@ import static java.util.Objects.requireNonNull;
 import static seedu.mycrm.commons.core.Messages.MESSAGE_PRODUCTS_LISTED_OVERVIEW;
 import static seedu.mycrm.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.function.Predicate;
+
 import seedu.mycrm.logic.StateManager;
 import seedu.mycrm.logic.commands.Command;
 import seedu.mycrm.logic.commands.CommandResult;
 import seedu.mycrm.logic.commands.CommandType;
 import seedu.mycrm.model.Model;
-import seedu.mycrm.model.product.ProductNameContainsKeywordsPredicate;
+import seedu.mycrm.model.product.Product;
 
 /**
  * Finds and lists all products in MyCrm whose name contains any of the argument keywords.
@@ -18,17 +20,20 @@ import seedu.mycrm.model.product.ProductNameContainsKeywordsPredicate;
 public class FindProductCommand extends Command {
     public static final String COMMAND_WORD = "findProduct";
 
+    public static final String FUZZY_FLAG = "-f";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all products whose names contain any of "
         + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-        + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+        + "With " + FUZZY_FLAG + ", names with words a few letters off a keyword are also found, closest first.\n"
+        + "Parameters: [" + FUZZY_FLAG + "] KEYWORD [MORE_KEYWORDS]...\n"
         + "Example: " + COMMAND_WORD + "Intel";
 
     private static final CommandType COMMAND_TYPE = CommandType.PRODUCTS;
 
-    private final ProductNameContainsKeywordsPredicate predicate;
+    private final Predicate<Product> predicate;
 
     /** Creates a FindProductCommand. */
-    public FindProductCommand(ProductNameContainsKeywordsPredicate predicate) {
+    public FindProductCommand(Predicate<Product> predicate) {
         requireNonNull(predicate);
 
         this.predicate = predicate;
@@ -27,6 +27,14 @@ public class CliSyntax {
     public static final Prefix PREFIX_RECEIVED_DATE = new Prefix("recv/");
     public static final Prefix PREFIX_FEE = new Prefix("fee/");
 
+    /* Prefix definitions for job date ranges */
+    public static final Prefix PREFIX_FROM_DATE = new Prefix("from/");
+    public static final Prefix PREFIX_TO_DATE = new Prefix("to/");
+
+    /* Prefix definitions for reports */
+    public static final Prefix PREFIX_REPORT_PERIOD = new Prefix("period/");
+    public static final Prefix PREFIX_TOP_PRODUCT_COUNT = new Prefix("top/");
+
     /* Prefix definitions for products*/
     public static final Prefix PREFIX_PRODUCT_NAME = new Prefix("n/");
     public static final Prefix PREFIX_PRODUCT_TYPE = new Prefix("t/");
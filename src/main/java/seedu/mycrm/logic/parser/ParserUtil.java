@@ -1,9 +1,12 @@
 package seedu.mycrm.logic.parser;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.mycrm.logic.parser.CliSyntax.PREFIX_FROM_DATE;
+import static seedu.mycrm.logic.parser.CliSyntax.PREFIX_TO_DATE;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.mycrm.commons.core.index.Index;
@@ -15,8 +18,11 @@ import seedu.mycrm.model.contact.Name;
 import seedu.mycrm.model.contact.Phone;
 import seedu.mycrm.model.contact.tag.Tag;
 import seedu.mycrm.model.job.JobDate;
+import seedu.mycrm.model.job.JobDateRange;
 import seedu.mycrm.model.job.JobDescription;
 import seedu.mycrm.model.job.JobFee;
+import seedu.mycrm.model.job.ProductRanking;
+import seedu.mycrm.model.job.ReportPeriod;
 import seedu.mycrm.model.mail.Body;
 import seedu.mycrm.model.mail.Subject;
 
@@ -26,21 +32,42 @@ import seedu.mycrm.model.mail.Subject;
  */
 public class ParserUtil {
 
+    /** Prefix of an index that refers to an entity by its id, such as {@code #12}. */
+    public static final String ID_PREFIX = "#";
+
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
-     * trimmed.
+     * trimmed. An index starting with {@link #ID_PREFIX} refers to the entity with the id that follows it instead.
      * @throws ParseException if the specified index is invalid (not non-zero unsigned integer).
      */
     public static Index parseIndex(String oneBasedIndex) throws ParseException {
         String trimmedIndex = oneBasedIndex.trim();
+        if (trimmedIndex.startsWith(ID_PREFIX)) {
+            return parseEntityId(trimmedIndex.substring(ID_PREFIX.length()));
+        }
         if (!StringUtil.isNonZeroUnsignedInteger(trimmedIndex)) {
             throw new ParseException(MESSAGE_INVALID_INDEX);
         }
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    private static Index parseEntityId(String id) throws ParseException {
+        if (!id.matches("\\d+")) {
+            throw new ParseException(MESSAGE_INVALID_INDEX);
+        }
+        try {
+            long entityId = Long.parseLong(id);
+            if (entityId == 0) {
+                throw new ParseException(MESSAGE_INVALID_INDEX);
+            }
+            return Index.fromEntityId(entityId);
+        } catch (NumberFormatException nfe) {
+            throw new ParseException(MESSAGE_INVALID_INDEX, nfe);
+        }
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -181,11 +208,58 @@ public class ParserUtil {
      */
     public static JobDate parseJobDate(String date, String attributeName) throws ParseException {
         requireNonNull(date);
-        String trimmedDate = date.trim();
-        if (!JobDate.isValidJobDate(date)) {
-            throw new ParseException(attributeName + " " + JobDate.MESSAGE_CONSTRAINTS);
+        return JobDate.tryParse(date)
+                .orElseThrow(() -> new ParseException(attributeName + " " + JobDate.MESSAGE_CONSTRAINTS));
+    }
+
+    /**
+     * Parses the {@code from} and {@code to} dates of a {@code ArgumentMultimap} into a {@code JobDateRange}.
+     * A missing date leaves the range open at that end.
+     *
+     * @return the range, or an empty {@code Optional} if neither date is present.
+     * @throws ParseException if a given date is invalid, or the start date is after the end date.
+     */
+    public static Optional<JobDateRange> parseJobDateRange(ArgumentMultimap argMultimap) throws ParseException {
+        requireNonNull(argMultimap);
+        Optional<String> from = argMultimap.getValue(PREFIX_FROM_DATE);
+        Optional<String> to = argMultimap.getValue(PREFIX_TO_DATE);
+        if (from.isEmpty() && to.isEmpty()) {
+            return Optional.empty();
+        }
+
+        JobDate start = from.isPresent() ? parseJobDate(from.get(), "Start") : null;
+        JobDate end = to.isPresent() ? parseJobDate(to.get(), "End") : null;
+        if (start != null && end != null && !JobDateRange.isValidRange(start.value, end.value)) {
+            throw new ParseException(JobDateRange.MESSAGE_CONSTRAINTS);
         }
-        return new JobDate(trimmedDate);
+        return Optional.of(JobDateRange.between(start, end));
+    }
+
+    /**
+     * Parses a {@code String period} into a {@code ReportPeriod}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code period} is invalid.
+     */
+    public static ReportPeriod parseReportPeriod(String period) throws ParseException {
+        requireNonNull(period);
+        return ReportPeriod.fromKeyword(period.trim())
+                .orElseThrow(() -> new ParseException(ReportPeriod.MESSAGE_CONSTRAINTS));
+    }
+
+    /**
+     * Parses a {@code String count} into the number of top products of a report.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code count} is not a positive integer.
+     */
+    public static int parseTopProductCount(String count) throws ParseException {
+        requireNonNull(count);
+        String trimmedCount = count.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedCount)) {
+            throw new ParseException(ProductRanking.MESSAGE_CONSTRAINTS);
+        }
+        return Integer.parseInt(trimmedCount);
     }
 
     /**
@@ -196,10 +270,7 @@ public class ParserUtil {
      */
     public static JobFee parseJobFee(String fee) throws ParseException {
         requireNonNull(fee);
-        if (!JobFee.isValidJobFee(fee)) {
-            throw new ParseException(JobFee.MESSAGE_CONSTRAINTS);
-        }
-        return new JobFee(fee);
+        return JobFee.tryParse(fee).orElseThrow(() -> new ParseException(JobFee.MESSAGE_CONSTRAINTS));
     }
 
     /**
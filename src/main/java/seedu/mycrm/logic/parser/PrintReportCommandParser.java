@@ -1,11 +1,21 @@
 package seedu.mycrm.logic.parser;
 
 import static seedu.mycrm.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.mycrm.logic.commands.PrintReportCommand.SHOW_COMPLETED_FLAG;
 import static seedu.mycrm.logic.commands.PrintReportCommand.SHOW_IN_PROGRESS_FLAG;
 import static seedu.mycrm.logic.commands.PrintReportCommand.SHOW_PRODUCT_FLAG;
+import static seedu.mycrm.logic.parser.CliSyntax.PREFIX_FROM_DATE;
+import static seedu.mycrm.logic.parser.CliSyntax.PREFIX_REPORT_PERIOD;
+import static seedu.mycrm.logic.parser.CliSyntax.PREFIX_TOP_PRODUCT_COUNT;
+import static seedu.mycrm.logic.parser.CliSyntax.PREFIX_TO_DATE;
+
+import java.util.Optional;
 
 import seedu.mycrm.logic.commands.PrintReportCommand;
 import seedu.mycrm.logic.parser.exceptions.ParseException;
+import seedu.mycrm.model.job.JobDateRange;
+import seedu.mycrm.model.job.ProductRanking;
+import seedu.mycrm.model.job.ReportPeriod;
 
 public class PrintReportCommandParser implements Parser<PrintReportCommand> {
 
@@ -16,20 +26,34 @@ public class PrintReportCommandParser implements Parser<PrintReportCommand> {
      */
     @Override
     public PrintReportCommand parse(String args) throws ParseException {
-        String flag = null;
-        String trimmedArgs = args.trim();
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM_DATE, PREFIX_TO_DATE,
+                PREFIX_REPORT_PERIOD, PREFIX_TOP_PRODUCT_COUNT);
+        String flag = SHOW_COMPLETED_FLAG;
+        String trimmedArgs = argMultimap.getPreamble();
+        Optional<JobDateRange> range = ParserUtil.parseJobDateRange(argMultimap);
+
+        ReportPeriod period = null;
+        if (argMultimap.getValue(PREFIX_REPORT_PERIOD).isPresent()) {
+            if (range.isPresent()) {
+                throw new ParseException(PrintReportCommand.MESSAGE_PERIOD_AND_DATES);
+            }
+            period = ParserUtil.parseReportPeriod(argMultimap.getValue(PREFIX_REPORT_PERIOD).get());
+        } else if (range.isEmpty()) {
+            period = ReportPeriod.MONTH;
+        }
 
-        if (trimmedArgs.isEmpty()) {
-            return new PrintReportCommand();
+        int topProductCount = ProductRanking.DEFAULT_SIZE;
+        if (argMultimap.getValue(PREFIX_TOP_PRODUCT_COUNT).isPresent()) {
+            topProductCount = ParserUtil.parseTopProductCount(argMultimap.getValue(PREFIX_TOP_PRODUCT_COUNT).get());
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        if (!trimmedArgs.isEmpty()) {
+            String[] nameKeywords = trimmedArgs.split("\\s+");
 
-        if (nameKeywords.length > 1) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                    PrintReportCommand.MESSAGE_USAGE));
-        } else if (nameKeywords.length == 1) {
-            if (SHOW_IN_PROGRESS_FLAG.equals(nameKeywords[0])) {
+            if (nameKeywords.length > 1) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        PrintReportCommand.MESSAGE_USAGE));
+            } else if (SHOW_IN_PROGRESS_FLAG.equals(nameKeywords[0])) {
                 flag = SHOW_IN_PROGRESS_FLAG;
             } else if (SHOW_PRODUCT_FLAG.equals(nameKeywords[0])) {
                 flag = SHOW_PRODUCT_FLAG;
@@ -38,7 +62,7 @@ public class PrintReportCommandParser implements Parser<PrintReportCommand> {
                         PrintReportCommand.MESSAGE_USAGE));
             }
         }
-        return new PrintReportCommand(flag);
+        return new PrintReportCommand(flag, range.orElse(null), period, topProductCount);
     }
 
 }
@@ -0,0 +1,297 @@
+package seedu.mycrm.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.mycrm.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import seedu.mycrm.logic.parser.exceptions.ParseException;
+import seedu.mycrm.model.WordIndex;
+import seedu.mycrm.model.job.JobDate;
+import seedu.mycrm.model.job.JobFee;
+import seedu.mycrm.model.query.PatternCondition;
+import seedu.mycrm.model.query.QueryCondition;
+import seedu.mycrm.model.query.QueryPlan;
+import seedu.mycrm.model.query.RangeCondition;
+import seedu.mycrm.model.query.WordCondition;
+
+/**
+ * Parses the terms of a find command into a {@code QueryPlan} of the elements.
+ * A term is either a keyword, or a field, an operator and a value, such as {@code product:iphone},
+ * {@code fee>200} or {@code received:2021-09..2021-10}. A term on a field the parser does not know, such as
+ * {@code note:urgent}, is a keyword. An element matches if it meets every field term, and has
+ * any of the keywords in the keyword fields if there are keywords.
+ * <ul>
+ *     <li>Word fields take {@code :} and one or more words separated by commas, any of which must be a word of the
+ *     field, or a pattern in which {@code *} stands for any characters.</li>
+ *     <li>Date fields take a day ({@code yyyy-MM-dd} or {@code d/M/yyyy}) or a month ({@code yyyy-MM}), after
+ *     {@code :}, {@code >}, {@code >=}, {@code <} or {@code <=}, or a range of them after {@code :}, such as
+ *     {@code 2021-09..2021-10}, either end of which may be left out.</li>
+ *     <li>Fee fields take an amount in dollars in the same way as date fields.</li>
+ * </ul>
+ *
+ * @param <T> type of the elements.
+ */
+public class QueryParser<T> {
+    public static final String MESSAGE_INVALID_OPERATOR = "Field \"%1$s\" cannot be searched with \"%2$s\"";
+    public static final String MESSAGE_INVALID_VALUE = "Invalid value \"%1$s\" for field \"%2$s\". %3$s";
+    public static final String MESSAGE_NO_WORDS = "At least one word should be given";
+    public static final String MESSAGE_FUZZY_FIELD_TERMS = "Fuzzy search takes keywords only, not field terms";
+    public static final String MESSAGE_INVALID_DATE = "Dates should follow the format yyyy-MM-dd, yyyy-MM or d/M/yyyy";
+
+    public static final String RANGE_SEPARATOR = "..";
+    public static final String VALUE_SEPARATOR = ",";
+
+    private static final Pattern TERM_FORMAT =
+            Pattern.compile("(?<field>[a-zA-Z]+)(?<operator>:|>=|<=|>|<)(?<value>.+)");
+    private static final Pattern MONTH_FORMAT = Pattern.compile("\\d{4}-\\d{2}");
+    private static final Pattern DAY_FORMAT = Pattern.compile("\\d{4}-\\d{2}-\\d{2}");
+
+    private final Map<String, Function<? super T, ?>> keywordFields;
+    private final Map<String, FieldParser<T>> fieldParsers = new LinkedHashMap<>();
+
+    /**
+     * Creates a parser without field terms, which looks for keywords in {@code keywordFields}.
+     */
+    public QueryParser(Map<String, Function<? super T, ?>> keywordFields) {
+        requireNonNull(keywordFields);
+        this.keywordFields = keywordFields;
+    }
+
+    /**
+     * Returns true if {@code term} is a field, an operator and a value, which is a field term of a parser that knows
+     * the field.
+     */
+    public static boolean hasFieldTermFormat(String term) {
+        requireNonNull(term);
+        return TERM_FORMAT.matcher(term).matches();
+    }
+
+    /**
+     * Returns true if {@code term} is a field term on a field of this parser rather than a keyword.
+     */
+    public boolean isFieldTerm(String term) {
+        requireNonNull(term);
+        Matcher matcher = TERM_FORMAT.matcher(term);
+        return matcher.matches() && fieldParsers.containsKey(matcher.group("field").toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Adds the word field {@code name}, which searches the words of {@code field}, whose value is given by
+     * {@code valueOf}. If {@code field} is in the {@code WordIndex} of the elements, it is searched there.
+     * A value that is a key of {@code aliases} is searched as the word it maps to.
+     */
+    public QueryParser<T> withWordField(String name, String field, Function<? super T, ?> valueOf,
+            Map<String, String> aliases) {
+        requireAllNonNull(name, field, valueOf, aliases);
+        fieldParsers.put(name, (operator, value) -> {
+            if (!operator.equals(":")) {
+                throw new ParseException(String.format(MESSAGE_INVALID_OPERATOR, name, operator));
+            }
+            if (value.contains(PatternCondition.WILDCARD)) {
+                return new PatternCondition<>(field, valueOf, value);
+            }
+
+            List<String> words = Arrays.stream(value.split(VALUE_SEPARATOR))
+                    .map(WordIndex::normalize)
+                    .filter(word -> !word.isEmpty())
+                    .map(word -> aliases.getOrDefault(word, word))
+                    .collect(Collectors.toList());
+            if (words.isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_VALUE, value, name, MESSAGE_NO_WORDS));
+            }
+            return new WordCondition<>(Map.of(field, valueOf), words);
+        });
+        return this;
+    }
+
+    /**
+     * Adds the word field {@code name}, which searches the words of {@code field}, whose value is given by
+     * {@code valueOf}.
+     */
+    public QueryParser<T> withWordField(String name, String field, Function<? super T, ?> valueOf) {
+        return withWordField(name, field, valueOf, Map.of());
+    }
+
+    /**
+     * Adds the date field {@code name}, which compares the dates of {@code field}, whose value is given by
+     * {@code dateOf}. If {@code field} is a range field of the {@code WordIndex} of the elements, the elements in a
+     * range of dates are counted there.
+     */
+    public QueryParser<T> withDateField(String name, String field, Function<? super T, JobDate> dateOf) {
+        requireAllNonNull(name, field, dateOf);
+        Function<? super T, LocalDate> valueOf = element -> {
+            JobDate date = dateOf.apply(element);
+            return date == null ? null : date.value;
+        };
+        fieldParsers.put(name, (operator, value) -> parseRange(name, field, valueOf, operator, value,
+                QueryParser::parseDates, day -> day.plusDays(1), day -> day.minusDays(1)));
+        return this;
+    }
+
+    /**
+     * Adds the date field {@code name}, whose value is given by {@code dateOf}.
+     */
+    public QueryParser<T> withDateField(String name, Function<? super T, JobDate> dateOf) {
+        return withDateField(name, name, dateOf);
+    }
+
+    /**
+     * Adds the fee field {@code name}, whose value is given by {@code feeOf}.
+     */
+    public QueryParser<T> withFeeField(String name, Function<? super T, JobFee> feeOf) {
+        requireAllNonNull(name, feeOf);
+        Function<? super T, Integer> valueOf = element -> {
+            JobFee fee = feeOf.apply(element);
+            return fee == null ? null : fee.getCents();
+        };
+        fieldParsers.put(name, (operator, value) -> parseRange(name, name, valueOf, operator, value,
+                QueryParser::parseCents, cents -> cents + 1, cents -> cents - 1));
+        return this;
+    }
+
+    /**
+     * Parses {@code terms} into a plan, with the keywords among them as its first condition.
+     *
+     * @return the plan, or an empty {@code Optional} if none of the terms are field terms.
+     * @throws ParseException if a field term has an invalid operator or value.
+     */
+    public Optional<QueryPlan<T>> parse(List<String> terms) throws ParseException {
+        requireNonNull(terms);
+        List<String> keywords = new ArrayList<>();
+        List<QueryCondition<T>> conditions = new ArrayList<>();
+        for (String term : terms) {
+            Matcher matcher = TERM_FORMAT.matcher(term);
+            FieldParser<T> fieldParser = matcher.matches()
+                    ? fieldParsers.get(matcher.group("field").toLowerCase(Locale.ROOT))
+                    : null;
+            if (fieldParser == null) {
+                keywords.add(term);
+                continue;
+            }
+            conditions.add(fieldParser.parse(matcher.group("operator"), matcher.group("value")));
+        }
+
+        if (conditions.isEmpty()) {
+            return Optional.empty();
+        }
+        if (!keywords.isEmpty()) {
+            conditions.add(0, new WordCondition<>(keywordFields, keywords));
+        }
+        return Optional.of(new QueryPlan<>(conditions));
+    }
+
+    /**
+     * Parses a comparison of the field {@code name} with {@code value} into a {@code RangeCondition} on
+     * {@code field}.
+     * A literal value stands for the values from the first to the last element returned by {@code parseLiteral},
+     * and {@code next} and {@code previous} step just past them for the strict comparisons.
+     */
+    private static <T, V extends Comparable<? super V>> QueryCondition<T> parseRange(String name, String field,
+            Function<? super T, ? extends V> valueOf, String operator, String value,
+            LiteralParser<V> parseLiteral, UnaryOperator<V> next, UnaryOperator<V> previous) throws ParseException {
+        V lower = null;
+        V upper = null;
+        int separatorIndex = value.indexOf(RANGE_SEPARATOR);
+        if (separatorIndex != -1) {
+            if (!operator.equals(":")) {
+                throw new ParseException(String.format(MESSAGE_INVALID_OPERATOR, name, operator + RANGE_SEPARATOR));
+            }
+            String from = value.substring(0, separatorIndex);
+            String to = value.substring(separatorIndex + RANGE_SEPARATOR.length());
+            lower = from.isEmpty() ? null : parseLiteral.parse(name, from).get(0);
+            upper = to.isEmpty() ? null : parseLiteral.parse(name, to).get(1);
+        } else {
+            List<V> literal = parseLiteral.parse(name, value);
+            switch (operator) {
+            case ":":
+                lower = literal.get(0);
+                upper = literal.get(1);
+                break;
+            case ">":
+                lower = next.apply(literal.get(1));
+                break;
+            case ">=":
+                lower = literal.get(0);
+                break;
+            case "<":
+                upper = previous.apply(literal.get(0));
+                break;
+            default:
+                upper = literal.get(1);
+                break;
+            }
+        }
+
+        if (lower != null && upper != null && lower.compareTo(upper) > 0) {
+            throw new ParseException(String.format(MESSAGE_INVALID_VALUE, value, name,
+                    RangeCondition.MESSAGE_CONSTRAINTS));
+        }
+        return new RangeCondition<>(field, valueOf, lower, upper);
+    }
+
+    /**
+     * Parses a day or a month into its first and last days.
+     */
+    private static List<LocalDate> parseDates(String name, String value) throws ParseException {
+        try {
+            if (MONTH_FORMAT.matcher(value).matches()) {
+                YearMonth month = YearMonth.parse(value);
+                return List.of(month.atDay(1), month.atEndOfMonth());
+            } else if (DAY_FORMAT.matcher(value).matches()) {
+                LocalDate day = LocalDate.parse(value);
+                return List.of(day, day);
+            }
+        } catch (DateTimeParseException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_VALUE, value, name, MESSAGE_INVALID_DATE), e);
+        }
+
+        Optional<JobDate> date = JobDate.tryParse(value);
+        if (date.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_VALUE, value, name, MESSAGE_INVALID_DATE));
+        }
+        return List.of(date.get().value, date.get().value);
+    }
+
+    /**
+     * Parses an amount in dollars into cents.
+     */
+    private static List<Integer> parseCents(String name, String value) throws ParseException {
+        Optional<JobFee> fee = JobFee.tryParse(value);
+        if (fee.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_VALUE, value, name,
+                    JobFee.MESSAGE_CONSTRAINTS.trim()));
+        }
+        return List.of(fee.get().getCents(), fee.get().getCents());
+    }
+
+    /**
+     * Parses the operator and value of a field term into a condition.
+     */
+    @FunctionalInterface
+    private interface FieldParser<T> {
+        QueryCondition<T> parse(String operator, String value) throws ParseException;
+    }
+
+    /**
+     * Parses a literal value of a field into the first and last values it stands for.
+     */
+    @FunctionalInterface
+    private interface LiteralParser<V> {
+        List<V> parse(String name, String value) throws ParseException;
+    }
+}
@@ -1,18 +1,39 @@
 package seedu.mycrm.logic.parser.contacts;
 
 import static seedu.mycrm.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.mycrm.model.contact.UniqueContactList.EMAIL_FIELD;
+import static seedu.mycrm.model.contact.UniqueContactList.NAME_FIELD;
+import static seedu.mycrm.model.contact.UniqueContactList.PHONE_FIELD;
+import static seedu.mycrm.model.contact.UniqueContactList.WORD_FIELDS;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import seedu.mycrm.logic.commands.contacts.FindContactCommand;
 import seedu.mycrm.logic.parser.Parser;
+import seedu.mycrm.logic.parser.QueryParser;
 import seedu.mycrm.logic.parser.exceptions.ParseException;
+import seedu.mycrm.model.FuzzyWordPredicate;
+import seedu.mycrm.model.contact.Contact;
 import seedu.mycrm.model.contact.NameContainsKeywordsPredicate;
+import seedu.mycrm.model.query.QueryPlan;
 
 /**
  * Parses input arguments and creates a new FindContactCommand object
  */
 public class FindContactCommandParser implements Parser<FindContactCommand> {
+    private static final QueryParser<Contact> QUERY_PARSER =
+            new QueryParser<Contact>(Map.of(NAME_FIELD, WORD_FIELDS.get(NAME_FIELD)))
+            .withWordField("name", NAME_FIELD, WORD_FIELDS.get(NAME_FIELD))
+            .withWordField("phone", PHONE_FIELD, WORD_FIELDS.get(PHONE_FIELD))
+            .withWordField("email", EMAIL_FIELD, WORD_FIELDS.get(EMAIL_FIELD))
+            .withWordField("address", "address", Contact::getAddress)
+            .withWordField("tag", "tag", contact -> contact.getTags().stream()
+                    .map(tag -> tag.tagName)
+                    .collect(Collectors.joining(" ")));
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindContactCommand
@@ -26,10 +47,29 @@ public class FindContactCommandParser implements Parser<FindContactCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindContactCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        List<String> nameKeywords = Arrays.asList(trimmedArgs.split("\\s+"));
+        boolean isFuzzy = FindContactCommand.FUZZY_FLAG.equals(nameKeywords.get(0));
+        if (isFuzzy) {
+            nameKeywords = nameKeywords.subList(1, nameKeywords.size());
+        }
+        if (nameKeywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindContactCommand.MESSAGE_USAGE));
+        }
+
+        if (isFuzzy) {
+            if (nameKeywords.stream().anyMatch(QUERY_PARSER::isFieldTerm)) {
+                throw new ParseException(QueryParser.MESSAGE_FUZZY_FIELD_TERMS);
+            }
+            return new FindContactCommand(new FuzzyWordPredicate<>(nameKeywords, WORD_FIELDS, List.of(NAME_FIELD)));
+        }
+
+        Optional<QueryPlan<Contact>> plan = QUERY_PARSER.parse(nameKeywords);
+        if (plan.isPresent()) {
+            return new FindContactCommand(plan.get());
+        }
 
-        NameContainsKeywordsPredicate keywordsPredicate = new NameContainsKeywordsPredicate(Arrays
-                .asList(nameKeywords));
+        NameContainsKeywordsPredicate keywordsPredicate = new NameContainsKeywordsPredicate(nameKeywords);
 
         return new FindContactCommand(keywordsPredicate);
     }
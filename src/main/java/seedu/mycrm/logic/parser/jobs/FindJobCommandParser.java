@@ -1,15 +1,45 @@
 package seedu.mycrm.logic.parser.jobs;
 
 import static seedu.mycrm.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.mycrm.model.job.UniqueJobList.CLIENT_FIELD;
+import static seedu.mycrm.model.job.UniqueJobList.COMPLETED_FIELD;
+import static seedu.mycrm.model.job.UniqueJobList.DESCRIPTION_FIELD;
+import static seedu.mycrm.model.job.UniqueJobList.EXPECTED_FIELD;
+import static seedu.mycrm.model.job.UniqueJobList.PRODUCT_FIELD;
+import static seedu.mycrm.model.job.UniqueJobList.RECEIVED_FIELD;
+import static seedu.mycrm.model.job.UniqueJobList.STATUS_FIELD;
+import static seedu.mycrm.model.job.UniqueJobList.WORD_FIELDS;
 
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import seedu.mycrm.logic.commands.jobs.FindJobCommand;
 import seedu.mycrm.logic.parser.Parser;
+import seedu.mycrm.logic.parser.QueryParser;
 import seedu.mycrm.logic.parser.exceptions.ParseException;
+import seedu.mycrm.model.FuzzyWordPredicate;
+import seedu.mycrm.model.job.Job;
 import seedu.mycrm.model.job.JobContainsKeywordsPredicate;
+import seedu.mycrm.model.job.JobDateRange;
+import seedu.mycrm.model.query.QueryCondition;
+import seedu.mycrm.model.query.QueryPlan;
+import seedu.mycrm.model.query.RangeCondition;
 
 public class FindJobCommandParser implements Parser<FindJobCommand> {
+    private static final QueryParser<Job> QUERY_PARSER = new QueryParser<Job>(WORD_FIELDS)
+            .withWordField("description", DESCRIPTION_FIELD, WORD_FIELDS.get(DESCRIPTION_FIELD))
+            .withWordField("client", CLIENT_FIELD, WORD_FIELDS.get(CLIENT_FIELD))
+            .withWordField("contact", CLIENT_FIELD, WORD_FIELDS.get(CLIENT_FIELD))
+            .withWordField("product", PRODUCT_FIELD, WORD_FIELDS.get(PRODUCT_FIELD))
+            .withWordField("status", STATUS_FIELD, WORD_FIELDS.get(STATUS_FIELD), Map.of("inprogress", "progress"))
+            .withFeeField("fee", Job::getFee)
+            .withDateField("received", RECEIVED_FIELD, Job::getReceivedDate)
+            .withDateField("by", EXPECTED_FIELD, Job::getExpectedCompletionDate)
+            .withDateField("completed", COMPLETED_FIELD, Job::getCompletionDate);
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindJobCommand
      * and returns a FindJobCommand object for execution.
@@ -22,8 +52,77 @@ public class FindJobCommandParser implements Parser<FindJobCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindJobCommand.MESSAGE_USAGE));
         }
 
-        String[] jobKeywords = trimmedArgs.split("\\s+");
+        List<String> jobKeywords = Arrays.asList(trimmedArgs.split("\\s+"));
+        boolean isFuzzy = false;
+        boolean isArchiveSearched = false;
+        while (!jobKeywords.isEmpty() && isFlag(jobKeywords.get(0))) {
+            isFuzzy |= FindJobCommand.FUZZY_FLAG.equals(jobKeywords.get(0));
+            isArchiveSearched |= FindJobCommand.ARCHIVE_FLAG.equals(jobKeywords.get(0));
+            jobKeywords = jobKeywords.subList(1, jobKeywords.size());
+        }
+        if (jobKeywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindJobCommand.MESSAGE_USAGE));
+        }
+
+        if (isFuzzy) {
+            if (jobKeywords.stream().anyMatch(QUERY_PARSER::isFieldTerm)) {
+                throw new ParseException(QueryParser.MESSAGE_FUZZY_FIELD_TERMS);
+            }
+            return new FindJobCommand(new FuzzyWordPredicate<>(jobKeywords, WORD_FIELDS,
+                    List.of(DESCRIPTION_FIELD, CLIENT_FIELD, PRODUCT_FIELD)), getArchiveRange(isArchiveSearched));
+        }
+
+        Optional<QueryPlan<Job>> plan = QUERY_PARSER.parse(jobKeywords);
+        if (plan.isPresent()) {
+            return new FindJobCommand(plan.get(), getArchiveRange(plan.get(), isArchiveSearched));
+        }
+        return new FindJobCommand(new JobContainsKeywordsPredicate(jobKeywords), getArchiveRange(isArchiveSearched));
+    }
+
+    private static boolean isFlag(String word) {
+        return FindJobCommand.FUZZY_FLAG.equals(word) || FindJobCommand.ARCHIVE_FLAG.equals(word);
+    }
+
+    /**
+     * Returns the completion dates of the archived jobs searched, which are all of them if {@code isArchiveSearched},
+     * or null if none are.
+     */
+    private static JobDateRange getArchiveRange(boolean isArchiveSearched) {
+        return isArchiveSearched ? JobDateRange.ALL_DATES : null;
+    }
 
-        return new FindJobCommand(new JobContainsKeywordsPredicate(Arrays.asList(jobKeywords)));
+    /**
+     * Returns the completion dates of the archived jobs that can match {@code plan}, or null if none can or none are
+     * searched. The archived jobs are searched if {@code isArchiveSearched}, or if {@code plan} has a received or
+     * completed term, which then bounds the dates searched.
+     * A job is completed no earlier than it is received, so the received dates bound the completion dates from
+     * below.
+     */
+    private static JobDateRange getArchiveRange(QueryPlan<Job> plan, boolean isArchiveSearched) {
+        boolean hasDateTerm = false;
+        LocalDate start = LocalDate.MIN;
+        LocalDate end = LocalDate.MAX;
+        for (QueryCondition<Job> condition : plan.getConditions()) {
+            if (!(condition instanceof RangeCondition)) {
+                continue;
+            }
+            RangeCondition<?, ?> range = (RangeCondition<?, ?>) condition;
+            boolean isCompletedRange = range.getField().equals(COMPLETED_FIELD);
+            if (!isCompletedRange && !range.getField().equals(RECEIVED_FIELD)) {
+                continue;
+            }
+            hasDateTerm = true;
+            if (range.getLower() != null && ((LocalDate) range.getLower()).isAfter(start)) {
+                start = (LocalDate) range.getLower();
+            }
+            if (isCompletedRange && range.getUpper() != null && ((LocalDate) range.getUpper()).isBefore(end)) {
+                end = (LocalDate) range.getUpper();
+            }
+        }
+        if (!hasDateTerm && !isArchiveSearched) {
+            return null;
+        }
+        return start.isAfter(end) ? null : new JobDateRange(start, end);
     }
 }
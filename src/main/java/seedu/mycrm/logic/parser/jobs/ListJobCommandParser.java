@@ -3,16 +3,23 @@ package seedu.mycrm.logic.parser.jobs;
 import static seedu.mycrm.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.mycrm.logic.commands.jobs.ListJobCommand.SHOW_ALL_FLAG;
 import static seedu.mycrm.logic.commands.jobs.ListJobCommand.SHOW_COMPLETED_FLAG;
+import static seedu.mycrm.logic.parser.CliSyntax.PREFIX_FROM_DATE;
+import static seedu.mycrm.logic.parser.CliSyntax.PREFIX_TO_DATE;
 import static seedu.mycrm.model.Model.PREDICATE_SHOW_ALL_COMPLETED_JOBS;
 import static seedu.mycrm.model.Model.PREDICATE_SHOW_ALL_INCOMPLETE_JOBS;
 import static seedu.mycrm.model.Model.PREDICATE_SHOW_ALL_JOBS;
 
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import seedu.mycrm.logic.commands.jobs.ListJobCommand;
+import seedu.mycrm.logic.parser.ArgumentMultimap;
+import seedu.mycrm.logic.parser.ArgumentTokenizer;
 import seedu.mycrm.logic.parser.Parser;
+import seedu.mycrm.logic.parser.ParserUtil;
 import seedu.mycrm.logic.parser.exceptions.ParseException;
 import seedu.mycrm.model.job.Job;
+import seedu.mycrm.model.job.JobDateRange;
 
 public class ListJobCommandParser implements Parser<ListJobCommand> {
     private static final String EMPTY_STRING = "";
@@ -24,7 +31,8 @@ public class ListJobCommandParser implements Parser<ListJobCommand> {
      */
     @Override
     public ListJobCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM_DATE, PREFIX_TO_DATE);
+        String trimmedArgs = argMultimap.getPreamble();
         String[] flags = trimmedArgs.split("\\s+");
         String flag = flags[0];
 
@@ -35,8 +43,11 @@ public class ListJobCommandParser implements Parser<ListJobCommand> {
         }
 
         Predicate<Job> listJobPredicate = getListJobPredicate(flag);
+        Optional<JobDateRange> range = ParserUtil.parseJobDateRange(argMultimap);
 
-        return new ListJobCommand(listJobPredicate);
+        return range.isPresent()
+                ? new ListJobCommand(listJobPredicate, range.get())
+                : new ListJobCommand(listJobPredicate);
     }
 
     private Predicate<Job> getListJobPredicate(String flag) throws ParseException {
@@ -3,11 +3,14 @@ package seedu.mycrm.logic.parser.products;
 import static seedu.mycrm.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
+import java.util.List;
 
 import seedu.mycrm.logic.commands.products.FindProductCommand;
 import seedu.mycrm.logic.parser.Parser;
 import seedu.mycrm.logic.parser.exceptions.ParseException;
+import seedu.mycrm.model.FuzzyWordPredicate;
 import seedu.mycrm.model.product.ProductNameContainsKeywordsPredicate;
+import seedu.mycrm.model.product.UniqueProductList;
 
 /**
  * Parses input arguments and creates a new FindProductCommand object.
@@ -26,8 +29,21 @@ public class FindProductCommandParser implements Parser<FindProductCommand> {
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindProductCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        List<String> nameKeywords = Arrays.asList(trimmedArgs.split("\\s+"));
+        boolean isFuzzy = FindProductCommand.FUZZY_FLAG.equals(nameKeywords.get(0));
+        if (isFuzzy) {
+            nameKeywords = nameKeywords.subList(1, nameKeywords.size());
+        }
+        if (nameKeywords.isEmpty()) {
+            throw new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindProductCommand.MESSAGE_USAGE));
+        }
+
+        if (isFuzzy) {
+            return new FindProductCommand(new FuzzyWordPredicate<>(nameKeywords, UniqueProductList.WORD_FIELDS,
+                List.of(UniqueProductList.NAME_FIELD)));
+        }
 
-        return new FindProductCommand(new ProductNameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        return new FindProductCommand(new ProductNameContainsKeywordsPredicate(nameKeywords));
     }
 }
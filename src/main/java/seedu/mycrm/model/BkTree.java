@@ -0,0 +1,100 @@
+package seedu.mycrm.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.mycrm.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.mycrm.commons.util.StringUtil;
+
+/**
+ * A BK-tree of words, which finds the words within an edit distance of a word without measuring the distance to
+ * every word.
+ * Each child of a word is kept under its distance from the word, so that by the triangle inequality, a search only
+ * descends into the children whose distance is within the maximum distance of the distance to their parent.
+ * Words cannot be taken out of the tree, so a tree whose words are removed over time should be rebuilt.
+ */
+class BkTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds {@code word} to the tree, if it is not already in it.
+     *
+     * @return true if the word was added.
+     */
+    public boolean add(String word) {
+        requireNonNull(word);
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return true;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.editDistance(word, node.word);
+            if (distance == 0) {
+                return false;
+            }
+
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                size++;
+                return true;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the words of the tree within {@code maxDistance} edits of {@code word}, with their distances from it.
+     */
+    public Map<String, Integer> getWordsWithin(String word, int maxDistance) {
+        requireNonNull(word);
+        checkArgument(maxDistance >= 0, "Maximum distance should not be negative");
+        Map<String, Integer> found = new HashMap<>();
+        if (root == null) {
+            return found;
+        }
+
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            int distance = StringUtil.editDistance(word, node.word);
+            if (distance <= maxDistance) {
+                found.put(node.word, distance);
+            }
+            for (int childDistance = Math.max(1, distance - maxDistance); childDistance <= distance + maxDistance;
+                    childDistance++) {
+                Node child = node.children.get(childDistance);
+                if (child != null) {
+                    toVisit.push(child);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the number of words in the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        private Node(String word) {
+            this.word = word;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.mycrm.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Assigns the ids of contacts, products, templates and jobs.
+ * An id is a positive long that is given to an entity when it is created, and is kept by every edited copy of it,
+ * so that it keeps identifying the entity when its name or other fields change.
+ * Ids are unique among the entities of a type created or loaded by this application.
+ */
+public final class EntityId {
+
+    public static final String MESSAGE_CONSTRAINTS = "Ids should be positive integers";
+    /** The id referring to no entity, such as the client of a job that has none yet. */
+    public static final long NONE = 0;
+
+    private static final AtomicLong lastId = new AtomicLong();
+
+    private EntityId() {}
+
+    /**
+     * Returns a new id, larger than every id assigned or reserved so far.
+     */
+    public static long next() {
+        return lastId.incrementAndGet();
+    }
+
+    /**
+     * Reserves {@code id}, which was assigned to an entity in an earlier session, so that it is never assigned to
+     * a new entity.
+     */
+    public static void reserve(long id) {
+        assert isValidId(id);
+        lastId.accumulateAndGet(id, Math::max);
+    }
+
+    /**
+     * Returns true if {@code id} is a valid id.
+     */
+    public static boolean isValidId(long id) {
+        return id > 0;
+    }
+}
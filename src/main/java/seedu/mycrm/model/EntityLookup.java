@@ -0,0 +1,37 @@
+package seedu.mycrm.model;
+
+import java.util.Optional;
+
+import seedu.mycrm.model.contact.Contact;
+import seedu.mycrm.model.product.Product;
+
+/**
+ * Looks up contacts and products by their ids, such as the client and product a job refers to.
+ * Jobs keep only the ids of their clients and products, so that renaming a contact or product changes no job, and
+ * the current contact or product is looked up whenever a job is shown.
+ */
+public interface EntityLookup {
+
+    /** A lookup that finds no contact or product. */
+    EntityLookup NONE = new EntityLookup() {
+        @Override
+        public Optional<Contact> getContactById(long id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Product> getProductById(long id) {
+            return Optional.empty();
+        }
+    };
+
+    /**
+     * Returns the contact with the given {@code id}, if there is one.
+     */
+    Optional<Contact> getContactById(long id);
+
+    /**
+     * Returns the product with the given {@code id}, if there is one.
+     */
+    Optional<Product> getProductById(long id);
+}
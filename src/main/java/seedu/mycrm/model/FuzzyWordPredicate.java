@@ -0,0 +1,154 @@
+package seedu.mycrm.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.mycrm.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.mycrm.commons.util.StringUtil;
+
+/**
+ * Tests that an element has a word within a few edits of any of the keywords given in any of some fields, ignoring
+ * case, so that misspelt keywords such as "Samsng" still find "Samsung". The matching elements are ranked by the
+ * least edit distance of their words from the keywords.
+ * Bound to a {@code WordIndex}, the words near each keyword are found once from the trees of the index, so that
+ * each element is then tested and ranked by hash lookups of its indexed words. Words first indexed after the
+ * predicate is bound are not near any keyword until the search is run again.
+ *
+ * @param <T> type of the elements.
+ */
+public class FuzzyWordPredicate<T> implements WordIndexPredicate<T>, RankedPredicate<T> {
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private final List<String> keywords;
+    private final Map<String, Function<? super T, ?>> fields;
+
+    /**
+     * Creates a predicate looking for words near {@code keywords} in the fields named {@code fieldsToSearch}, whose
+     * values are given by {@code fields}.
+     */
+    public FuzzyWordPredicate(List<String> keywords, Map<String, Function<? super T, ?>> fields,
+            List<String> fieldsToSearch) {
+        requireAllNonNull(keywords, fields, fieldsToSearch);
+        this.keywords = keywords.stream().map(WordIndex::normalize).collect(Collectors.toList());
+        this.fields = fieldsToSearch.stream().collect(Collectors.toMap(field -> field, fields::get));
+    }
+
+    /**
+     * Returns the most edits a word may be from {@code keyword} to match it.
+     * Short keywords allow fewer edits, as most short words are only a few edits from each other.
+     */
+    public static int getMaxDistance(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        } else if (keyword.length() <= 5) {
+            return 1;
+        }
+        return 2;
+    }
+
+    @Override
+    public boolean test(T element) {
+        return getDistance(element) != NO_MATCH;
+    }
+
+    @Override
+    public Comparator<T> getRanking() {
+        return Comparator.comparingInt(this::getDistance);
+    }
+
+    /**
+     * Returns the least edit distance of a word of {@code element} from a keyword it matches, measuring every word.
+     */
+    private int getDistance(T element) {
+        int least = NO_MATCH;
+        for (Function<? super T, ?> valueOf : fields.values()) {
+            for (String word : WordIndex.split(valueOf.apply(element))) {
+                for (String keyword : keywords) {
+                    int distance = StringUtil.editDistance(word, keyword);
+                    if (distance <= getMaxDistance(keyword)) {
+                        least = Math.min(least, distance);
+                    }
+                }
+            }
+        }
+        return least;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public List<String> getFields() {
+        return new ArrayList<>(fields.keySet());
+    }
+
+    @Override
+    public Predicate<T> withIndexes(List<WordIndex<T>> indexes) {
+        requireNonNull(indexes);
+        List<Map<String, Integer>> nearWordsOfIndexes = new ArrayList<>();
+        for (WordIndex<T> index : indexes) {
+            Map<String, Integer> nearWords = new HashMap<>();
+            for (String keyword : keywords) {
+                index.getWordsWithin(fields.keySet(), keyword, getMaxDistance(keyword))
+                        .forEach((word, distance) -> nearWords.merge(word, distance, Math::min));
+            }
+            nearWordsOfIndexes.add(nearWords);
+        }
+        return new IndexedFuzzyWordPredicate(indexes, nearWordsOfIndexes);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FuzzyWordPredicate // instanceof handles nulls
+                && keywords.equals(((FuzzyWordPredicate<?>) other).keywords)
+                && fields.keySet().equals(((FuzzyWordPredicate<?>) other).fields.keySet())); // state check
+    }
+
+    /**
+     * The predicate bound to some word indexes, which looks up the distances of the indexed words of an element
+     * instead of measuring them.
+     */
+    private class IndexedFuzzyWordPredicate implements RankedPredicate<T> {
+        private final List<WordIndex<T>> indexes;
+        private final List<Map<String, Integer>> nearWordsOfIndexes;
+
+        private IndexedFuzzyWordPredicate(List<WordIndex<T>> indexes, List<Map<String, Integer>> nearWordsOfIndexes) {
+            this.indexes = indexes;
+            this.nearWordsOfIndexes = nearWordsOfIndexes;
+        }
+
+        @Override
+        public boolean test(T element) {
+            return getIndexedDistance(element) != NO_MATCH;
+        }
+
+        @Override
+        public Comparator<T> getRanking() {
+            return Comparator.comparingInt(this::getIndexedDistance);
+        }
+
+        private int getIndexedDistance(T element) {
+            for (int i = 0; i < indexes.size(); i++) {
+                if (indexes.get(i).contains(element)) {
+                    Map<String, Integer> nearWords = nearWordsOfIndexes.get(i);
+                    return indexes.get(i).getWords(element, fields.keySet()).stream()
+                            .mapToInt(word -> nearWords.getOrDefault(word, NO_MATCH))
+                            .min()
+                            .orElse(NO_MATCH);
+                }
+            }
+            return getDistance(element);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package seedu.mycrm.model;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A predicate that can be answered from the {@code WordIndex} of the elements, which it is bound to before it is
+ * used to filter a list.
+ *
+ * @param <T> type of the elements.
+ */
+public interface IndexedPredicate<T> extends Predicate<T> {
+
+    /**
+     * Returns a predicate equivalent to this one that looks the elements up in the first of {@code indexes}
+     * containing them, and tests elements in none of them as this predicate does.
+     */
+    Predicate<T> withIndexes(List<WordIndex<T>> indexes);
+}
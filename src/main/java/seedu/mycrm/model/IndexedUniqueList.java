@@ -0,0 +1,381 @@
+package seedu.mycrm.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.mycrm.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * A list of elements that enforces uniqueness between its elements and does not allow nulls.
+ * Two elements are considered the same if they have equal identity keys, as given by {@code identityOf}.
+ * Every element is kept in a hash index by its identity key, along with a hint of its position, so that looking up,
+ * adding and replacing an element does not scan the list. Removing an element does not update the hints of the
+ * elements after it, which only move forward, so a later lookup steps back from its hint over at most as many
+ * positions as elements were removed before it since it was last looked up.
+ * However, the removal and replacement of an element still uses {@code equals(Object)} so as to ensure that
+ * the element with exactly the same fields is removed or replaced.
+ * If the elements have ids, as given by {@code idOf}, they are also kept in a hash index by id.
+ * Subclasses can keep further indexes of the elements up to date through {@link #onAdd(Object)} and
+ * {@link #onRemove(Object)}, which are called before the change is published to the listeners of the list, so that
+ * listeners such as filtered lists always see up-to-date indexes.
+ * Changes made between {@link #beginBatch()} and {@link #commitBatch()} are staged and published as one change of
+ * only the range between the elements left unchanged at the start and at the end of the list, so that listeners
+ * process a bulk change once rather than once for every element, and a small batch as a small change.
+ * Until it is committed, the list as observed through {@link #asUnmodifiableObservableList()} and
+ * {@link #iterator()} is as it was before the batch, while lookups, further changes and the indexes of subclasses see
+ * the staged elements. A batch that is rolled back with {@link #rollbackBatch()} is never published.
+ *
+ * @param <T> type of the elements.
+ */
+public class IndexedUniqueList<T> implements Iterable<T> {
+
+    private final RangeReplaceableList<T> internalList = new RangeReplaceableList<>();
+    private final ObservableList<T> internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+
+    private final Map<Object, Entry<T>> entries = new HashMap<>();
+    private final Map<Long, T> elementsById = new HashMap<>();
+    private final Function<? super T, ?> identityOf;
+    private final ToLongFunction<? super T> idOf;
+    private final Supplier<? extends RuntimeException> duplicateException;
+    private final Supplier<? extends RuntimeException> notFoundException;
+
+    // The elements as changed by the batch in progress, or null if no batch is in progress.
+    private List<T> stagedList;
+    private boolean isStagedListChanged;
+
+    /**
+     * Creates an empty list identifying its elements by {@code identityOf}.
+     *
+     * @param duplicateException creates the exception thrown when an element would no longer be unique.
+     * @param notFoundException creates the exception thrown when an element to replace or remove is not found.
+     */
+    public IndexedUniqueList(Function<? super T, ?> identityOf,
+            Supplier<? extends RuntimeException> duplicateException,
+            Supplier<? extends RuntimeException> notFoundException) {
+        this(identityOf, null, duplicateException, notFoundException);
+    }
+
+    /**
+     * Creates an empty list identifying its elements by {@code identityOf}, which also looks up its elements by
+     * their ids, as given by {@code idOf}.
+     *
+     * @param duplicateException creates the exception thrown when an element would no longer be unique.
+     * @param notFoundException creates the exception thrown when an element to replace or remove is not found.
+     */
+    public IndexedUniqueList(Function<? super T, ?> identityOf, ToLongFunction<? super T> idOf,
+            Supplier<? extends RuntimeException> duplicateException,
+            Supplier<? extends RuntimeException> notFoundException) {
+        requireAllNonNull(identityOf, duplicateException, notFoundException);
+        this.identityOf = identityOf;
+        this.idOf = idOf;
+        this.duplicateException = duplicateException;
+        this.notFoundException = notFoundException;
+    }
+
+    /**
+     * Returns true if the list contains an element with the same identity as {@code toCheck}.
+     */
+    public boolean contains(T toCheck) {
+        requireNonNull(toCheck);
+        return entries.containsKey(identityOf.apply(toCheck));
+    }
+
+    /**
+     * Returns the position of {@code target} in the list, or -1 if the list does not contain it.
+     */
+    public int indexOf(T target) {
+        requireNonNull(target);
+        Entry<T> entry = entries.get(identityOf.apply(target));
+        if (entry == null || !entry.element.equals(target)) {
+            return -1;
+        }
+
+        // Elements only move forward when elements before them are removed.
+        List<T> elements = getElements();
+        int position = Math.min(entry.position, elements.size() - 1);
+        while (elements.get(position) != entry.element) {
+            position--;
+        }
+        entry.position = position;
+        return position;
+    }
+
+    /**
+     * Returns the element with the given {@code id}, if the elements of this list have ids.
+     */
+    public Optional<T> getById(long id) {
+        return Optional.ofNullable(elementsById.get(id));
+    }
+
+    /**
+     * Adds an element to the list.
+     * The list must not already contain an element with the same identity.
+     */
+    public void add(T toAdd) {
+        requireNonNull(toAdd);
+        Object identity = identityOf.apply(toAdd);
+        if (entries.containsKey(identity)) {
+            throw duplicateException.get();
+        }
+
+        entries.put(identity, new Entry<>(toAdd, getElements().size()));
+        afterAdd(toAdd);
+        getElementsToChange().add(toAdd);
+    }
+
+    /**
+     * Replaces the element {@code target} in the list with {@code edited}.
+     * {@code target} must exist in the list.
+     * The identity of {@code edited} must not be the same as another existing element in the list.
+     */
+    protected void setElement(T target, T edited) {
+        requireAllNonNull(target, edited);
+
+        int index = indexOf(target);
+        if (index == -1) {
+            throw notFoundException.get();
+        }
+
+        Object targetIdentity = identityOf.apply(target);
+        Object editedIdentity = identityOf.apply(edited);
+        if (!targetIdentity.equals(editedIdentity) && entries.containsKey(editedIdentity)) {
+            throw duplicateException.get();
+        }
+        entries.remove(targetIdentity);
+        entries.put(editedIdentity, new Entry<>(edited, index));
+
+        afterRemove(getElements().get(index));
+        afterAdd(edited);
+        getElementsToChange().set(index, edited);
+    }
+
+    /**
+     * Removes the equivalent element from the list.
+     * The element must exist in the list.
+     * The elements after it move one position forward, which costs as much as the list shifting them, but their
+     * position hints are left to be corrected when they are next looked up.
+     */
+    public void remove(T toRemove) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
+            throw notFoundException.get();
+        }
+
+        entries.remove(identityOf.apply(toRemove));
+        List<T> elements = getElementsToChange();
+        afterRemove(elements.get(index));
+        elements.remove(index);
+    }
+
+    /**
+     * Removes all elements from the list.
+     */
+    public void clear() {
+        getElements().forEach(this::afterRemove);
+        entries.clear();
+        getElementsToChange().clear();
+    }
+
+    /**
+     * Replaces the contents of this list with {@code replacement}.
+     */
+    protected void setElements(IndexedUniqueList<T> replacement) {
+        requireNonNull(replacement);
+        getElements().forEach(this::afterRemove);
+        replacement.internalList.forEach(this::afterAdd);
+        putEntries(replacement.internalList);
+        replaceElements(replacement.internalList);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code elements}.
+     * {@code elements} must not contain elements with the same identity.
+     */
+    protected void setElements(List<T> elements) {
+        requireAllNonNull(elements);
+        Map<Object, Entry<T>> newEntries = new HashMap<>(elements.size() * 2);
+        for (int i = 0; i < elements.size(); i++) {
+            if (newEntries.put(identityOf.apply(elements.get(i)), new Entry<>(elements.get(i), i)) != null) {
+                throw duplicateException.get();
+            }
+        }
+
+        getElements().forEach(this::afterRemove);
+        elements.forEach(this::afterAdd);
+        entries.clear();
+        entries.putAll(newEntries);
+        replaceElements(elements);
+    }
+
+    /**
+     * Starts staging changes to the list, to be published as one change by {@link #commitBatch()}.
+     *
+     * @throws IllegalStateException if a batch is already in progress.
+     */
+    public void beginBatch() {
+        if (stagedList != null) {
+            throw new IllegalStateException("A batch is already in progress");
+        }
+        stagedList = new ArrayList<>(internalList);
+        isStagedListChanged = false;
+    }
+
+    /**
+     * Publishes the changes staged since {@link #beginBatch()} as one change, if there are any.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    public void commitBatch() {
+        List<T> elements = endBatch();
+        if (!isStagedListChanged) {
+            return;
+        }
+
+        int size = internalList.size();
+        int prefix = 0;
+        while (prefix < size && prefix < elements.size() && internalList.get(prefix) == elements.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < size - prefix && suffix < elements.size() - prefix
+                && internalList.get(size - 1 - suffix) == elements.get(elements.size() - 1 - suffix)) {
+            suffix++;
+        }
+        internalList.replaceRange(prefix, size - suffix, elements.subList(prefix, elements.size() - suffix));
+    }
+
+    /**
+     * Discards the changes staged since {@link #beginBatch()}, restoring the lookups and the indexes of subclasses
+     * to the published elements.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    public void rollbackBatch() {
+        List<T> elements = endBatch();
+        elements.forEach(this::afterRemove);
+        internalList.forEach(this::afterAdd);
+        putEntries(internalList);
+    }
+
+    private List<T> endBatch() {
+        if (stagedList == null) {
+            throw new IllegalStateException("No batch is in progress");
+        }
+        List<T> elements = stagedList;
+        stagedList = null;
+        return elements;
+    }
+
+    /**
+     * Returns the elements as changed so far, which are staged if a batch is in progress.
+     */
+    private List<T> getElements() {
+        return stagedList == null ? internalList : stagedList;
+    }
+
+    /**
+     * Returns the elements to make a change to, which are staged if a batch is in progress.
+     */
+    private List<T> getElementsToChange() {
+        if (stagedList == null) {
+            return internalList;
+        }
+        isStagedListChanged = true;
+        return stagedList;
+    }
+
+    private void replaceElements(List<T> elements) {
+        if (stagedList == null) {
+            internalList.setAll(elements);
+            return;
+        }
+        stagedList.clear();
+        stagedList.addAll(elements);
+        isStagedListChanged = true;
+    }
+
+    private void putEntries(List<T> elements) {
+        entries.clear();
+        for (int i = 0; i < elements.size(); i++) {
+            entries.put(identityOf.apply(elements.get(i)), new Entry<>(elements.get(i), i));
+        }
+    }
+
+    private void afterAdd(T element) {
+        if (idOf != null) {
+            elementsById.put(idOf.applyAsLong(element), element);
+        }
+        onAdd(element);
+    }
+
+    private void afterRemove(T element) {
+        if (idOf != null) {
+            elementsById.remove(idOf.applyAsLong(element), element);
+        }
+        onRemove(element);
+    }
+
+    /**
+     * Called when {@code added} is added to the list, including when it replaces another element, before the
+     * change is published.
+     */
+    protected void onAdd(T added) {}
+
+    /**
+     * Called when {@code removed} is removed from the list, including when it is replaced by another element,
+     * before the change is published.
+     */
+    protected void onRemove(T removed) {}
+
+    public int size() {
+        return getElements().size();
+    }
+
+    /**
+     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<T> asUnmodifiableObservableList() {
+        return internalUnmodifiableList;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return internalUnmodifiableList.iterator();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other != null && other.getClass() == getClass() // handles nulls and subclasses
+                && internalList.equals(((IndexedUniqueList<?>) other).internalList));
+    }
+
+    @Override
+    public int hashCode() {
+        return internalList.hashCode();
+    }
+
+    /**
+     * An element of the list with a hint of its position, which is never before its actual position.
+     */
+    private static class Entry<T> {
+        private final T element;
+        private int position;
+
+        private Entry(T element, int position) {
+            this.element = element;
+            this.position = position;
+        }
+    }
+}
@@ -2,13 +2,21 @@ package seedu.mycrm.model;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import javafx.collections.ObservableList;
 import seedu.mycrm.commons.core.GuiSettings;
+import seedu.mycrm.commons.exceptions.DataConversionException;
 import seedu.mycrm.model.contact.Contact;
 import seedu.mycrm.model.history.History;
 import seedu.mycrm.model.job.Job;
+import seedu.mycrm.model.job.JobAggregates;
+import seedu.mycrm.model.job.JobDateRange;
+import seedu.mycrm.model.job.RevenueGranularity;
+import seedu.mycrm.model.job.RevenueSeries;
 import seedu.mycrm.model.mail.Mail;
 import seedu.mycrm.model.mail.Template;
 import seedu.mycrm.model.product.Product;
@@ -25,7 +33,6 @@ public interface Model {
     Predicate<Job> PREDICATE_SHOW_ALL_JOBS = unused -> true;
     Predicate<Job> PREDICATE_SHOW_ALL_INCOMPLETE_JOBS = job -> !(job.isCompleted());
     Predicate<Job> PREDICATE_SHOW_ALL_COMPLETED_JOBS = job -> job.isCompleted();
-    Predicate<Job> PREDICATE_SHOW_ALL_MONTHLY_COMPLETED_JOBS = job -> job.isCompletedThisMonth(LocalDate.now());
     Predicate<History> PREDICATE_SHOW_ALL_HISTORIES = unused -> true;
     Predicate<Mail> PREDICATE_SHOW_ALL_MAILS = unused -> true;
 
@@ -67,6 +74,23 @@ public interface Model {
     /** Returns the MyCrm */
     ReadOnlyMyCrm getMyCrm();
 
+    /**
+     * Makes the changes of {@code changes}, which are made through this model, to the myCrm as one batch.
+     * Each list of the myCrm publishes all the changes made to it as one change once {@code changes} completes,
+     * so that the displayed lists are refreshed once rather than once for every change. If {@code changes} throws,
+     * such as a {@code DuplicateJobException}, none of its changes are made and the exception is rethrown.
+     */
+    void applyBatch(Runnable changes);
+
+    /**
+     * Returns what {@code reader} reads from the myCrm and the queries of this model, with no changes made to them
+     * meanwhile. Unlike the other methods of the model, which are for the thread executing commands, this can be
+     * called from any thread, and any number of threads can read at once. {@code reader} must not make changes.
+     *
+     * @throws IllegalStateException if {@code reader} tries to make a change.
+     */
+    <R> R read(Supplier<R> reader);
+
     /**
      * Returns true if a contact with the same identity as {@code contact} exists in the myCrm.
      */
@@ -82,6 +106,53 @@ public interface Model {
      */
     boolean hasJob(Job toAdd);
 
+    /**
+     * Returns the contact in the myCrm with the given {@code id}, if there is one.
+     */
+    Optional<Contact> getContactById(long id);
+
+    /**
+     * Returns the product in the myCrm with the given {@code id}, if there is one.
+     */
+    Optional<Product> getProductById(long id);
+
+    /**
+     * Returns the lookup of the clients and products of the jobs in the job lists, including the archived jobs
+     * that are loaded, which can be used from any thread.
+     */
+    EntityLookup getEntityLookup();
+
+    /**
+     * Returns the template in the myCrm with the given {@code id}, if there is one.
+     */
+    Optional<Template> getTemplateById(long id);
+
+    /**
+     * Returns the job in the myCrm with the given {@code id}, if there is one.
+     * Archived jobs are not looked up.
+     */
+    Optional<Job> getJobById(long id);
+
+    /**
+     * Returns the jobs in the myCrm whose client is the same contact as {@code contact}.
+     */
+    List<Job> getJobsForContact(Contact contact);
+
+    /**
+     * Returns the jobs in the myCrm whose product is the same product as {@code product}.
+     */
+    List<Job> getJobsForProduct(Product product);
+
+    /**
+     * Returns true if a job in the myCrm has the same contact as {@code contact} as its client.
+     */
+    boolean hasJobsForContact(Contact contact);
+
+    /**
+     * Returns true if a job in the myCrm has the same product as {@code product}.
+     */
+    boolean hasJobsForProduct(Product product);
+
     /**
      * Deletes the given contact.
      * The contact must exist in the myCrm.
@@ -140,6 +211,25 @@ public interface Model {
      */
     void setJob(Job target, Job editedJob);
 
+    /**
+     * Shows the archived jobs completed in {@code completedIn} in the filtered job lists, in place of any shown
+     * before. Only the archived months overlapping {@code completedIn} or the report range are kept loaded.
+     * Loaded archived jobs are read-only, and are not part of the myCrm.
+     *
+     * @throws DataConversionException if the archived jobs cannot be read.
+     */
+    void loadArchivedJobs(JobDateRange completedIn) throws DataConversionException;
+
+    /**
+     * Stops showing archived jobs in the filtered job lists, unloading those not needed by the report.
+     */
+    void unloadArchivedJobs();
+
+    /**
+     * Returns true if {@code job} was loaded from the job archive.
+     */
+    boolean isArchivedJob(Job job);
+
     /**
      * Replaces the given contact {@code target} with {@code editedContact}.
      * {@code target} must exist in the myCrm.
@@ -187,17 +277,93 @@ public interface Model {
     void setProduct(Product target, Product editedProduct);
 
     /**
-     * Adds the entered command.
+     * Adds the entered command, unless it is the same as the last entered command.
+     *
+     * @return true if the command was added.
      */
-    void addHistory(History history);
+    boolean addHistory(History history);
 
     /**
      * Clears history command data.
      */
     void clearHistory();
 
+    /**
+     * Returns the total fee of the jobs completed in the month of {@code date}, including archived jobs.
+     */
     double getRevenue(LocalDate date);
 
+    /**
+     * Returns the counts and totals of the jobs in the myCrm, which are kept up to date as jobs change.
+     * Archived jobs are not counted.
+     */
+    JobAggregates getJobAggregates();
+
+    /**
+     * Returns the revenue of the jobs completed in {@code range}, including archived jobs, totalled over periods of
+     * {@code granularity}. {@code range} must have a start and an end.
+     */
+    RevenueSeries getRevenueSeries(JobDateRange range, RevenueGranularity granularity);
+
+    /**
+     * Returns the jobs received in {@code range}, including the archived jobs that have been loaded,
+     * ordered by their received dates.
+     */
+    List<Job> getJobsReceivedIn(JobDateRange range);
+
+    /**
+     * Returns the jobs expected to be completed in {@code range}, including the archived jobs that have been loaded,
+     * ordered by their expected completion dates.
+     */
+    List<Job> getJobsExpectedIn(JobDateRange range);
+
+    /**
+     * Returns the jobs completed in {@code range}, including the archived jobs that have been loaded,
+     * ordered by their completion dates.
+     */
+    List<Job> getJobsCompletedIn(JobDateRange range);
+
+    /**
+     * Sets the dates that the report covers, loading the archived jobs completed in {@code range}, and the number of
+     * top products it ranks. The products are ranked once, counting the archived jobs received in {@code range}.
+     *
+     * @throws DataConversionException if the archived jobs cannot be read, in which case the report is unchanged.
+     * @throws IllegalArgumentException if {@code topProductCount} is not positive.
+     */
+    void setReport(JobDateRange range, int topProductCount) throws DataConversionException;
+
+    /**
+     * Returns the dates that the report covers, which is the current month unless set otherwise.
+     */
+    JobDateRange getReportRange();
+
+    /**
+     * Returns the number of top products in the report, which is three unless set otherwise.
+     */
+    int getTopProductCount();
+
+    /**
+     * Returns a query over all the contacts in the myCrm, including hidden ones.
+     * Unlike reading the filtered contact list, it neither depends on nor changes what the list is filtered by.
+     */
+    ModelQuery<Contact> queryContacts();
+
+    /**
+     * Returns a query over all the templates in the myCrm, which does not change the filtered template list.
+     */
+    ModelQuery<Template> queryTemplates();
+
+    /**
+     * Returns a query over all the products in the myCrm, which does not change the filtered product list.
+     */
+    ModelQuery<Product> queryProducts();
+
+    /**
+     * Returns a query over all the jobs in the myCrm, followed by the archived jobs that have been loaded,
+     * which does not change the filtered job lists.
+     */
+    ModelQuery<Job> queryJobs();
+
     /** Returns an unmodifiable view of the filtered unhidden contact list */
     ObservableList<Contact> getFilteredContactList();
 
@@ -210,8 +376,11 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered product list */
     ObservableList<Product> getFilteredProductList();
 
-    /** Returns an unmodifiable view of the filtered product list */
-    ObservableList<Product> getFilteredTopThreeProductList();
+    /**
+     * Returns an unmodifiable view of the products most received in the report range, most received first,
+     * which is kept up to date as jobs change
+     */
+    ObservableList<Product> getTopProductList();
 
     /** Returns an unmodifiable view of the filtered job list */
     ObservableList<Job> getFilteredJobList();
@@ -219,20 +388,24 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered incomplete job list */
     ObservableList<Job> getFilteredIncompleteJobList();
 
-    /** Returns an unmodifiable view of the filtered job list */
-    ObservableList<Job> getFilteredAllJobList();
-
-    /** Returns an unmodifiable view of the filtered monthly completed job list */
-    ObservableList<Job> getFilteredMonthlyCompletedJobList();
+    /** Returns an unmodifiable view of the jobs completed in the report range */
+    ObservableList<Job> getReportCompletedJobList();
 
     /** Returns an unmodifiable view of the filtered history command list */
     ObservableList<History> getFilteredHistoryList();
 
+    /** Returns the latest predicate of the filtered contact list */
+    Predicate<Contact> getLatestContactPredicate();
+
+    /** Returns the latest predicate of the filtered product list */
+    Predicate<Product> getLatestProductPredicate();
+
     /** Returns the latest predicate of the filtered job list */
     Predicate<Job> getLatestJobPredicate();
 
     /**
      * Updates the filter of the filtered contact list to filter by the given {@code predicate}.
+     * If the predicate is a {@code RankedPredicate}, the list is in the order of its ranking.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredContactList(Predicate<Contact> predicate);
@@ -251,13 +424,14 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered product list to filter by the given {@code predicate}.
+     * If the predicate is a {@code RankedPredicate}, the list is in the order of its ranking.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredProductList(Predicate<Product> predicate);
 
     /**
      * Updates the filter of the filtered job list to filter by the given {@code predicate}. Update the latest job
-     * predicate.
+     * predicate. If the predicate is a {@code RankedPredicate}, the list is in the order of its ranking.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredJobList(Predicate<Job> predicate);
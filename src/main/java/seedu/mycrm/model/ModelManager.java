@@ -1,20 +1,51 @@
 package seedu.mycrm.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.mycrm.commons.util.AppUtil.checkArgument;
 import static seedu.mycrm.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.mycrm.commons.core.GuiSettings;
 import seedu.mycrm.commons.core.LogsCenter;
+import seedu.mycrm.commons.exceptions.DataConversionException;
 import seedu.mycrm.model.contact.Contact;
 import seedu.mycrm.model.history.History;
+import seedu.mycrm.model.job.ArchivedJob;
 import seedu.mycrm.model.job.Job;
+import seedu.mycrm.model.job.JobAggregates;
+import seedu.mycrm.model.job.JobArchive;
+import seedu.mycrm.model.job.JobDate;
+import seedu.mycrm.model.job.JobDateIndex;
+import seedu.mycrm.model.job.JobDateRange;
+import seedu.mycrm.model.job.ProductRanking;
+import seedu.mycrm.model.job.RevenueGranularity;
+import seedu.mycrm.model.job.RevenueSeries;
+import seedu.mycrm.model.job.UniqueJobList;
 import seedu.mycrm.model.mail.Mail;
 import seedu.mycrm.model.mail.Template;
 import seedu.mycrm.model.product.Product;
@@ -28,21 +59,50 @@ public class ModelManager implements Model {
     private final MyCrm myCrm;
     private final UserPrefs userPrefs;
     private final FilteredList<Contact> filteredContacts;
+    private final SortedList<Contact> rankedContacts;
     private final FilteredList<Template> filteredTemplates;
     private final FilteredList<Mail> filteredMails;
     private final FilteredList<Job> filteredJobs;
+    private final SortedList<Job> rankedJobs;
     private final FilteredList<Job> filteredIncompleteJob;
-    private final FilteredList<Job> filteredAllJobs;
-    private final FilteredList<Job> filteredMonthlyCompletedJobs;
     private final FilteredList<Product> filteredProducts;
+    private final SortedList<Product> rankedProducts;
     private final FilteredList<History> filteredHistories;
 
-    private Predicate<Job> latestJobPredicate;
+    // The archive of old completed jobs, or null if jobs are not archived.
+    private final JobArchive jobArchive;
+    // The jobs of myCrm, followed by the archived jobs that have been loaded.
+    private final RangeReplaceableList<Job> jobsWithArchived;
+    private final Set<Job> archivedJobs = Collections.newSetFromMap(new IdentityHashMap<>());
+    // The archived jobs loaded for each month, which are only those of the months being shown.
+    private final Map<YearMonth, List<Job>> loadedArchivedMonths = new HashMap<>();
+    private final JobDateIndex archivedJobsByDate = new JobDateIndex();
+    // The clients and products of the loaded archived jobs, kept for those no longer in myCrm. Read by any thread.
+    private final Map<Long, Contact> archivedClients = new ConcurrentHashMap<>();
+    private final Map<Long, Product> archivedProducts = new ConcurrentHashMap<>();
+    private final EntityLookup entityLookup = new ArchiveAwareLookup();
+    private final WordIndex<Job> archivedJobWords = UniqueJobList.createWordIndex(entityLookup, archivedJobsByDate);
+
+    private Predicate<Contact> latestContactPredicate = PREDICATE_SHOW_NOT_HIDDEN_CONTACTS;
+    private Predicate<Product> latestProductPredicate = PREDICATE_SHOW_ALL_PRODUCTS;
+    private Predicate<Job> latestJobPredicate = PREDICATE_SHOW_ALL_INCOMPLETE_JOBS;
+    // The completion dates of the archived jobs the job lists show, or null if they show none.
+    private JobDateRange jobListArchiveRange;
+    private JobDateRange reportRange = JobDateRange.ofMonth(LocalDate.now());
+    private int topProductCount = ProductRanking.DEFAULT_SIZE;
 
     /**
      * Initializes a ModelManager with the given myCrm and userPrefs.
      */
     public ModelManager(ReadOnlyMyCrm myCrm, ReadOnlyUserPrefs userPrefs) {
+        this(myCrm, userPrefs, null);
+    }
+
+    /**
+     * Initializes a ModelManager with the given myCrm and userPrefs, that archives old completed jobs
+     * in {@code jobArchive}.
+     */
+    public ModelManager(ReadOnlyMyCrm myCrm, ReadOnlyUserPrefs userPrefs, JobArchive jobArchive) {
         super();
         requireAllNonNull(myCrm, userPrefs);
 
@@ -50,22 +110,41 @@ public class ModelManager implements Model {
 
         this.myCrm = new MyCrm(myCrm);
         this.userPrefs = new UserPrefs(userPrefs);
+        this.jobArchive = jobArchive;
+        reserveArchivedIds();
+        jobsWithArchived = new RangeReplaceableList<>(this.myCrm.getJobList());
+        this.myCrm.getJobList().addListener(this::mirrorJobChanges);
         filteredContacts = new FilteredList<>(this.myCrm.getContactList(), PREDICATE_SHOW_NOT_HIDDEN_CONTACTS);
+        rankedContacts = new SortedList<>(filteredContacts);
         filteredTemplates = new FilteredList<>(this.myCrm.getTemplateList());
         filteredMails = new FilteredList<>(this.myCrm.getMailList());
-        filteredJobs = new FilteredList<>(this.myCrm.getJobList(), PREDICATE_SHOW_ALL_INCOMPLETE_JOBS);
-        filteredIncompleteJob = new FilteredList<>(this.myCrm.getJobList(), PREDICATE_SHOW_ALL_INCOMPLETE_JOBS);
-        filteredAllJobs = new FilteredList<>(this.myCrm.getJobList());
-        filteredMonthlyCompletedJobs =
-                new FilteredList<>(this.myCrm.getJobList(), PREDICATE_SHOW_ALL_MONTHLY_COMPLETED_JOBS);
+        filteredJobs = new FilteredList<>(jobsWithArchived, PREDICATE_SHOW_ALL_INCOMPLETE_JOBS);
+        rankedJobs = new SortedList<>(filteredJobs);
+        filteredIncompleteJob = new FilteredList<>(jobsWithArchived, PREDICATE_SHOW_ALL_INCOMPLETE_JOBS);
         filteredProducts = new FilteredList<>(this.myCrm.getProductList());
+        rankedProducts = new SortedList<>(filteredProducts);
         filteredHistories = new FilteredList<>(this.myCrm.getHistoryList());
+        rankProducts();
     }
 
     public ModelManager() {
         this(new MyCrm(), new UserPrefs());
     }
 
+    /**
+     * Reserves the ids of the archived jobs and their clients and products, so that no new entity is given the id of
+     * an archived one, which would then be looked up in its place.
+     */
+    private void reserveArchivedIds() {
+        if (jobArchive == null) {
+            return;
+        }
+        long largestArchivedId = jobArchive.getLargestId();
+        if (EntityId.isValidId(largestArchivedId)) {
+            EntityId.reserve(largestArchivedId);
+        }
+    }
+
     //=========== UserPrefs ==================================================================================
 
     @Override
@@ -113,6 +192,16 @@ public class ModelManager implements Model {
         return myCrm;
     }
 
+    @Override
+    public void applyBatch(Runnable changes) {
+        myCrm.applyBatch(changes);
+    }
+
+    @Override
+    public <R> R read(Supplier<R> reader) {
+        return myCrm.read(reader);
+    }
+
     @Override
     public boolean hasContact(Contact contact) {
         requireNonNull(contact);
@@ -131,6 +220,46 @@ public class ModelManager implements Model {
         return myCrm.hasJob(job);
     }
 
+    @Override
+    public Optional<Contact> getContactById(long id) {
+        return myCrm.getContactById(id);
+    }
+
+    @Override
+    public Optional<Product> getProductById(long id) {
+        return myCrm.getProductById(id);
+    }
+
+    @Override
+    public Optional<Template> getTemplateById(long id) {
+        return myCrm.getTemplateById(id);
+    }
+
+    @Override
+    public Optional<Job> getJobById(long id) {
+        return myCrm.getJobById(id);
+    }
+
+    @Override
+    public List<Job> getJobsForContact(Contact contact) {
+        return myCrm.getJobsForContact(contact);
+    }
+
+    @Override
+    public List<Job> getJobsForProduct(Product product) {
+        return myCrm.getJobsForProduct(product);
+    }
+
+    @Override
+    public boolean hasJobsForContact(Contact contact) {
+        return myCrm.hasJobsForContact(contact);
+    }
+
+    @Override
+    public boolean hasJobsForProduct(Product product) {
+        return myCrm.hasJobsForProduct(product);
+    }
+
     @Override
     public void deleteContact(Contact target) {
         myCrm.removeContact(target);
@@ -184,9 +313,192 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void addHistory(History history) {
-        myCrm.addHistory(history);
+    public void loadArchivedJobs(JobDateRange completedIn) throws DataConversionException {
+        requireNonNull(completedIn);
+        loadArchivedMonths(completedIn, reportRange);
+        jobListArchiveRange = completedIn;
+    }
+
+    @Override
+    public void unloadArchivedJobs() {
+        jobListArchiveRange = null;
+        keepArchivedMonths(getArchivedMonthsIn(null, reportRange), Collections.emptyMap());
+    }
+
+    /**
+     * Keeps loaded only the archived months with jobs completed in {@code jobListRange} or {@code reportRange},
+     * either of which may be null for none, reading the months that are not loaded yet and unloading the others.
+     *
+     * @throws DataConversionException if the archived jobs cannot be read, in which case none are loaded or
+     *     unloaded.
+     */
+    private void loadArchivedMonths(JobDateRange jobListRange, JobDateRange reportRange)
+            throws DataConversionException {
+        Set<YearMonth> months = getArchivedMonthsIn(jobListRange, reportRange);
+        Map<YearMonth, List<ArchivedJob>> monthsToLoad = new TreeMap<>();
+        for (YearMonth month : months) {
+            if (!loadedArchivedMonths.containsKey(month)) {
+                monthsToLoad.put(month, readArchivedJobs(month));
+            }
+        }
+        keepArchivedMonths(months, monthsToLoad);
+    }
+
+    /**
+     * Returns the archived months with jobs completed in {@code jobListRange} or {@code reportRange}, either of
+     * which may be null for none.
+     */
+    private Set<YearMonth> getArchivedMonthsIn(JobDateRange jobListRange, JobDateRange reportRange) {
+        Set<YearMonth> months = new HashSet<>();
+        if (jobArchive == null) {
+            return months;
+        }
+        for (YearMonth month : jobArchive.getArchivedMonths()) {
+            JobDateRange monthRange = JobDateRange.ofMonth(month.atDay(1));
+            if ((jobListRange != null && jobListRange.overlaps(monthRange))
+                    || (reportRange != null && reportRange.overlaps(monthRange))) {
+                months.add(month);
+            }
+        }
+        return months;
+    }
+
+    /**
+     * Returns the jobs archived for {@code month} that are not also in the myCrm.
+     */
+    private List<ArchivedJob> readArchivedJobs(YearMonth month) throws DataConversionException {
+        List<ArchivedJob> jobs = new ArrayList<>();
+        for (ArchivedJob archivedJob : jobArchive.readJobs(month, myCrm)) {
+            // A job that is also in myCrm was not removed from it after being archived.
+            if (!myCrm.hasJob(archivedJob.getJob())) {
+                jobs.add(archivedJob);
+            }
+        }
+        return jobs;
+    }
+
+    /**
+     * Unloads the loaded archived months that are not in {@code months}, and loads the jobs of
+     * {@code monthsToLoad}, as one batch, so that the job lists change once and readers see the change whole.
+     */
+    private void keepArchivedMonths(Set<YearMonth> months, Map<YearMonth, List<ArchivedJob>> monthsToLoad) {
+        Set<Job> jobsToUnload = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Map.Entry<YearMonth, List<Job>> loadedMonth : loadedArchivedMonths.entrySet()) {
+            if (!months.contains(loadedMonth.getKey())) {
+                jobsToUnload.addAll(loadedMonth.getValue());
+            }
+        }
+        List<Job> jobsToLoad = new ArrayList<>();
+        for (Map.Entry<YearMonth, List<ArchivedJob>> monthToLoad : monthsToLoad.entrySet()) {
+            List<Job> monthJobs = new ArrayList<>();
+            for (ArchivedJob archivedJob : monthToLoad.getValue()) {
+                // The clients and products are kept before the jobs are indexed by their names.
+                archivedClients.put(archivedJob.getClient().getId(), archivedJob.getClient());
+                archivedProducts.put(archivedJob.getProduct().getId(), archivedJob.getProduct());
+                monthJobs.add(archivedJob.getJob());
+            }
+            loadedArchivedMonths.put(monthToLoad.getKey(), monthJobs);
+            jobsToLoad.addAll(monthJobs);
+        }
+        if (jobsToUnload.isEmpty() && monthsToLoad.isEmpty()) {
+            return;
+        }
+
+        myCrm.applyBatch(() -> {
+            // The loaded archived jobs follow the myCrm's jobs, and are replaced as one range.
+            int firstArchived = jobsWithArchived.size() - archivedJobs.size();
+            List<Job> keptJobs = new ArrayList<>();
+            for (Job job : jobsWithArchived.subList(firstArchived, jobsWithArchived.size())) {
+                if (!jobsToUnload.contains(job)) {
+                    keptJobs.add(job);
+                }
+            }
+            keptJobs.addAll(jobsToLoad);
+
+            loadedArchivedMonths.keySet().retainAll(months);
+            archivedJobs.removeAll(jobsToUnload);
+            jobsToUnload.forEach(archivedJobsByDate::remove);
+            jobsToUnload.forEach(archivedJobWords::remove);
+            archivedJobs.addAll(jobsToLoad);
+            jobsToLoad.forEach(archivedJobsByDate::add);
+            jobsToLoad.forEach(archivedJobWords::add);
+            jobsWithArchived.replaceRange(firstArchived, jobsWithArchived.size(), keptJobs);
+        });
+        if (!jobsToUnload.isEmpty()) {
+            Set<Long> clientIds = new HashSet<>();
+            Set<Long> productIds = new HashSet<>();
+            archivedJobs.forEach(job -> {
+                clientIds.add(job.getClientId());
+                productIds.add(job.getProductId());
+            });
+            archivedClients.keySet().retainAll(clientIds);
+            archivedProducts.keySet().retainAll(productIds);
+        }
+        logger.fine("Loaded " + jobsToLoad.size() + " and unloaded " + jobsToUnload.size() + " archived jobs");
+    }
+
+    @Override
+    public boolean isArchivedJob(Job job) {
+        return archivedJobs.contains(job);
+    }
+
+    /**
+     * Moves the jobs completed before {@code completedBefore} from the myCrm to the job archive.
+     * Jobs are removed from the myCrm only after they have all been archived.
+     *
+     * @return the number of jobs archived.
+     * @throws IOException if the job archive cannot be written.
+     */
+    public int archiveCompletedJobs(YearMonth completedBefore) throws IOException {
+        requireNonNull(completedBefore);
+        if (jobArchive == null) {
+            return 0;
+        }
+
+        Map<YearMonth, List<Job>> jobsByMonth = new TreeMap<>();
+        List<Job> remainingJobs = new ArrayList<>();
+        for (Job job : myCrm.getJobList()) {
+            YearMonth completionMonth = job.isCompleted() ? YearMonth.from(job.getCompletionDate().value) : null;
+            if (completionMonth != null && completionMonth.isBefore(completedBefore)) {
+                jobsByMonth.computeIfAbsent(completionMonth, unused -> new ArrayList<>()).add(job);
+            } else {
+                remainingJobs.add(job);
+            }
+        }
+        if (jobsByMonth.isEmpty()) {
+            return 0;
+        }
+
+        for (Map.Entry<YearMonth, List<Job>> monthJobs : jobsByMonth.entrySet()) {
+            jobArchive.addJobs(monthJobs.getKey(), monthJobs.getValue(), myCrm);
+        }
+        myCrm.setJobs(remainingJobs);
+        // The archived jobs are no longer counted by the myCrm's ranking.
+        rankProducts();
+        return jobsByMonth.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Applies a change of the myCrm's job list to the same positions of {@code jobsWithArchived},
+     * which starts with the myCrm's jobs.
+     */
+    private void mirrorJobChanges(ListChangeListener.Change<? extends Job> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                jobsWithArchived.replaceRange(from, change.getTo(), change.getList().subList(from, change.getTo()));
+            } else {
+                // Only the reported range is replaced, so that a small batch is mirrored as a small change too.
+                jobsWithArchived.replaceRange(from, from + change.getRemovedSize(), change.getAddedSubList());
+            }
+        }
+    }
+
+    @Override
+    public boolean addHistory(History history) {
+        boolean isAdded = myCrm.addHistory(history);
         updateFilteredHistoryList(PREDICATE_SHOW_ALL_HISTORIES);
+        return isAdded;
     }
 
     @Override
@@ -198,8 +510,10 @@ public class ModelManager implements Model {
     public void setContact(Contact target, Contact editedContact) {
         requireAllNonNull(target, editedContact);
 
-        myCrm.setContact(target, editedContact);
-
+        myCrm.applyBatch(() -> {
+            myCrm.setContact(target, editedContact);
+            refreshArchivedJobWords(job -> job.getClientId() == target.getId());
+        });
     }
 
     @Override
@@ -212,7 +526,147 @@ public class ModelManager implements Model {
 
     @Override
     public double getRevenue(LocalDate date) {
-        return myCrm.getRevenue(date);
+        requireNonNull(date);
+        return getRevenueSeries(JobDateRange.ofMonth(date), RevenueGranularity.MONTH).getTotalCents() / 100.0;
+    }
+
+    @Override
+    public JobAggregates getJobAggregates() {
+        return myCrm.getJobAggregates();
+    }
+
+    @Override
+    public RevenueSeries getRevenueSeries(JobDateRange range, RevenueGranularity granularity) {
+        requireAllNonNull(range, granularity);
+        RevenueSeries series = myCrm.getRevenueSeries(range, granularity);
+        if (jobArchive != null) {
+            addArchivedRevenue(series);
+        }
+        return series;
+    }
+
+    /**
+     * Adds the revenue of the archived jobs completed in the range of {@code series} to it.
+     * An archived month that lies wholly in the range and in one period of the series is added from the revenue
+     * the archive keeps for it, and only the other months that overlap the range are read.
+     */
+    private void addArchivedRevenue(RevenueSeries series) {
+        JobDateRange range = series.getRange();
+        for (YearMonth month : jobArchive.getArchivedMonths()) {
+            LocalDate monthStart = month.atDay(1);
+            LocalDate monthEnd = month.atEndOfMonth();
+            if (!range.overlaps(JobDateRange.ofMonth(monthStart))) {
+                continue;
+            }
+
+            if (series.getGranularity().hasWholeMonths() && range.contains(monthStart) && range.contains(monthEnd)) {
+                series.add(monthStart, jobArchive.getRevenueCents(month));
+                continue;
+            }
+
+            try {
+                jobArchive.readJobs(month, myCrm).forEach(archivedJob -> series.add(archivedJob.getJob()));
+            } catch (DataConversionException e) {
+                logger.warning("Revenue of archived jobs of " + month + " not counted: " + e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public List<Job> getJobsReceivedIn(JobDateRange range) {
+        requireNonNull(range);
+        // The archived jobs are loaded in a batch, so both are read holding the read lock to see the same jobs.
+        return myCrm.read(() -> mergeByDate(myCrm.getJobsReceivedIn(range), archivedJobsByDate.getJobsReceivedIn(range),
+                Job::getReceivedDate));
+    }
+
+    @Override
+    public List<Job> getJobsExpectedIn(JobDateRange range) {
+        requireNonNull(range);
+        return myCrm.read(() -> mergeByDate(myCrm.getJobsExpectedIn(range),
+                archivedJobsByDate.getJobsExpectedIn(range), Job::getExpectedCompletionDate));
+    }
+
+    @Override
+    public List<Job> getJobsCompletedIn(JobDateRange range) {
+        requireNonNull(range);
+        return myCrm.read(() -> mergeByDate(myCrm.getJobsCompletedIn(range),
+                archivedJobsByDate.getJobsCompletedIn(range), Job::getCompletionDate));
+    }
+
+    /**
+     * Returns the jobs of {@code jobs} and {@code archived}, which are each ordered by {@code dateOf}, in the order
+     * of {@code dateOf}. Jobs of the same date in {@code jobs} come before those in {@code archived}.
+     */
+    private static List<Job> mergeByDate(List<Job> jobs, List<Job> archived, Function<Job, JobDate> dateOf) {
+        if (archived.isEmpty()) {
+            return jobs;
+        }
+
+        List<Job> merged = new ArrayList<>(jobs);
+        merged.addAll(archived);
+        merged.sort(Comparator.comparing(job -> dateOf.apply(job).value));
+        return merged;
+    }
+
+    @Override
+    public void setReport(JobDateRange range, int topProductCount) throws DataConversionException {
+        requireNonNull(range);
+        checkArgument(ProductRanking.isValidSize(topProductCount), ProductRanking.MESSAGE_CONSTRAINTS);
+        loadArchivedMonths(jobListArchiveRange, range);
+        reportRange = range;
+        this.topProductCount = topProductCount;
+        rankProducts();
+    }
+
+    /**
+     * Ranks the top products received in the report range, counting the archived jobs along with the myCrm's jobs.
+     */
+    private void rankProducts() {
+        myCrm.rankProducts(reportRange, topProductCount, countArchivedProducts(reportRange));
+    }
+
+    /**
+     * Returns the number of archived jobs of each product received in {@code range}, keyed by the id of the product.
+     * A range of whole months is counted from the product counts the archive keeps. Otherwise the archived months
+     * that can have jobs received in the range, which are those completed from its first month on, are read.
+     */
+    private Map<Long, Integer> countArchivedProducts(JobDateRange range) {
+        if (jobArchive == null) {
+            return Collections.emptyMap();
+        }
+        if (range.hasWholeMonths()) {
+            return jobArchive.getProductCounts(range);
+        }
+
+        Map<Long, Integer> productCounts = new HashMap<>();
+        YearMonth firstMonth = YearMonth.from(range.getStart());
+        for (YearMonth month : jobArchive.getArchivedMonths()) {
+            if (month.isBefore(firstMonth)) {
+                continue;
+            }
+            try {
+                for (ArchivedJob archivedJob : readArchivedJobs(month)) {
+                    Job job = archivedJob.getJob();
+                    if (job.hasProduct() && range.contains(job.getReceivedDate())) {
+                        productCounts.merge(job.getProductId(), 1, Integer::sum);
+                    }
+                }
+            } catch (DataConversionException e) {
+                logger.warning("Products of archived jobs of " + month + " not counted: " + e.getMessage());
+            }
+        }
+        return productCounts;
+    }
+
+    @Override
+    public JobDateRange getReportRange() {
+        return reportRange;
+    }
+
+    @Override
+    public int getTopProductCount() {
+        return topProductCount;
     }
 
     @Override
@@ -248,7 +702,50 @@ public class ModelManager implements Model {
     @Override
     public void setProduct(Product target, Product editedProduct) {
         requireAllNonNull(target, editedProduct);
-        myCrm.setProduct(target, editedProduct);
+        myCrm.applyBatch(() -> {
+            myCrm.setProduct(target, editedProduct);
+            refreshArchivedJobWords(job -> job.getProductId() == target.getId());
+        });
+    }
+
+    /**
+     * Indexes the words of the loaded archived jobs matching {@code predicate} again, after their client or
+     * product is changed.
+     */
+    private void refreshArchivedJobWords(Predicate<Job> predicate) {
+        for (Job job : archivedJobs) {
+            if (predicate.test(job)) {
+                archivedJobWords.remove(job);
+                archivedJobWords.add(job);
+            }
+        }
+    }
+
+    @Override
+    public EntityLookup getEntityLookup() {
+        return entityLookup;
+    }
+
+    //=========== Queries ====================================================================================
+
+    @Override
+    public ModelQuery<Contact> queryContacts() {
+        return new ModelQuery<>(myCrm.getContactList(), List.of(myCrm.getContactWordIndex()));
+    }
+
+    @Override
+    public ModelQuery<Template> queryTemplates() {
+        return new ModelQuery<>(myCrm.getTemplateList(), List.of(myCrm.getTemplateWordIndex()));
+    }
+
+    @Override
+    public ModelQuery<Product> queryProducts() {
+        return new ModelQuery<>(myCrm.getProductList(), List.of(myCrm.getProductWordIndex()));
+    }
+
+    @Override
+    public ModelQuery<Job> queryJobs() {
+        return new ModelQuery<>(jobsWithArchived, List.of(myCrm.getJobWordIndex(), archivedJobWords));
     }
 
     //=========== Filtered Contact List Accessors =============================================================
@@ -259,7 +756,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Contact> getFilteredContactList() {
-        return filteredContacts;
+        return rankedContacts;
     }
 
     /**
@@ -286,22 +783,17 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Product> getFilteredProductList() {
-        return filteredProducts;
+        return rankedProducts;
     }
 
     @Override
-    public ObservableList<Product> getFilteredTopThreeProductList() {
-        return new FilteredList<>(this.myCrm.getTopThreeProductList());
+    public ObservableList<Product> getTopProductList() {
+        return myCrm.getTopProductList();
     }
 
     @Override
     public ObservableList<Job> getFilteredJobList() {
-        return filteredJobs;
-    }
-
-    @Override
-    public ObservableList<Job> getFilteredAllJobList() {
-        return filteredAllJobs;
+        return rankedJobs;
     }
 
     @Override
@@ -310,8 +802,9 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public ObservableList<Job> getFilteredMonthlyCompletedJobList() {
-        return filteredMonthlyCompletedJobs;
+    public ObservableList<Job> getReportCompletedJobList() {
+        return myCrm.read(() -> FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(getJobsCompletedIn(reportRange))));
     }
 
     /**
@@ -326,13 +819,16 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredContactList(Predicate<Contact> predicate) {
         requireNonNull(predicate);
-        filteredContacts.setPredicate(predicate);
+        latestContactPredicate = predicate;
+        Predicate<Contact> indexedPredicate = withWordIndexes(predicate, List.of(myCrm.getContactWordIndex()));
+        filteredContacts.setPredicate(indexedPredicate);
+        rankedContacts.setComparator(getRanking(indexedPredicate));
     }
 
     @Override
     public void updateFilteredTemplateList(Predicate<Template> predicate) {
         requireNonNull(predicate);
-        filteredTemplates.setPredicate(predicate);
+        filteredTemplates.setPredicate(withWordIndexes(predicate, List.of(myCrm.getTemplateWordIndex())));
     }
 
     @Override
@@ -344,14 +840,20 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredProductList(Predicate<Product> predicate) {
         requireNonNull(predicate);
-        filteredProducts.setPredicate(predicate);
+        latestProductPredicate = predicate;
+        Predicate<Product> indexedPredicate = withWordIndexes(predicate, List.of(myCrm.getProductWordIndex()));
+        filteredProducts.setPredicate(indexedPredicate);
+        rankedProducts.setComparator(getRanking(indexedPredicate));
     }
 
     @Override
     public void updateFilteredJobList(Predicate<Job> predicate) {
         requireNonNull(predicate);
         latestJobPredicate = predicate;
-        filteredJobs.setPredicate(predicate);
+        Predicate<Job> indexedPredicate =
+                withWordIndexes(predicate, List.of(myCrm.getJobWordIndex(), archivedJobWords));
+        filteredJobs.setPredicate(indexedPredicate);
+        rankedJobs.setComparator(getRanking(indexedPredicate));
     }
 
     @Override
@@ -360,6 +862,34 @@ public class ModelManager implements Model {
         filteredHistories.setPredicate(predicate);
     }
 
+    /**
+     * Returns {@code predicate}, or if it can be answered from word indexes, an equivalent predicate that looks
+     * the elements up in {@code indexes} instead of splitting their fields into words.
+     */
+    private static <T> Predicate<T> withWordIndexes(Predicate<T> predicate, List<WordIndex<T>> indexes) {
+        return predicate instanceof IndexedPredicate
+                ? ((IndexedPredicate<T>) predicate).withIndexes(indexes)
+                : predicate;
+    }
+
+    /**
+     * Returns the order of the elements matching {@code predicate} if it ranks them, or null to keep the order of
+     * the list.
+     */
+    private static <T> Comparator<T> getRanking(Predicate<T> predicate) {
+        return predicate instanceof RankedPredicate ? ((RankedPredicate<T>) predicate).getRanking() : null;
+    }
+
+    @Override
+    public Predicate<Contact> getLatestContactPredicate() {
+        return latestContactPredicate;
+    }
+
+    @Override
+    public Predicate<Product> getLatestProductPredicate() {
+        return latestProductPredicate;
+    }
+
     @Override
     public Predicate<Job> getLatestJobPredicate() {
         return this.latestJobPredicate;
@@ -385,4 +915,21 @@ public class ModelManager implements Model {
                 && filteredContacts.equals(other.filteredContacts);
     }
 
+    /**
+     * Looks up contacts and products in the myCrm, holding its read lock so that any thread can look them up, and
+     * then among the clients and products of the loaded archived jobs, which may no longer be in the myCrm.
+     */
+    private class ArchiveAwareLookup implements EntityLookup {
+        @Override
+        public Optional<Contact> getContactById(long id) {
+            Optional<Contact> contact = myCrm.read(() -> myCrm.getContactById(id));
+            return contact.isPresent() ? contact : Optional.ofNullable(archivedClients.get(id));
+        }
+
+        @Override
+        public Optional<Product> getProductById(long id) {
+            Optional<Product> product = myCrm.read(() -> myCrm.getProductById(id));
+            return product.isPresent() ? product : Optional.ofNullable(archivedProducts.get(id));
+        }
+    }
 }
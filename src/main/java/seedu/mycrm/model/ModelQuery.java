@@ -0,0 +1,141 @@
+package seedu.mycrm.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.mycrm.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * A read-only query over all the elements of a collection of the model, whatever the displayed lists are filtered
+ * by. Querying never changes the filtered lists, so it costs no work in the UI.
+ * An {@code IndexedPredicate} is answered from the {@code WordIndex} of the elements, and the elements can be
+ * narrowed to those with some words in an indexed field with {@link #withWords(String, List)}, so that elements
+ * without them are ruled out by a hash lookup of their ids.
+ *
+ * @param <T> type of the elements.
+ */
+public class ModelQuery<T> {
+    private final List<? extends T> elements;
+    private final List<WordIndex<T>> indexes;
+    // The ids of the elements the query is narrowed to in each of the indexes, or null if it is not narrowed.
+    private final List<Set<Long>> candidateIds;
+
+    /**
+     * Creates a query over {@code elements}, whose words are indexed in {@code indexes}.
+     * {@code elements} is read as it is when the query is run, not as it is when the query is created.
+     */
+    public ModelQuery(List<? extends T> elements, List<WordIndex<T>> indexes) {
+        this(elements, indexes, null);
+    }
+
+    private ModelQuery(List<? extends T> elements, List<WordIndex<T>> indexes, List<Set<Long>> candidateIds) {
+        requireAllNonNull(elements, indexes);
+        this.elements = elements;
+        this.indexes = indexes;
+        this.candidateIds = candidateIds;
+    }
+
+    /**
+     * Returns a query over the elements of this query with any of {@code words} in {@code field}.
+     * The elements are those with the words when the query is narrowed, so it should be run right away.
+     *
+     * @throws IllegalArgumentException if {@code field} is not indexed.
+     */
+    public ModelQuery<T> withWords(String field, List<String> words) {
+        requireAllNonNull(field, words);
+        List<Set<Long>> narrowedIds = new ArrayList<>();
+        for (int i = 0; i < indexes.size(); i++) {
+            WordIndex<T> index = indexes.get(i);
+            if (!index.hasField(field)) {
+                throw new IllegalArgumentException("Field \"" + field + "\" is not indexed");
+            }
+            Set<Long> ids = new HashSet<>();
+            words.forEach(word -> ids.addAll(index.getIds(field, word)));
+            if (candidateIds != null) {
+                ids.retainAll(candidateIds.get(i));
+            }
+            narrowedIds.add(ids);
+        }
+        return new ModelQuery<>(elements, indexes, narrowedIds);
+    }
+
+    /**
+     * Returns the elements of the query, in the order of the collection.
+     */
+    public Stream<T> stream() {
+        if (candidateIds == null) {
+            return elements.stream().map(element -> element);
+        }
+        if (candidateIds.stream().allMatch(Set::isEmpty)) {
+            return Stream.empty();
+        }
+        return elements.stream().<T>map(element -> element).filter(this::isCandidate);
+    }
+
+    /**
+     * Returns the elements of the query that match {@code predicate}, in the order of the collection.
+     */
+    public Stream<T> stream(Predicate<T> predicate) {
+        requireNonNull(predicate);
+        Predicate<T> boundPredicate = predicate instanceof IndexedPredicate
+                ? ((IndexedPredicate<T>) predicate).withIndexes(indexes)
+                : predicate;
+        return stream().filter(boundPredicate);
+    }
+
+    /**
+     * Returns the number of elements of the query.
+     */
+    public long count() {
+        if (candidateIds != null) {
+            // Every candidate is an element, as the indexes hold exactly the elements.
+            return candidateIds.stream().mapToLong(Set::size).sum();
+        }
+        return elements.size();
+    }
+
+    /**
+     * Returns the number of elements of the query that match {@code predicate}.
+     */
+    public long count(Predicate<T> predicate) {
+        return stream(predicate).count();
+    }
+
+    /**
+     * Returns true if the query has no elements.
+     */
+    public boolean isEmpty() {
+        return count() == 0;
+    }
+
+    /**
+     * Returns true if any element of the query matches {@code predicate}, stopping at the first that does.
+     */
+    public boolean anyMatch(Predicate<T> predicate) {
+        return stream(predicate).findAny().isPresent();
+    }
+
+    /**
+     * Collects the elements of the query that match {@code predicate} with {@code collector}.
+     */
+    public <R, A> R collect(Predicate<T> predicate, Collector<? super T, A, R> collector) {
+        requireNonNull(collector);
+        return stream(predicate).collect(collector);
+    }
+
+    private boolean isCandidate(T element) {
+        for (int i = 0; i < indexes.size(); i++) {
+            WordIndex<T> index = indexes.get(i);
+            if (index.contains(element)) {
+                return candidateIds.get(i).contains(index.getId(element));
+            }
+        }
+        return false;
+    }
+}
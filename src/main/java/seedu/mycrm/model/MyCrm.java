@@ -2,15 +2,25 @@ package seedu.mycrm.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.time.LocalDate;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.mycrm.model.contact.Contact;
 import seedu.mycrm.model.contact.UniqueContactList;
 import seedu.mycrm.model.history.History;
 import seedu.mycrm.model.history.HistoryList;
 import seedu.mycrm.model.job.Job;
+import seedu.mycrm.model.job.JobAggregates;
+import seedu.mycrm.model.job.JobDateRange;
+import seedu.mycrm.model.job.RevenueGranularity;
+import seedu.mycrm.model.job.RevenueSeries;
 import seedu.mycrm.model.job.UniqueJobList;
 import seedu.mycrm.model.mail.Mail;
 import seedu.mycrm.model.mail.Template;
@@ -21,7 +31,10 @@ import seedu.mycrm.model.product.UniqueProductList;
 
 /**
  * Wraps all data at the myCrm level
- * Duplicates are not allowed (by .isSameContact comparison)
+ * Duplicates are not allowed (by .isSameContact comparison).
+ * The data is changed by a single writer thread, which also reads it directly. Changes are made holding the write
+ * lock of the data, so other threads can read it in parallel with the writer with {@link #read(Supplier)}, which
+ * holds the read lock, and never see a change or a batch of changes half made.
  */
 public class MyCrm implements ReadOnlyMyCrm {
 
@@ -50,7 +63,7 @@ public class MyCrm implements ReadOnlyMyCrm {
 
     private final UniqueJobList jobs;
     {
-        jobs = new UniqueJobList();
+        jobs = new UniqueJobList(this);
     }
 
     private final HistoryList histories;
@@ -62,7 +75,24 @@ public class MyCrm implements ReadOnlyMyCrm {
         mails = new UniqueMailList();
     }
 
-    public MyCrm() {}
+    private static final AtomicLong versionCounter = new AtomicLong();
+
+    private final Map<MyCrmSegment, Long> segmentVersions = new EnumMap<>(MyCrmSegment.class);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // True while a batch is in progress, during which changes to the lists are staged. Guarded by the write lock.
+    private boolean isInBatch;
+
+    /**
+     * Creates an empty MyCrm.
+     */
+    public MyCrm() {
+        trackChanges(MyCrmSegment.CONTACTS, getContactList());
+        trackChanges(MyCrmSegment.TEMPLATES, getTemplateList());
+        trackChanges(MyCrmSegment.PRODUCTS, getProductList());
+        trackChanges(MyCrmSegment.JOBS, getJobList());
+    }
 
     /**
      * Creates an MyCrm using the Contacts in the {@code toBeCopied}
@@ -72,13 +102,25 @@ public class MyCrm implements ReadOnlyMyCrm {
         resetData(toBeCopied);
     }
 
+    /**
+     * Gives {@code segment} a new version stamp now and whenever {@code list} changes.
+     */
+    private void trackChanges(MyCrmSegment segment, ObservableList<?> list) {
+        segmentVersions.put(segment, versionCounter.incrementAndGet());
+        list.addListener((ListChangeListener<Object>) change ->
+                segmentVersions.put(segment, versionCounter.incrementAndGet()));
+    }
+
     //// list overwrite operations
     /**
      * Replaces the contents of the contact list with {@code contacts}.
      * {@code contacts} must not contain duplicate contacts.
      */
     public void setContacts(List<Contact> contacts) {
-        this.contacts.setContacts(contacts);
+        write(() -> {
+            this.contacts.setContacts(contacts);
+            jobs.refreshClients();
+        });
     }
 
     /**
@@ -86,7 +128,7 @@ public class MyCrm implements ReadOnlyMyCrm {
      * {@code templates} must not contain duplicate templates.
      */
     public void setTemplates(List<Template> templates) {
-        this.templates.setTemplates(templates);
+        write(() -> this.templates.setTemplates(templates));
     }
 
     /**
@@ -94,7 +136,10 @@ public class MyCrm implements ReadOnlyMyCrm {
      * {@code products} must not contain duplicate products.
      */
     public void setProducts(List<Product> products) {
-        this.products.setProducts(products);
+        write(() -> {
+            this.products.setProducts(products);
+            jobs.refreshProducts();
+        });
     }
 
     /**
@@ -102,19 +147,87 @@ public class MyCrm implements ReadOnlyMyCrm {
      * {@code jobs} must not contain duplicate jobs.
      */
     public void setJobs(List<Job> jobs) {
-        this.jobs.setJobs(jobs);
+        write(() -> this.jobs.setJobs(jobs));
     }
 
     /**
      * Resets the existing data of this {@code MyCrm} with {@code newData}.
+     * If {@code newData} has duplicates, the data is left as it was.
      */
     public void resetData(ReadOnlyMyCrm newData) {
         requireNonNull(newData);
 
-        setContacts(newData.getContactList());
-        setTemplates(newData.getTemplateList());
-        setProducts(newData.getProductList());
-        setJobs(newData.getJobList());
+        applyBatch(() -> {
+            setContacts(newData.getContactList());
+            setTemplates(newData.getTemplateList());
+            setProducts(newData.getProductList());
+            setJobs(newData.getJobList());
+        });
+    }
+
+    /**
+     * Makes the changes of {@code changes} to this {@code MyCrm} as one batch, in which each list publishes all
+     * the changes made to it as one change once {@code changes} completes, so that its listeners process them once.
+     * If {@code changes} throws, such as a {@code DuplicateJobException}, none of its changes are made and the
+     * exception is rethrown. A batch applied during another batch is part of that batch.
+     */
+    public void applyBatch(Runnable changes) {
+        requireNonNull(changes);
+        write(() -> {
+            if (isInBatch) {
+                changes.run();
+                return;
+            }
+
+            List<IndexedUniqueList<?>> lists = List.of(contacts, templates, products, jobs, mails);
+            lists.forEach(IndexedUniqueList::beginBatch);
+            isInBatch = true;
+            try {
+                changes.run();
+            } catch (RuntimeException | Error e) {
+                lists.forEach(IndexedUniqueList::rollbackBatch);
+                throw e;
+            } finally {
+                isInBatch = false;
+            }
+            lists.forEach(IndexedUniqueList::commitBatch);
+        });
+    }
+
+    /**
+     * Returns what {@code reader} reads from this {@code MyCrm}, holding the read lock so that no change is made
+     * meanwhile. Any number of threads can read at once, but {@code reader} must not change the data.
+     */
+    @Override
+    public <R> R read(Supplier<R> reader) {
+        requireNonNull(reader);
+        lock.readLock().lock();
+        try {
+            return reader.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Makes {@code change} holding the write lock, waiting for the readers to finish first.
+     *
+     * @throws IllegalStateException if the current thread is reading, as it would wait for itself.
+     */
+    private void write(Runnable change) {
+        lockForWriting();
+        try {
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void lockForWriting() {
+        if (lock.getReadHoldCount() > 0 && !lock.isWriteLockedByCurrentThread()) {
+            throw new IllegalStateException("MyCrm cannot be changed while it is being read");
+        }
+        lock.writeLock().lock();
     }
 
     //// contact-level operations
@@ -143,12 +256,70 @@ public class MyCrm implements ReadOnlyMyCrm {
         return jobs.contains(job);
     }
 
+    /**
+     * Returns the contact in the myCrm with the given {@code id}, if there is one.
+     */
+    @Override
+    public Optional<Contact> getContactById(long id) {
+        return contacts.getById(id);
+    }
+
+    /**
+     * Returns the product in the myCrm with the given {@code id}, if there is one.
+     */
+    @Override
+    public Optional<Product> getProductById(long id) {
+        return products.getById(id);
+    }
+
+    /**
+     * Returns the template in the myCrm with the given {@code id}, if there is one.
+     */
+    public Optional<Template> getTemplateById(long id) {
+        return templates.getById(id);
+    }
+
+    /**
+     * Returns the job in the myCrm with the given {@code id}, if there is one.
+     */
+    public Optional<Job> getJobById(long id) {
+        return jobs.getById(id);
+    }
+
+    /**
+     * Returns the jobs in the myCrm whose client is the same contact as {@code contact}.
+     */
+    public List<Job> getJobsForContact(Contact contact) {
+        return jobs.getJobsForClient(contact);
+    }
+
+    /**
+     * Returns the jobs in the myCrm whose product is the same product as {@code product}.
+     */
+    public List<Job> getJobsForProduct(Product product) {
+        return jobs.getJobsForProduct(product);
+    }
+
+    /**
+     * Returns true if a job in the myCrm has the same contact as {@code contact} as its client.
+     */
+    public boolean hasJobsForContact(Contact contact) {
+        return jobs.hasJobsForClient(contact);
+    }
+
+    /**
+     * Returns true if a job in the myCrm has the same product as {@code product}.
+     */
+    public boolean hasJobsForProduct(Product product) {
+        return jobs.hasJobsForProduct(product);
+    }
+
     /**
      * Adds a contact to the myCrm.
      * The contact must not already exist in the myCrm.
      */
     public void addContact(Contact p) {
-        contacts.add(p);
+        write(() -> contacts.add(p));
     }
 
     /**
@@ -156,14 +327,14 @@ public class MyCrm implements ReadOnlyMyCrm {
      * The template must not already exist in the myCrm.
      */
     public void addTemplate(Template t) {
-        templates.add(t);
+        write(() -> templates.add(t));
     }
 
     /**
      * Adds a mail to the myCrm.
      */
     public void addMail(Mail m) {
-        mails.add(m);
+        write(() -> mails.add(m));
     }
 
     /**
@@ -171,33 +342,44 @@ public class MyCrm implements ReadOnlyMyCrm {
      * The job must not already exist in the myCrm.
      */
     public void addJob(Job j) {
-        jobs.add(j);
+        write(() -> jobs.add(j));
     }
 
     /**
-     * Adds a entered command to the myCrm.
-     * The entered command must not already exist in MyCrm.
+     * Adds a entered command to the myCrm, dropping the oldest entered command if the history is full.
+     * The entered command is not added if it is the same as the last entered command.
+     *
+     * @return true if the entered command was added.
      */
-    public void addHistory(History history) {
-        histories.add(history);
+    public boolean addHistory(History history) {
+        lockForWriting();
+        try {
+            return histories.add(history);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     /**
      * Clears all entered command data in the myCrm.
      */
     public void clearHistory() {
-        histories.clearHistory();
+        write(() -> histories.clearHistory());
     }
 
     /**
      * Replaces the given contact {@code target} in the list with {@code editedContact}.
      * {@code target} must exist in the myCrm.
      * The contact identity of {@code editedContact} must not be the same as another existing contact in the myCrm.
+     * The jobs of the contact refer to it by id, so they are left as they are and show {@code editedContact}.
      */
     public void setContact(Contact target, Contact editedContact) {
         requireNonNull(editedContact);
 
-        contacts.setContact(target, editedContact);
+        write(() -> {
+            contacts.setContact(target, editedContact);
+            jobs.refreshClient(target.getId());
+        });
     }
 
     /**
@@ -205,7 +387,7 @@ public class MyCrm implements ReadOnlyMyCrm {
      * {@code target} must exist in the myCrm.
      */
     public void hideContact(Contact target) {
-        contacts.hideContact(target);
+        write(() -> contacts.hideContact(target));
     }
 
     /**
@@ -213,7 +395,7 @@ public class MyCrm implements ReadOnlyMyCrm {
      * {@code target} must exist in the myCrm.
      */
     public void undoHideContact(Contact target) {
-        contacts.undoHideContact(target);
+        write(() -> contacts.undoHideContact(target));
     }
 
     /**
@@ -225,7 +407,7 @@ public class MyCrm implements ReadOnlyMyCrm {
     public void setTemplate(Template target, Template editedTemplate) {
         requireNonNull(editedTemplate);
 
-        templates.setTemplate(target, editedTemplate);
+        write(() -> templates.setTemplate(target, editedTemplate));
     }
 
     /**
@@ -236,7 +418,7 @@ public class MyCrm implements ReadOnlyMyCrm {
      */
     public void setJob(Job target, Job editedJob) {
         requireNonNull(editedJob);
-        jobs.setJob(target, editedJob);
+        write(() -> jobs.setJob(target, editedJob));
     }
 
     /**
@@ -244,7 +426,7 @@ public class MyCrm implements ReadOnlyMyCrm {
      * {@code key} must exist in the myCrm.
      */
     public void removeContact(Contact key) {
-        contacts.remove(key);
+        write(() -> contacts.remove(key));
     }
 
     /**
@@ -252,14 +434,14 @@ public class MyCrm implements ReadOnlyMyCrm {
      * {@code key} must exist in the myCrm.
      */
     public void removeTemplate(Template key) {
-        templates.remove(key);
+        write(() -> templates.remove(key));
     }
 
     /**
      * Adds a mail to the myCrm.
      */
     public void removeMail(Mail key) {
-        mails.remove(key);
+        write(() -> mails.remove(key));
     }
 
     //// Product Methods
@@ -269,7 +451,7 @@ public class MyCrm implements ReadOnlyMyCrm {
      * The product must not already exist in MyCRM.
      */
     public void addProduct(Product p) {
-        products.add(p);
+        write(() -> products.add(p));
     }
 
     /**
@@ -285,7 +467,7 @@ public class MyCrm implements ReadOnlyMyCrm {
      * {@code key} must exist in MyCRM.
      */
     public void removeProduct(Product key) {
-        products.remove(key);
+        write(() -> products.remove(key));
     }
 
     /**
@@ -293,10 +475,14 @@ public class MyCrm implements ReadOnlyMyCrm {
      * {@code target} must exist in MyCrm.
      * The product identity of {@code editedProduct} must not be the same as another existing product
      * in MyCrm.
+     * The jobs of the product refer to it by id, so they are left as they are and show {@code editedProduct}.
      */
     public void setProduct(Product target, Product editedProduct) {
         requireNonNull(editedProduct);
-        products.setProduct(target, editedProduct);
+        write(() -> {
+            products.setProduct(target, editedProduct);
+            jobs.refreshProduct(target.getId());
+        });
     }
 
     /**
@@ -304,11 +490,91 @@ public class MyCrm implements ReadOnlyMyCrm {
      * {@code key} must exist in the myCrm.
      */
     public void removeJob(Job key) {
-        jobs.remove(key);
+        write(() -> jobs.remove(key));
+    }
+
+    /**
+     * Returns the index of the words in the names, phones and emails of the contacts.
+     */
+    public WordIndex<Contact> getContactWordIndex() {
+        return contacts.getWordIndex();
+    }
+
+    /**
+     * Returns the index of the words in the subjects and bodies of the templates.
+     */
+    public WordIndex<Template> getTemplateWordIndex() {
+        return templates.getWordIndex();
+    }
+
+    /**
+     * Returns the index of the words in the fields of the products.
+     */
+    public WordIndex<Product> getProductWordIndex() {
+        return products.getWordIndex();
+    }
+
+    /**
+     * Returns the index of the words in the descriptions, client names, product names and statuses of the jobs.
+     */
+    public WordIndex<Job> getJobWordIndex() {
+        return jobs.getWordIndex();
     }
 
-    public double getRevenue(LocalDate date) {
-        return jobs.getMonthlyRevenue(date);
+    /**
+     * Returns a copy of the counts and totals of the jobs as they are now, taken holding the read lock, so that it
+     * can be read by any thread while jobs change.
+     */
+    public JobAggregates getJobAggregates() {
+        return read(() -> new JobAggregates(jobs.getAggregates()));
+    }
+
+    /**
+     * Returns the revenue of the jobs completed in {@code range}, totalled over periods of {@code granularity}.
+     * Can be called by any thread.
+     */
+    public RevenueSeries getRevenueSeries(JobDateRange range, RevenueGranularity granularity) {
+        return read(() -> jobs.getRevenueSeries(range, granularity));
+    }
+
+    /**
+     * Returns the jobs received in {@code range}, ordered by their received dates.
+     * Can be called by any thread.
+     */
+    public List<Job> getJobsReceivedIn(JobDateRange range) {
+        return read(() -> jobs.getJobsReceivedIn(range));
+    }
+
+    /**
+     * Returns the jobs expected to be completed in {@code range}, ordered by their expected completion dates.
+     * Can be called by any thread.
+     */
+    public List<Job> getJobsExpectedIn(JobDateRange range) {
+        return read(() -> jobs.getJobsExpectedIn(range));
+    }
+
+    /**
+     * Returns the jobs completed in {@code range}, ordered by their completion dates.
+     * Can be called by any thread.
+     */
+    public List<Job> getJobsCompletedIn(JobDateRange range) {
+        return read(() -> jobs.getJobsCompletedIn(range));
+    }
+
+    /**
+     * Ranks the top {@code size} products received in {@code range} in the list returned by
+     * {@link #getTopProductList()}, counting {@code otherCounts}, the numbers of jobs of each product that are not in
+     * this {@code MyCrm}, along with its jobs.
+     */
+    public void rankProducts(JobDateRange range, int size, Map<Long, Integer> otherCounts) {
+        write(() -> jobs.rankProducts(range, size, otherCounts));
+    }
+
+    /**
+     * Returns the top products last ranked, as a list that is kept up to date as jobs change.
+     */
+    public ObservableList<Product> getTopProductList() {
+        return jobs.getTopProductList();
     }
 
     //// util methods
@@ -350,8 +616,8 @@ public class MyCrm implements ReadOnlyMyCrm {
     }
 
     @Override
-    public ObservableList<Product> getTopThreeProductList() {
-        return jobs.getUnmodifiableTopThreeProductList();
+    public long getSegmentVersion(MyCrmSegment segment) {
+        return segmentVersions.get(segment);
     }
 
     @Override
@@ -0,0 +1,8 @@
+package seedu.mycrm.model;
+
+/**
+ * The parts of the myCrm data that change, and are saved, independently of each other.
+ */
+public enum MyCrmSegment {
+    CONTACTS, TEMPLATES, PRODUCTS, JOBS
+}
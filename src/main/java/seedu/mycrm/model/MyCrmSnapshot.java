@@ -0,0 +1,111 @@
+package seedu.mycrm.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.mycrm.model.contact.Contact;
+import seedu.mycrm.model.history.History;
+import seedu.mycrm.model.job.Job;
+import seedu.mycrm.model.mail.Mail;
+import seedu.mycrm.model.mail.Template;
+import seedu.mycrm.model.product.Product;
+
+/**
+ * An immutable copy of the data of a {@code ReadOnlyMyCrm} at the time the copy was taken.
+ * The records themselves are shared with the source, as the model replaces a record instead of modifying it.
+ * Later changes to the source are not visible through the snapshot, so it can be read from any thread.
+ * The contacts and products are also kept by id, so that the clients and products of the jobs are looked up in
+ * constant time.
+ */
+public class MyCrmSnapshot implements ReadOnlyMyCrm {
+
+    private final ObservableList<Contact> contacts;
+    private final ObservableList<Template> templates;
+    private final ObservableList<Product> products;
+    private final ObservableList<Job> jobs;
+    private final ObservableList<History> histories;
+    private final ObservableList<Mail> mails;
+    private final Map<Long, Contact> contactsById;
+    private final Map<Long, Product> productsById;
+    private final Map<MyCrmSegment, Long> segmentVersions = new EnumMap<>(MyCrmSegment.class);
+
+    /**
+     * Creates a snapshot of the current data of {@code source}.
+     */
+    public MyCrmSnapshot(ReadOnlyMyCrm source) {
+        requireNonNull(source);
+        contacts = copyOf(source.getContactList());
+        templates = copyOf(source.getTemplateList());
+        products = copyOf(source.getProductList());
+        jobs = copyOf(source.getJobList());
+        histories = copyOf(source.getHistoryList());
+        mails = copyOf(source.getMailList());
+        contactsById = contacts.stream().collect(Collectors.toMap(Contact::getId, Function.identity()));
+        productsById = products.stream().collect(Collectors.toMap(Product::getId, Function.identity()));
+        for (MyCrmSegment segment : MyCrmSegment.values()) {
+            segmentVersions.put(segment, source.getSegmentVersion(segment));
+        }
+    }
+
+    private static <T> ObservableList<T> copyOf(List<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(list));
+    }
+
+    @Override
+    public ObservableList<Contact> getContactList() {
+        return contacts;
+    }
+
+    @Override
+    public Optional<Contact> getContactById(long id) {
+        return Optional.ofNullable(contactsById.get(id));
+    }
+
+    @Override
+    public Optional<Product> getProductById(long id) {
+        return Optional.ofNullable(productsById.get(id));
+    }
+
+    @Override
+    public ObservableList<Template> getTemplateList() {
+        return templates;
+    }
+
+    @Override
+    public ObservableList<Product> getProductList() {
+        return products;
+    }
+
+    @Override
+    public ObservableList<Job> getJobList() {
+        return jobs;
+    }
+
+    @Override
+    public ObservableList<History> getHistoryList() {
+        return histories;
+    }
+
+    @Override
+    public ObservableList<Mail> getMailList() {
+        return mails;
+    }
+
+    @Override
+    public long getSegmentVersion(MyCrmSegment segment) {
+        return segmentVersions.get(segment);
+    }
+
+    @Override
+    public String toString() {
+        return contacts.size() + " contacts";
+    }
+}
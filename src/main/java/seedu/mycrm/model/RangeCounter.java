@@ -0,0 +1,16 @@
+package seedu.mycrm.model;
+
+/**
+ * Counts the elements whose value of a field lies in a range, from an index of the elements sorted by that value.
+ *
+ * @param <V> type of the values.
+ */
+@FunctionalInterface
+public interface RangeCounter<V> {
+
+    /**
+     * Returns the number of elements whose value is from {@code lower} to {@code upper}, both inclusive, either of
+     * which may be null for a range without that bound.
+     */
+    long count(V lower, V upper);
+}
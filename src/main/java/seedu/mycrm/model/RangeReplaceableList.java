@@ -0,0 +1,116 @@
+package seedu.mycrm.model;
+
+import static java.util.Objects.checkFromToIndex;
+import static java.util.Objects.checkIndex;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * An observable list that publishes every change as one change of only the range of elements it replaces.
+ * Replacing a range, including adding or removing many elements at once, is published as one change no larger than
+ * the range, so listeners process a few changed elements of a long list without processing the rest of it.
+ *
+ * @param <T> type of the elements.
+ */
+public class RangeReplaceableList<T> extends ObservableListBase<T> {
+
+    private final List<T> elements = new ArrayList<>();
+
+    public RangeReplaceableList() {}
+
+    public RangeReplaceableList(Collection<? extends T> elements) {
+        this.elements.addAll(elements);
+    }
+
+    /**
+     * Replaces the elements from {@code from}, inclusive, to {@code to}, exclusive, with {@code replacement}, and
+     * publishes the replaced range as one change.
+     */
+    public void replaceRange(int from, int to, Collection<? extends T> replacement) {
+        checkFromToIndex(from, to, elements.size());
+        requireNonNull(replacement);
+        if (from == to && replacement.isEmpty()) {
+            return;
+        }
+
+        List<T> range = elements.subList(from, to);
+        List<T> removed = new ArrayList<>(range);
+        range.clear();
+        elements.addAll(from, replacement);
+
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(from, removed);
+        }
+        if (!replacement.isEmpty()) {
+            nextAdd(from, from + replacement.size());
+        }
+        endChange();
+    }
+
+    @Override
+    public T get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public T set(int index, T element) {
+        T old = elements.set(index, element);
+        beginChange();
+        nextSet(index, old);
+        endChange();
+        return old;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        checkIndex(index, elements.size() + 1);
+        replaceRange(index, index, Collections.singletonList(element));
+    }
+
+    @Override
+    public T remove(int index) {
+        T old = elements.get(index);
+        replaceRange(index, index + 1, Collections.emptyList());
+        return old;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> toAdd) {
+        replaceRange(elements.size(), elements.size(), toAdd);
+        return !toAdd.isEmpty();
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> toAdd) {
+        replaceRange(index, index, toAdd);
+        return !toAdd.isEmpty();
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends T> replacement) {
+        replaceRange(0, elements.size(), replacement);
+        return true;
+    }
+
+    @Override
+    protected void removeRange(int from, int to) {
+        replaceRange(from, to, Collections.emptyList());
+    }
+
+    @Override
+    public void clear() {
+        replaceRange(0, elements.size(), Collections.emptyList());
+    }
+}
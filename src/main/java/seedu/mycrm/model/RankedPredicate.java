@@ -0,0 +1,18 @@
+package seedu.mycrm.model;
+
+import java.util.Comparator;
+import java.util.function.Predicate;
+
+/**
+ * A predicate whose matching elements are listed in an order of how well they match, best first.
+ *
+ * @param <T> type of the elements.
+ */
+public interface RankedPredicate<T> extends Predicate<T> {
+
+    /**
+     * Returns the order of the matching elements, best match first.
+     * Elements that match equally well keep their order in the list.
+     */
+    Comparator<T> getRanking();
+}
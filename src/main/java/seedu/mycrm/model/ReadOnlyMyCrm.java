@@ -1,5 +1,8 @@
 package seedu.mycrm.model;
 
+import java.util.Optional;
+import java.util.function.Supplier;
+
 import javafx.collections.ObservableList;
 import seedu.mycrm.model.contact.Contact;
 import seedu.mycrm.model.history.History;
@@ -10,8 +13,9 @@ import seedu.mycrm.model.product.Product;
 
 /**
  * Unmodifiable view of an myCrm
+ * The clients and products of its jobs are looked up by id in its contacts and products.
  */
-public interface ReadOnlyMyCrm {
+public interface ReadOnlyMyCrm extends EntityLookup {
 
     /**
      * Returns an unmodifiable view of the contacts list.
@@ -50,9 +54,35 @@ public interface ReadOnlyMyCrm {
     ObservableList<Mail> getMailList();
 
     /**
-     +Returns an unmodifiable view of the top three product list.
-     * This list will not contain any duplicate products.
+     * Returns a version stamp of the given segment of the data.
+     * The stamp changes whenever the segment changes, and is never shared by different contents,
+     * so storage only needs to save a segment again when its stamp differs from the one last saved.
      */
-    ObservableList<Product> getTopThreeProductList();
-}
+    long getSegmentVersion(MyCrmSegment segment);
+
+    /**
+     * Returns the contact with the given {@code id} in the contacts list, if there is one.
+     * The list is scanned, so implementations with an index of their contacts should look it up instead.
+     */
+    @Override
+    default Optional<Contact> getContactById(long id) {
+        return getContactList().stream().filter(contact -> contact.getId() == id).findFirst();
+    }
 
+    /**
+     * Returns the product with the given {@code id} in the products list, if there is one.
+     * The list is scanned, so implementations with an index of their products should look it up instead.
+     */
+    @Override
+    default Optional<Product> getProductById(long id) {
+        return getProductList().stream().filter(product -> product.getId() == id).findFirst();
+    }
+
+    /**
+     * Returns what {@code reader} reads from this data, with no changes made to it meanwhile, so that it can be
+     * read from any thread. Data that is not changed once created is simply read.
+     */
+    default <R> R read(Supplier<R> reader) {
+        return reader.get();
+    }
+}
@@ -3,6 +3,7 @@ package seedu.mycrm.model;
 import java.nio.file.Path;
 
 import seedu.mycrm.commons.core.GuiSettings;
+import seedu.mycrm.commons.core.StorageFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,12 @@ public interface ReadOnlyUserPrefs {
 
     Path getMyCrmFilePath();
 
+    StorageFormat getMyCrmStorageFormat();
+
+    int getJobArchiveAgeInMonths();
+
+    int getRevenueGraphMonths();
+
+    int getRevenueGraphYears();
+
 }
@@ -1,20 +1,30 @@
 package seedu.mycrm.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.mycrm.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.mycrm.commons.core.GuiSettings;
+import seedu.mycrm.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final String MESSAGE_INVALID_JOB_ARCHIVE_AGE = "Job archive age should not be negative";
+    public static final String MESSAGE_INVALID_REVENUE_GRAPH_SIZE =
+            "Revenue graph should show at least one month of at least one year";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path myCrmFilePath = Paths.get("data" , "myCrm.json");
+    private StorageFormat myCrmStorageFormat = StorageFormat.JOURNALED;
+    private int jobArchiveAgeInMonths = 12;
+    private int revenueGraphMonths = 4;
+    private int revenueGraphYears = 2;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +46,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setMyCrmFilePath(newUserPrefs.getMyCrmFilePath());
+        setMyCrmStorageFormat(newUserPrefs.getMyCrmStorageFormat());
+        setJobArchiveAgeInMonths(newUserPrefs.getJobArchiveAgeInMonths());
+        setRevenueGraphSize(newUserPrefs.getRevenueGraphMonths(), newUserPrefs.getRevenueGraphYears());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +69,46 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.myCrmFilePath = myCrmFilePath;
     }
 
+    public StorageFormat getMyCrmStorageFormat() {
+        return myCrmStorageFormat;
+    }
+
+    public void setMyCrmStorageFormat(StorageFormat myCrmStorageFormat) {
+        requireNonNull(myCrmStorageFormat);
+        this.myCrmStorageFormat = myCrmStorageFormat;
+    }
+
+    public int getJobArchiveAgeInMonths() {
+        return jobArchiveAgeInMonths;
+    }
+
+    /**
+     * Sets how many months after the month they were completed in jobs are archived.
+     * Jobs are not archived if {@code jobArchiveAgeInMonths} is 0.
+     */
+    public void setJobArchiveAgeInMonths(int jobArchiveAgeInMonths) {
+        checkArgument(jobArchiveAgeInMonths >= 0, MESSAGE_INVALID_JOB_ARCHIVE_AGE);
+        this.jobArchiveAgeInMonths = jobArchiveAgeInMonths;
+    }
+
+    public int getRevenueGraphMonths() {
+        return revenueGraphMonths;
+    }
+
+    public int getRevenueGraphYears() {
+        return revenueGraphYears;
+    }
+
+    /**
+     * Sets the revenue graph of the report to show the latest {@code months} months of each of the latest
+     * {@code years} years.
+     */
+    public void setRevenueGraphSize(int months, int years) {
+        checkArgument(months > 0 && years > 0, MESSAGE_INVALID_REVENUE_GRAPH_SIZE);
+        this.revenueGraphMonths = months;
+        this.revenueGraphYears = years;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +121,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && myCrmFilePath.equals(o.myCrmFilePath);
+                && myCrmFilePath.equals(o.myCrmFilePath)
+                && myCrmStorageFormat == o.myCrmStorageFormat
+                && jobArchiveAgeInMonths == o.jobArchiveAgeInMonths
+                && revenueGraphMonths == o.revenueGraphMonths
+                && revenueGraphYears == o.revenueGraphYears;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, myCrmFilePath);
+        return Objects.hash(guiSettings, myCrmFilePath, myCrmStorageFormat, jobArchiveAgeInMonths, revenueGraphMonths,
+                revenueGraphYears);
     }
 
     @Override
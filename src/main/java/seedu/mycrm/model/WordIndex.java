@@ -0,0 +1,292 @@
+package seedu.mycrm.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.mycrm.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * An inverted index from the words in the text fields of elements to the ids of the elements containing them.
+ * Words are the whitespace-separated parts of a field, compared ignoring case, as in
+ * {@link seedu.mycrm.commons.util.StringUtil#containsWordIgnoreCase(String, String)}.
+ * The fields of an element are split into words once, when it is added, so that finding the elements containing a
+ * word is a hash lookup instead of splitting the fields of every element.
+ * The words of each field are also kept sorted, so that the elements with a word starting with a prefix are found
+ * without looking at the words that do not, and in a {@code BkTree}, so that the words within an edit distance of
+ * a misspelt word are found without measuring the distance to every word.
+ * The words of each element are also kept by id, so that an element is removed by the words it was added with
+ * even if it has been changed in place since.
+ * Fields with sorted values, such as dates, can be given a {@code RangeCounter} over another index of the same
+ * elements, so that the elements in a range of them are counted without visiting the elements.
+ *
+ * @param <T> type of the elements.
+ */
+public class WordIndex<T> {
+
+    // The number of removed words a tree may hold beyond the words in it before it is rebuilt.
+    private static final int TREE_REBUILD_SLACK = 64;
+
+    private final ToLongFunction<? super T> idOf;
+    private final Map<String, Function<? super T, ?>> fields;
+    private final Map<String, Map<String, Set<Long>>> idsByFieldAndWord = new HashMap<>();
+    private final Map<String, NavigableSet<String>> sortedWordsByField = new HashMap<>();
+    private final Map<String, BkTree> treesByField = new HashMap<>();
+    private final Map<Long, Map<String, Set<String>>> wordsById = new HashMap<>();
+    private final Map<String, RangeCounter<?>> rangeCountersByField = new HashMap<>();
+
+    /**
+     * Creates an empty index of the fields given by {@code fields}, keyed by field name, of elements identified by
+     * {@code idOf}.
+     * The words of a field are those of the string form of its value, and a null value has no words.
+     */
+    public WordIndex(ToLongFunction<? super T> idOf, Map<String, Function<? super T, ?>> fields) {
+        requireAllNonNull(idOf, fields);
+        this.idOf = idOf;
+        this.fields = new LinkedHashMap<>(fields);
+        this.fields.keySet().forEach(field -> {
+            idsByFieldAndWord.put(field, new HashMap<>());
+            sortedWordsByField.put(field, new TreeSet<>());
+            treesByField.put(field, new BkTree());
+        });
+    }
+
+    /**
+     * Returns {@code word} as it is kept in the index.
+     */
+    public static String normalize(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Indexes the words of the fields of {@code element}.
+     */
+    public void add(T element) {
+        requireNonNull(element);
+        long id = idOf.applyAsLong(element);
+        Map<String, Set<String>> wordsOfElement = new HashMap<>();
+        fields.forEach((field, valueOf) -> {
+            Set<String> words = split(valueOf.apply(element));
+            wordsOfElement.put(field, words);
+            Map<String, Set<Long>> idsByWord = idsByFieldAndWord.get(field);
+            NavigableSet<String> sortedWords = sortedWordsByField.get(field);
+            BkTree tree = treesByField.get(field);
+            for (String word : words) {
+                idsByWord.computeIfAbsent(word, unused -> {
+                    sortedWords.add(word);
+                    tree.add(word);
+                    return new HashSet<>();
+                }).add(id);
+            }
+        });
+        wordsById.put(id, wordsOfElement);
+    }
+
+    /**
+     * Removes the words {@code element} was indexed with.
+     */
+    public void remove(T element) {
+        requireNonNull(element);
+        long id = idOf.applyAsLong(element);
+        Map<String, Set<String>> wordsOfElement = wordsById.remove(id);
+        if (wordsOfElement == null) {
+            return;
+        }
+
+        wordsOfElement.forEach((field, words) -> {
+            Map<String, Set<Long>> idsByWord = idsByFieldAndWord.get(field);
+            for (String word : words) {
+                Set<Long> ids = idsByWord.get(word);
+                if (ids.remove(id) && ids.isEmpty()) {
+                    idsByWord.remove(word);
+                    sortedWordsByField.get(field).remove(word);
+                }
+            }
+            rebuildTreeIfStale(field);
+        });
+    }
+
+    /**
+     * Rebuilds the tree of {@code field} from its words if it holds too many words that have been removed.
+     * A removed word is left in the tree, which skips it when searched, as words cannot be taken out of a tree.
+     */
+    private void rebuildTreeIfStale(String field) {
+        NavigableSet<String> sortedWords = sortedWordsByField.get(field);
+        if (treesByField.get(field).size() <= 2 * sortedWords.size() + TREE_REBUILD_SLACK) {
+            return;
+        }
+
+        BkTree tree = new BkTree();
+        sortedWords.forEach(tree::add);
+        treesByField.put(field, tree);
+    }
+
+    /**
+     * Returns true if {@code element} is in the index.
+     */
+    public boolean contains(T element) {
+        requireNonNull(element);
+        return wordsById.containsKey(idOf.applyAsLong(element));
+    }
+
+    /**
+     * Returns true if the words of {@code field} are indexed.
+     */
+    public boolean hasField(String field) {
+        requireNonNull(field);
+        return fields.containsKey(field);
+    }
+
+    /**
+     * Counts the elements in a range of the values of {@code field} with {@code counter}, which must count the
+     * elements of this index.
+     */
+    public WordIndex<T> withRangeField(String field, RangeCounter<?> counter) {
+        requireAllNonNull(field, counter);
+        rangeCountersByField.put(field, counter);
+        return this;
+    }
+
+    /**
+     * Returns true if the elements in a range of the values of {@code field} can be counted.
+     */
+    public boolean hasRangeField(String field) {
+        requireNonNull(field);
+        return rangeCountersByField.containsKey(field);
+    }
+
+    /**
+     * Returns the number of elements whose value of {@code field}, which must be a range field with values of the
+     * type of {@code lower} and {@code upper}, is from {@code lower} to {@code upper}, either of which may be null.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> long countInRange(String field, V lower, V upper) {
+        requireNonNull(field);
+        RangeCounter<V> counter = (RangeCounter<V>) rangeCountersByField.get(field);
+        if (counter == null) {
+            throw new IllegalArgumentException("Field \"" + field + "\" is not a range field");
+        }
+        return counter.count(lower, upper);
+    }
+
+    /**
+     * Returns the id of {@code element}, whether or not it is in the index.
+     */
+    public long getId(T element) {
+        requireNonNull(element);
+        return idOf.applyAsLong(element);
+    }
+
+    /**
+     * Returns the ids of the elements with {@code word} in {@code field}.
+     */
+    public Set<Long> getIds(String field, String word) {
+        requireAllNonNull(field, word);
+        return Collections.unmodifiableSet(idsByFieldAndWord.get(field).getOrDefault(normalize(word), Set.of()));
+    }
+
+    /**
+     * Returns true if {@code element} has any of {@code words}, which must be normalized, in any of
+     * {@code fieldsToSearch}.
+     * Each word of each field is a single hash lookup.
+     */
+    public boolean hasAnyWord(T element, Collection<String> fieldsToSearch, Collection<String> words) {
+        requireAllNonNull(element, fieldsToSearch, words);
+        long id = idOf.applyAsLong(element);
+        for (String field : fieldsToSearch) {
+            Map<String, Set<Long>> idsByWord = idsByFieldAndWord.get(field);
+            for (String word : words) {
+                Set<Long> ids = idsByWord.get(word);
+                if (ids != null && ids.contains(id)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the words of {@code element} in {@code fieldsToSearch} as it was indexed, or no words if it is not in
+     * the index.
+     */
+    public Set<String> getWords(T element, Collection<String> fieldsToSearch) {
+        requireAllNonNull(element, fieldsToSearch);
+        Map<String, Set<String>> wordsOfElement = wordsById.get(idOf.applyAsLong(element));
+        if (wordsOfElement == null) {
+            return Set.of();
+        }
+
+        Set<String> words = new HashSet<>();
+        fieldsToSearch.forEach(field -> words.addAll(wordsOfElement.get(field)));
+        return words;
+    }
+
+    /**
+     * Returns the words in any of {@code fieldsToSearch} within {@code maxDistance} edits of {@code word}, which
+     * must be normalized, with their distances from it.
+     * Only the words of the trees of the fields that the triangle inequality cannot rule out are measured.
+     */
+    public Map<String, Integer> getWordsWithin(Collection<String> fieldsToSearch, String word, int maxDistance) {
+        requireAllNonNull(fieldsToSearch, word);
+        Map<String, Integer> found = new HashMap<>();
+        for (String field : fieldsToSearch) {
+            Map<String, Set<Long>> idsByWord = idsByFieldAndWord.get(field);
+            treesByField.get(field).getWordsWithin(word, maxDistance).forEach((foundWord, distance) -> {
+                if (idsByWord.containsKey(foundWord)) {
+                    found.merge(foundWord, distance, Math::min);
+                }
+            });
+        }
+        return found;
+    }
+
+    /**
+     * Returns the ids of the elements with a word starting with any of {@code prefixes}, which must be normalized,
+     * in any of {@code fieldsToSearch}.
+     * Only the words starting with a prefix are visited, in the sorted words of each field.
+     */
+    public Set<Long> getIdsWithWordStartingWith(Collection<String> fieldsToSearch, Collection<String> prefixes) {
+        requireAllNonNull(fieldsToSearch, prefixes);
+        Set<Long> ids = new HashSet<>();
+        for (String field : fieldsToSearch) {
+            Map<String, Set<Long>> idsByWord = idsByFieldAndWord.get(field);
+            NavigableSet<String> sortedWords = sortedWordsByField.get(field);
+            for (String prefix : prefixes) {
+                for (String word : sortedWords.tailSet(prefix, true)) {
+                    if (!word.startsWith(prefix)) {
+                        break;
+                    }
+                    ids.addAll(idsByWord.get(word));
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the words of {@code value}, normalized, or no words if it is null.
+     */
+    public static Set<String> split(Object value) {
+        if (value == null) {
+            return Set.of();
+        }
+
+        Set<String> words = new HashSet<>();
+        for (String word : value.toString().split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(normalize(word));
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.mycrm.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A predicate that is true for elements having any of some keywords as a word in some fields, so that it can be
+ * answered from the {@code WordIndex} of the elements instead of splitting their fields into words.
+ *
+ * @param <T> type of the elements.
+ */
+public interface WordIndexPredicate<T> extends IndexedPredicate<T> {
+
+    /**
+     * Returns the keywords looked for.
+     */
+    List<String> getKeywords();
+
+    /**
+     * Returns the names of the indexed fields the keywords are looked for in.
+     */
+    List<String> getFields();
+
+    /**
+     * Looks the keywords up in the first of {@code indexes} containing an element.
+     */
+    @Override
+    default Predicate<T> withIndexes(List<WordIndex<T>> indexes) {
+        requireNonNull(indexes);
+        List<String> words = getKeywords().stream().map(WordIndex::normalize).collect(Collectors.toList());
+        List<String> fields = getFields();
+        return element -> {
+            for (WordIndex<T> index : indexes) {
+                if (index.contains(element)) {
+                    return index.hasAnyWord(element, fields, words);
+                }
+            }
+            return test(element);
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.mycrm.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.mycrm.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Tests that an element has a word starting with any of the prefixes given in any of some fields, ignoring case.
+ * Bound to a {@code WordIndex}, the elements matching each index are found once from its sorted words, so that
+ * each element is then tested with a single hash lookup. As the matching elements are not found again when elements
+ * change, a bound predicate is meant for short-lived previews, such as while a find command is being typed.
+ *
+ * @param <T> type of the elements.
+ */
+public class WordPrefixPredicate<T> implements WordIndexPredicate<T> {
+    private final List<String> prefixes;
+    private final Map<String, Function<? super T, ?>> fields;
+
+    /**
+     * Creates a predicate looking for {@code prefixes} in the fields named {@code fieldsToSearch}, whose values
+     * are given by {@code fields}.
+     */
+    public WordPrefixPredicate(List<String> prefixes, Map<String, Function<? super T, ?>> fields,
+            List<String> fieldsToSearch) {
+        requireAllNonNull(prefixes, fields, fieldsToSearch);
+        this.prefixes = prefixes.stream().map(WordIndex::normalize).collect(Collectors.toList());
+        this.fields = fieldsToSearch.stream().collect(Collectors.toMap(field -> field, fields::get));
+    }
+
+    @Override
+    public boolean test(T element) {
+        for (Function<? super T, ?> valueOf : fields.values()) {
+            for (String word : WordIndex.split(valueOf.apply(element))) {
+                if (prefixes.stream().anyMatch(word::startsWith)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return prefixes;
+    }
+
+    @Override
+    public List<String> getFields() {
+        return new ArrayList<>(fields.keySet());
+    }
+
+    @Override
+    public Predicate<T> withIndexes(List<WordIndex<T>> indexes) {
+        requireNonNull(indexes);
+        List<Set<Long>> idsOfIndexes = indexes.stream()
+                .map(index -> index.getIdsWithWordStartingWith(fields.keySet(), prefixes))
+                .collect(Collectors.toList());
+        return element -> {
+            for (int i = 0; i < indexes.size(); i++) {
+                if (indexes.get(i).contains(element)) {
+                    return idsOfIndexes.get(i).contains(indexes.get(i).getId(element));
+                }
+            }
+            return test(element);
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof WordPrefixPredicate // instanceof handles nulls
+                && prefixes.equals(((WordPrefixPredicate<?>) other).prefixes)
+                && fields.keySet().equals(((WordPrefixPredicate<?>) other).fields.keySet())); // state check
+    }
+}
@@ -3,6 +3,8 @@ package seedu.mycrm.model.contact;
 import static java.util.Objects.requireNonNull;
 import static seedu.mycrm.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 import seedu.mycrm.logic.parser.ParserUtil;
 import seedu.mycrm.logic.parser.exceptions.ParseException;
 /**
@@ -17,6 +19,7 @@ public class Address implements ContactComponent<Address> {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     private static final Address EMPTY_ADDRESS = new Address();
     public final String value;
 
@@ -33,11 +36,26 @@ public class Address implements ContactComponent<Address> {
      * @param address A valid address.
      */
     public Address(String address) {
+        this(address, false);
+    }
+
+    /**
+     * Constructs a {@code Address}, validating {@code address} unless it is trusted to be valid already.
+     */
+    private Address(String address, boolean isTrusted) {
         requireNonNull(address);
-        checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
+        checkArgument(isTrusted || isValidAddress(address), MESSAGE_CONSTRAINTS);
         value = address;
     }
 
+    /**
+     * Returns a {@code Address} of {@code address} without validating it again.
+     * {@code address} must be known to be a valid address, such as one that was valid when it was saved.
+     */
+    public static Address getTrustedAddress(String address) {
+        return new Address(address, true);
+    }
+
     public static Address getAddress(String address) throws ParseException {
         requireNonNull(address);
 
@@ -66,7 +84,7 @@ public class Address implements ContactComponent<Address> {
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -7,6 +7,7 @@ import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.mycrm.model.EntityId;
 import seedu.mycrm.model.contact.tag.Tag;
 
 /**
@@ -15,6 +16,8 @@ import seedu.mycrm.model.contact.tag.Tag;
  */
 public class Contact {
 
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -31,13 +34,7 @@ public class Contact {
      * Every field must be present and not null.
      */
     public Contact(Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
-        requireAllNonNull(name, phone, email, address, tags);
-        this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.address = address;
-        this.tags.addAll(tags);
-        this.isHidden = false;
+        this(name, phone, email, address, tags, false);
     }
 
     /**
@@ -45,7 +42,18 @@ public class Contact {
      * Used only when the contact is tagged as hidden.
      */
     public Contact(Name name, Phone phone, Email email, Address address, Set<Tag> tags, boolean isHidden) {
+        this(EntityId.next(), name, phone, email, address, tags, isHidden);
+    }
+
+    /**
+     * Every field must be present and not null.
+     * Used for a contact that keeps the given {@code id}, such as an edited or saved contact.
+     */
+    public Contact(long id, Name name, Phone phone, Email email, Address address, Set<Tag> tags,
+            boolean isHidden) {
         requireAllNonNull(name, phone, email, address, tags);
+        assert EntityId.isValidId(id);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -54,6 +62,10 @@ public class Contact {
         this.isHidden = isHidden;
     }
 
+    public long getId() {
+        return id;
+    }
+
     public Name getName() {
         return name;
     }
@@ -105,7 +117,7 @@ public class Contact {
 
     /**
      * Returns true if both contacts have the same identity and data fields.
-     * This defines a stronger notion of equality between two contacts.
+     * This defines a stronger notion of equality between two contacts, which does not compare their ids.
      */
     @Override
     public boolean equals(Object other) {
@@ -3,6 +3,8 @@ package seedu.mycrm.model.contact;
 import static java.util.Objects.requireNonNull;
 import static seedu.mycrm.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 import seedu.mycrm.logic.parser.ParserUtil;
 import seedu.mycrm.logic.parser.exceptions.ParseException;
 /**
@@ -33,6 +35,7 @@ public class Email implements ContactComponent<Email> {
     private static final String DOMAIN_LAST_PART_REGEX = "(" + DOMAIN_PART_REGEX + "){2,}$"; // At least two chars
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
 
     public final String value;
@@ -50,16 +53,31 @@ public class Email implements ContactComponent<Email> {
      * @param email A valid email address.
      */
     public Email(String email) {
+        this(email, false);
+    }
+
+    /**
+     * Constructs a {@code Email}, validating {@code email} unless it is trusted to be valid already.
+     */
+    private Email(String email, boolean isTrusted) {
         requireNonNull(email);
-        checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        checkArgument(isTrusted || isValidEmail(email), MESSAGE_CONSTRAINTS);
         value = email;
     }
 
+    /**
+     * Returns a {@code Email} of {@code email} without validating it again.
+     * {@code email} must be known to be a valid email, such as one that was valid when it was saved.
+     */
+    public static Email getTrustedEmail(String email) {
+        return new Email(email, true);
+    }
+
     /**
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     public static Email getEmail(String email) throws ParseException {
@@ -3,6 +3,9 @@ package seedu.mycrm.model.contact;
 import static java.util.Objects.requireNonNull;
 import static seedu.mycrm.commons.util.AppUtil.checkArgument;
 
+import java.util.Objects;
+import java.util.regex.Pattern;
+
 import seedu.mycrm.logic.parser.ParserUtil;
 import seedu.mycrm.logic.parser.exceptions.ParseException;
 /**
@@ -19,6 +22,7 @@ public class Name implements ContactComponent<Name> {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     private static final Name EMPTY_NAME = new Name();
     public final String fullName;
 
@@ -35,11 +39,26 @@ public class Name implements ContactComponent<Name> {
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, false);
+    }
+
+    /**
+     * Constructs a {@code Name}, validating {@code name} unless it is trusted to be valid already.
+     */
+    private Name(String name, boolean isTrusted) {
         requireNonNull(name);
-        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        checkArgument(isTrusted || isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
     }
 
+    /**
+     * Returns a {@code Name} of {@code name} without validating it again.
+     * {@code name} must be known to be a valid name, such as one that was valid when it was saved.
+     */
+    public static Name getTrustedName(String name) {
+        return new Name(name, true);
+    }
+
     public static Name getName(String name) throws ParseException {
         requireNonNull(name);
         assert name.length() > 0;
@@ -51,7 +70,7 @@ public class Name implements ContactComponent<Name> {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -91,7 +110,7 @@ public class Name implements ContactComponent<Name> {
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        return Objects.hashCode(fullName);
     }
 
 }
@@ -1,14 +1,14 @@
 package seedu.mycrm.model.contact;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.mycrm.commons.util.StringUtil;
+import seedu.mycrm.model.WordIndexPredicate;
 
 /**
  * Tests that a {@code Contact}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Contact> {
+public class NameContainsKeywordsPredicate implements WordIndexPredicate<Contact> {
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
@@ -21,6 +21,16 @@ public class NameContainsKeywordsPredicate implements Predicate<Contact> {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(contact.getName().fullName, keyword));
     }
 
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public List<String> getFields() {
+        return List.of(UniqueContactList.NAME_FIELD);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -3,6 +3,8 @@ package seedu.mycrm.model.contact;
 import static java.util.Objects.requireNonNull;
 import static seedu.mycrm.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 import seedu.mycrm.logic.parser.ParserUtil;
 import seedu.mycrm.logic.parser.exceptions.ParseException;
 /**
@@ -14,6 +16,7 @@ public class Phone implements ContactComponent<Phone> {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be at least 3 digits long";
     public static final String VALIDATION_REGEX = "\\d{3,}";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     private static final Phone EMPTY_PHONE = new Phone();
     public final String value;
 
@@ -30,11 +33,26 @@ public class Phone implements ContactComponent<Phone> {
      * @param phone A valid phone number.
      */
     public Phone(String phone) {
+        this(phone, false);
+    }
+
+    /**
+     * Constructs a {@code Phone}, validating {@code phone} unless it is trusted to be valid already.
+     */
+    private Phone(String phone, boolean isTrusted) {
         requireNonNull(phone);
-        checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        checkArgument(isTrusted || isValidPhone(phone), MESSAGE_CONSTRAINTS);
         value = phone;
     }
 
+    /**
+     * Returns a {@code Phone} of {@code phone} without validating it again.
+     * {@code phone} must be known to be a valid phone number, such as one that was valid when it was saved.
+     */
+    public static Phone getTrustedPhone(String phone) {
+        return new Phone(phone, true);
+    }
+
     public static Phone getPhone(String phone) throws ParseException {
         requireNonNull(phone);
 
@@ -49,7 +67,7 @@ public class Phone implements ContactComponent<Phone> {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     public static Phone getEmptyPhone() {
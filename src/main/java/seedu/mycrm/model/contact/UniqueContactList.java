@@ -1,14 +1,14 @@
 package seedu.mycrm.model.contact;
 
-import static java.util.Objects.requireNonNull;
 import static seedu.mycrm.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import seedu.mycrm.model.IndexedUniqueList;
+import seedu.mycrm.model.WordIndex;
 import seedu.mycrm.model.contact.exceptions.ContactNotFoundException;
 import seedu.mycrm.model.contact.exceptions.DuplicateContactException;
 import seedu.mycrm.model.contact.tag.Tag;
@@ -21,34 +21,29 @@ import seedu.mycrm.model.contact.tag.Tag;
  * However, the removal of a contact uses Contact#equals(Object) so
  * as to ensure that the contact with exactly the same fields will be removed.
  *
+ * Contacts are looked up by name and by id through the hash indexes of {@link IndexedUniqueList}.
+ * The words of their names, phones and emails are kept in a {@link WordIndex}, so that contacts are found by
+ * keyword without splitting the fields of every contact.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Contact#isSameContact(Contact)
  */
-public class UniqueContactList implements Iterable<Contact> {
+public class UniqueContactList extends IndexedUniqueList<Contact> {
 
-    private final ObservableList<Contact> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Contact> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    public static final String NAME_FIELD = "name";
+    public static final String PHONE_FIELD = "phone";
+    public static final String EMAIL_FIELD = "email";
+    public static final Map<String, Function<? super Contact, ?>> WORD_FIELDS =
+            Map.of(NAME_FIELD, Contact::getName, PHONE_FIELD, Contact::getPhone, EMAIL_FIELD, Contact::getEmail);
 
-    /**
-     * Returns true if the list contains an equivalent contact as the given argument.
-     */
-    public boolean contains(Contact toCheck) {
-        requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameContact);
-    }
+    private final WordIndex<Contact> words = new WordIndex<>(Contact::getId, WORD_FIELDS);
 
     /**
-     * Adds a contact to the list.
-     * The contact must not already exist in the list.
+     * Creates an empty list identifying contacts by their names.
      */
-    public void add(Contact toAdd) {
-        requireNonNull(toAdd);
-        if (contains(toAdd)) {
-            throw new DuplicateContactException();
-        }
-        internalList.add(toAdd);
+    public UniqueContactList() {
+        super(Contact::getName, Contact::getId, DuplicateContactException::new, ContactNotFoundException::new);
     }
 
     /**
@@ -57,18 +52,7 @@ public class UniqueContactList implements Iterable<Contact> {
      * The contact identity of {@code editedContact} must not be the same as another existing contact in the list.
      */
     public void setContact(Contact target, Contact editedContact) {
-        requireAllNonNull(target, editedContact);
-
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new ContactNotFoundException();
-        }
-
-        if (!target.isSameContact(editedContact) && contains(editedContact)) {
-            throw new DuplicateContactException();
-        }
-
-        internalList.set(index, editedContact);
+        setElement(target, editedContact);
     }
 
 
@@ -82,12 +66,7 @@ public class UniqueContactList implements Iterable<Contact> {
         Contact hiddenContact = copyContact(target);
         hiddenContact.setHidden();
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new ContactNotFoundException();
-        }
-
-        internalList.set(index, hiddenContact);
+        setElement(target, hiddenContact);
     }
 
     /**
@@ -100,28 +79,11 @@ public class UniqueContactList implements Iterable<Contact> {
         Contact hiddenContact = copyContact(target);
         hiddenContact.setNotHidden();
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new ContactNotFoundException();
-        }
-
-        internalList.set(index, hiddenContact);
-    }
-
-    /**
-     * Removes the equivalent contact from the list.
-     * The contact must exist in the list.
-     */
-    public void remove(Contact toRemove) {
-        requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new ContactNotFoundException();
-        }
+        setElement(target, hiddenContact);
     }
 
     public void setContacts(UniqueContactList replacement) {
-        requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setElements(replacement);
     }
 
     /**
@@ -129,12 +91,7 @@ public class UniqueContactList implements Iterable<Contact> {
      * {@code contacts} must not contain duplicate contacts.
      */
     public void setContacts(List<Contact> contacts) {
-        requireAllNonNull(contacts);
-        if (!contactsAreUnique(contacts)) {
-            throw new DuplicateContactException();
-        }
-
-        internalList.setAll(contacts);
+        setElements(contacts);
     }
 
     private Contact copyContact(Contact target) {
@@ -145,44 +102,23 @@ public class UniqueContactList implements Iterable<Contact> {
         boolean isHidden = target.checkIsHidden();
         Set<Tag> tagsCopy = target.getTags();
 
-        return new Contact(nameCopy, phoneCopy, mailCopy, addressCopy, tagsCopy, isHidden);
-    }
-
-    /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
-     */
-    public ObservableList<Contact> asUnmodifiableObservableList() {
-        return internalUnmodifiableList;
-    }
-
-    @Override
-    public Iterator<Contact> iterator() {
-        return internalList.iterator();
+        return new Contact(target.getId(), nameCopy, phoneCopy, mailCopy, addressCopy, tagsCopy, isHidden);
     }
 
     @Override
-    public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof UniqueContactList // instanceof handles nulls
-                        && internalList.equals(((UniqueContactList) other).internalList));
+    protected void onAdd(Contact added) {
+        words.add(added);
     }
 
     @Override
-    public int hashCode() {
-        return internalList.hashCode();
+    protected void onRemove(Contact removed) {
+        words.remove(removed);
     }
 
     /**
-     * Returns true if {@code contacts} contains only unique contacts.
+     * Returns the index of the words in the names, phones and emails of the contacts in the list.
      */
-    private boolean contactsAreUnique(List<Contact> contacts) {
-        for (int i = 0; i < contacts.size() - 1; i++) {
-            for (int j = i + 1; j < contacts.size(); j++) {
-                if (contacts.get(i).isSameContact(contacts.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    public WordIndex<Contact> getWordIndex() {
+        return words;
     }
 }
@@ -7,19 +7,51 @@ import java.util.Iterator;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
+/**
+ * A list of the most recently entered commands, oldest first.
+ * Only the latest {@code capacity} commands are kept, and a command entered again right after itself is
+ * only kept once.
+ */
 public class HistoryList implements Iterable<History> {
 
-    private final ObservableList<History> internalList = FXCollections.observableArrayList();
-    private final ObservableList<History> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    public static final int DEFAULT_CAPACITY = 500;
+
+    private final HistoryRingBuffer internalList;
+    private final ObservableList<History> internalUnmodifiableList;
+
+    /**
+     * Creates an empty list keeping the latest {@code DEFAULT_CAPACITY} commands.
+     */
+    public HistoryList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty list keeping the latest {@code capacity} commands.
+     */
+    public HistoryList(int capacity) {
+        internalList = new HistoryRingBuffer(capacity);
+        internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+    }
+
+    public int getCapacity() {
+        return internalList.getCapacity();
+    }
 
     /**
-     * Adds a entered command to the list.
-     * The command must not already exist in the list.
+     * Adds an entered command to the list, dropping the oldest command if the list is full.
+     * The command is not added if it is the same as the last entered command.
+     *
+     * @return true if the command was added.
      */
-    public void add(History toAdd) {
+    public boolean add(History toAdd) {
         requireNonNull(toAdd);
-        internalList.add(toAdd);
+        if (toAdd.equals(internalList.getNewest())) {
+            return false;
+        }
+
+        internalList.append(toAdd);
+        return true;
     }
 
     /**
@@ -0,0 +1,87 @@
+package seedu.mycrm.model.history;
+
+import static java.util.Objects.checkIndex;
+import static java.util.Objects.requireNonNull;
+import static seedu.mycrm.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * An observable list of at most {@code capacity} histories, oldest first.
+ * Adding a history to a full buffer overwrites the oldest history in place, so adding never shifts or copies
+ * the other histories.
+ */
+class HistoryRingBuffer extends ObservableListBase<History> {
+
+    static final String MESSAGE_INVALID_CAPACITY = "History capacity should be positive";
+
+    private final History[] buffer;
+    private int head;
+    private int size;
+
+    /**
+     * Creates an empty buffer holding at most {@code capacity} histories.
+     */
+    HistoryRingBuffer(int capacity) {
+        checkArgument(capacity > 0, MESSAGE_INVALID_CAPACITY);
+        buffer = new History[capacity];
+    }
+
+    int getCapacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Appends {@code toAdd} as the newest history, dropping the oldest history if the buffer is full.
+     */
+    void append(History toAdd) {
+        requireNonNull(toAdd);
+        beginChange();
+        if (size == buffer.length) {
+            History oldest = buffer[head];
+            buffer[head] = toAdd;
+            head = (head + 1) % buffer.length;
+            nextRemove(0, oldest);
+        } else {
+            buffer[(head + size) % buffer.length] = toAdd;
+            size++;
+        }
+        nextAdd(size - 1, size);
+        endChange();
+    }
+
+    /**
+     * Returns the newest history, or null if the buffer is empty.
+     */
+    History getNewest() {
+        return size == 0 ? null : get(size - 1);
+    }
+
+    @Override
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+
+        beginChange();
+        nextRemove(0, new ArrayList<>(this));
+        Arrays.fill(buffer, null);
+        head = 0;
+        size = 0;
+        endChange();
+    }
+
+    @Override
+    public History get(int index) {
+        checkIndex(index, size);
+        return buffer[(head + index) % buffer.length];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
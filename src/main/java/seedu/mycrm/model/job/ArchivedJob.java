@@ -0,0 +1,40 @@
+package seedu.mycrm.model.job;
+
+import static seedu.mycrm.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.mycrm.model.contact.Contact;
+import seedu.mycrm.model.product.Product;
+
+/**
+ * A job read from a {@code JobArchive}, with the client and product it is linked to.
+ * These are the contact and product of the myCrm the job was read for, or the client and product as they were
+ * archived if the myCrm no longer has them, so that the job can still be shown.
+ */
+public class ArchivedJob {
+
+    private final Job job;
+    private final Contact client;
+    private final Product product;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public ArchivedJob(Job job, Contact client, Product product) {
+        requireAllNonNull(job, client, product);
+        this.job = job;
+        this.client = client;
+        this.product = product;
+    }
+
+    public Job getJob() {
+        return job;
+    }
+
+    public Contact getClient() {
+        return client;
+    }
+
+    public Product getProduct() {
+        return product;
+    }
+}
@@ -4,18 +4,24 @@ import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
 import java.util.Objects;
+import java.util.Optional;
 
+import seedu.mycrm.model.EntityId;
+import seedu.mycrm.model.EntityLookup;
 import seedu.mycrm.model.contact.Contact;
 import seedu.mycrm.model.product.Product;
 
 /**
  * Represents a repair job in MyCRM.
+ * A job refers to its client and product by their ids, which are looked up through an {@code EntityLookup} when
+ * they are needed, so that renaming a contact or product does not change its jobs.
  */
 public class Job {
 
+    private final long id;
     private JobDescription jobDescription;
-    private Contact client;
-    private Product product;
+    private long clientId;
+    private long productId;
     private JobDate receivedDate;
     private JobDate completionDate;
     private JobDate expectedCompletionDate;
@@ -26,20 +32,42 @@ public class Job {
      * Creates a new repair job.
      *
      * @param jobDescription Description of the repair job.
-     * @param client The contact object that corresponds to the client making the job request.
-     * @param product The product object that is to be repaired.
+     * @param clientId Id of the contact making the job request, or {@code EntityId.NONE} if there is none yet.
+     * @param productId Id of the product that is to be repaired, or {@code EntityId.NONE} if there is none yet.
      * @param expectedCompletionDate Expected date of completion of repaired product.
      * @param jobStatus Repair job's completion status.
      * @param receivedDate Date repair job request was received from client.
      * @param completionDate Actual Date repair job was completed.
      * @param fee Fee charged to client for completion of repair.
      */
-    public Job(JobDescription jobDescription, Contact client, Product product, JobDate expectedCompletionDate,
+    public Job(JobDescription jobDescription, long clientId, long productId, JobDate expectedCompletionDate,
             JobStatus jobStatus, JobDate receivedDate, JobDate completionDate, JobFee fee) {
+        this(EntityId.next(), jobDescription, clientId, productId, expectedCompletionDate, jobStatus, receivedDate,
+                completionDate, fee);
+    }
+
+    /**
+     * Creates a repair job that keeps the given {@code id}, such as an edited or saved job.
+     *
+     * @param id Id of the repair job.
+     * @param jobDescription Description of the repair job.
+     * @param clientId Id of the contact making the job request, or {@code EntityId.NONE} if there is none yet.
+     * @param productId Id of the product that is to be repaired, or {@code EntityId.NONE} if there is none yet.
+     * @param expectedCompletionDate Expected date of completion of repaired product.
+     * @param jobStatus Repair job's completion status.
+     * @param receivedDate Date repair job request was received from client.
+     * @param completionDate Actual Date repair job was completed.
+     * @param fee Fee charged to client for completion of repair.
+     */
+    public Job(long id, JobDescription jobDescription, long clientId, long productId,
+            JobDate expectedCompletionDate, JobStatus jobStatus, JobDate receivedDate, JobDate completionDate,
+            JobFee fee) {
+        assert EntityId.isValidId(id);
 
+        this.id = id;
         this.jobDescription = jobDescription;
-        this.client = client;
-        this.product = product;
+        this.clientId = clientId;
+        this.productId = productId;
         this.expectedCompletionDate = expectedCompletionDate;
         this.jobStatus = jobStatus;
         this.receivedDate = receivedDate;
@@ -57,58 +85,79 @@ public class Job {
      */
     public Job(JobDescription jobDescription, JobDate expectedCompletionDate,
             JobDate receivedDate, JobFee fee) {
-
-        this.jobDescription = jobDescription;
-        this.client = null;
-        this.product = null;
-        this.expectedCompletionDate = expectedCompletionDate;
-        this.jobStatus = new JobStatus(false);
-        this.receivedDate = receivedDate;
-        this.fee = fee;
+        this(jobDescription, EntityId.NONE, EntityId.NONE, expectedCompletionDate, new JobStatus(false), receivedDate,
+                null, fee);
     }
 
     /**
-     * Creates a new repair job by copying the attributes of the given {@code toCopyJob}.
+     * Creates a new repair job by copying the attributes of the given {@code toCopyJob}, including its id.
      */
     public Job(Job toCopyJob) {
-        this.jobDescription = new JobDescription(toCopyJob.getJobDescription().toString());
-        this.client = toCopyJob.getClient();
-        this.product = toCopyJob.getProduct();
-        this.expectedCompletionDate = new JobDate(toCopyJob.getExpectedCompletionDate().raw());
+        this.id = toCopyJob.getId();
+        this.jobDescription = JobDescription.getTrustedJobDescription(toCopyJob.getJobDescription().toString());
+        this.clientId = toCopyJob.getClientId();
+        this.productId = toCopyJob.getProductId();
+        this.expectedCompletionDate = new JobDate(toCopyJob.getExpectedCompletionDate().value);
         this.jobStatus = new JobStatus(toCopyJob.isCompleted());
-        this.receivedDate = new JobDate(toCopyJob.getReceivedDate().raw());
-        this.fee = new JobFee(toCopyJob.getFee().toString());
+        this.receivedDate = new JobDate(toCopyJob.getReceivedDate().value);
+        this.fee = new JobFee(toCopyJob.getFee().getCents());
         this.completionDate = (toCopyJob.isCompleted())
-                              ? new JobDate(toCopyJob.getCompletionDate().raw())
+                              ? new JobDate(toCopyJob.getCompletionDate().value)
                               : null;
     }
 
+    public long getId() {
+        return id;
+    }
+
     public JobDescription getJobDescription() {
         return jobDescription;
     }
 
-    public Contact getClient() {
-        return client;
+    public long getClientId() {
+        return clientId;
     }
 
+    /**
+     * Links the job to {@code client}, by its id.
+     */
     public void setClient(Contact client) {
-        this.client = client;
+        requireNonNull(client);
+        this.clientId = client.getId();
     }
 
     public boolean hasClient() {
-        return client != null;
+        return clientId != EntityId.NONE;
     }
 
-    public Product getProduct() {
-        return product;
+    /**
+     * Returns the client of the job as looked up in {@code lookup}, if it has one.
+     */
+    public Optional<Contact> getClient(EntityLookup lookup) {
+        return hasClient() ? lookup.getContactById(clientId) : Optional.empty();
     }
 
+    public long getProductId() {
+        return productId;
+    }
+
+    /**
+     * Links the job to {@code product}, by its id.
+     */
     public void setProduct(Product product) {
-        this.product = product;
+        requireNonNull(product);
+        this.productId = product.getId();
     }
 
     public boolean hasProduct() {
-        return product != null;
+        return productId != EntityId.NONE;
+    }
+
+    /**
+     * Returns the product of the job as looked up in {@code lookup}, if it has one.
+     */
+    public Optional<Product> getProduct(EntityLookup lookup) {
+        return hasProduct() ? lookup.getProductById(productId) : Optional.empty();
     }
 
     public JobDate getExpectedCompletionDate() {
@@ -175,10 +224,6 @@ public class Job {
         this.fee = fee;
     }
 
-    public String getClientEmail() {
-        return client.getEmail().toString();
-    }
-
     public boolean isReceivedThisMonth(LocalDate date) {
         return this.getReceivedDate().isThisMonth(date);
     }
@@ -207,13 +252,13 @@ public class Job {
 
         return otherJob != null
                 && Objects.equals(getJobDescription(), otherJob.getJobDescription())
-                && Objects.equals(getClient(), otherJob.getClient())
-                && Objects.equals(getProduct(), otherJob.getProduct());
+                && clientId == otherJob.clientId
+                && productId == otherJob.productId;
     }
 
     /**
      * Returns true if both jobs have the same fields.
-     * This defines a stronger notion of equality between two jobs.
+     * This defines a stronger notion of equality between two jobs, which does not compare their ids.
      */
     @Override
     public boolean equals(Object o) {
@@ -228,8 +273,8 @@ public class Job {
         Job job = (Job) o;
         return Objects.equals(getJobStatus(), job.getJobStatus())
                 && Objects.equals(getJobDescription(), job.getJobDescription())
-                && Objects.equals(getClient(), job.getClient())
-                && Objects.equals(getProduct(), job.getProduct())
+                && clientId == job.clientId
+                && productId == job.productId
                 && Objects.equals(getExpectedCompletionDate(), job.getExpectedCompletionDate())
                 && Objects.equals(getReceivedDate(), job.getReceivedDate())
                 && Objects.equals(getCompletionDate(), job.getCompletionDate())
@@ -238,16 +283,31 @@ public class Job {
 
     @Override
     public int hashCode() {
-        return Objects.hash(getJobDescription(), getClient(), getProduct(), getExpectedCompletionDate(),
+        return Objects.hash(getJobDescription(), clientId, productId, getExpectedCompletionDate(),
                 getJobStatus(), getReceivedDate(), getCompletionDate(), getFee());
     }
 
+    /**
+     * Returns the description of the job and the name of its client as looked up in {@code lookup}, to be shown to
+     * the user. {@link #toString()} shows the id of the client instead, and is meant for debugging only.
+     */
+    public String toDisplayString(EntityLookup lookup) {
+        requireNonNull(lookup);
+        String jobString = jobDescription.toString();
+
+        Optional<Contact> client = getClient(lookup);
+        if (client.isPresent()) {
+            jobString += String.format(" for %s", client.get().getName().fullName);
+        }
+        return jobString;
+    }
+
     @Override
     public String toString() {
         String jobString = jobDescription.toString();
 
-        if (client != null) {
-            jobString += String.format(" for %s", client.getName().fullName);
+        if (hasClient()) {
+            jobString += String.format(" for client #%d", clientId);
         }
         return jobString;
     }
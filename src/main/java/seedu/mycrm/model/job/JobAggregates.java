@@ -0,0 +1,119 @@
+package seedu.mycrm.model.job;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts and totals of a collection of jobs, kept up to date as jobs are added and removed, so that they are read
+ * in constant time however many jobs there are.
+ * Jobs are counted by completion status, and completed jobs and their fees are also totalled by the month they were
+ * completed in. The products of jobs are counted by id by the month the jobs were received in.
+ * Jobs are not copied, so a job must be removed before it is changed.
+ */
+public class JobAggregates {
+
+    private int incompleteJobCount;
+    private int completedJobCount;
+    private final Map<YearMonth, Integer> completedJobCountByMonth = new HashMap<>();
+    private final Map<YearMonth, Long> revenueCentsByMonth = new HashMap<>();
+    private final Map<YearMonth, Map<Long, Integer>> productCountsByMonth = new HashMap<>();
+
+    /**
+     * Creates aggregates that count no job.
+     */
+    public JobAggregates() {}
+
+    /**
+     * Creates a copy of {@code toCopy}, which does not change as {@code toCopy} does.
+     */
+    public JobAggregates(JobAggregates toCopy) {
+        requireNonNull(toCopy);
+        incompleteJobCount = toCopy.incompleteJobCount;
+        completedJobCount = toCopy.completedJobCount;
+        completedJobCountByMonth.putAll(toCopy.completedJobCountByMonth);
+        revenueCentsByMonth.putAll(toCopy.revenueCentsByMonth);
+        toCopy.productCountsByMonth.forEach((month, productCounts) ->
+                productCountsByMonth.put(month, new HashMap<>(productCounts)));
+    }
+
+    /**
+     * Counts {@code job} in the aggregates.
+     */
+    void add(Job job) {
+        update(job, 1);
+    }
+
+    /**
+     * Stops counting {@code job} in the aggregates.
+     */
+    void remove(Job job) {
+        update(job, -1);
+    }
+
+    private void update(Job job, int sign) {
+        requireNonNull(job);
+        if (job.isCompleted()) {
+            completedJobCount += sign;
+        } else {
+            incompleteJobCount += sign;
+        }
+
+        if (job.hasProduct() && job.getReceivedDate() != null) {
+            YearMonth month = YearMonth.from(job.getReceivedDate().value);
+            Map<Long, Integer> productCounts =
+                    productCountsByMonth.computeIfAbsent(month, unused -> new HashMap<>());
+            productCounts.merge(job.getProductId(), sign, (total, change) ->
+                    total + change == 0 ? null : total + change);
+            if (productCounts.isEmpty()) {
+                productCountsByMonth.remove(month);
+            }
+        }
+
+        if (job.getCompletionDate() == null) {
+            return;
+        }
+        YearMonth month = YearMonth.from(job.getCompletionDate().value);
+        // A total that drops to zero is removed, so that months without jobs are not kept.
+        completedJobCountByMonth.merge(month, sign, (total, change) -> total + change == 0 ? null : total + change);
+        if (job.getFee() != null) {
+            revenueCentsByMonth.merge(month, sign * (long) job.getFee().getCents(),
+                    (total, change) -> total + change == 0 ? null : total + change);
+        }
+    }
+
+    public int getIncompleteJobCount() {
+        return incompleteJobCount;
+    }
+
+    public int getCompletedJobCount() {
+        return completedJobCount;
+    }
+
+    /**
+     * Returns the number of jobs completed in {@code month}.
+     */
+    public int getCompletedJobCount(YearMonth month) {
+        requireNonNull(month);
+        return completedJobCountByMonth.getOrDefault(month, 0);
+    }
+
+    /**
+     * Returns the total fee in cents of the jobs completed in {@code month}.
+     */
+    public long getRevenueCents(YearMonth month) {
+        requireNonNull(month);
+        return revenueCentsByMonth.getOrDefault(month, 0L);
+    }
+
+    /**
+     * Returns the number of jobs of each product received in {@code month}, keyed by the id of the product.
+     */
+    public Map<Long, Integer> getProductCounts(YearMonth month) {
+        requireNonNull(month);
+        return Collections.unmodifiableMap(productCountsByMonth.getOrDefault(month, Map.of()));
+    }
+}
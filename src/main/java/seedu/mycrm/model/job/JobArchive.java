@@ -0,0 +1,59 @@
+package seedu.mycrm.model.job;
+
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import seedu.mycrm.commons.exceptions.DataConversionException;
+import seedu.mycrm.model.EntityLookup;
+import seedu.mycrm.model.ReadOnlyMyCrm;
+
+/**
+ * Cold storage for completed jobs that are old enough to be kept out of the in-memory {@code MyCrm}.
+ * Archived jobs are grouped by the month they were completed in, and a month is only read when it is needed.
+ */
+public interface JobArchive {
+
+    /**
+     * Returns the months that have archived jobs, earliest first.
+     */
+    List<YearMonth> getArchivedMonths();
+
+    /**
+     * Returns the total fee in cents of the jobs archived for {@code month}, without reading the jobs.
+     */
+    long getRevenueCents(YearMonth month);
+
+    /**
+     * Returns the number of archived jobs of each product received in {@code receivedIn}, keyed by the id of the
+     * product the jobs were archived with, without reading the jobs.
+     *
+     * @throws IllegalArgumentException if {@code receivedIn} is not made up of whole months.
+     */
+    Map<Long, Integer> getProductCounts(JobDateRange receivedIn);
+
+    /**
+     * Returns the largest id of the archived jobs and their clients and products, without reading the jobs,
+     * or {@code EntityId.NONE} if there are none.
+     */
+    long getLargestId();
+
+    /**
+     * Returns the jobs archived for {@code month}, with the clients and products they are linked to.
+     * Each job is linked to the contact and product of {@code myCrm} with the name it was archived with,
+     * or to the contact and product as they were archived if {@code myCrm} no longer has them.
+     *
+     * @throws DataConversionException if the archived jobs cannot be read.
+     */
+    List<ArchivedJob> readJobs(YearMonth month, ReadOnlyMyCrm myCrm) throws DataConversionException;
+
+    /**
+     * Adds {@code jobs}, which were all completed in {@code month}, to the jobs archived for that month, along
+     * with their clients and products as looked up in {@code lookup}.
+     * An archived job that is the same job as one of {@code jobs} is replaced by it.
+     *
+     * @throws IOException if the archive cannot be written.
+     */
+    void addJobs(YearMonth month, List<Job> jobs, EntityLookup lookup) throws IOException;
+}
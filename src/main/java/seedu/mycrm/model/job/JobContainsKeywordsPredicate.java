@@ -1,17 +1,22 @@
 package seedu.mycrm.model.job;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.mycrm.commons.util.StringUtil;
+import seedu.mycrm.model.WordIndexPredicate;
 
-public class JobContainsKeywordsPredicate implements Predicate<Job> {
+public class JobContainsKeywordsPredicate implements WordIndexPredicate<Job> {
     private final List<String> keywords;
 
     public JobContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    /**
+     * Returns true if the description or status of {@code job} has any of the keywords.
+     * A job refers to its client and product by id, so their names are only matched through the word index of the
+     * jobs, which looks them up.
+     */
     @Override
     public boolean test(Job job) {
         if (keywords.stream().anyMatch(keyword -> StringUtil
@@ -19,16 +24,6 @@ public class JobContainsKeywordsPredicate implements Predicate<Job> {
             return true;
         }
 
-        if (job.getClient() != null && keywords.stream().anyMatch(keyword -> StringUtil
-                .containsWordIgnoreCase(job.getClient().getName().fullName, keyword))) {
-            return true;
-        }
-
-        if (job.getProduct() != null && keywords.stream().anyMatch(keywords -> StringUtil
-                .containsWordIgnoreCase(job.getProduct().getName().toString(), keywords))) {
-            return true;
-        }
-
         if (job.getJobStatus() != null && keywords.stream().anyMatch(keywords -> StringUtil
                 .containsWordIgnoreCase(job.getJobStatus().toString(), keywords))) {
             return true;
@@ -37,6 +32,17 @@ public class JobContainsKeywordsPredicate implements Predicate<Job> {
         return false;
     }
 
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public List<String> getFields() {
+        return List.of(UniqueJobList.DESCRIPTION_FIELD, UniqueJobList.CLIENT_FIELD, UniqueJobList.PRODUCT_FIELD,
+                UniqueJobList.STATUS_FIELD);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -6,6 +6,7 @@ import static seedu.mycrm.commons.util.AppUtil.checkArgument;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.Optional;
 
 public class JobDate {
     public static final String MESSAGE_CONSTRAINTS = "Date should follow the format dd/MM/YYYY";
@@ -22,27 +23,66 @@ public class JobDate {
      */
     public JobDate(String date) {
         requireNonNull(date);
-        checkArgument(isValidJobDate(date), MESSAGE_CONSTRAINTS);
-        this.value = LocalDate.parse(date, VALID_INPUT_FORMAT);;
+        LocalDate parsedDate = parseDate(date);
+        checkArgument(parsedDate != null, MESSAGE_CONSTRAINTS);
+        this.value = parsedDate;
+    }
+
+    /**
+     * Constructs a {@code JobDate} of the given {@code date}.
+     */
+    public JobDate(LocalDate date) {
+        requireNonNull(date);
+        this.value = date;
     }
 
     /**
      * Returns current date as a JobDate object.
      */
     public static JobDate getCurrentDate() {
-        LocalDate currentDate = LocalDate.now();
-        return new JobDate(currentDate.format(VALID_INPUT_FORMAT));
+        return new JobDate(LocalDate.now());
+    }
+
+    /**
+     * Returns the {@code JobDate} of {@code date}, or an empty {@code Optional} if it does not conform
+     * to the correct format. Unlike checking {@link #isValidJobDate(String)} before constructing the
+     * {@code JobDate}, the date is only parsed once.
+     */
+    public static Optional<JobDate> tryParse(String date) {
+        requireNonNull(date);
+        LocalDate parsedDate = parseDate(date);
+        return parsedDate == null ? Optional.empty() : Optional.of(new JobDate(parsedDate));
+    }
+
+    /**
+     * Returns the {@code JobDate} of {@code date} without validating it.
+     * {@code date} must be in the format returned by {@link #raw()}, such as a date that was valid when it was
+     * saved, which is parsed much faster than a date that has to be validated.
+     */
+    public static JobDate getTrustedJobDate(String date) {
+        int firstSlash = date.indexOf('/');
+        int secondSlash = date.indexOf('/', firstSlash + 1);
+        int day = Integer.parseInt(date, 0, firstSlash, 10);
+        int month = Integer.parseInt(date, firstSlash + 1, secondSlash, 10);
+        int year = Integer.parseInt(date, secondSlash + 1, date.length(), 10);
+        return new JobDate(LocalDate.of(year, month, day));
     }
 
     /**
      * Returns true if the given string for the date conforms to the correct format.
      */
     public static boolean isValidJobDate(String test) {
+        return parseDate(test) != null;
+    }
+
+    /**
+     * Returns the date in {@code date}, or null if it does not conform to the correct format.
+     */
+    private static LocalDate parseDate(String date) {
         try {
-            LocalDate.parse(test, VALID_INPUT_FORMAT);
-            return true;
+            return LocalDate.parse(date, VALID_INPUT_FORMAT);
         } catch (DateTimeParseException e) {
-            return false;
+            return null;
         }
     }
 
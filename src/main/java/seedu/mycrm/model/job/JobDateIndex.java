@@ -0,0 +1,137 @@
+package seedu.mycrm.model.job;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Indexes jobs by their received, expected completion and completion dates.
+ * The jobs of each date are kept in a sorted map, so that the jobs with a date in a {@code JobDateRange} are found
+ * in time logarithmic in the number of dates plus the number of jobs found, without looking at the other jobs.
+ * Jobs are not copied, so a job must be removed from the index before it is changed.
+ */
+public class JobDateIndex {
+
+    private final NavigableMap<LocalDate, Set<Job>> jobsByReceivedDate = new TreeMap<>();
+    private final NavigableMap<LocalDate, Set<Job>> jobsByExpectedCompletionDate = new TreeMap<>();
+    private final NavigableMap<LocalDate, Set<Job>> jobsByCompletionDate = new TreeMap<>();
+
+    /**
+     * Adds {@code job} under each of its dates.
+     */
+    public void add(Job job) {
+        requireNonNull(job);
+        addToIndex(jobsByReceivedDate, job.getReceivedDate(), job);
+        addToIndex(jobsByExpectedCompletionDate, job.getExpectedCompletionDate(), job);
+        addToIndex(jobsByCompletionDate, job.getCompletionDate(), job);
+    }
+
+    /**
+     * Removes {@code job} from under each of its dates.
+     */
+    public void remove(Job job) {
+        requireNonNull(job);
+        removeFromIndex(jobsByReceivedDate, job.getReceivedDate(), job);
+        removeFromIndex(jobsByExpectedCompletionDate, job.getExpectedCompletionDate(), job);
+        removeFromIndex(jobsByCompletionDate, job.getCompletionDate(), job);
+    }
+
+    /**
+     * Returns the jobs received in {@code range}, ordered by their received dates.
+     */
+    public List<Job> getJobsReceivedIn(JobDateRange range) {
+        return getJobsIn(jobsByReceivedDate, range);
+    }
+
+    /**
+     * Returns the jobs expected to be completed in {@code range}, ordered by their expected completion dates.
+     */
+    public List<Job> getJobsExpectedIn(JobDateRange range) {
+        return getJobsIn(jobsByExpectedCompletionDate, range);
+    }
+
+    /**
+     * Returns the jobs completed in {@code range}, ordered by their completion dates.
+     */
+    public List<Job> getJobsCompletedIn(JobDateRange range) {
+        return getJobsIn(jobsByCompletionDate, range);
+    }
+
+    /**
+     * Returns the number of jobs received in {@code range}.
+     */
+    public long countJobsReceivedIn(JobDateRange range) {
+        return countJobsIn(jobsByReceivedDate, range);
+    }
+
+    /**
+     * Returns the number of jobs expected to be completed in {@code range}.
+     */
+    public long countJobsExpectedIn(JobDateRange range) {
+        return countJobsIn(jobsByExpectedCompletionDate, range);
+    }
+
+    /**
+     * Returns the number of jobs completed in {@code range}.
+     */
+    public long countJobsCompletedIn(JobDateRange range) {
+        return countJobsIn(jobsByCompletionDate, range);
+    }
+
+    /**
+     * Returns the revenue of the jobs completed in {@code range}, totalled over periods of {@code granularity}.
+     * The jobs completed in the range are visited once, in the order of their completion dates.
+     */
+    public RevenueSeries getRevenueSeries(JobDateRange range, RevenueGranularity granularity) {
+        RevenueSeries series = new RevenueSeries(range, granularity);
+        for (Set<Job> jobsOfDate : jobsByCompletionDate.subMap(range.getStart(), true, range.getEnd(), true).values()) {
+            jobsOfDate.forEach(series::add);
+        }
+        return series;
+    }
+
+    private static void addToIndex(NavigableMap<LocalDate, Set<Job>> index, JobDate date, Job job) {
+        if (date != null) {
+            index.computeIfAbsent(date.value, unused -> new LinkedHashSet<>()).add(job);
+        }
+    }
+
+    private static void removeFromIndex(NavigableMap<LocalDate, Set<Job>> index, JobDate date, Job job) {
+        if (date == null) {
+            return;
+        }
+
+        Set<Job> jobs = index.get(date.value);
+        if (jobs != null && jobs.remove(job) && jobs.isEmpty()) {
+            index.remove(date.value);
+        }
+    }
+
+    private static List<Job> getJobsIn(NavigableMap<LocalDate, Set<Job>> index, JobDateRange range) {
+        requireNonNull(range);
+        List<Job> jobs = new ArrayList<>();
+        for (Collection<Job> jobsOfDate : index.subMap(range.getStart(), true, range.getEnd(), true).values()) {
+            jobs.addAll(jobsOfDate);
+        }
+        return jobs;
+    }
+
+    /**
+     * Counts the jobs of the dates of {@code index} in {@code range}, visiting the dates rather than the jobs.
+     */
+    private static long countJobsIn(NavigableMap<LocalDate, Set<Job>> index, JobDateRange range) {
+        requireNonNull(range);
+        long count = 0;
+        for (Set<Job> jobsOfDate : index.subMap(range.getStart(), true, range.getEnd(), true).values()) {
+            count += jobsOfDate.size();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.mycrm.model.job;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.mycrm.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Represents the days from a start date to an end date, both inclusive, that job dates are looked up in.
+ * Guarantees: immutable; the start date is not after the end date.
+ */
+public class JobDateRange {
+    public static final String MESSAGE_CONSTRAINTS = "Start date should not be after end date";
+    /** The range of all dates. */
+    public static final JobDateRange ALL_DATES = new JobDateRange(LocalDate.MIN, LocalDate.MAX);
+
+    private final LocalDate start;
+    private final LocalDate end;
+
+    /**
+     * Constructs a {@code JobDateRange} from {@code start} to {@code end}.
+     */
+    public JobDateRange(LocalDate start, LocalDate end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        checkArgument(isValidRange(start, end), MESSAGE_CONSTRAINTS);
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Returns the range of the days in the month of {@code date}.
+     */
+    public static JobDateRange ofMonth(LocalDate date) {
+        requireNonNull(date);
+        YearMonth month = YearMonth.from(date);
+        return new JobDateRange(month.atDay(1), month.atEndOfMonth());
+    }
+
+    /**
+     * Returns the range from {@code start} to {@code end}, either of which may be null for a range without
+     * a start or an end.
+     */
+    public static JobDateRange between(JobDate start, JobDate end) {
+        return new JobDateRange(start == null ? LocalDate.MIN : start.value, end == null ? LocalDate.MAX : end.value);
+    }
+
+    /**
+     * Returns true if a range can start at {@code start} and end at {@code end}.
+     */
+    public static boolean isValidRange(LocalDate start, LocalDate end) {
+        return !start.isAfter(end);
+    }
+
+    public LocalDate getStart() {
+        return start;
+    }
+
+    public LocalDate getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns true if the range has both a start and an end.
+     */
+    public boolean isBounded() {
+        return !start.equals(LocalDate.MIN) && !end.equals(LocalDate.MAX);
+    }
+
+    /**
+     * Returns true if the range starts on the first day of a month and ends on the last day of a month.
+     */
+    public boolean hasWholeMonths() {
+        return start.getDayOfMonth() == 1 && end.getDayOfMonth() == end.lengthOfMonth();
+    }
+
+    /**
+     * Returns true if {@code date} is in this range.
+     * A missing date, such as the completion date of a job that is not completed, is in no range.
+     */
+    public boolean contains(JobDate date) {
+        return date != null && contains(date.value);
+    }
+
+    /**
+     * Returns true if {@code date} is in this range.
+     */
+    public boolean contains(LocalDate date) {
+        return !date.isBefore(start) && !date.isAfter(end);
+    }
+
+    /**
+     * Returns true if this range and {@code other} have a date in common.
+     */
+    public boolean overlaps(JobDateRange other) {
+        requireNonNull(other);
+        return !start.isAfter(other.end) && !other.start.isAfter(end);
+    }
+
+    @Override
+    public String toString() {
+        if (start.equals(LocalDate.MIN)) {
+            return "until " + new JobDate(end);
+        } else if (end.equals(LocalDate.MAX)) {
+            return "since " + new JobDate(start);
+        }
+        return "from " + new JobDate(start) + " to " + new JobDate(end);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof JobDateRange // instanceof handles nulls
+                && start.equals(((JobDateRange) other).start)
+                && end.equals(((JobDateRange) other).end)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return start.hashCode() * 31 + end.hashCode();
+    }
+}
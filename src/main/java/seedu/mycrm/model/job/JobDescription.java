@@ -3,6 +3,8 @@ package seedu.mycrm.model.job;
 import static java.util.Objects.requireNonNull;
 import static seedu.mycrm.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 public class JobDescription {
 
     public static final String MESSAGE_CONSTRAINTS = "Job Description can take any values, and it should not be blank";
@@ -12,6 +14,7 @@ public class JobDescription {
      * otherwise " " (a blank string) becomes a valid input.
      */
     private static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     private final String value;
 
@@ -21,16 +24,31 @@ public class JobDescription {
      * @param jobDescription A valid job description.
      */
     public JobDescription(String jobDescription) {
+        this(jobDescription, false);
+    }
+
+    /**
+     * Constructs a {@code JobDescription}, validating {@code jobDescription} unless it is trusted to be valid already.
+     */
+    private JobDescription(String jobDescription, boolean isTrusted) {
         requireNonNull(jobDescription);
-        checkArgument(isValidJobDescription(jobDescription), MESSAGE_CONSTRAINTS);
+        checkArgument(isTrusted || isValidJobDescription(jobDescription), MESSAGE_CONSTRAINTS);
         value = jobDescription;
     }
 
+    /**
+     * Returns a {@code JobDescription} of {@code jobDescription} without validating it again.
+     * {@code jobDescription} must be known to be a valid job description, such as one that was valid when it was saved.
+     */
+    public static JobDescription getTrustedJobDescription(String jobDescription) {
+        return new JobDescription(jobDescription, true);
+    }
+
     /**
      * Returns true if a given string is a valid job description.
      */
     public static boolean isValidJobDescription(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
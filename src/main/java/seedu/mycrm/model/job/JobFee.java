@@ -1,5 +1,7 @@
 package seedu.mycrm.model.job;
 
+import java.util.Optional;
+
 /**
  * Represents the fee that will be charged to the client for the repair.
  */
@@ -12,6 +14,7 @@ public class JobFee {
              + "E.g $5.30 ($ sign is optional).\n";
 
     private static final int MAX_VALUE = 10000000;
+    private static final int INVALID_FEE = -1;
 
     private int cents;
 
@@ -31,63 +34,77 @@ public class JobFee {
      * Returns true if the given string for the job fee conforms to the correct format.
      */
     public static boolean isValidJobFee(String test) {
-        try {
-            if (test.startsWith("$")) {
-                test = test.substring(1);
-            }
-            int value = parse(test);
-            return value >= 0;
-        } catch (NumberFormatException e) {
-            return false;
-        }
+        return parseCents(test) != INVALID_FEE;
+    }
+
+    /**
+     * Returns the {@code JobFee} of {@code fee}, or an empty {@code Optional} if it does not conform
+     * to the correct format. Unlike checking {@link #isValidJobFee(String)} before constructing the
+     * {@code JobFee}, the fee is only parsed once.
+     */
+    public static Optional<JobFee> tryParse(String fee) {
+        int cents = parseCents(fee);
+        return cents == INVALID_FEE ? Optional.empty() : Optional.of(new JobFee(cents));
     }
 
     /**
      * Parses the given string for the job fee into amount in cents.
+     *
+     * @throws NumberFormatException if {@code fee} does not conform to the correct format.
      */
     public static int parse(String fee) throws NumberFormatException {
-        if (fee.startsWith("$")) {
-            fee = fee.substring(1);
+        int cents = parseCents(fee);
+        if (cents == INVALID_FEE) {
+            throw new NumberFormatException("Invalid fee: " + fee);
         }
-        int dollars = 0;
-        int cents = 0;
+        return cents;
+    }
 
-        if (fee.contains(".")) {
-            String[] amounts = fee.split("\\.");
-            validateNumeric(amounts[0]);
-            validateNumeric(amounts[1]);
-            dollars = Integer.parseInt(amounts[0]);
-
-            if (amounts[1] != null) {
-                if (amounts[1].length() > 2) {
-                    // To do a preliminary check if string only contains numbers
-                    cents = Integer.parseInt(amounts[1]);
-
-                    // Lowest permissible denomination is 1 cent
-                    cents = Integer.parseInt(amounts[1].substring(0, 2));
-                } else {
-                    cents = Integer.parseInt(amounts[1]);
-                }
-                if (dollars >= MAX_VALUE || dollars < 0 || cents < 0) {
-                    throw new NumberFormatException();
-                }
-            }
+    /**
+     * Parses {@code fee} into an amount in cents in a single pass, or returns {@code INVALID_FEE}.
+     * A valid fee is an optional $ sign and the dollars, optionally followed by a decimal point and at least
+     * one digit of cents. Only the first two digits after the decimal point are kept.
+     */
+    private static int parseCents(String fee) {
+        int length = fee.length();
+        int i = fee.startsWith("$") ? 1 : 0;
 
-        } else {
-            dollars = Integer.parseInt(fee);
-            if (dollars >= MAX_VALUE || dollars < 0 || cents < 0) {
-                throw new NumberFormatException();
+        int dollarsStart = i;
+        int dollars = 0;
+        for (; i < length && fee.charAt(i) != '.'; i++) {
+            int digit = fee.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return INVALID_FEE;
+            }
+            dollars = dollars * 10 + digit;
+            if (dollars >= MAX_VALUE) {
+                return INVALID_FEE;
             }
         }
+        if (i == dollarsStart) {
+            return INVALID_FEE;
+        }
+        if (i == length) {
+            return dollars * 100;
+        }
 
-        int amount = dollars * 100 + cents;
-        return amount;
-    }
-
-    private static void validateNumeric(String input) throws NumberFormatException {
-        for (int i = 0; i < input.length(); i++) {
-            Integer.parseInt(input.substring(i, i + 1));
+        // The digits kept are read as a number of cents, so "1.5" is 1 dollar and 5 cents.
+        i++;
+        int centsStart = i;
+        int cents = 0;
+        for (; i < length; i++) {
+            int digit = fee.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return INVALID_FEE;
+            }
+            if (i - centsStart < 2) {
+                cents = cents * 10 + digit;
+            }
+        }
+        if (i == centsStart) {
+            return INVALID_FEE;
         }
+        return dollars * 100 + cents;
     }
 
     /**
@@ -0,0 +1,164 @@
+package seedu.mycrm.model.job;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.mycrm.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.mycrm.model.EntityLookup;
+import seedu.mycrm.model.product.Product;
+
+/**
+ * The {@code Product}s most often received in the jobs of a {@code JobDateRange}, kept up to date as jobs are
+ * added and removed.
+ * Products are kept sorted by their number of jobs, so that counting a job costs time logarithmic in the number
+ * of products, and the live list of the top products is only changed when its contents change.
+ * Products with the same number of jobs are ranked by which was counted first.
+ * Products are counted by id and looked up in an {@code EntityLookup} for the list of top products, which leaves out
+ * the products it does not find.
+ */
+public class ProductRanking {
+
+    public static final int DEFAULT_SIZE = 3;
+    public static final String MESSAGE_CONSTRAINTS = "Number of top products should be a positive integer";
+
+    private final EntityLookup lookup;
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final NavigableSet<Entry> ranking = new TreeSet<>(Comparator.<Entry>comparingInt(entry -> -entry.count)
+            .thenComparingLong(entry -> entry.order));
+    private final ObservableList<Product> topProducts = FXCollections.observableArrayList();
+    private final ObservableList<Product> unmodifiableTopProducts =
+            FXCollections.unmodifiableObservableList(topProducts);
+
+    private JobDateRange range;
+    private int size;
+    private long nextOrder;
+
+    /**
+     * Creates an empty ranking of the top {@code size} products received in {@code range}, which are looked up in
+     * {@code lookup}.
+     */
+    public ProductRanking(EntityLookup lookup, JobDateRange range, int size) {
+        requireNonNull(lookup);
+        this.lookup = lookup;
+        reset(range, size);
+    }
+
+    /**
+     * Returns true if {@code size} is a valid number of top products.
+     */
+    public static boolean isValidSize(int size) {
+        return size > 0;
+    }
+
+    /**
+     * Clears the ranking to rank the top {@code size} products received in {@code range} instead.
+     * The live list of top products is kept, so that views of it see the new ranking once it is counted.
+     */
+    public void reset(JobDateRange range, int size) {
+        requireNonNull(range);
+        checkArgument(isValidSize(size), MESSAGE_CONSTRAINTS);
+        this.range = range;
+        this.size = size;
+        entries.clear();
+        ranking.clear();
+        refresh();
+    }
+
+    public JobDateRange getRange() {
+        return range;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Counts the product of {@code job}, if it was received in the range.
+     */
+    public void add(Job job) {
+        requireNonNull(job);
+        if (isRanked(job)) {
+            addCount(job.getProductId(), 1);
+        }
+    }
+
+    /**
+     * Stops counting the product of {@code job}, if it was received in the range.
+     */
+    public void remove(Job job) {
+        requireNonNull(job);
+        if (isRanked(job)) {
+            addCount(job.getProductId(), -1);
+        }
+    }
+
+    /**
+     * Adds {@code change} to the number of jobs of the product with id {@code productId}.
+     */
+    void addCount(long productId, int change) {
+        Entry entry = entries.get(productId);
+        if (entry == null) {
+            entry = new Entry(productId, nextOrder++);
+            entries.put(productId, entry);
+        } else {
+            ranking.remove(entry);
+        }
+
+        entry.count += change;
+        if (entry.count > 0) {
+            ranking.add(entry);
+        } else {
+            entries.remove(productId);
+        }
+        refresh();
+    }
+
+    /**
+     * Returns the top products, most often received first, as a list that is updated as the ranking changes.
+     */
+    public ObservableList<Product> asUnmodifiableObservableList() {
+        return unmodifiableTopProducts;
+    }
+
+    private boolean isRanked(Job job) {
+        return job.hasProduct() && range.contains(job.getReceivedDate());
+    }
+
+    /**
+     * Looks the top products up again, so that the list of top products shows a product that has been changed.
+     */
+    void refresh() {
+        List<Product> newTopProducts = new ArrayList<>(size);
+        Iterator<Entry> iterator = ranking.iterator();
+        while (newTopProducts.size() < size && iterator.hasNext()) {
+            Optional<Product> product = lookup.getProductById(iterator.next().productId);
+            product.ifPresent(newTopProducts::add);
+        }
+
+        if (!newTopProducts.equals(topProducts)) {
+            topProducts.setAll(newTopProducts);
+        }
+    }
+
+    private static class Entry {
+        private final long productId;
+        private final long order;
+        private int count;
+
+        private Entry(long productId, long order) {
+            this.productId = productId;
+            this.order = order;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.mycrm.model.job;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * A period, relative to the current date, that a job report covers.
+ */
+public enum ReportPeriod {
+    MONTH("month"),
+    QUARTER("quarter"),
+    ROLLING_30_DAYS("30days");
+
+    public static final String MESSAGE_CONSTRAINTS = "Report period should be one of month, quarter or 30days";
+
+    private static final int ROLLING_DAYS = 30;
+
+    private final String keyword;
+
+    ReportPeriod(String keyword) {
+        this.keyword = keyword;
+    }
+
+    /**
+     * Returns the period with the given {@code keyword}, ignoring case.
+     */
+    public static Optional<ReportPeriod> fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        return Arrays.stream(values()).filter(period -> period.keyword.equalsIgnoreCase(keyword)).findFirst();
+    }
+
+    /**
+     * Returns the dates of this period on {@code today}: the month or quarter containing it, or the 30 days
+     * ending on it.
+     */
+    public JobDateRange getRange(LocalDate today) {
+        requireNonNull(today);
+        switch (this) {
+        case MONTH:
+            return JobDateRange.ofMonth(today);
+        case QUARTER:
+            LocalDate start = RevenueGranularity.QUARTER.getPeriodStart(today);
+            return new JobDateRange(start, RevenueGranularity.QUARTER.plusPeriods(start, 1).minusDays(1));
+        case ROLLING_30_DAYS:
+            return new JobDateRange(today.minusDays(ROLLING_DAYS - 1), today);
+        default:
+            throw new AssertionError(this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return keyword;
+    }
+}
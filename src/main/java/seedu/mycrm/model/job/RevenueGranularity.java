@@ -0,0 +1,68 @@
+package seedu.mycrm.model.job;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * The length of the periods that revenue is totalled over in a {@code RevenueSeries}.
+ * Weeks start on Monday, and quarters on the first day of January, April, July and October.
+ */
+public enum RevenueGranularity {
+    DAY(ChronoUnit.DAYS, 1),
+    WEEK(ChronoUnit.WEEKS, 1),
+    MONTH(ChronoUnit.MONTHS, 1),
+    QUARTER(ChronoUnit.MONTHS, 3),
+    YEAR(ChronoUnit.YEARS, 1);
+
+    private final ChronoUnit unit;
+    private final int unitsPerPeriod;
+
+    RevenueGranularity(ChronoUnit unit, int unitsPerPeriod) {
+        this.unit = unit;
+        this.unitsPerPeriod = unitsPerPeriod;
+    }
+
+    /**
+     * Returns the first day of the period that contains {@code date}.
+     */
+    public LocalDate getPeriodStart(LocalDate date) {
+        switch (this) {
+        case DAY:
+            return date;
+        case WEEK:
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        case MONTH:
+            return date.withDayOfMonth(1);
+        case QUARTER:
+            return date.withDayOfMonth(1).withMonth(date.getMonth().firstMonthOfQuarter().getValue());
+        case YEAR:
+            return date.withDayOfYear(1);
+        default:
+            throw new AssertionError(this);
+        }
+    }
+
+    /**
+     * Returns the first day of the period {@code periods} periods after the period starting on {@code periodStart}.
+     */
+    public LocalDate plusPeriods(LocalDate periodStart, long periods) {
+        return periodStart.plus(periods * unitsPerPeriod, unit);
+    }
+
+    /**
+     * Returns the number of periods from the period starting on {@code fromPeriodStart} to the period starting on
+     * {@code toPeriodStart}.
+     */
+    public long getPeriodsBetween(LocalDate fromPeriodStart, LocalDate toPeriodStart) {
+        return unit.between(fromPeriodStart, toPeriodStart) / unitsPerPeriod;
+    }
+
+    /**
+     * Returns true if every period is made up of whole months, so that a month lies in a single period.
+     */
+    public boolean hasWholeMonths() {
+        return unit != ChronoUnit.DAYS && unit != ChronoUnit.WEEKS;
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.mycrm.model.job;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.mycrm.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * The revenue of the jobs completed in a {@code JobDateRange}, totalled over consecutive periods of a
+ * {@code RevenueGranularity}.
+ * Revenue is kept in exact cents. The first and last periods may start before and end after the range, but only
+ * revenue of jobs completed in the range is added to them.
+ * A series is filled in by the component that creates it, and is only read afterwards.
+ */
+public class RevenueSeries {
+    public static final String MESSAGE_UNBOUNDED_RANGE = "Revenue can only be totalled over a range with a start "
+            + "and an end";
+
+    private final JobDateRange range;
+    private final RevenueGranularity granularity;
+    private final LocalDate firstPeriodStart;
+    private final long[] cents;
+
+    /**
+     * Creates a series of zero revenue over the periods of {@code granularity} that overlap {@code range}.
+     */
+    public RevenueSeries(JobDateRange range, RevenueGranularity granularity) {
+        requireNonNull(range);
+        requireNonNull(granularity);
+        checkArgument(range.isBounded(), MESSAGE_UNBOUNDED_RANGE);
+        this.range = range;
+        this.granularity = granularity;
+        firstPeriodStart = granularity.getPeriodStart(range.getStart());
+        long periods = granularity.getPeriodsBetween(firstPeriodStart, granularity.getPeriodStart(range.getEnd())) + 1;
+        cents = new long[Math.toIntExact(periods)];
+    }
+
+    public JobDateRange getRange() {
+        return range;
+    }
+
+    public RevenueGranularity getGranularity() {
+        return granularity;
+    }
+
+    /**
+     * Adds {@code amount} cents earned on {@code date} to the period containing it.
+     * Revenue earned outside the range is not added.
+     */
+    public void add(LocalDate date, long amount) {
+        requireNonNull(date);
+        if (range.contains(date)) {
+            cents[getPeriodIndex(date)] += amount;
+        }
+    }
+
+    /**
+     * Adds the fee of {@code job}, if it was completed in the range, to the period of its completion date.
+     */
+    public void add(Job job) {
+        requireNonNull(job);
+        if (job.getCompletionDate() != null && job.getFee() != null) {
+            add(job.getCompletionDate().value, job.getFee().getCents());
+        }
+    }
+
+    /**
+     * Adds the revenue of each period of {@code other}, which must have the same range and granularity.
+     */
+    public void addAll(RevenueSeries other) {
+        checkArgument(range.equals(other.range) && granularity == other.granularity);
+        for (int i = 0; i < cents.length; i++) {
+            cents[i] += other.cents[i];
+        }
+    }
+
+    /**
+     * Returns the number of periods in the series.
+     */
+    public int size() {
+        return cents.length;
+    }
+
+    /**
+     * Returns the first day of the {@code index}-th period.
+     */
+    public LocalDate getPeriodStart(int index) {
+        return granularity.plusPeriods(firstPeriodStart, index);
+    }
+
+    /**
+     * Returns the revenue in cents of the {@code index}-th period.
+     */
+    public long getCents(int index) {
+        return cents[index];
+    }
+
+    /**
+     * Returns the revenue in cents of the period containing {@code date}, which must be in the range.
+     */
+    public long getCents(LocalDate date) {
+        requireNonNull(date);
+        checkArgument(range.contains(date));
+        return cents[getPeriodIndex(date)];
+    }
+
+    /**
+     * Returns the revenue in cents of all the periods.
+     */
+    public long getTotalCents() {
+        return Arrays.stream(cents).sum();
+    }
+
+    private int getPeriodIndex(LocalDate date) {
+        return (int) granularity.getPeriodsBetween(firstPeriodStart, granularity.getPeriodStart(date));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RevenueSeries // instanceof handles nulls
+                && range.equals(((RevenueSeries) other).range)
+                && granularity == ((RevenueSeries) other).granularity
+                && Arrays.equals(cents, ((RevenueSeries) other).cents)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(cents);
+    }
+}
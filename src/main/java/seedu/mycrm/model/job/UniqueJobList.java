@@ -1,16 +1,24 @@
 package seedu.mycrm.model.job;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.mycrm.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.mycrm.model.EntityLookup;
+import seedu.mycrm.model.IndexedUniqueList;
+import seedu.mycrm.model.RangeCounter;
+import seedu.mycrm.model.WordIndex;
+import seedu.mycrm.model.contact.Contact;
 import seedu.mycrm.model.job.exceptions.DuplicateJobException;
 import seedu.mycrm.model.job.exceptions.JobNotFoundException;
 import seedu.mycrm.model.product.Product;
@@ -21,70 +29,115 @@ import seedu.mycrm.model.product.Product;
  * updating of jobs uses Job#isSameJob(Template) for equality to ensure that the job being added
  * or updated is unique in terms of identity in the UniqueJobList. However, the removal of a job uses
  * Job#equals (Object) to ensure that the job with exactly the same fields will be removed.
+ * Jobs are looked up by description, client and product, and by id, through the hash indexes of
+ * {@link IndexedUniqueList}, and the jobs of each client and product are indexed by the id of the client or product.
+ * The clients and products of jobs are looked up by id in an {@link EntityLookup}, such as the {@code MyCrm} holding
+ * the list, to index their names and rank the top products, which are indexed again when a client or product is
+ * changed.
+ * Jobs are also indexed by their dates, so that the jobs received, due or completed in a date range, and the revenue
+ * and top products of a range, are found without scanning the list. Counts and monthly totals of the jobs are kept
+ * in {@link JobAggregates}, the top products of the report in a live {@link ProductRanking}, and the words of their
+ * descriptions, clients, products and statuses in a {@link WordIndex}.
  * Supports a minimal set of list operations.
  *
  * @see Job#isSameJob(Job)
  */
-public class UniqueJobList implements Iterable<Job> {
+public class UniqueJobList extends IndexedUniqueList<Job> {
+
+    public static final String DESCRIPTION_FIELD = "description";
+    public static final String CLIENT_FIELD = "client";
+    public static final String PRODUCT_FIELD = "product";
+    public static final String STATUS_FIELD = "status";
+    public static final String RECEIVED_FIELD = "received";
+    public static final String EXPECTED_FIELD = "expected";
+    public static final String COMPLETED_FIELD = "completed";
+    /**
+     * The word fields of jobs, whose clients and products are not looked up, so that their names are only matched
+     * through the {@code WordIndex} of the jobs.
+     */
+    public static final Map<String, Function<? super Job, ?>> WORD_FIELDS = getWordFields(EntityLookup.NONE);
 
-    private final ObservableList<Job> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Job> internalUnmodifiableList =
-        FXCollections.unmodifiableObservableList(internalList);
+    private final EntityLookup lookup;
+    private final Map<Long, Set<Job>> jobsByClient = new HashMap<>();
+    private final Map<Long, Set<Job>> jobsByProduct = new HashMap<>();
+    private final JobDateIndex jobsByDate = new JobDateIndex();
+    private final JobAggregates aggregates = new JobAggregates();
+    private final WordIndex<Job> words;
+    private final ProductRanking productRanking;
 
     /**
-     * Returns true if the list contains an equivalent job as the given argument.
+     * Creates an empty list identifying jobs by their descriptions, clients and products, which looks up no client
+     * or product.
      */
-    public boolean contains(Job toCheck) {
-        requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameJob);
+    public UniqueJobList() {
+        this(EntityLookup.NONE);
     }
 
     /**
-     * Adds a job to the list.
-     * The job must not already exist in the list.
+     * Creates an empty list identifying jobs by their descriptions, clients and products, which looks up the
+     * clients and products of its jobs in {@code lookup}.
      */
-    public void add(Job toAdd) {
-        requireNonNull(toAdd);
-        if (contains(toAdd)) {
-            throw new DuplicateJobException();
-        }
-        internalList.add(toAdd);
+    public UniqueJobList(EntityLookup lookup) {
+        super(UniqueJobList::getIdentity, Job::getId, DuplicateJobException::new, JobNotFoundException::new);
+        requireNonNull(lookup);
+        this.lookup = lookup;
+        words = createWordIndex(lookup, jobsByDate);
+        productRanking = new ProductRanking(lookup, JobDateRange.ofMonth(LocalDate.now()), ProductRanking.DEFAULT_SIZE);
     }
 
     /**
-     * Replaces the job {@code target} in the list with {@code editedJob}.
-     * {@code target} must exist in the list.
-     * The job identity of {@code editedJob} must not be the same as another existing job in the list.
+     * Returns the word fields of jobs keyed by field name, with the names of their clients and products looked up
+     * in {@code lookup}.
      */
-    public void setJob(Job target, Job editedJob) {
-        requireAllNonNull(target, editedJob);
+    public static Map<String, Function<? super Job, ?>> getWordFields(EntityLookup lookup) {
+        requireNonNull(lookup);
+        return Map.of(DESCRIPTION_FIELD, Job::getJobDescription,
+                CLIENT_FIELD, job -> job.getClient(lookup).map(Contact::getName).orElse(null),
+                PRODUCT_FIELD, job -> job.getProduct(lookup).map(Product::getName).orElse(null),
+                STATUS_FIELD, Job::getJobStatus);
+    }
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new JobNotFoundException();
-        }
+    /**
+     * Creates an empty index of the words in the descriptions, client names, product names and statuses of jobs,
+     * with the clients and products looked up in {@code lookup}, whose received, expected completion and
+     * completion dates are counted in {@code jobsByDate}, which must hold the same jobs as the index.
+     */
+    public static WordIndex<Job> createWordIndex(EntityLookup lookup, JobDateIndex jobsByDate) {
+        requireNonNull(jobsByDate);
+        RangeCounter<LocalDate> receivedCounter = (start, end) ->
+                jobsByDate.countJobsReceivedIn(toRange(start, end));
+        RangeCounter<LocalDate> expectedCounter = (start, end) ->
+                jobsByDate.countJobsExpectedIn(toRange(start, end));
+        RangeCounter<LocalDate> completedCounter = (start, end) ->
+                jobsByDate.countJobsCompletedIn(toRange(start, end));
+        return new WordIndex<>(Job::getId, getWordFields(lookup))
+                .withRangeField(RECEIVED_FIELD, receivedCounter)
+                .withRangeField(EXPECTED_FIELD, expectedCounter)
+                .withRangeField(COMPLETED_FIELD, completedCounter);
+    }
 
-        if (!target.isSameJob(editedJob) && contains(editedJob)) {
-            throw new DuplicateJobException();
-        }
+    private static JobDateRange toRange(LocalDate start, LocalDate end) {
+        return new JobDateRange(start == null ? LocalDate.MIN : start, end == null ? LocalDate.MAX : end);
+    }
 
-        internalList.set(index, editedJob);
+    /**
+     * Returns the fields of {@code job} compared by {@link Job#isSameJob(Job)}.
+     */
+    private static List<Object> getIdentity(Job job) {
+        return Arrays.asList(job.getJobDescription(), job.getClientId(), job.getProductId());
     }
 
     /**
-     * Removes the equivalent job from the list.
-     * The job must exist in the list.
+     * Replaces the job {@code target} in the list with {@code editedJob}.
+     * {@code target} must exist in the list.
+     * The job identity of {@code editedJob} must not be the same as another existing job in the list.
      */
-    public void remove(Job toRemove) {
-        requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new JobNotFoundException();
-        }
+    public void setJob(Job target, Job editedJob) {
+        setElement(target, editedJob);
     }
 
     public void setJobs(UniqueJobList replacement) {
-        requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setElements(replacement);
     }
 
     /**
@@ -92,125 +145,208 @@ public class UniqueJobList implements Iterable<Job> {
      * {@code jobs} must not contain duplicate jobs.
      */
     public void setJobs(List<Job> jobs) {
-        requireAllNonNull(jobs);
-        if (!jobsAreUnique(jobs)) {
-            throw new DuplicateJobException();
-        }
-
-        internalList.setAll(jobs);
+        setElements(jobs);
     }
 
-    public double getMonthlyRevenue(LocalDate date) {
-        requireNonNull(date);
-        ObservableList<Job> monthlyJob = getMonthlyJob(date);
-        double revenue = 0.0;
-
-
-        if (monthlyJob.size() > 0) {
-            for (Job j : monthlyJob) {
-                if (j.getFee() != null) {
-                    revenue += j.getFee().getDollar();
-                }
-            }
-        }
-
-        return revenue;
+    /**
+     * Returns the jobs in the list whose client is the same contact as {@code contact}, in the order they were
+     * added.
+     */
+    public List<Job> getJobsForClient(Contact contact) {
+        requireNonNull(contact);
+        return List.copyOf(jobsByClient.getOrDefault(contact.getId(), Collections.emptySet()));
     }
 
+    /**
+     * Returns the jobs in the list whose product is the same product as {@code product}, in the order they were
+     * added.
+     */
+    public List<Job> getJobsForProduct(Product product) {
+        requireNonNull(product);
+        return List.copyOf(jobsByProduct.getOrDefault(product.getId(), Collections.emptySet()));
+    }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns true if the list contains a job whose client is the same contact as {@code contact}.
      */
-    public ObservableList<Job> asUnmodifiableObservableList() {
-        return internalUnmodifiableList;
+    public boolean hasJobsForClient(Contact contact) {
+        requireNonNull(contact);
+        return jobsByClient.containsKey(contact.getId());
     }
 
     /**
-     * Returns the most three common {@code Product} received this month.
+     * Returns true if the list contains a job whose product is the same product as {@code product}.
      */
-    public ObservableList<Product> getUnmodifiableTopThreeProductList() {
-        return FXCollections.unmodifiableObservableList(getTopThreeProduct());
+    public boolean hasJobsForProduct(Product product) {
+        requireNonNull(product);
+        return jobsByProduct.containsKey(product.getId());
     }
 
     @Override
-    public Iterator<Job> iterator() {
-        return internalList.iterator();
+    protected void onAdd(Job added) {
+        if (added.hasClient()) {
+            jobsByClient.computeIfAbsent(added.getClientId(), unused -> new LinkedHashSet<>()).add(added);
+        }
+        if (added.hasProduct()) {
+            jobsByProduct.computeIfAbsent(added.getProductId(), unused -> new LinkedHashSet<>()).add(added);
+        }
+        jobsByDate.add(added);
+        aggregates.add(added);
+        words.add(added);
+        productRanking.add(added);
     }
 
     @Override
-    public boolean equals(Object other) {
-        return other == this // short circuit if same object
-            || (other instanceof seedu.mycrm.model.job.UniqueJobList // instanceof handles nulls
-            && internalList.equals(((seedu.mycrm.model.job.UniqueJobList) other).internalList));
+    protected void onRemove(Job removed) {
+        if (removed.hasClient()) {
+            removeFromIndex(jobsByClient, removed.getClientId(), removed);
+        }
+        if (removed.hasProduct()) {
+            removeFromIndex(jobsByProduct, removed.getProductId(), removed);
+        }
+        jobsByDate.remove(removed);
+        aggregates.remove(removed);
+        words.remove(removed);
+        productRanking.remove(removed);
     }
 
-    @Override
-    public int hashCode() {
-        return internalList.hashCode();
+    /**
+     * Indexes the words of the jobs of the client with id {@code clientId} again, after the client is changed.
+     */
+    public void refreshClient(long clientId) {
+        jobsByClient.getOrDefault(clientId, Collections.emptySet()).forEach(this::refreshWords);
     }
 
     /**
-     * Returns true if {@code jobs} contains only unique jobs.
+     * Indexes the words of the jobs of the product with id {@code productId} again, and looks the top products up
+     * again, after the product is changed.
      */
-    private boolean jobsAreUnique(List<Job> jobs) {
-        for (int i = 0; i < jobs.size() - 1; i++) {
-            for (int j = i + 1; j < jobs.size(); j++) {
-                if (jobs.get(i).isSameJob(jobs.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    public void refreshProduct(long productId) {
+        jobsByProduct.getOrDefault(productId, Collections.emptySet()).forEach(this::refreshWords);
+        productRanking.refresh();
     }
 
-    private ObservableList<Job> getMonthlyJob(LocalDate date) {
-        ObservableList<Job> jobs = FXCollections.observableArrayList();
+    /**
+     * Indexes the words of all the jobs with clients again, after the clients are replaced.
+     */
+    public void refreshClients() {
+        jobsByClient.values().forEach(jobs -> jobs.forEach(this::refreshWords));
+    }
+
+    /**
+     * Indexes the words of all the jobs with products again, and looks the top products up again, after the
+     * products are replaced.
+     */
+    public void refreshProducts() {
+        jobsByProduct.values().forEach(jobs -> jobs.forEach(this::refreshWords));
+        productRanking.refresh();
+    }
 
-        for (Job j: internalList) {
-            if (j.isCompletedThisMonth(date)) {
-                jobs.add(j);
-            }
+    private void refreshWords(Job job) {
+        words.remove(job);
+        words.add(job);
+    }
+
+    private static <K> void removeFromIndex(Map<K, Set<Job>> index, K key, Job job) {
+        Set<Job> jobs = index.get(key);
+        if (jobs != null && jobs.remove(job) && jobs.isEmpty()) {
+            index.remove(key);
         }
-        return jobs;
     }
 
-    private Map<Product, Integer> getMonthlyProduct() {
-        Map<Product, Integer> monthlyProducts = new HashMap<>();
+    /**
+     * Returns the jobs in the list received in {@code range}, ordered by their received dates.
+     */
+    public List<Job> getJobsReceivedIn(JobDateRange range) {
+        return jobsByDate.getJobsReceivedIn(range);
+    }
 
-        for (Job j: internalList) {
+    /**
+     * Returns the jobs in the list expected to be completed in {@code range}, ordered by their expected completion
+     * dates.
+     */
+    public List<Job> getJobsExpectedIn(JobDateRange range) {
+        return jobsByDate.getJobsExpectedIn(range);
+    }
 
-            if (j.isReceivedThisMonth(LocalDate.now()) && j.getProduct() != null) {
-                Product product = j.getProduct();
-                Integer val = monthlyProducts.get(product);
+    /**
+     * Returns the jobs in the list completed in {@code range}, ordered by their completion dates.
+     */
+    public List<Job> getJobsCompletedIn(JobDateRange range) {
+        return jobsByDate.getJobsCompletedIn(range);
+    }
 
-                monthlyProducts.put(product, val == null ? 1 : val + 1);
-            }
+    /**
+     * Returns the counts and totals of the jobs in the list, which are kept up to date as the list changes.
+     */
+    public JobAggregates getAggregates() {
+        return aggregates;
+    }
+
+    /**
+     * Returns the revenue of the jobs in the list completed in {@code range}, totalled over periods of
+     * {@code granularity}.
+     * If the range and the periods are made up of whole months, the revenue is read from the monthly totals of the
+     * aggregates without visiting any job.
+     */
+    public RevenueSeries getRevenueSeries(JobDateRange range, RevenueGranularity granularity) {
+        if (!range.hasWholeMonths() || !granularity.hasWholeMonths()) {
+            return jobsByDate.getRevenueSeries(range, granularity);
         }
 
-        return monthlyProducts;
+        RevenueSeries series = new RevenueSeries(range, granularity);
+        YearMonth month = YearMonth.from(range.getStart());
+        YearMonth lastMonth = YearMonth.from(range.getEnd());
+        for (; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            series.add(month.atDay(1), aggregates.getRevenueCents(month));
+        }
+        return series;
     }
 
-    private ObservableList<Product> getTopThreeProduct() {
-        ObservableList<Product> products = FXCollections.observableArrayList();
-        Map<Product, Integer> productIntegerMap = this.getMonthlyProduct();
+    /**
+     * Returns the index of the words in the descriptions, client names, product names and statuses of the jobs in
+     * the list.
+     */
+    public WordIndex<Job> getWordIndex() {
+        return words;
+    }
 
-        for (int i = 0; i < 3; i++) {
-            Map.Entry<Product, Integer> max = null;
+    /**
+     * Ranks the top {@code size} products received in {@code range} in the list returned by
+     * {@link #getTopProductList()}, which is kept up to date as jobs change from then on.
+     * {@code otherCounts} are the numbers of jobs of each product received in {@code range} that are not in the list,
+     * such as archived jobs, keyed by the id of the product, and are counted along with the jobs of the list.
+     */
+    public void rankProducts(JobDateRange range, int size, Map<Long, Integer> otherCounts) {
+        requireNonNull(otherCounts);
+        productRanking.reset(range, size);
+        countProducts(productRanking);
+        otherCounts.forEach(productRanking::addCount);
+    }
 
-            for (Map.Entry<Product, Integer> e : productIntegerMap.entrySet()) {
-                if (max == null || e.getValue() > max.getValue()) {
-                    max = e;
-                }
-            }
+    /**
+     * Returns the top products of the range last given to {@link #rankProducts(JobDateRange, int, Map)}, or of the
+     * month the list was created in, as a live list.
+     */
+    public ObservableList<Product> getTopProductList() {
+        return productRanking.asUnmodifiableObservableList();
+    }
 
-            if (max != null && max.getKey() != null) {
-                products.add(max.getKey());
-                productIntegerMap.remove(max.getKey());
-            }
+    /**
+     * Counts the products of the jobs received in the range of {@code ranking}.
+     * A range of whole months is counted from the monthly product counts of the aggregates without visiting any job.
+     */
+    private void countProducts(ProductRanking ranking) {
+        JobDateRange range = ranking.getRange();
+        if (!range.isBounded() || !range.hasWholeMonths()) {
+            jobsByDate.getJobsReceivedIn(range).forEach(ranking::add);
+            return;
+        }
 
+        YearMonth month = YearMonth.from(range.getStart());
+        YearMonth lastMonth = YearMonth.from(range.getEnd());
+        for (; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            aggregates.getProductCounts(month).forEach(ranking::addCount);
         }
-        return products;
     }
-
-
 }
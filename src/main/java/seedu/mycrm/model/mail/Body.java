@@ -3,6 +3,8 @@ package seedu.mycrm.model.mail;
 import static java.util.Objects.requireNonNull;
 import static seedu.mycrm.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Template's body in the body book.
  * Guarantees: immutable; is valid as declared in {@link #isValidBody(String)}
@@ -17,6 +19,7 @@ public class Body {
      * This regex ensures that any character is accepted.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String body;
 
@@ -26,18 +29,33 @@ public class Body {
      * @param body valid body.
      */
     public Body(String body) {
+        this(body, false);
+    }
+
+    /**
+     * Constructs a {@code Body}, validating {@code body} unless it is trusted to be valid already.
+     */
+    private Body(String body, boolean isTrusted) {
         requireNonNull(body);
-        checkArgument(isValidBody(body), MESSAGE_CONSTRAINTS);
+        checkArgument(isTrusted || isValidBody(body), MESSAGE_CONSTRAINTS);
         this.body = body;
     }
 
+    /**
+     * Returns a {@code Body} of {@code body} without validating it again.
+     * {@code body} must be known to be a valid body, such as one that was valid when it was saved.
+     */
+    public static Body getTrustedBody(String body) {
+        return new Body(body, true);
+    }
+
     /**
      * Returns true if a given string is a valid body.
      *
      * @param test target body to test
      */
     public static boolean isValidBody(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -6,24 +6,29 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
+import seedu.mycrm.model.contact.Email;
 import seedu.mycrm.model.job.Job;
 
 public class Mail {
 
     private final Job job;
     private final Template template;
+    private final Email email;
 
     /**
-     * Creates a mail with the mail and template.
+     * Creates a mail with the job and template, sent to {@code email}, the email of the client of the job when the
+     * mail is sent.
      */
-    public Mail(Job job, Template template) {
+    public Mail(Job job, Template template, Email email) {
         requireNonNull(job);
         requireNonNull(template);
+        requireNonNull(email);
 
-        assert (!job.getClientEmail().equals(""));
+        assert (!email.isEmpty());
 
         this.job = job;
         this.template = template;
+        this.email = email;
     }
 
     public Job getJob() {
@@ -37,7 +42,7 @@ public class Mail {
      * Returns job client email.
      */
     public String getMailEmail() {
-        return job.getClient().getEmail().value;
+        return email.value;
     }
 
     /**
@@ -79,12 +84,13 @@ public class Mail {
         return other == this
                 || (other instanceof Mail
                 && job.equals(((Mail) other).job)
-                && template.equals(((Mail) other).template));
+                && template.equals(((Mail) other).template)
+                && email.equals(((Mail) other).email));
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getJob(), getTemplate());
+        return Objects.hash(getJob(), getTemplate(), email);
     }
 
     @Override
@@ -100,7 +106,7 @@ public class Mail {
      */
     public String constructMail() {
         return String.format("mailto:%s?subject=%s&body=%s",
-                job.getClientEmail(),
+                email.value,
                 urlEncode(template.getSubject().toString()),
                 urlEncode(template.getBody().toString()));
     }
@@ -3,6 +3,8 @@ package seedu.mycrm.model.mail;
 import static java.util.Objects.requireNonNull;
 import static seedu.mycrm.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Template's subject in the myCrm.
  * Guarantees: immutable; is valid as declared in {@link #isValidSubject(String)}
@@ -18,6 +20,7 @@ public class Subject {
      * This regex ensures that only alphanumerics and spaces in between are accepted.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String subject;
 
@@ -27,18 +30,33 @@ public class Subject {
      * @param subject valid subject header.
      */
     public Subject(String subject) {
+        this(subject, false);
+    }
+
+    /**
+     * Constructs a {@code Subject}, validating {@code subject} unless it is trusted to be valid already.
+     */
+    private Subject(String subject, boolean isTrusted) {
         requireNonNull(subject);
-        checkArgument(isValidSubject(subject), MESSAGE_CONSTRAINTS);
+        checkArgument(isTrusted || isValidSubject(subject), MESSAGE_CONSTRAINTS);
         this.subject = subject;
     }
 
+    /**
+     * Returns a {@code Subject} of {@code subject} without validating it again.
+     * {@code subject} must be known to be a valid subject, such as one that was valid when it was saved.
+     */
+    public static Subject getTrustedSubject(String subject) {
+        return new Subject(subject, true);
+    }
+
     /**
      * Returns true if a given string is a valid subject.
      *
      * @param test target subject to test
      */
     public static boolean isValidSubject(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
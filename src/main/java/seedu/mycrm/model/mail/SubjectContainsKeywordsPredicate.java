@@ -1,14 +1,14 @@
 package seedu.mycrm.model.mail;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.mycrm.commons.util.StringUtil;
+import seedu.mycrm.model.WordIndexPredicate;
 
 /**
  * Tests that a {@code Template}'s {@code Subject} matches any of the keywords given.
  */
-public class SubjectContainsKeywordsPredicate implements Predicate<Template> {
+public class SubjectContainsKeywordsPredicate implements WordIndexPredicate<Template> {
     private final List<String> keywords;
 
     public SubjectContainsKeywordsPredicate(List<String> keywords) {
@@ -21,6 +21,16 @@ public class SubjectContainsKeywordsPredicate implements Predicate<Template> {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(template.getSubject().subject, keyword));
     }
 
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public List<String> getFields() {
+        return List.of(UniqueTemplateList.SUBJECT_FIELD);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this
@@ -4,8 +4,11 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
 
+import seedu.mycrm.model.EntityId;
+
 public class Template {
 
+    private final long id;
     private final Subject subject;
     private final Body body;
 
@@ -13,13 +16,27 @@ public class Template {
      * Every field must be present.
      */
     public Template(Subject subject, Body body) {
+        this(EntityId.next(), subject, body);
+    }
+
+    /**
+     * Every field must be present.
+     * Used for a template that keeps the given {@code id}, such as an edited or saved template.
+     */
+    public Template(long id, Subject subject, Body body) {
         requireNonNull(subject);
         requireNonNull(body);
+        assert EntityId.isValidId(id);
 
+        this.id = id;
         this.subject = subject;
         this.body = body;
     }
 
+    public long getId() {
+        return id;
+    }
+
     public Subject getSubject() {
         return subject;
     }
@@ -54,7 +71,7 @@ public class Template {
 
     /**
      * Returns true if both email templates have the same fields.
-     * This defines a stronger notion of equality between two templates.
+     * This defines a stronger notion of equality between two templates, which does not compare their ids.
      */
     @Override
     public boolean equals(Object other) {
@@ -2,10 +2,10 @@ package seedu.mycrm.model.mail;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Iterator;
+import java.util.Arrays;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import seedu.mycrm.model.IndexedUniqueList;
+import seedu.mycrm.model.mail.exceptions.DuplicateMailException;
 import seedu.mycrm.model.mail.exceptions.MailNotFoundException;
 
 /**
@@ -19,20 +19,14 @@ import seedu.mycrm.model.mail.exceptions.MailNotFoundException;
  *
  * @see Mail#isSameMail(Mail)
  */
-public class UniqueMailList implements Iterable<Mail> {
-
-    private final ObservableList<Mail> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Mail> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+public class UniqueMailList extends IndexedUniqueList<Mail> {
 
     /**
-     * Returns true if the list contains an equivalent mail as the given argument.
-     *
-     * @param toCheck target mail to check.
+     * Creates an empty list identifying mails by their jobs and templates.
      */
-    public boolean contains(Mail toCheck) {
-        requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameMail);
+    public UniqueMailList() {
+        super(mail -> Arrays.asList(mail.getJob(), mail.getTemplate()), DuplicateMailException::new,
+                MailNotFoundException::new);
     }
 
     /**
@@ -41,51 +35,13 @@ public class UniqueMailList implements Iterable<Mail> {
      *
      * @param toAdd target mail to add.
      */
+    @Override
     public void add(Mail toAdd) {
         requireNonNull(toAdd);
 
         // Remove's previous entry
-        if (internalList.size() > 0) {
-            remove(internalList.get(0));
-        }
+        clear();
 
-        internalList.add(toAdd);
-    }
-
-    /**
-     * Removes the equivalent mail from the list.
-     * The mail must exist in the list.
-     *
-     * @param toRemove target mail to remove.
-     */
-    public void remove(Mail toRemove) {
-        requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new MailNotFoundException();
-        }
-    }
-
-    /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
-     */
-    public ObservableList<Mail> asUnmodifiableObservableList() {
-        return internalUnmodifiableList;
-    }
-
-    @Override
-    public Iterator<Mail> iterator() {
-        return internalList.iterator();
-    }
-
-    @Override
-    public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof UniqueMailList // instanceof handles nulls
-                && internalList.equals(((UniqueMailList) other).internalList));
-    }
-
-    @Override
-    public int hashCode() {
-        return internalList.hashCode();
+        super.add(toAdd);
     }
 }
@@ -1,13 +1,11 @@
 package seedu.mycrm.model.mail;
 
-import static java.util.Objects.requireNonNull;
-import static seedu.mycrm.commons.util.CollectionUtil.requireAllNonNull;
-
-import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import seedu.mycrm.model.IndexedUniqueList;
+import seedu.mycrm.model.WordIndex;
 import seedu.mycrm.model.mail.exceptions.DuplicateTemplateException;
 import seedu.mycrm.model.mail.exceptions.TemplateNotFoundException;
 
@@ -17,38 +15,27 @@ import seedu.mycrm.model.mail.exceptions.TemplateNotFoundException;
  * updating of templates uses Template#isSameTemplate(Template) for equality to ensure that the template being added
  * or updated is unique in terms of identity in the UniqueTemplateList. However, the removal of a template uses
  * Template#equals (Object) to ensure that the template with exactly the same fields will be removed.
+ * Templates are looked up by subject and by id through the hash indexes of {@link IndexedUniqueList}.
+ * The words of their subjects and bodies are kept in a {@link WordIndex}, so that templates are found by keyword
+ * without splitting the fields of every template.
  * Supports a minimal set of list operations.
  *
  * @see Template#isSameTemplate(Template)
  */
-public class UniqueTemplateList implements Iterable<Template> {
+public class UniqueTemplateList extends IndexedUniqueList<Template> {
 
-    private final ObservableList<Template> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Template> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    public static final String SUBJECT_FIELD = "subject";
+    public static final String BODY_FIELD = "body";
+    public static final Map<String, Function<? super Template, ?>> WORD_FIELDS =
+            Map.of(SUBJECT_FIELD, Template::getSubject, BODY_FIELD, Template::getBody);
 
-    /**
-     * Returns true if the list contains an equivalent template as the given argument.
-     *
-     * @param toCheck target template to check.
-     */
-    public boolean contains(Template toCheck) {
-        requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTemplate);
-    }
+    private final WordIndex<Template> words = new WordIndex<>(Template::getId, WORD_FIELDS);
 
     /**
-     * Adds a template to the list.
-     * The template must not already exist in the list.
-     *
-     * @param toAdd target template to add.
+     * Creates an empty list identifying templates by their subjects.
      */
-    public void add(Template toAdd) {
-        requireNonNull(toAdd);
-        if (contains(toAdd)) {
-            throw new DuplicateTemplateException();
-        }
-        internalList.add(toAdd);
+    public UniqueTemplateList() {
+        super(Template::getSubject, Template::getId, DuplicateTemplateException::new, TemplateNotFoundException::new);
     }
 
     /**
@@ -60,31 +47,7 @@ public class UniqueTemplateList implements Iterable<Template> {
      * @param editedTemplate edited template to replace target.
      */
     public void setTemplate(Template target, Template editedTemplate) {
-        requireAllNonNull(target, editedTemplate);
-
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new TemplateNotFoundException();
-        }
-
-        if (!target.isSameTemplate(editedTemplate) && contains(editedTemplate)) {
-            throw new DuplicateTemplateException();
-        }
-
-        internalList.set(index, editedTemplate);
-    }
-
-    /**
-     * Removes the equivalent template from the list.
-     * The template must exist in the list.
-     *
-     * @param toRemove target template to remove.
-     */
-    public void remove(Template toRemove) {
-        requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new TemplateNotFoundException();
-        }
+        setElement(target, editedTemplate);
     }
 
     /**
@@ -93,8 +56,7 @@ public class UniqueTemplateList implements Iterable<Template> {
      * @param replacement internal list of templates to replace.
      */
     public void setTemplates(UniqueTemplateList replacement) {
-        requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setElements(replacement);
     }
 
     /**
@@ -104,51 +66,23 @@ public class UniqueTemplateList implements Iterable<Template> {
      * @param templates list of templates to replace.
      */
     public void setTemplates(List<Template> templates) {
-        requireAllNonNull(templates);
-        if (!templatesAreUnique(templates)) {
-            throw new DuplicateTemplateException();
-        }
-
-        internalList.setAll(templates);
-    }
-
-    /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
-     */
-    public ObservableList<Template> asUnmodifiableObservableList() {
-        return internalUnmodifiableList;
+        setElements(templates);
     }
 
     @Override
-    public Iterator<Template> iterator() {
-        return internalList.iterator();
+    protected void onAdd(Template added) {
+        words.add(added);
     }
 
     @Override
-    public boolean equals(Object other) {
-        return other == this
-                || (other instanceof UniqueTemplateList
-                && internalList.equals(((UniqueTemplateList) other).internalList));
-    }
-
-    @Override
-    public int hashCode() {
-        return internalList.hashCode();
+    protected void onRemove(Template removed) {
+        words.remove(removed);
     }
 
     /**
-     * Returns true if {@code templates} contains only unique templates.
-     *
-     * @param templates list of target templates to check.
+     * Returns the index of the words in the subjects and bodies of the templates in the list.
      */
-    private boolean templatesAreUnique(List<Template> templates) {
-        for (int i = 0; i < templates.size() - 1; i++) {
-            for (int j = i + 1; j < templates.size(); j++) {
-                if (templates.get(i).isSameTemplate(templates.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    public WordIndex<Template> getWordIndex() {
+        return words;
     }
 }
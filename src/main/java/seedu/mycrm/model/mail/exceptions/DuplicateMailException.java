@@ -0,0 +1,11 @@
+package seedu.mycrm.model.mail.exceptions;
+
+/**
+ * Signals that the operation will result in duplicate Mail (Mails are considered duplicates if they
+ * have the same job and template).
+ */
+public class DuplicateMailException extends RuntimeException {
+    public DuplicateMailException() {
+        super("Operation would result in duplicate mails");
+    }
+}
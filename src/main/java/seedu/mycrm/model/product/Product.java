@@ -4,11 +4,14 @@ import static seedu.mycrm.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Objects;
 
+import seedu.mycrm.model.EntityId;
+
 /**
  * Represents a product in MyCRM.
  * Guarantees: immutable, all fields are non-null
  */
 public class Product {
+    private final long id;
     private final ProductName productName;
     private final Type type;
     private final Manufacturer manufacturer;
@@ -23,15 +26,28 @@ public class Product {
      * @param description Description of the product.
      */
     public Product(ProductName productName, Type type, Manufacturer manufacturer, Description description) {
+        this(EntityId.next(), productName, type, manufacturer, description);
+    }
+
+    /**
+     * Creates a product with specified fields that keeps the given {@code id}, such as an edited or saved product.
+     */
+    public Product(long id, ProductName productName, Type type, Manufacturer manufacturer, Description description) {
         requireAllNonNull(productName, type, manufacturer, description);
         assert !productName.isEmpty() : "Product name is empty.";
+        assert EntityId.isValidId(id);
 
+        this.id = id;
         this.productName = productName;
         this.type = type;
         this.manufacturer = manufacturer;
         this.description = description;
     }
 
+    public long getId() {
+        return this.id;
+    }
+
     public ProductName getName() {
         return this.productName;
     }
@@ -76,6 +92,9 @@ public class Product {
                 && otherProduct.productName.equals(this.productName);
     }
 
+    /**
+     * Returns true if both products have the same fields, not comparing their ids.
+     */
     @Override
     public boolean equals(Object o) {
         if (o == this) {
@@ -1,14 +1,14 @@
 package seedu.mycrm.model.product;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.mycrm.commons.util.StringUtil;
+import seedu.mycrm.model.WordIndexPredicate;
 
 /**
  * Tests whether a {@code Product}'s {@code ProductName} matches any of the keywords.
  */
-public class ProductNameContainsKeywordsPredicate implements Predicate<Product> {
+public class ProductNameContainsKeywordsPredicate implements WordIndexPredicate<Product> {
     private final List<String> keywords;
 
     /** Creates a ProductNameContainsKeywordsPredicate with the specified {@code keywords} */
@@ -22,6 +22,16 @@ public class ProductNameContainsKeywordsPredicate implements Predicate<Product>
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(product.getName().orElse(""), keyword));
     }
 
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public List<String> getFields() {
+        return List.of(UniqueProductList.NAME_FIELD);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -1,13 +1,11 @@
 package seedu.mycrm.model.product;
 
-import static java.util.Objects.requireNonNull;
-import static seedu.mycrm.commons.util.CollectionUtil.requireAllNonNull;
-
-import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import seedu.mycrm.model.IndexedUniqueList;
+import seedu.mycrm.model.WordIndex;
 import seedu.mycrm.model.product.exceptions.DuplicateProductException;
 import seedu.mycrm.model.product.exceptions.ProductNotFoundException;
 
@@ -20,34 +18,31 @@ import seedu.mycrm.model.product.exceptions.ProductNotFoundException;
  * However, the removal of a product uses Product#equals(Object) so
  * as to ensure that the product with exactly the same fields will be removed.
  *
+ * Products are looked up by name and by id through the hash indexes of {@link IndexedUniqueList}.
+ * The words of their fields are kept in a {@link WordIndex}, so that products are found by keyword without
+ * splitting the fields of every product.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Product#isSameProduct(Product)
  */
-public class UniqueProductList implements Iterable<Product> {
+public class UniqueProductList extends IndexedUniqueList<Product> {
 
-    private final ObservableList<Product> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Product> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    public static final String NAME_FIELD = "name";
+    public static final String TYPE_FIELD = "type";
+    public static final String MANUFACTURER_FIELD = "manufacturer";
+    public static final String DESCRIPTION_FIELD = "description";
+    public static final Map<String, Function<? super Product, ?>> WORD_FIELDS = Map.of(NAME_FIELD, Product::getName,
+            TYPE_FIELD, Product::getType, MANUFACTURER_FIELD, Product::getManufacturer,
+            DESCRIPTION_FIELD, Product::getDescription);
 
-    /**
-     * Returns true if the list contains an equivalent product as the given argument.
-     */
-    public boolean contains(Product toCheck) {
-        requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameProduct);
-    }
+    private final WordIndex<Product> words = new WordIndex<>(Product::getId, WORD_FIELDS);
 
     /**
-     * Adds a product to the list.
-     * The product must not already exist in the list.
+     * Creates an empty list identifying products by their names.
      */
-    public void add(Product toAdd) {
-        requireNonNull(toAdd);
-        if (contains(toAdd)) {
-            throw new DuplicateProductException();
-        }
-        internalList.add(toAdd);
+    public UniqueProductList() {
+        super(Product::getName, Product::getId, DuplicateProductException::new, ProductNotFoundException::new);
     }
 
     /**
@@ -56,34 +51,11 @@ public class UniqueProductList implements Iterable<Product> {
      * The product identity of {@code editedProduct} must not be the same as another existing product in the list.
      */
     public void setProduct(Product target, Product editedProduct) {
-        requireAllNonNull(target, editedProduct);
-
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new ProductNotFoundException();
-        }
-
-        if (!target.isSameProduct(editedProduct) && contains(editedProduct)) {
-            throw new DuplicateProductException();
-        }
-
-        internalList.set(index, editedProduct);
-    }
-
-    /**
-     * Removes the equivalent product from the list.
-     * The product must exist in the list.
-     */
-    public void remove(Product toRemove) {
-        requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new ProductNotFoundException();
-        }
+        setElement(target, editedProduct);
     }
 
     public void setProducts(UniqueProductList replacement) {
-        requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setElements(replacement);
     }
 
     /**
@@ -91,49 +63,23 @@ public class UniqueProductList implements Iterable<Product> {
      * {@code products} must not contain duplicate products.
      */
     public void setProducts(List<Product> products) {
-        requireAllNonNull(products);
-        if (!productsAreUnique(products)) {
-            throw new DuplicateProductException();
-        }
-
-        internalList.setAll(products);
-    }
-
-    /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
-     */
-    public ObservableList<Product> asUnmodifiableObservableList() {
-        return internalUnmodifiableList;
-    }
-
-    @Override
-    public Iterator<Product> iterator() {
-        return internalList.iterator();
+        setElements(products);
     }
 
     @Override
-    public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof UniqueProductList // instanceof handles nulls
-                        && internalList.equals(((UniqueProductList) other).internalList));
+    protected void onAdd(Product added) {
+        words.add(added);
     }
 
     @Override
-    public int hashCode() {
-        return internalList.hashCode();
+    protected void onRemove(Product removed) {
+        words.remove(removed);
     }
 
     /**
-     * Returns true if {@code products} contains only unique products.
+     * Returns the index of the words in the names, types, manufacturers and descriptions of the products in the list.
      */
-    private boolean productsAreUnique(List<Product> products) {
-        for (int i = 0; i < products.size() - 1; i++) {
-            for (int j = i + 1; j < products.size(); j++) {
-                if (products.get(i).isSameProduct(products.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    public WordIndex<Product> getWordIndex() {
+        return words;
     }
 }
@@ -0,0 +1,111 @@
+package seedu.mycrm.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.mycrm.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import seedu.mycrm.model.WordIndex;
+
+/**
+ * Tests that an element has a word in a field matching a pattern, ignoring case, in which {@code *} stands for any
+ * characters, e.g. {@code *@corp.com}.
+ * If the field is indexed, the words of an element are taken from the {@code WordIndex} of the elements instead of
+ * splitting the field, and the elements matching a pattern that only ends with {@code *} are counted from the
+ * sorted words of the index.
+ *
+ * @param <T> type of the elements.
+ */
+public class PatternCondition<T> implements QueryCondition<T> {
+    public static final String WILDCARD = "*";
+
+    private final String field;
+    private final Function<? super T, ?> valueOf;
+    private final String pattern;
+    private final Pattern regex;
+
+    /**
+     * Creates a condition matching the words of {@code field}, whose value is given by {@code valueOf}, against
+     * {@code pattern}.
+     */
+    public PatternCondition(String field, Function<? super T, ?> valueOf, String pattern) {
+        requireAllNonNull(field, valueOf, pattern);
+        this.field = field;
+        this.valueOf = valueOf;
+        this.pattern = WordIndex.normalize(pattern);
+
+        StringBuilder regexBuilder = new StringBuilder();
+        for (String part : this.pattern.split(Pattern.quote(WILDCARD), -1)) {
+            if (regexBuilder.length() > 0) {
+                regexBuilder.append(".*");
+            }
+            regexBuilder.append(Pattern.quote(part));
+        }
+        this.regex = Pattern.compile(regexBuilder.toString());
+    }
+
+    @Override
+    public boolean test(T element) {
+        for (String word : WordIndex.split(valueOf.apply(element))) {
+            if (regex.matcher(word).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public long estimateMatches(List<WordIndex<T>> indexes) {
+        if (!isIndexedIn(indexes) || pattern.indexOf(WILDCARD) != pattern.length() - 1) {
+            return UNKNOWN_MATCHES;
+        }
+
+        String prefix = pattern.substring(0, pattern.length() - 1);
+        return indexes.stream()
+                .mapToLong(index -> index.getIdsWithWordStartingWith(List.of(field), List.of(prefix)).size())
+                .sum();
+    }
+
+    @Override
+    public int getCost() {
+        return COST_PATTERN;
+    }
+
+    @Override
+    public Predicate<T> withIndexes(List<WordIndex<T>> indexes) {
+        requireNonNull(indexes);
+        if (!isIndexedIn(indexes)) {
+            return this;
+        }
+
+        return element -> {
+            for (WordIndex<T> index : indexes) {
+                if (index.contains(element)) {
+                    return index.getWords(element, List.of(field)).stream()
+                            .anyMatch(word -> regex.matcher(word).matches());
+                }
+            }
+            return test(element);
+        };
+    }
+
+    private boolean isIndexedIn(List<WordIndex<T>> indexes) {
+        return indexes.stream().allMatch(index -> index.hasField(field));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PatternCondition // instanceof handles nulls
+                && field.equals(((PatternCondition<?>) other).field)
+                && pattern.equals(((PatternCondition<?>) other).pattern)); // state check
+    }
+
+    @Override
+    public String toString() {
+        return field + ":" + pattern;
+    }
+}
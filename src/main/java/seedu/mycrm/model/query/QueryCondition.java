@@ -0,0 +1,44 @@
+package seedu.mycrm.model.query;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.mycrm.model.WordIndex;
+
+/**
+ * A condition on one or more fields of the elements, which a {@code QueryPlan} tests together with its other
+ * conditions.
+ *
+ * @param <T> type of the elements.
+ */
+public interface QueryCondition<T> extends Predicate<T> {
+
+    /** Returned by {@link #estimateMatches(List)} when the indexes cannot tell how many elements match. */
+    long UNKNOWN_MATCHES = Long.MAX_VALUE;
+
+    /** The cost of testing an element by a hash lookup. */
+    int COST_LOOKUP = 0;
+    /** The cost of testing an element by comparing a value of it. */
+    int COST_COMPARISON = 1;
+    /** The cost of testing an element by matching its words against a pattern. */
+    int COST_PATTERN = 2;
+
+    /**
+     * Returns the number of elements of {@code indexes} that match, as counted from the indexes, or
+     * {@code UNKNOWN_MATCHES} if they cannot tell.
+     */
+    long estimateMatches(List<WordIndex<T>> indexes);
+
+    /**
+     * Returns the relative cost of testing an element, which orders conditions whose matches cannot be counted.
+     */
+    int getCost();
+
+    /**
+     * Returns a condition equivalent to this one that looks the elements up in the first of {@code indexes}
+     * containing them.
+     */
+    default Predicate<T> withIndexes(List<WordIndex<T>> indexes) {
+        return this;
+    }
+}
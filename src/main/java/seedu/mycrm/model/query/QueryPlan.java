@@ -0,0 +1,85 @@
+package seedu.mycrm.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.mycrm.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.mycrm.model.IndexedPredicate;
+import seedu.mycrm.model.WordIndex;
+
+/**
+ * Tests that an element meets all of some conditions.
+ * Bound to the {@code WordIndex} of the elements, the conditions are tested in the order of how few elements the
+ * indexes count as matching them, followed by those the indexes cannot count in the order of their costs, so that
+ * most elements are ruled out by the first, cheapest and most selective condition instead of every condition
+ * being tested on every element.
+ *
+ * @param <T> type of the elements.
+ */
+public class QueryPlan<T> implements IndexedPredicate<T> {
+    private final List<QueryCondition<T>> conditions;
+
+    /**
+     * Creates a plan matching the elements that meet all of {@code conditions}.
+     */
+    public QueryPlan(List<QueryCondition<T>> conditions) {
+        requireAllNonNull(conditions);
+        this.conditions = new ArrayList<>(conditions);
+    }
+
+    /**
+     * Returns the conditions of this plan, in the order they were given.
+     */
+    public List<QueryCondition<T>> getConditions() {
+        return Collections.unmodifiableList(conditions);
+    }
+
+    @Override
+    public boolean test(T element) {
+        return conditions.stream().allMatch(condition -> condition.test(element));
+    }
+
+    /**
+     * Returns the conditions in the order they are tested in when bound to {@code indexes}.
+     */
+    public List<QueryCondition<T>> getOrderedConditions(List<WordIndex<T>> indexes) {
+        requireNonNull(indexes);
+        List<QueryCondition<T>> ordered = new ArrayList<>(conditions);
+        ordered.sort(Comparator.<QueryCondition<T>>comparingLong(condition -> condition.estimateMatches(indexes))
+                .thenComparingInt(QueryCondition::getCost));
+        return ordered;
+    }
+
+    @Override
+    public Predicate<T> withIndexes(List<WordIndex<T>> indexes) {
+        List<Predicate<T>> boundConditions = getOrderedConditions(indexes).stream()
+                .map(condition -> condition.withIndexes(indexes))
+                .collect(Collectors.toList());
+        return element -> {
+            for (Predicate<T> condition : boundConditions) {
+                if (!condition.test(element)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof QueryPlan // instanceof handles nulls
+                && conditions.equals(((QueryPlan<?>) other).conditions)); // state check
+    }
+
+    @Override
+    public String toString() {
+        return conditions.stream().map(Object::toString).collect(Collectors.joining(" "));
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.mycrm.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.mycrm.commons.util.AppUtil.checkArgument;
+import static seedu.mycrm.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import seedu.mycrm.model.WordIndex;
+
+/**
+ * Tests that a value of an element, such as a date or a fee, lies between a lower and an upper bound, both
+ * inclusive. A missing bound leaves the range open at that end, and an element without the value does not match.
+ * If the field is a range field of the {@code WordIndex} of the elements, such as a date kept in a
+ * {@code JobDateIndex}, the number of matching elements is counted from it.
+ *
+ * @param <T> type of the elements.
+ * @param <V> type of the values compared.
+ */
+public class RangeCondition<T, V extends Comparable<? super V>> implements QueryCondition<T> {
+    public static final String MESSAGE_CONSTRAINTS = "The lower bound should not be above the upper bound";
+
+    private final String field;
+    private final Function<? super T, ? extends V> valueOf;
+    private final V lower;
+    private final V upper;
+
+    /**
+     * Creates a condition on the value of {@code field}, given by {@code valueOf}, from {@code lower} to
+     * {@code upper}, either of which may be null for a range without that bound.
+     */
+    public RangeCondition(String field, Function<? super T, ? extends V> valueOf, V lower, V upper) {
+        requireAllNonNull(field, valueOf);
+        checkArgument(lower == null || upper == null || lower.compareTo(upper) <= 0, MESSAGE_CONSTRAINTS);
+        this.field = field;
+        this.valueOf = valueOf;
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    /**
+     * Returns the lower bound, or null if the range has none.
+     */
+    public V getLower() {
+        return lower;
+    }
+
+    /**
+     * Returns the upper bound, or null if the range has none.
+     */
+    public V getUpper() {
+        return upper;
+    }
+
+    @Override
+    public boolean test(T element) {
+        V value = valueOf.apply(element);
+        return value != null
+                && (lower == null || value.compareTo(lower) >= 0)
+                && (upper == null || value.compareTo(upper) <= 0);
+    }
+
+    @Override
+    public long estimateMatches(List<WordIndex<T>> indexes) {
+        requireNonNull(indexes);
+        if (!indexes.stream().allMatch(index -> index.hasRangeField(field))) {
+            return UNKNOWN_MATCHES;
+        }
+
+        long matches = 0;
+        for (WordIndex<T> index : indexes) {
+            matches += index.countInRange(field, lower, upper);
+        }
+        return matches;
+    }
+
+    @Override
+    public int getCost() {
+        return COST_COMPARISON;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RangeCondition // instanceof handles nulls
+                && field.equals(((RangeCondition<?, ?>) other).field)
+                && Objects.equals(lower, ((RangeCondition<?, ?>) other).lower)
+                && Objects.equals(upper, ((RangeCondition<?, ?>) other).upper)); // state check
+    }
+
+    @Override
+    public String toString() {
+        return field + ":" + (lower == null ? "" : lower) + ".." + (upper == null ? "" : upper);
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.mycrm.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.mycrm.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.mycrm.model.WordIndex;
+
+/**
+ * Tests that an element has any of some words in any of some fields, ignoring case.
+ * If all its fields are indexed, the condition is answered by hash lookups in the {@code WordIndex} of the
+ * elements, and the number of matching elements is counted from it.
+ *
+ * @param <T> type of the elements.
+ */
+public class WordCondition<T> implements QueryCondition<T> {
+    private final Map<String, Function<? super T, ?>> fields;
+    private final List<String> words;
+
+    /**
+     * Creates a condition looking for {@code words} in {@code fields}, whose values are given by field name.
+     */
+    public WordCondition(Map<String, Function<? super T, ?>> fields, List<String> words) {
+        requireAllNonNull(fields, words);
+        this.fields = new LinkedHashMap<>(fields);
+        this.words = words.stream().map(WordIndex::normalize).collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean test(T element) {
+        for (Function<? super T, ?> valueOf : fields.values()) {
+            for (String word : WordIndex.split(valueOf.apply(element))) {
+                if (words.contains(word)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public long estimateMatches(List<WordIndex<T>> indexes) {
+        if (!isIndexedIn(indexes)) {
+            return UNKNOWN_MATCHES;
+        }
+
+        long matches = 0;
+        for (WordIndex<T> index : indexes) {
+            for (String field : fields.keySet()) {
+                for (String word : words) {
+                    matches += index.getIds(field, word).size();
+                }
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public int getCost() {
+        return COST_LOOKUP;
+    }
+
+    @Override
+    public Predicate<T> withIndexes(List<WordIndex<T>> indexes) {
+        requireNonNull(indexes);
+        if (!isIndexedIn(indexes)) {
+            return this;
+        }
+
+        return element -> {
+            for (WordIndex<T> index : indexes) {
+                if (index.contains(element)) {
+                    return index.hasAnyWord(element, fields.keySet(), words);
+                }
+            }
+            return test(element);
+        };
+    }
+
+    private boolean isIndexedIn(List<WordIndex<T>> indexes) {
+        return indexes.stream().allMatch(index -> fields.keySet().stream().allMatch(index::hasField));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof WordCondition // instanceof handles nulls
+                && fields.keySet().equals(((WordCondition<?>) other).fields.keySet())
+                && words.equals(((WordCondition<?>) other).words)); // state check
+    }
+
+    @Override
+    public String toString() {
+        return String.join(",", fields.keySet()) + ":" + String.join(",", words);
+    }
+}
@@ -62,26 +62,20 @@ public class SampleDataUtil {
         };
     }
 
-    public static Job[] getSampleJobs() {
-        Contact charlotte = new Contact(new Name("Charlotte Oliveiro"), new Phone("93210283"),
-            new Email("charlotte@example.com"), new Address("Blk 11 Ang Mo Kio Street 74, #11-04"),
-            getTagSet("2nd Tier"), false);
-
-        Contact roy = new Contact(new Name("Roy Balakrishnan"), new Phone("92624417"), new Email("royb@example.com"),
-                new Address("Blk 45 Aljunied Street 85, #11-31"),
-                getTagSet("1st Tier"), false);
-
-        Product intel = new Product(ProductName.getName("Intel i5-10400F"), Type.getType("CPU"),
-            Manufacturer.getManufacturer("Intel"), Description.getDescription("2.90GHz"));
-
-        Product ryzen = new Product(ProductName.getName("Ryzen 5 5600"), Type.getType("CPU"),
-                Manufacturer.getManufacturer("AMD"), Description.getDescription("3.00GHz"));
+    /**
+     * Returns the sample jobs, linked to the sample contacts {@code contacts} and sample products {@code products}.
+     */
+    public static Job[] getSampleJobs(Contact[] contacts, Product[] products) {
+        Contact charlotte = contacts[2];
+        Contact roy = contacts[5];
+        Product intel = products[0];
+        Product ryzen = products[1];
 
         return new Job[] {
-            new Job(new JobDescription("CPU fried"), roy, ryzen,
+            new Job(new JobDescription("CPU fried"), roy.getId(), ryzen.getId(),
                     new JobDate("12/08/2021"), new JobStatus(true), new JobDate("14/02/2021"),
                     new JobDate("29/08/2021"), new JobFee("$10.0")),
-            new Job(new JobDescription("Graphics card replacement needed"), charlotte, intel,
+            new Job(new JobDescription("Graphics card replacement needed"), charlotte.getId(), intel.getId(),
                     new JobDate("15/09/2022"), new JobStatus(false), new JobDate("24/10/2021"),
                     null, new JobFee("$30.0"))
         };
@@ -96,15 +90,17 @@ public class SampleDataUtil {
 
     public static ReadOnlyMyCrm getSampleMyCrm() {
         MyCrm sampleAb = new MyCrm();
-        for (Contact sampleContact : getSampleContacts()) {
+        Contact[] sampleContacts = getSampleContacts();
+        for (Contact sampleContact : sampleContacts) {
             sampleAb.addContact(sampleContact);
         }
 
-        for (Product sampleProduct : getSampleProducts()) {
+        Product[] sampleProducts = getSampleProducts();
+        for (Product sampleProduct : sampleProducts) {
             sampleAb.addProduct(sampleProduct);
         }
 
-        for (Job sampleJob : getSampleJobs()) {
+        for (Job sampleJob : getSampleJobs(sampleContacts, sampleProducts)) {
             sampleAb.addJob(sampleJob);
         }
 
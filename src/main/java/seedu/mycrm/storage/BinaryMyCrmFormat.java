@@ -0,0 +1,114 @@
+package seedu.mycrm.storage;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Constants and primitive encodings of the binary MyCrm data format.
+ *
+ * <p>A binary data file starts with the {@link #MAGIC} bytes, a format version byte and a flags byte.
+ * The rest of the file, deflate-compressed if {@link #FLAG_DEFLATE} is set, holds:
+ * <ol>
+ *     <li>a string table: the number of strings, then each string as its UTF-8 length and bytes,</li>
+ *     <li>the contacts, templates, products and jobs, each list prefixed by its length.</li>
+ * </ol>
+ * Strings in records are references into the string table, so names, tags and manufacturers that are repeated
+ * are only stored once. Integers are stored as varints, and dates as the zigzag varint of their epoch day.
+ * Since {@link #VERSION_WITH_IDS}, every record starts with the id of its entity, and a job also holds the ids of
+ * its client and product after their names. Files of the earlier version are still read.
+ */
+class BinaryMyCrmFormat {
+
+    static final byte[] MAGIC = {'M', 'C', 'R', 'M'};
+    static final int VERSION = 2;
+    static final int VERSION_WITH_IDS = 2;
+    static final int VERSION_WITHOUT_IDS = 1;
+
+    static final int FLAG_DEFLATE = 1;
+
+    static final int JOB_COMPLETED = 1;
+    static final int JOB_HAS_COMPLETION_DATE = 2;
+
+    /** String reference of a null string. Other references are one more than the string's table index. */
+    static final int NULL_STRING = 0;
+
+    private BinaryMyCrmFormat() {}
+
+    /**
+     * Writes {@code value}, which must not be negative, as a varint of 7 bits per byte.
+     */
+    static void writeVarint(OutputStream out, long value) throws IOException {
+        assert value >= 0;
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /**
+     * Writes {@code value} as a zigzag varint, so that values close to zero are short whatever their sign.
+     */
+    static void writeSignedVarint(OutputStream out, long value) throws IOException {
+        writeVarint(out, (value << 1) ^ (value >> 63));
+    }
+
+    static void writeString(OutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a varint written by {@link #writeVarint(OutputStream, long)}.
+     *
+     * @throws IOException if the stream ends or the varint is longer than a long.
+     */
+    static long readVarint(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = readByte(in);
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    /**
+     * Reads a varint that must fit in an int, such as a count or a string reference.
+     */
+    static int readIntVarint(InputStream in) throws IOException {
+        long value = readVarint(in);
+        if (value > Integer.MAX_VALUE) {
+            throw new IOException("Value out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    static long readSignedVarint(InputStream in) throws IOException {
+        long zigzag = readVarint(in);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    static String readString(InputStream in) throws IOException {
+        int length = readIntVarint(in);
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException();
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static int readByte(InputStream in) throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException();
+        }
+        return b;
+    }
+}
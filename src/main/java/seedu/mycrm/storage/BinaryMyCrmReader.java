@@ -0,0 +1,149 @@
+package seedu.mycrm.storage;
+
+import static seedu.mycrm.storage.BinaryMyCrmFormat.readByte;
+import static seedu.mycrm.storage.BinaryMyCrmFormat.readIntVarint;
+import static seedu.mycrm.storage.BinaryMyCrmFormat.readSignedVarint;
+import static seedu.mycrm.storage.BinaryMyCrmFormat.readVarint;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.InflaterInputStream;
+
+import seedu.mycrm.commons.exceptions.IllegalValueException;
+import seedu.mycrm.model.job.JobDate;
+import seedu.mycrm.model.job.JobFee;
+import seedu.mycrm.model.job.JobStatus;
+
+/**
+ * Reads MyCrm data in the binary format described in {@link BinaryMyCrmFormat}, passing each record to a
+ * {@code JsonMyCrmRecordHandler} as soon as it is read, in the same form as records read from a json data file.
+ * The records are therefore validated and assembled exactly like json records.
+ */
+class BinaryMyCrmReader {
+
+    private final InputStream in;
+    private final boolean hasIds;
+    private String[] strings;
+
+    private BinaryMyCrmReader(InputStream in, boolean hasIds) {
+        this.in = in;
+        this.hasIds = hasIds;
+    }
+
+    /**
+     * Reads the binary MyCrm data in {@code in} and passes its records to {@code handler}.
+     * {@code in} is not closed.
+     *
+     * @throws IOException if the data cannot be read or is not in the binary format.
+     * @throws IllegalValueException if {@code handler} rejects a record.
+     */
+    public static void read(InputStream in, JsonMyCrmRecordHandler handler) throws IOException, IllegalValueException {
+        byte[] magic = in.readNBytes(BinaryMyCrmFormat.MAGIC.length);
+        if (!Arrays.equals(magic, BinaryMyCrmFormat.MAGIC)) {
+            throw new IOException("Not a binary MyCrm data file");
+        }
+        int version = readByte(in);
+        if (version != BinaryMyCrmFormat.VERSION_WITH_IDS && version != BinaryMyCrmFormat.VERSION_WITHOUT_IDS) {
+            throw new IOException("Unsupported binary MyCrm data version " + version);
+        }
+        int flags = readByte(in);
+
+        InputStream records = (flags & BinaryMyCrmFormat.FLAG_DEFLATE) != 0
+                ? new BufferedInputStream(new InflaterInputStream(in))
+                : in;
+        new BinaryMyCrmReader(records, version >= BinaryMyCrmFormat.VERSION_WITH_IDS).readMyCrm(handler);
+    }
+
+    private void readMyCrm(JsonMyCrmRecordHandler handler) throws IOException, IllegalValueException {
+        strings = new String[readIntVarint(in)];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = BinaryMyCrmFormat.readString(in);
+        }
+
+        for (int count = readIntVarint(in); count > 0; count--) {
+            handler.handleContact(readContact());
+        }
+        for (int count = readIntVarint(in); count > 0; count--) {
+            handler.handleTemplate(new JsonAdaptedTemplate(readId(), readStringReference(), readStringReference()));
+        }
+        for (int count = readIntVarint(in); count > 0; count--) {
+            handler.handleProduct(new JsonAdaptedProduct(readId(), readStringReference(), readStringReference(),
+                    readStringReference(), readStringReference()));
+        }
+        for (int count = readIntVarint(in); count > 0; count--) {
+            handler.handleJob(readJob());
+        }
+    }
+
+    private String readStringReference() throws IOException {
+        int reference = readIntVarint(in);
+        if (reference == BinaryMyCrmFormat.NULL_STRING) {
+            return null;
+        }
+        if (reference > strings.length) {
+            throw new IOException("Invalid string reference " + reference);
+        }
+        return strings[reference - 1];
+    }
+
+    /**
+     * Reads the id of an entity, or returns null if the data was written before entities had ids.
+     */
+    private Long readId() throws IOException {
+        return hasIds ? readVarint(in) : null;
+    }
+
+    /**
+     * Reads a date, in the format it has in json data files.
+     */
+    private String readDate() throws IOException {
+        long epochDay = readSignedVarint(in);
+        try {
+            return new JobDate(LocalDate.ofEpochDay(epochDay)).raw();
+        } catch (DateTimeException e) {
+            throw new IOException("Invalid date " + epochDay, e);
+        }
+    }
+
+    private JsonAdaptedContact readContact() throws IOException {
+        Long id = readId();
+        String name = readStringReference();
+        String phone = readStringReference();
+        String email = readStringReference();
+        String address = readStringReference();
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        for (int count = readIntVarint(in); count > 0; count--) {
+            tags.add(new JsonAdaptedTag(readStringReference()));
+        }
+        boolean isHidden = readByte(in) != 0;
+        return new JsonAdaptedContact(id, name, phone, email, address, tags, isHidden);
+    }
+
+    private JsonAdaptedJob readJob() throws IOException {
+        Long id = readId();
+        String description = readStringReference();
+        String client = readStringReference();
+        Long clientId = readId();
+        String product = readStringReference();
+        Long productId = readId();
+        String expectedCompletionDate = readDate();
+        String receivedDate = readDate();
+        int flags = readByte(in);
+        boolean isCompleted = (flags & BinaryMyCrmFormat.JOB_COMPLETED) != 0;
+        String completionDate = (flags & BinaryMyCrmFormat.JOB_HAS_COMPLETION_DATE) != 0 ? readDate() : null;
+        long cents = readVarint(in);
+        if (cents > Integer.MAX_VALUE) {
+            throw new IOException("Invalid fee " + cents);
+        }
+
+        return new JsonAdaptedJob(id, description, clientId, client, productId, product, expectedCompletionDate,
+                new JobStatus(isCompleted).toString(), receivedDate, completionDate,
+                new JobFee((int) cents).toString());
+    }
+}
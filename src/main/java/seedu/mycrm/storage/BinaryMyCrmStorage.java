@@ -0,0 +1,130 @@
+package seedu.mycrm.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.mycrm.commons.core.LogsCenter;
+import seedu.mycrm.commons.exceptions.DataConversionException;
+import seedu.mycrm.commons.exceptions.IllegalValueException;
+import seedu.mycrm.model.ReadOnlyMyCrm;
+
+/**
+ * A class to access MyCrm data stored in the compact binary format described in {@link BinaryMyCrmFormat}.
+ * Records are validated and assembled in the same way as those of a json data file.
+ */
+public class BinaryMyCrmStorage implements MyCrmStorage {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryMyCrmStorage.class);
+
+    private final Path filePath;
+    private final Consumer<String> invalidRecordHandler;
+    private boolean isCompressed = true;
+
+    /**
+     * Creates a {@code BinaryMyCrmStorage} that rejects the whole data file if any record in it is invalid.
+     */
+    public BinaryMyCrmStorage(Path filePath) {
+        this.filePath = filePath;
+        this.invalidRecordHandler = null;
+    }
+
+    /**
+     * Creates a {@code BinaryMyCrmStorage} that skips invalid records in the data file
+     * and reports each of them to {@code invalidRecordHandler}.
+     */
+    public BinaryMyCrmStorage(Path filePath, Consumer<String> invalidRecordHandler) {
+        requireNonNull(invalidRecordHandler);
+        this.filePath = filePath;
+        this.invalidRecordHandler = invalidRecordHandler;
+    }
+
+    /**
+     * Returns the path of the binary data file that goes with the json data file at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        return JsonMyCrmStorage.getSiblingPath(jsonFilePath, BINARY_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getMyCrmFilePath() {
+        return filePath;
+    }
+
+    public boolean isCompressed() {
+        return isCompressed;
+    }
+
+    /**
+     * Sets whether data is saved deflate-compressed. Data is saved compressed by default.
+     * Data is read whether it is compressed or not.
+     */
+    public void setCompressed(boolean isCompressed) {
+        this.isCompressed = isCompressed;
+    }
+
+    @Override
+    public Optional<ReadOnlyMyCrm> readMyCrm() throws DataConversionException {
+        return readMyCrm(filePath);
+    }
+
+    /**
+     * Similar to {@link #readMyCrm()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyMyCrm> readMyCrm(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        JsonMyCrmAssembler assembler = invalidRecordHandler == null
+                ? new JsonMyCrmAssembler()
+                : new JsonMyCrmAssembler(invalidRecordHandler);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            assembler.setTrusted(ContentChecksum.isUnchanged(filePath));
+            BinaryMyCrmReader.read(in, assembler);
+            return Optional.of(assembler.getMyCrm());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    @Override
+    public void saveMyCrm(ReadOnlyMyCrm myCrm) throws IOException {
+        saveMyCrm(myCrm, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveMyCrm(ReadOnlyMyCrm)}.
+     * The data is written to a temporary file that replaces the existing file once it is complete,
+     * and the checksum of the data is kept next to it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveMyCrm(ReadOnlyMyCrm myCrm, Path filePath) throws IOException {
+        requireNonNull(myCrm);
+        requireNonNull(filePath);
+
+        ContentChecksum.writeWithChecksum(filePath, out -> BinaryMyCrmWriter.write(myCrm, out, isCompressed));
+    }
+}
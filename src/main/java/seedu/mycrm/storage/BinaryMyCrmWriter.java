@@ -0,0 +1,182 @@
+package seedu.mycrm.storage;
+
+import static seedu.mycrm.storage.BinaryMyCrmFormat.writeSignedVarint;
+import static seedu.mycrm.storage.BinaryMyCrmFormat.writeVarint;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import seedu.mycrm.model.ReadOnlyMyCrm;
+import seedu.mycrm.model.contact.Contact;
+import seedu.mycrm.model.contact.tag.Tag;
+import seedu.mycrm.model.job.Job;
+import seedu.mycrm.model.job.JobDate;
+import seedu.mycrm.model.mail.Template;
+import seedu.mycrm.model.product.Product;
+
+/**
+ * Writes MyCrm data in the binary format described in {@link BinaryMyCrmFormat}.
+ * The strings of the data are collected into the string table first, then the records are written
+ * straight from the model with references into the table.
+ */
+class BinaryMyCrmWriter {
+
+    private static final int DEFLATE_BUFFER_SIZE = 8192;
+
+    private final OutputStream out;
+    private final Map<String, Integer> stringReferences = new LinkedHashMap<>();
+
+    private BinaryMyCrmWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Writes the data in {@code myCrm} to {@code out}, which is not closed.
+     *
+     * @param isCompressed whether the data after the header is deflate-compressed.
+     */
+    public static void write(ReadOnlyMyCrm myCrm, OutputStream out, boolean isCompressed) throws IOException {
+        out.write(BinaryMyCrmFormat.MAGIC);
+        out.write(BinaryMyCrmFormat.VERSION);
+        out.write(isCompressed ? BinaryMyCrmFormat.FLAG_DEFLATE : 0);
+
+        if (!isCompressed) {
+            new BinaryMyCrmWriter(out).writeMyCrm(myCrm);
+            return;
+        }
+
+        Deflater deflater = new Deflater();
+        try {
+            DeflaterOutputStream deflaterOut = new DeflaterOutputStream(out, deflater, DEFLATE_BUFFER_SIZE);
+            new BinaryMyCrmWriter(deflaterOut).writeMyCrm(myCrm);
+            deflaterOut.finish();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private void writeMyCrm(ReadOnlyMyCrm myCrm) throws IOException {
+        collectStrings(myCrm);
+        writeVarint(out, stringReferences.size());
+        for (String string : stringReferences.keySet()) {
+            BinaryMyCrmFormat.writeString(out, string);
+        }
+
+        writeVarint(out, myCrm.getContactList().size());
+        for (Contact contact : myCrm.getContactList()) {
+            writeContact(contact);
+        }
+        writeVarint(out, myCrm.getTemplateList().size());
+        for (Template template : myCrm.getTemplateList()) {
+            writeTemplate(template);
+        }
+        writeVarint(out, myCrm.getProductList().size());
+        for (Product product : myCrm.getProductList()) {
+            writeProduct(product);
+        }
+        writeVarint(out, myCrm.getJobList().size());
+        for (Job job : myCrm.getJobList()) {
+            writeJob(job, myCrm);
+        }
+    }
+
+    private static String getClientName(Job job, ReadOnlyMyCrm myCrm) {
+        return job.getClient(myCrm).orElseThrow().getName().toString();
+    }
+
+    private static String getProductName(Job job, ReadOnlyMyCrm myCrm) {
+        return job.getProduct(myCrm).orElseThrow().getName().toString();
+    }
+
+    /**
+     * Adds every string in {@code myCrm} to the string table, in the order they are first written.
+     */
+    private void collectStrings(ReadOnlyMyCrm myCrm) {
+        for (Contact contact : myCrm.getContactList()) {
+            collect(contact.getName().fullName, contact.getPhone().value, contact.getEmail().value,
+                    contact.getAddress().value);
+            for (Tag tag : contact.getTags()) {
+                collect(tag.tagName);
+            }
+        }
+        for (Template template : myCrm.getTemplateList()) {
+            collect(template.getSubject().toString(), template.getBody().toString());
+        }
+        for (Product product : myCrm.getProductList()) {
+            collect(product.getName().toString(), product.getType().toString(),
+                    product.getManufacturer().toString(), product.getDescription().toString());
+        }
+        for (Job job : myCrm.getJobList()) {
+            collect(job.getJobDescription().toString(), getClientName(job, myCrm), getProductName(job, myCrm));
+        }
+    }
+
+    private void collect(String... strings) {
+        for (String string : strings) {
+            if (string != null) {
+                stringReferences.putIfAbsent(string, stringReferences.size() + 1);
+            }
+        }
+    }
+
+    private void writeStringReference(String string) throws IOException {
+        writeVarint(out, string == null ? BinaryMyCrmFormat.NULL_STRING : stringReferences.get(string));
+    }
+
+    private void writeDate(JobDate date) throws IOException {
+        writeSignedVarint(out, date.value.toEpochDay());
+    }
+
+    private void writeContact(Contact contact) throws IOException {
+        writeVarint(out, contact.getId());
+        writeStringReference(contact.getName().fullName);
+        writeStringReference(contact.getPhone().value);
+        writeStringReference(contact.getEmail().value);
+        writeStringReference(contact.getAddress().value);
+        writeVarint(out, contact.getTags().size());
+        for (Tag tag : contact.getTags()) {
+            writeStringReference(tag.tagName);
+        }
+        out.write(contact.checkIsHidden() ? 1 : 0);
+    }
+
+    private void writeTemplate(Template template) throws IOException {
+        writeVarint(out, template.getId());
+        writeStringReference(template.getSubject().toString());
+        writeStringReference(template.getBody().toString());
+    }
+
+    private void writeProduct(Product product) throws IOException {
+        writeVarint(out, product.getId());
+        for (String field : List.of(product.getName().toString(), product.getType().toString(),
+                product.getManufacturer().toString(), product.getDescription().toString())) {
+            writeStringReference(field);
+        }
+    }
+
+    private void writeJob(Job job, ReadOnlyMyCrm myCrm) throws IOException {
+        writeVarint(out, job.getId());
+        writeStringReference(job.getJobDescription().toString());
+        writeStringReference(getClientName(job, myCrm));
+        writeVarint(out, job.getClientId());
+        writeStringReference(getProductName(job, myCrm));
+        writeVarint(out, job.getProductId());
+        writeDate(job.getExpectedCompletionDate());
+        writeDate(job.getReceivedDate());
+
+        // Like the json format, a completion date is only kept for completed jobs.
+        boolean hasCompletionDate = job.isCompleted() && job.getCompletionDate() != null;
+        int flags = (job.isCompleted() ? BinaryMyCrmFormat.JOB_COMPLETED : 0)
+                | (hasCompletionDate ? BinaryMyCrmFormat.JOB_HAS_COMPLETION_DATE : 0);
+        out.write(flags);
+        if (hasCompletionDate) {
+            writeDate(job.getCompletionDate());
+        }
+        writeVarint(out, job.getFee().getCents());
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.mycrm.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.mycrm.model.history.History;
+
+/**
+ * Represents a storage for the commands entered by the user.
+ */
+public interface CommandHistoryStorage {
+
+    /**
+     * Returns the file path of the command history file.
+     */
+    Path getCommandHistoryFilePath();
+
+    /**
+     * Returns the latest entered commands in storage, oldest first.
+     *   Returns an empty list if storage file is not found.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    List<History> readCommandHistory() throws IOException;
+
+    /**
+     * Adds {@code history} to the end of the command history in storage.
+     * @param history cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendCommandHistory(History history) throws IOException;
+
+    /**
+     * Removes all entered commands from storage.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void clearCommandHistory() throws IOException;
+
+}
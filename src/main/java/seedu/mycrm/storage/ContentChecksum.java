@@ -0,0 +1,117 @@
+package seedu.mycrm.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.mycrm.commons.core.LogsCenter;
+import seedu.mycrm.commons.util.FileUtil;
+
+/**
+ * Keeps the CRC32 checksum of the content of a data file in a file next to it, so that data read back from
+ * the data file can be trusted to be valid as long as the content is unchanged since it was saved.
+ */
+class ContentChecksum {
+
+    static final String CHECKSUM_FILE_SUFFIX = ".crc";
+
+    private static final Logger logger = LogsCenter.getLogger(ContentChecksum.class);
+
+    private ContentChecksum() {}
+
+    /**
+     * Returns the path of the file holding the checksum of {@code file}.
+     */
+    static Path getChecksumFilePath(Path file) {
+        return file.resolveSibling(file.getFileName().toString() + CHECKSUM_FILE_SUFFIX);
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to {@code file} like
+     * {@link FileUtil#writeToFileAtomically(Path, FileUtil.ContentWriter)}, and returns its checksum.
+     */
+    static long writeAtomically(Path file, FileUtil.ContentWriter contentWriter) throws IOException {
+        CRC32 crc = new CRC32();
+        FileUtil.writeToFileAtomically(file, out -> contentWriter.write(new CheckedOutputStream(out, crc)));
+        return crc.getValue();
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to {@code file} like
+     * {@link #writeAtomically(Path, FileUtil.ContentWriter)}, then keeps its checksum next to it.
+     */
+    static void writeWithChecksum(Path file, FileUtil.ContentWriter contentWriter) throws IOException {
+        keepChecksum(file, writeAtomically(file, contentWriter));
+    }
+
+    /**
+     * Keeps {@code checksum} as the checksum of the content just written to {@code file}.
+     * Failing to keep the checksum only means that the content will be validated when it is read,
+     * so such failures are logged and otherwise ignored.
+     */
+    static void keepChecksum(Path file, long checksum) {
+        Path checksumFile = getChecksumFilePath(file);
+        try {
+            FileUtil.writeToFile(checksumFile, Long.toHexString(checksum));
+        } catch (IOException ioe) {
+            logger.warning("Failed to save the checksum of " + file + ": " + ioe);
+            try {
+                Files.deleteIfExists(checksumFile);
+            } catch (IOException deleteException) {
+                // A partially written checksum does not match any content either.
+                logger.warning("Failed to delete the checksum of " + file + ": " + deleteException);
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code checksum} is the checksum kept for {@code file}.
+     */
+    static boolean hasChecksum(Path file, long checksum) {
+        Path checksumFile = getChecksumFilePath(file);
+        if (!Files.exists(checksumFile)) {
+            return false;
+        }
+
+        try {
+            return Long.parseUnsignedLong(FileUtil.readFromFile(checksumFile).trim(), 16) == checksum;
+        } catch (IOException | NumberFormatException e) {
+            logger.info("Could not read the checksum of " + file + ": " + e);
+            return false;
+        }
+    }
+
+    /**
+     * Returns true if {@code file} still has the checksum kept when it was last written,
+     * false if it has changed since or no checksum was kept.
+     */
+    static boolean isUnchanged(Path file) {
+        if (!Files.exists(getChecksumFilePath(file))) {
+            return false;
+        }
+
+        try {
+            return hasChecksum(file, checksumOf(file));
+        } catch (IOException ioe) {
+            logger.info("Could not compute the checksum of " + file + ": " + ioe);
+            return false;
+        }
+    }
+
+    /**
+     * Returns the CRC32 checksum of the contents of {@code file}.
+     */
+    static long checksumOf(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(file), crc)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,338 @@
+package seedu.mycrm.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import seedu.mycrm.commons.core.LogsCenter;
+import seedu.mycrm.commons.exceptions.DataConversionException;
+import seedu.mycrm.commons.exceptions.IllegalValueException;
+import seedu.mycrm.commons.util.JsonUtil;
+import seedu.mycrm.model.ReadOnlyMyCrm;
+import seedu.mycrm.model.contact.Contact;
+import seedu.mycrm.model.job.Job;
+import seedu.mycrm.model.mail.Template;
+import seedu.mycrm.model.product.Product;
+
+/**
+ * A class to access MyCrm data stored as a json snapshot plus an append-only journal of changes.
+ * Saving only appends the records that changed since the last save to the journal, and the journal is
+ * periodically compacted into a fresh snapshot. Reading replays the journal on top of the snapshot.
+ * The snapshot has the same format as the file written by {@link JsonMyCrmStorage}.
+ */
+public class JournaledMyCrmStorage extends JsonMyCrmStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledMyCrmStorage.class);
+
+    private final Path journalPath;
+    private final int compactionThreshold;
+
+    private int journalEntryCount;
+    // Checksum of the journal as last written, kept up to date as entries are appended, or null if unknown.
+    private CRC32 journalChecksum;
+
+    // Contents of the lists as last written to the snapshot and journal, or null if unknown.
+    private List<Contact> savedContacts;
+    private List<Template> savedTemplates;
+    private List<Product> savedProducts;
+    private List<Job> savedJobs;
+
+    public JournaledMyCrmStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledMyCrmStorage} that compacts its journal into the snapshot
+     * once the journal holds {@code compactionThreshold} entries.
+     */
+    public JournaledMyCrmStorage(Path filePath, int compactionThreshold) {
+        super(filePath);
+        assert compactionThreshold > 0;
+        this.journalPath = Paths.get(filePath.toString() + JOURNAL_FILE_SUFFIX);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Creates a {@code JournaledMyCrmStorage} that skips invalid records and reports each of them
+     * to {@code invalidRecordHandler}.
+     */
+    public JournaledMyCrmStorage(Path filePath, Consumer<String> invalidRecordHandler) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD, invalidRecordHandler);
+    }
+
+    /**
+     * Creates a {@code JournaledMyCrmStorage} that compacts its journal into the snapshot once the journal
+     * holds {@code compactionThreshold} entries, and skips invalid records, reporting each of them
+     * to {@code invalidRecordHandler}.
+     */
+    public JournaledMyCrmStorage(Path filePath, int compactionThreshold, Consumer<String> invalidRecordHandler) {
+        super(filePath, invalidRecordHandler);
+        assert compactionThreshold > 0;
+        this.journalPath = Paths.get(filePath.toString() + JOURNAL_FILE_SUFFIX);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getJournalFilePath() {
+        return journalPath;
+    }
+
+    /**
+     * Similar to {@link JsonMyCrmStorage#readMyCrm(Path)}, but also replays the journal if {@code filePath}
+     * is the snapshot managed by this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyMyCrm> readMyCrm(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getMyCrmFilePath())) {
+            return super.readMyCrm(filePath);
+        }
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        JsonSerializableMyCrm jsonMyCrm = new JsonSerializableMyCrm();
+        readRecords(filePath, jsonMyCrm);
+
+        try {
+            CRC32 readJournalChecksum = new CRC32();
+            boolean canAppendToJournal = replayJournal(jsonMyCrm, ContentChecksum.checksumOf(filePath),
+                    readJournalChecksum);
+            // The journal header holds the checksum of the snapshot it was started from, so the data is unchanged
+            // since it was saved if the journal itself is.
+            JsonMyCrmAssembler assembler = createAssembler();
+            assembler.setTrusted(canAppendToJournal
+                    && ContentChecksum.hasChecksum(journalPath, readJournalChecksum.getValue()));
+            ReadOnlyMyCrm myCrm = jsonMyCrm.toModelType(assembler);
+            if (canAppendToJournal) {
+                journalChecksum = readJournalChecksum;
+                rememberSaved(myCrm);
+            } else {
+                forgetSaved();
+            }
+            return Optional.of(myCrm);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalPath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    /**
+     * Similar to {@link JsonMyCrmStorage#saveMyCrm(ReadOnlyMyCrm, Path)}, but only appends the changes since
+     * the last save to the journal if {@code filePath} is the snapshot managed by this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveMyCrm(ReadOnlyMyCrm myCrm, Path filePath) throws IOException {
+        requireNonNull(myCrm);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getMyCrmFilePath())) {
+            super.saveMyCrm(myCrm, filePath);
+            return;
+        }
+
+        if (savedContacts == null || !Files.exists(filePath)) {
+            compact(myCrm);
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        diff(savedContacts, myCrm.getContactList(), JsonAdaptedJournalEntry::ofContacts, entries);
+        diff(savedTemplates, myCrm.getTemplateList(), JsonAdaptedJournalEntry::ofTemplates, entries);
+        diff(savedProducts, myCrm.getProductList(), JsonAdaptedJournalEntry::ofProducts, entries);
+        diff(savedJobs, myCrm.getJobList(), (index, remove, inserted) ->
+                JsonAdaptedJournalEntry.ofJobs(index, remove, inserted, myCrm), entries);
+
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        if (journalEntryCount + entries.size() >= compactionThreshold) {
+            compact(myCrm);
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+
+        byte[] linesBytes = lines.toString().getBytes(StandardCharsets.UTF_8);
+        try {
+            Files.write(journalPath, linesBytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException ioe) {
+            // The journal may now end with a partial entry; start from a fresh snapshot on the next save.
+            forgetSaved();
+            throw ioe;
+        }
+        journalChecksum.update(linesBytes);
+        ContentChecksum.keepChecksum(journalPath, journalChecksum.getValue());
+        journalEntryCount += entries.size();
+        rememberSaved(myCrm);
+    }
+
+    /**
+     * Writes {@code myCrm} as a new snapshot and starts an empty journal on top of it.
+     */
+    private void compact(ReadOnlyMyCrm myCrm) throws IOException {
+        forgetSaved();
+        Path snapshotPath = getMyCrmFilePath();
+        long snapshotChecksum = ContentChecksum.writeAtomically(snapshotPath, out ->
+                JsonMyCrmStreamWriter.write(myCrm, out, isPrettyPrinted()));
+
+        Path tempJournalPath = Paths.get(journalPath.toString() + ".tmp");
+        String header = JsonUtil.toCompactJsonString(new JsonAdaptedJournalHeader(snapshotChecksum));
+        byte[] headerBytes = (header + '\n').getBytes(StandardCharsets.UTF_8);
+        Files.write(tempJournalPath, headerBytes);
+        Files.move(tempJournalPath, journalPath, StandardCopyOption.REPLACE_EXISTING);
+        journalChecksum = new CRC32();
+        journalChecksum.update(headerBytes);
+        ContentChecksum.keepChecksum(journalPath, journalChecksum.getValue());
+
+        logger.fine("Compacted " + journalEntryCount + " journal entries into " + snapshotPath);
+        journalEntryCount = 0;
+        rememberSaved(myCrm);
+    }
+
+    /**
+     * Replays the journal on top of {@code snapshot} if the journal was started from a snapshot with
+     * {@code snapshotChecksum}. A partially written last entry is ignored.
+     * The content of the journal is added to {@code journalChecksum} as it is read.
+     *
+     * @return true if further entries can be appended to the journal, false if it has to be compacted first.
+     */
+    private boolean replayJournal(JsonSerializableMyCrm snapshot, long snapshotChecksum, CRC32 journalChecksum)
+            throws IOException, IllegalValueException {
+        journalEntryCount = 0;
+        if (!Files.exists(journalPath)) {
+            return false;
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new CheckedInputStream(Files.newInputStream(journalPath), journalChecksum), StandardCharsets.UTF_8))) {
+            String headerLine = reader.readLine();
+            if (headerLine == null || !isHeaderOf(headerLine, snapshotChecksum)) {
+                logger.warning("Journal " + journalPath + " does not belong to the current snapshot, ignoring it");
+                return false;
+            }
+
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                JsonAdaptedJournalEntry entry;
+                try {
+                    entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+                } catch (IOException ioe) {
+                    if (nextLine != null) {
+                        throw ioe;
+                    }
+                    logger.warning("Ignoring partially written last entry of journal " + journalPath);
+                    return false;
+                }
+                entry.applyTo(snapshot);
+                journalEntryCount++;
+                line = nextLine;
+            }
+            return true;
+        }
+    }
+
+    private boolean isHeaderOf(String headerLine, long snapshotChecksum) {
+        try {
+            return JsonUtil.fromJsonString(headerLine, JsonAdaptedJournalHeader.class).getSnapshotChecksum()
+                    == snapshotChecksum;
+        } catch (IOException ioe) {
+            return false;
+        }
+    }
+
+    /**
+     * Appends to {@code entries} the changes that turn {@code saved} into {@code current}.
+     * Records are compared by reference, as the model replaces a record whenever it changes.
+     * A change in length becomes a single entry covering the region between the common prefix and suffix,
+     * otherwise each run of replaced records becomes its own entry.
+     */
+    private static <T> void diff(List<T> saved, List<? extends T> current, EntryFactory<T> factory,
+                                 List<JsonAdaptedJournalEntry> entries) {
+        int prefix = 0;
+        int maxCommon = Math.min(saved.size(), current.size());
+        while (prefix < maxCommon && saved.get(prefix) == current.get(prefix)) {
+            prefix++;
+        }
+
+        if (saved.size() != current.size()) {
+            int suffix = 0;
+            while (suffix < maxCommon - prefix
+                    && saved.get(saved.size() - 1 - suffix) == current.get(current.size() - 1 - suffix)) {
+                suffix++;
+            }
+            entries.add(factory.create(prefix, saved.size() - suffix - prefix,
+                    new ArrayList<>(current.subList(prefix, current.size() - suffix))));
+            return;
+        }
+
+        int i = prefix;
+        while (i < saved.size()) {
+            if (saved.get(i) == current.get(i)) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < saved.size() && saved.get(i) != current.get(i)) {
+                i++;
+            }
+            entries.add(factory.create(start, i - start, new ArrayList<>(current.subList(start, i))));
+        }
+    }
+
+    private void rememberSaved(ReadOnlyMyCrm myCrm) {
+        savedContacts = new ArrayList<>(myCrm.getContactList());
+        savedTemplates = new ArrayList<>(myCrm.getTemplateList());
+        savedProducts = new ArrayList<>(myCrm.getProductList());
+        savedJobs = new ArrayList<>(myCrm.getJobList());
+    }
+
+    private void forgetSaved() {
+        journalChecksum = null;
+        savedContacts = null;
+        savedTemplates = null;
+        savedProducts = null;
+        savedJobs = null;
+    }
+
+    /**
+     * Creates the journal entry for a change to a list of {@code T}.
+     */
+    private interface EntryFactory<T> {
+        JsonAdaptedJournalEntry create(int index, int remove, List<T> inserted);
+    }
+
+}
@@ -0,0 +1,140 @@
+package seedu.mycrm.storage;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.mycrm.model.EntityId;
+import seedu.mycrm.model.job.JobDateRange;
+
+/**
+ * Jackson-friendly version of the index of a job archive.
+ * It records how many jobs are archived for each month, their total fee in cents and how many of them are of each
+ * product, so that the months do not have to be read to find out what is in the archive, and the largest id of the
+ * archived jobs, clients and products, so that it can be reserved without reading the months.
+ */
+class JsonAdaptedArchiveIndex {
+
+    // Keyed by month in ISO format (yyyy-MM), which sorts chronologically.
+    private final Map<String, JsonAdaptedArchivedMonth> months = new TreeMap<>();
+    // Null for an index written before it recorded the largest id.
+    private Long largestId;
+
+    /**
+     * Constructs a {@code JsonAdaptedArchiveIndex} with the given months and largest id.
+     */
+    @JsonCreator
+    public JsonAdaptedArchiveIndex(@JsonProperty("months") Map<String, JsonAdaptedArchivedMonth> months,
+                                   @JsonProperty("largestId") Long largestId) {
+        if (months != null) {
+            this.months.putAll(months);
+        }
+        this.largestId = largestId;
+    }
+
+    /**
+     * Constructs an empty {@code JsonAdaptedArchiveIndex}.
+     */
+    JsonAdaptedArchiveIndex() {
+        largestId = EntityId.NONE;
+    }
+
+    /**
+     * Returns true if the index records everything this version of the index records, which an index written by an
+     * earlier version does not.
+     */
+    public boolean isComplete() {
+        return largestId != null && months.values().stream()
+                .allMatch(month -> month.revenueCents != null && month.productCounts != null);
+    }
+
+    /**
+     * Returns the months that have archived jobs, earliest first.
+     */
+    public List<YearMonth> getMonths() {
+        return months.keySet().stream().map(YearMonth::parse).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the total fee in cents of the jobs archived for {@code month}, or 0 if there are none.
+     * Must only be called if {@link #isComplete()}.
+     */
+    public long getRevenueCents(YearMonth month) {
+        assert isComplete();
+        JsonAdaptedArchivedMonth archivedMonth = months.get(month.toString());
+        return archivedMonth == null ? 0 : archivedMonth.revenueCents;
+    }
+
+    /**
+     * Returns the number of archived jobs of each product received in {@code receivedIn}, which is made up of whole
+     * months, keyed by the id of the product. Must only be called if {@link #isComplete()}.
+     */
+    public Map<Long, Integer> getProductCounts(JobDateRange receivedIn) {
+        assert isComplete() && receivedIn.hasWholeMonths();
+        Map<Long, Integer> productCounts = new HashMap<>();
+        for (JsonAdaptedArchivedMonth archivedMonth : months.values()) {
+            archivedMonth.productCounts.forEach((receivedMonth, monthCounts) -> {
+                if (receivedIn.contains(YearMonth.parse(receivedMonth).atDay(1))) {
+                    monthCounts.forEach((productId, count) -> productCounts.merge(productId, count, Integer::sum));
+                }
+            });
+        }
+        return productCounts;
+    }
+
+    /**
+     * Returns the largest id of the archived jobs, clients and products, or {@code EntityId.NONE} if there are none.
+     * Must only be called if {@link #isComplete()}.
+     */
+    public long getLargestId() {
+        assert isComplete();
+        return largestId;
+    }
+
+    /**
+     * Records that {@code jobCount} jobs with a total fee of {@code revenueCents} cents are archived for
+     * {@code month}, and that {@code productCounts} of them, keyed by the month they were received in and then by the
+     * id of their product, are of each product.
+     */
+    public void putMonth(YearMonth month, int jobCount, long revenueCents,
+            Map<YearMonth, Map<Long, Integer>> productCounts) {
+        Map<String, Map<Long, Integer>> productCountsByMonth = new TreeMap<>();
+        productCounts.forEach((receivedMonth, monthCounts) ->
+                productCountsByMonth.put(receivedMonth.toString(), new HashMap<>(monthCounts)));
+        months.put(month.toString(), new JsonAdaptedArchivedMonth(jobCount, revenueCents, productCountsByMonth));
+    }
+
+    /**
+     * Records that {@code id} is the id of an archived job, client or product.
+     */
+    public void putId(long id) {
+        largestId = Math.max(largestId == null ? EntityId.NONE : largestId, id);
+    }
+
+    /**
+     * Jackson-friendly summary of the jobs archived for a month.
+     */
+    static class JsonAdaptedArchivedMonth {
+        private final int jobCount;
+        // Null for a month indexed before the revenue was kept in cents.
+        private final Long revenueCents;
+        // Keyed by the month the jobs were received in, in ISO format, and then by the id of their product.
+        // Null for a month indexed before the products were counted.
+        private final Map<String, Map<Long, Integer>> productCounts;
+
+        @JsonCreator
+        public JsonAdaptedArchivedMonth(@JsonProperty("jobCount") int jobCount,
+                                        @JsonProperty("revenueCents") Long revenueCents,
+                                        @JsonProperty("productCounts") Map<String, Map<Long, Integer>> productCounts) {
+            this.jobCount = jobCount;
+            this.revenueCents = revenueCents;
+            this.productCounts = productCounts;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package seedu.mycrm.storage;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.mycrm.commons.exceptions.IllegalValueException;
+import seedu.mycrm.model.EntityId;
+import seedu.mycrm.model.EntityLookup;
+import seedu.mycrm.model.contact.Contact;
+import seedu.mycrm.model.job.ArchivedJob;
+import seedu.mycrm.model.job.Job;
+import seedu.mycrm.model.product.Product;
+
+/**
+ * Jackson-friendly version of an archived {@link Job}.
+ * The job's client and product are archived along with it, as they may be edited or deleted later on.
+ */
+class JsonAdaptedArchivedJob {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Archived job's %s field is missing!";
+
+    private final JsonAdaptedJob job;
+    private final JsonAdaptedContact client;
+    private final JsonAdaptedProduct product;
+
+    /**
+     * Constructs a {@code JsonAdaptedArchivedJob} with the given job, client and product.
+     */
+    @JsonCreator
+    public JsonAdaptedArchivedJob(@JsonProperty("job") JsonAdaptedJob job,
+                                  @JsonProperty("client") JsonAdaptedContact client,
+                                  @JsonProperty("product") JsonAdaptedProduct product) {
+        this.job = job;
+        this.client = client;
+        this.product = product;
+    }
+
+    /**
+     * Converts a given {@code Job} into this class for Jackson use, along with its client and product as looked up
+     * in {@code lookup}, which must have them.
+     */
+    public JsonAdaptedArchivedJob(Job source, EntityLookup lookup) {
+        job = new JsonAdaptedJob(source, lookup);
+        client = new JsonAdaptedContact(source.getClient(lookup).orElseThrow());
+        product = new JsonAdaptedProduct(source.getProduct(lookup).orElseThrow());
+    }
+
+    /**
+     * Returns the description, client name and product name that identify the archived job.
+     */
+    List<String> getIdentity() {
+        return job == null ? Collections.emptyList() : job.getIdentity();
+    }
+
+    /**
+     * Returns the fee of the archived job as it was saved, which may not be a valid fee.
+     */
+    String getFee() {
+        return job == null ? null : job.getFee();
+    }
+
+    /**
+     * Returns the received date of the archived job as it was saved, which may not be a valid date.
+     */
+    String getReceivedDate() {
+        return job == null ? null : job.getReceivedDate();
+    }
+
+    /**
+     * Returns the id the product of the archived job was archived with, or null if it was archived without one.
+     */
+    Long getProductId() {
+        return product == null ? null : product.getId();
+    }
+
+    /**
+     * Returns the largest id the archived job, its client or its product was saved with, or {@code EntityId.NONE}
+     * if they were saved without ids.
+     */
+    long getLargestId() {
+        long largestId = EntityId.NONE;
+        for (Long id : Arrays.asList(job == null ? null : job.getId(), client == null ? null : client.getId(),
+                product == null ? null : product.getId())) {
+            if (id != null) {
+                largestId = Math.max(largestId, id);
+            }
+        }
+        return largestId;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted archived job into the model's {@code Job} object, with the client and
+     * product it is linked to.
+     * The job is linked to the contact and product with the names it was archived with,
+     * or to its archived client and product if there are none with those names.
+     *
+     * @param contactsByName contacts keyed by their name.
+     * @param productsByName products keyed by their name.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted job.
+     */
+    public ArchivedJob toModelType(Map<String, Contact> contactsByName, Map<String, Product> productsByName)
+            throws IllegalValueException {
+        if (job == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Job.class.getSimpleName()));
+        }
+        if (client == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Contact.class.getSimpleName()));
+        }
+        if (product == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Product.class.getSimpleName()));
+        }
+
+        Contact archivedClient = client.toModelType();
+        Product archivedProduct = product.toModelType();
+        String clientName = archivedClient.getName().toString();
+        String productName = archivedProduct.getName().toString();
+        Contact linkedClient = contactsByName.getOrDefault(clientName, archivedClient);
+        Product linkedProduct = productsByName.getOrDefault(productName, archivedProduct);
+
+        Job modelJob = job.toModelType(Collections.singletonMap(clientName, linkedClient),
+                Collections.singletonMap(productName, linkedProduct));
+        return new ArchivedJob(modelJob, linkedClient, linkedProduct);
+    }
+}
@@ -24,6 +24,7 @@ class JsonAdaptedContact {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Contact's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
@@ -33,12 +34,15 @@ class JsonAdaptedContact {
 
     /**
      * Constructs a {@code JsonAdaptedContact} with the given contact details.
+     * {@code id} is null for a contact saved before contacts had ids.
      */
     @JsonCreator
-    public JsonAdaptedContact(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
+    public JsonAdaptedContact(@JsonProperty("id") Long id, @JsonProperty("name") String name,
+                              @JsonProperty("phone") String phone,
                               @JsonProperty("email") String email, @JsonProperty("address") String address,
                               @JsonProperty("tagged") List<JsonAdaptedTag> tagged,
                               @JsonProperty("isHidden") boolean isHidden) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -49,10 +53,19 @@ class JsonAdaptedContact {
         }
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedContact} with the given contact details and no id.
+     */
+    public JsonAdaptedContact(String name, String phone, String email, String address, List<JsonAdaptedTag> tagged,
+                              boolean isHidden) {
+        this(null, name, phone, email, address, tagged, isHidden);
+    }
+
     /**
      * Converts a given {@code Contact} into this class for Jackson use.
      */
     public JsonAdaptedContact(Contact source) {
+        id = source.getId();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -63,6 +76,13 @@ class JsonAdaptedContact {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns the id this contact was saved with, or null if it was saved without one.
+     */
+    Long getId() {
+        return id;
+    }
+
     /**
      * Converts this Jackson-friendly adapted contact object into the model's {@code Contact} object.
      *
@@ -88,7 +108,7 @@ class JsonAdaptedContact {
         final Phone modelPhone;
 
         if (phone != null) {
-            modelPhone = new Phone(phone);
+            modelPhone = Phone.getTrustedPhone(phone);
         } else {
             modelPhone = new Phone();
         }
@@ -99,7 +119,7 @@ class JsonAdaptedContact {
         final Email modelEmail;
 
         if (email != null) {
-            modelEmail = new Email(email);
+            modelEmail = Email.getTrustedEmail(email);
         } else {
             modelEmail = new Email();
         }
@@ -110,7 +130,7 @@ class JsonAdaptedContact {
         final Address modelAddress;
 
         if (address != null) {
-            modelAddress = new Address(address);
+            modelAddress = Address.getTrustedAddress(address);
         } else {
             modelAddress = new Address();
         }
@@ -119,7 +139,25 @@ class JsonAdaptedContact {
 
         final boolean isHidden = this.isHidden;
 
-        return new Contact(modelName, modelPhone, modelEmail, modelAddress, modelTags, isHidden);
+        return new Contact(JsonSerializableMyCrm.toModelId(id), modelName, modelPhone, modelEmail, modelAddress,
+                modelTags, isHidden);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted contact object into the model's {@code Contact} object
+     * without validating its fields again. Must only be used for a contact that was valid when it was saved.
+     */
+    Contact toTrustedModelType() throws IllegalValueException {
+        final Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tagged) {
+            modelTags.add(tag.toTrustedModelType());
+        }
+
+        return new Contact(JsonSerializableMyCrm.toModelId(id), Name.getTrustedName(name),
+                phone == null ? new Phone() : Phone.getTrustedPhone(phone),
+                email == null ? new Email() : Email.getTrustedEmail(email),
+                address == null ? new Address() : Address.getTrustedAddress(address),
+                modelTags, isHidden);
     }
 
 }
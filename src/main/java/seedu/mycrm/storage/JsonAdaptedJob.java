@@ -1,11 +1,19 @@
 package seedu.mycrm.storage;
 
-import java.util.Optional;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.mycrm.commons.exceptions.IllegalValueException;
+import seedu.mycrm.model.EntityId;
+import seedu.mycrm.model.EntityLookup;
 import seedu.mycrm.model.MyCrm;
 import seedu.mycrm.model.contact.Contact;
 import seedu.mycrm.model.job.Job;
@@ -26,8 +34,11 @@ class JsonAdaptedJob {
     public static final String MESSAGE_INVALID_STATUS = "JSON Job list contains an illegal job status";
     public static final String MESSAGE_INVALID_COMPLETION_DATE = "Pending job should not have a completion date";
 
+    private final Long id;
     private final String jobDescription;
+    private final Long clientId;
     private final String client;
+    private final Long productId;
     private final String product;
     private final String expectedCompletionDate;
     private final String jobStatus;
@@ -37,17 +48,22 @@ class JsonAdaptedJob {
 
     /**
      * Constructs a {@code JsonAdaptedJob} with the given job details.
+     * The ids are null for a job saved before jobs, contacts and products had ids.
      */
     @JsonCreator
-    public JsonAdaptedJob(@JsonProperty("jobDescription") String jobDescription, @JsonProperty("client") String client,
-                          @JsonProperty("product") String product,
+    public JsonAdaptedJob(@JsonProperty("id") Long id, @JsonProperty("jobDescription") String jobDescription,
+                          @JsonProperty("clientId") Long clientId, @JsonProperty("client") String client,
+                          @JsonProperty("productId") Long productId, @JsonProperty("product") String product,
                           @JsonProperty("expectedCompletionDate") String expectedCompletionDate,
                           @JsonProperty("jobStatus") String jobStatus,
                           @JsonProperty("receivedDate") String receivedDate,
                           @JsonProperty("completionDate") String completionDate,
                           @JsonProperty("fee") String fee) {
+        this.id = id;
         this.jobDescription = jobDescription;
+        this.clientId = clientId;
         this.client = client;
+        this.productId = productId;
         this.product = product;
         this.expectedCompletionDate = expectedCompletionDate;
         this.jobStatus = jobStatus;
@@ -57,12 +73,25 @@ class JsonAdaptedJob {
     }
 
     /**
-     * Converts a given {@code Job} into this class for Jackson use.
+     * Constructs a {@code JsonAdaptedJob} with the given job details and no ids.
      */
-    public JsonAdaptedJob(Job source) {
+    public JsonAdaptedJob(String jobDescription, String client, String product, String expectedCompletionDate,
+                          String jobStatus, String receivedDate, String completionDate, String fee) {
+        this(null, jobDescription, null, client, null, product, expectedCompletionDate, jobStatus, receivedDate,
+                completionDate, fee);
+    }
+
+    /**
+     * Converts a given {@code Job} into this class for Jackson use, saving the names of its client and product as
+     * looked up in {@code lookup}, which must have them.
+     */
+    public JsonAdaptedJob(Job source, EntityLookup lookup) {
+        id = source.getId();
         jobDescription = source.getJobDescription().toString();
-        client = source.getClient().getName().toString();
-        product = source.getProduct().getName().toString();
+        clientId = source.getClientId();
+        client = source.getClient(lookup).orElseThrow().getName().toString();
+        productId = source.getProductId();
+        product = source.getProduct(lookup).orElseThrow().getName().toString();
         expectedCompletionDate = source.getExpectedCompletionDate().raw();
         jobStatus = source.getJobStatus().toString();
         receivedDate = source.getReceivedDate().raw();
@@ -73,67 +102,162 @@ class JsonAdaptedJob {
     }
 
     /**
-     * Converts this Jackson-friendly adapted job object into the model's {@code Job} object.
+     * Converts this Jackson-friendly adapted job object into the model's {@code Job} object,
+     * linked to the contact and product of {@code model} that it refers to.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted job.
      */
     public Job toModelType(MyCrm model) throws IllegalValueException {
+        return toModelType(mapById(model.getContactList(), Contact::getId),
+                mapByName(model.getContactList(), contact -> contact.getName().toString()),
+                mapById(model.getProductList(), Product::getId),
+                mapByName(model.getProductList(), product -> product.getName().toString()));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted job object into the model's {@code Job} object,
+     * linked to the contact and product it refers to by name.
+     *
+     * @param contactsByName contacts keyed by their name.
+     * @param productsByName products keyed by their name.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted job.
+     */
+    public Job toModelType(Map<String, Contact> contactsByName, Map<String, Product> productsByName)
+            throws IllegalValueException {
+        return toModelType(Collections.emptyMap(), contactsByName, Collections.emptyMap(), productsByName);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted job object into the model's {@code Job} object,
+     * linked to the contact and product it refers to by id, or by name if it has no ids or its ids are not found.
+     *
+     * @param contactsById contacts keyed by their id.
+     * @param contactsByName contacts keyed by their name.
+     * @param productsById products keyed by their id.
+     * @param productsByName products keyed by their name.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted job.
+     */
+    public Job toModelType(Map<Long, Contact> contactsById, Map<String, Contact> contactsByName,
+            Map<Long, Product> productsById, Map<String, Product> productsByName) throws IllegalValueException {
 
         validateJobDescription();
-        final JobDescription modelJobDescription = new JobDescription(jobDescription);
+        final JobDescription modelJobDescription = JobDescription.getTrustedJobDescription(jobDescription);
 
-        validateDate(expectedCompletionDate, "Expected Completion Date");
-        final JobDate modelJobExpectedCompletionDate = new JobDate(expectedCompletionDate);
+        final JobDate modelJobExpectedCompletionDate = toJobDate(expectedCompletionDate, "Expected Completion Date");
 
-        validateDate(receivedDate, "Received Date");
-        final JobDate modelJobReceivedDate = new JobDate(receivedDate);
+        final JobDate modelJobReceivedDate = toJobDate(receivedDate, "Received Date");
 
-        validateJobFee();
-        final JobFee modelJobFee = new JobFee(fee);
+        final JobFee modelJobFee = toJobFee();
 
         final JobStatus modelJobStatus = getJobStatus();
 
         final JobDate modelJobCompletionDate = getJobDate();
 
-        final Job modelJob = new Job(modelJobDescription, modelJobExpectedCompletionDate,
-                modelJobReceivedDate, modelJobFee);
+        final Job modelJob = new Job(JsonSerializableMyCrm.toModelId(id), modelJobDescription, EntityId.NONE,
+                EntityId.NONE, modelJobExpectedCompletionDate, modelJobStatus, modelJobReceivedDate,
+                modelJobCompletionDate, modelJobFee);
 
-        modelJob.setJobStatus(modelJobStatus);
-        modelJob.setCompletionDate(modelJobCompletionDate);
-        linkContactProduct(modelJob, model);
+        linkContactProduct(modelJob, contactsById, contactsByName, productsById, productsByName);
 
         return modelJob;
     }
 
     /**
-     * Checks job fee of {@code Job} of {@code JsonAdaptedJob}.
+     * Converts this Jackson-friendly adapted job object into the model's {@code Job} object like
+     * {@link #toModelType(Map, Map, Map, Map)}, but without validating its fields again.
+     * Must only be used for a job that was valid when it was saved.
+     *
+     * @throws IllegalValueException if the client or product of the job is not found.
+     */
+    Job toTrustedModelType(Map<Long, Contact> contactsById, Map<String, Contact> contactsByName,
+            Map<Long, Product> productsById, Map<String, Product> productsByName) throws IllegalValueException {
+        final Job modelJob = new Job(JsonSerializableMyCrm.toModelId(id),
+                JobDescription.getTrustedJobDescription(jobDescription), EntityId.NONE, EntityId.NONE,
+                JobDate.getTrustedJobDate(expectedCompletionDate), new JobStatus(jobStatus.equals("Completed")),
+                JobDate.getTrustedJobDate(receivedDate),
+                completionDate == null ? null : JobDate.getTrustedJobDate(completionDate), new JobFee(fee));
+
+        linkContactProduct(modelJob, contactsById, contactsByName, productsById, productsByName);
+
+        return modelJob;
+    }
+
+    /**
+     * Returns the description, client name and product name that identify this job.
+     */
+    List<String> getIdentity() {
+        return Arrays.asList(jobDescription, client, product);
+    }
+
+    /**
+     * Returns the id this job was saved with, or null if it was saved without one.
+     */
+    Long getId() {
+        return id;
+    }
+
+    /**
+     * Returns the received date of this job as it was saved, which may not be a valid date.
+     */
+    String getReceivedDate() {
+        return receivedDate;
+    }
+
+    /**
+     * Returns the fee of this job as it was saved, which may not be a valid fee.
+     */
+    String getFee() {
+        return fee;
+    }
+
+    /**
+     * Returns {@code items} keyed by name. The first item wins if several have the same name.
+     */
+    static <T> Map<String, T> mapByName(List<T> items, Function<T, String> nameOf) {
+        Map<String, T> itemsByName = new HashMap<>();
+        for (T item : items) {
+            itemsByName.putIfAbsent(nameOf.apply(item), item);
+        }
+        return itemsByName;
+    }
+
+    /**
+     * Returns {@code items} keyed by id.
+     */
+    static <T> Map<Long, T> mapById(List<T> items, ToLongFunction<T> idOf) {
+        Map<Long, T> itemsById = new HashMap<>();
+        for (T item : items) {
+            itemsById.put(idOf.applyAsLong(item), item);
+        }
+        return itemsById;
+    }
+
+    /**
+     * Returns job fee of {@code Job} of {@code JsonAdaptedJob}.
      *
      * @throws IllegalValueException if there are job fee constraints violated in the adapted job.
      */
-    private void validateJobFee() throws IllegalValueException {
+    private JobFee toJobFee() throws IllegalValueException {
         if (fee == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 JobFee.class.getSimpleName()));
         }
 
-        if (!JobFee.isValidJobFee(fee)) {
-            throw new IllegalValueException(JobFee.MESSAGE_CONSTRAINTS);
-        }
+        return JobFee.tryParse(fee).orElseThrow(() -> new IllegalValueException(JobFee.MESSAGE_CONSTRAINTS));
     }
 
     /**
-     * Checks date of {@code Job} of {@code JsonAdaptedJob}.
+     * Returns the {@code date} of the given {@code type} of {@code Job} of {@code JsonAdaptedJob}.
      *
      * @throws IllegalValueException if there are date constraints violated in the adapted job.
      */
-    private void validateDate(String date, String type) throws IllegalValueException {
+    private JobDate toJobDate(String date, String type) throws IllegalValueException {
         if (date == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, type));
         }
 
-        if (!JobDate.isValidJobDate(date)) {
-            throw new IllegalValueException(type + ": " + JobDate.MESSAGE_CONSTRAINTS);
-        }
+        return JobDate.tryParse(date)
+                .orElseThrow(() -> new IllegalValueException(type + ": " + JobDate.MESSAGE_CONSTRAINTS));
     }
 
     /**
@@ -185,21 +309,21 @@ class JsonAdaptedJob {
             throw new IllegalValueException(MESSAGE_INVALID_COMPLETION_DATE);
         }
 
-        if (JobDate.isValidJobDate(completionDate)) {
-            return new JobDate(completionDate);
-        } else {
-            throw new IllegalValueException("Completion Date: " + JobDate.MESSAGE_CONSTRAINTS);
-        }
+        return toJobDate(completionDate, "Completion Date");
     }
 
     /**
      * Updates specified job with {@code Contact} and {@code Product} object
      *
      * @param job target job
-     * @param model MyCrm model
+     * @param contactsById contacts keyed by their id
+     * @param contactsByName contacts keyed by their name
+     * @param productsById products keyed by their id
+     * @param productsByName products keyed by their name
      * @throws IllegalValueException if there are any data constraints violated in the adapted job.
      */
-    public void linkContactProduct(Job job, MyCrm model) throws IllegalValueException {
+    public void linkContactProduct(Job job, Map<Long, Contact> contactsById, Map<String, Contact> contactsByName,
+            Map<Long, Product> productsById, Map<String, Product> productsByName) throws IllegalValueException {
         if (this.client == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Contact.class.getSimpleName()));
@@ -209,26 +333,22 @@ class JsonAdaptedJob {
                     Product.class.getSimpleName()));
         }
 
-        Optional<Contact> matchClient = model.getContactList()
-                .stream()
-                .filter(contact -> this.client.equals(contact.getName().toString()))
-                .findFirst();
-
-        if (matchClient.isPresent()) {
-            job.setClient(matchClient.get());
-        } else {
+        Contact matchClient = clientId == null ? null : contactsById.get(clientId);
+        if (matchClient == null) {
+            matchClient = contactsByName.get(this.client);
+        }
+        if (matchClient == null) {
             throw new IllegalValueException(MESSAGE_INVALID_CLIENT);
         }
+        job.setClient(matchClient);
 
-        Optional<Product> matchProduct = model.getProductList()
-                .stream()
-                .filter(product -> this.product.equals(product.getName().toString()))
-                .findFirst();
-
-        if (matchProduct.isPresent()) {
-            job.setProduct(matchProduct.get());
-        } else {
+        Product matchProduct = productId == null ? null : productsById.get(productId);
+        if (matchProduct == null) {
+            matchProduct = productsByName.get(this.product);
+        }
+        if (matchProduct == null) {
             throw new IllegalValueException(MESSAGE_INVALID_PRODUCT);
         }
+        job.setProduct(matchProduct);
     }
 }
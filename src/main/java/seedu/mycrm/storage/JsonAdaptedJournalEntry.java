@@ -0,0 +1,138 @@
+package seedu.mycrm.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.mycrm.commons.exceptions.IllegalValueException;
+import seedu.mycrm.model.EntityLookup;
+import seedu.mycrm.model.contact.Contact;
+import seedu.mycrm.model.job.Job;
+import seedu.mycrm.model.mail.Template;
+import seedu.mycrm.model.product.Product;
+
+/**
+ * Jackson-friendly version of a single change to one of the lists of MyCrm.
+ * A change removes {@code remove} records starting at {@code index} of the list named {@code list},
+ * then inserts the carried records at {@code index}.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+class JsonAdaptedJournalEntry {
+
+    public static final String LIST_CONTACTS = "contacts";
+    public static final String LIST_TEMPLATES = "templates";
+    public static final String LIST_PRODUCTS = "products";
+    public static final String LIST_JOBS = "jobs";
+
+    public static final String MESSAGE_INVALID_LIST = "Journal entry refers to an unknown list: %s";
+    public static final String MESSAGE_INVALID_RANGE = "Journal entry does not fit the %s list";
+
+    private final String list;
+    private final int index;
+    private final int remove;
+    private final List<JsonAdaptedContact> contacts = new ArrayList<>();
+    private final List<JsonAdaptedTemplate> templates = new ArrayList<>();
+    private final List<JsonAdaptedProduct> products = new ArrayList<>();
+    private final List<JsonAdaptedJob> jobs = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("list") String list, @JsonProperty("index") int index,
+                                   @JsonProperty("remove") int remove,
+                                   @JsonProperty("contacts") List<JsonAdaptedContact> contacts,
+                                   @JsonProperty("templates") List<JsonAdaptedTemplate> templates,
+                                   @JsonProperty("products") List<JsonAdaptedProduct> products,
+                                   @JsonProperty("jobs") List<JsonAdaptedJob> jobs) {
+        this.list = list;
+        this.index = index;
+        this.remove = remove;
+        if (contacts != null) {
+            this.contacts.addAll(contacts);
+        }
+        if (templates != null) {
+            this.templates.addAll(templates);
+        }
+        if (products != null) {
+            this.products.addAll(products);
+        }
+        if (jobs != null) {
+            this.jobs.addAll(jobs);
+        }
+    }
+
+    /**
+     * Returns an entry replacing {@code remove} contacts at {@code index} with {@code inserted}.
+     */
+    public static JsonAdaptedJournalEntry ofContacts(int index, int remove, List<Contact> inserted) {
+        return new JsonAdaptedJournalEntry(LIST_CONTACTS, index, remove,
+                inserted.stream().map(JsonAdaptedContact::new).collect(Collectors.toList()), null, null, null);
+    }
+
+    /**
+     * Returns an entry replacing {@code remove} templates at {@code index} with {@code inserted}.
+     */
+    public static JsonAdaptedJournalEntry ofTemplates(int index, int remove, List<Template> inserted) {
+        return new JsonAdaptedJournalEntry(LIST_TEMPLATES, index, remove, null,
+                inserted.stream().map(JsonAdaptedTemplate::new).collect(Collectors.toList()), null, null);
+    }
+
+    /**
+     * Returns an entry replacing {@code remove} products at {@code index} with {@code inserted}.
+     */
+    public static JsonAdaptedJournalEntry ofProducts(int index, int remove, List<Product> inserted) {
+        return new JsonAdaptedJournalEntry(LIST_PRODUCTS, index, remove, null, null,
+                inserted.stream().map(JsonAdaptedProduct::new).collect(Collectors.toList()), null);
+    }
+
+    /**
+     * Returns an entry replacing {@code remove} jobs at {@code index} with {@code inserted}, whose clients and
+     * products are looked up in {@code lookup}.
+     */
+    public static JsonAdaptedJournalEntry ofJobs(int index, int remove, List<Job> inserted, EntityLookup lookup) {
+        return new JsonAdaptedJournalEntry(LIST_JOBS, index, remove, null, null, null,
+                inserted.stream().map(job -> new JsonAdaptedJob(job, lookup)).collect(Collectors.toList()));
+    }
+
+    /**
+     * Replays this change on the matching list of {@code target}.
+     *
+     * @throws IllegalValueException if this entry does not refer to a known list or does not fit it.
+     */
+    public void applyTo(JsonSerializableMyCrm target) throws IllegalValueException {
+        if (list == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_LIST, list));
+        }
+
+        switch (list) {
+        case LIST_CONTACTS:
+            splice(target.getContacts(), contacts);
+            break;
+        case LIST_TEMPLATES:
+            splice(target.getTemplates(), templates);
+            break;
+        case LIST_PRODUCTS:
+            splice(target.getProducts(), products);
+            break;
+        case LIST_JOBS:
+            splice(target.getJobs(), jobs);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_LIST, list));
+        }
+    }
+
+    private <T> void splice(List<T> target, List<T> inserted) throws IllegalValueException {
+        if (index < 0 || remove < 0 || index + remove > target.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RANGE, list));
+        }
+        target.subList(index, index + remove).clear();
+        target.addAll(index, inserted);
+    }
+
+}
@@ -0,0 +1,27 @@
+package seedu.mycrm.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the first line of a MyCrm journal.
+ * It records the checksum of the snapshot the journal was started from, so that a journal left behind
+ * by an interrupted compaction is never replayed on top of a newer snapshot.
+ */
+class JsonAdaptedJournalHeader {
+
+    private final long snapshotChecksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalHeader} with the given snapshot checksum.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalHeader(@JsonProperty("snapshotChecksum") long snapshotChecksum) {
+        this.snapshotChecksum = snapshotChecksum;
+    }
+
+    public long getSnapshotChecksum() {
+        return snapshotChecksum;
+    }
+
+}
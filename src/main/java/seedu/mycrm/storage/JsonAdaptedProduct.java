@@ -17,6 +17,7 @@ class JsonAdaptedProduct {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Product's %s field is missing!";
 
+    private final Long id;
     private final String productName;
     private final String type;
     private final String manufacturer;
@@ -24,27 +25,45 @@ class JsonAdaptedProduct {
 
     /**
      * Constructs a {@code JsonAdaptedTemplate} with the given product details.
+     * {@code id} is null for a product saved before products had ids.
      */
     @JsonCreator
-    public JsonAdaptedProduct(@JsonProperty("productName") String productName, @JsonProperty("type") String type,
+    public JsonAdaptedProduct(@JsonProperty("id") Long id, @JsonProperty("productName") String productName,
+                              @JsonProperty("type") String type,
                               @JsonProperty("manufacturer") String manufacturer,
                               @JsonProperty("description") String description) {
+        this.id = id;
         this.productName = productName;
         this.type = type;
         this.manufacturer = manufacturer;
         this.description = description;
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedProduct} with the given product details and no id.
+     */
+    public JsonAdaptedProduct(String productName, String type, String manufacturer, String description) {
+        this(null, productName, type, manufacturer, description);
+    }
+
     /**
      * Converts a given {@code Product} into this class for Jackson use.
      */
     public JsonAdaptedProduct(Product source) {
+        id = source.getId();
         productName = source.getName().toString();
         type = source.getType().toString();
         manufacturer = source.getManufacturer().toString();
         description = source.getDescription().toString();
     }
 
+    /**
+     * Returns the id this product was saved with, or null if it was saved without one.
+     */
+    Long getId() {
+        return id;
+    }
+
     /**
      * Converts this Jackson-friendly adapted product object into the model's {@code Product} object.
      *
@@ -64,7 +83,8 @@ class JsonAdaptedProduct {
         validateDescription();
         final Description modelDescription = Description.getDescription(description);
 
-        return new Product(modelProductName, modelType, modelManufacturer, modelDescription);
+        return new Product(JsonSerializableMyCrm.toModelId(id), modelProductName, modelType, modelManufacturer,
+                modelDescription);
     }
 
     /**
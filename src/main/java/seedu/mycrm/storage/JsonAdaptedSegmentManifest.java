@@ -0,0 +1,55 @@
+package seedu.mycrm.storage;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.mycrm.model.MyCrmSegment;
+
+/**
+ * Jackson-friendly version of the manifest of a segmented MyCrm data file.
+ * It names the file that currently holds each segment of the data. Segment files are never overwritten,
+ * so the data only changes when a new manifest replaces this one.
+ */
+class JsonAdaptedSegmentManifest {
+
+    private final long generation;
+    private final Map<MyCrmSegment, String> segments = new EnumMap<>(MyCrmSegment.class);
+
+    /**
+     * Constructs a {@code JsonAdaptedSegmentManifest} with the given generation and segment files.
+     */
+    @JsonCreator
+    public JsonAdaptedSegmentManifest(@JsonProperty("generation") long generation,
+                                      @JsonProperty("segments") Map<MyCrmSegment, String> segments) {
+        this.generation = generation;
+        if (segments != null) {
+            this.segments.putAll(segments);
+        }
+    }
+
+    /**
+     * Returns the generation of the newest segment file.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the name of the file holding {@code segment}, if the segment has been saved.
+     */
+    public Optional<String> getSegmentFileName(MyCrmSegment segment) {
+        return Optional.ofNullable(segments.get(segment));
+    }
+
+    /**
+     * Returns a copy of the segment files, for building the next manifest.
+     */
+    public Map<MyCrmSegment, String> getSegmentFileNames() {
+        return new EnumMap<>(segments);
+    }
+
+}
@@ -42,7 +42,15 @@ class JsonAdaptedTag {
         if (!Tag.isValidTagName(tagName)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(tagName);
+        return Tag.getTrustedTag(tagName);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted tag object into the model's {@code Tag} object without validating it.
+     * Must only be used for a tag that was valid when it was saved.
+     */
+    Tag toTrustedModelType() {
+        return Tag.getTrustedTag(tagName);
     }
 
 }
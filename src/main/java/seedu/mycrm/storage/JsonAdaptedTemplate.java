@@ -15,22 +15,34 @@ class JsonAdaptedTemplate {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Template's %s field is missing!";
 
+    private final Long id;
     private final String subject;
     private final String body;
 
     /**
      * Constructs a {@code JsonAdaptedTemplate} with the given template details.
+     * {@code id} is null for a template saved before templates had ids.
      */
     @JsonCreator
-    public JsonAdaptedTemplate(@JsonProperty("subject") String subject, @JsonProperty("body") String body) {
+    public JsonAdaptedTemplate(@JsonProperty("id") Long id, @JsonProperty("subject") String subject,
+                               @JsonProperty("body") String body) {
+        this.id = id;
         this.subject = subject;
         this.body = body;
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedTemplate} with the given template details and no id.
+     */
+    public JsonAdaptedTemplate(String subject, String body) {
+        this(null, subject, body);
+    }
+
     /**
      * Converts a given {@code Template} into this class for Jackson use.
      */
     public JsonAdaptedTemplate(Template source) {
+        id = source.getId();
         subject = source.getSubject().toString();
         body = source.getBody().toString();
     }
@@ -43,12 +55,21 @@ class JsonAdaptedTemplate {
     public Template toModelType() throws IllegalValueException {
 
         validateSubject();
-        final Subject modelSubject = new Subject(subject);
+        final Subject modelSubject = Subject.getTrustedSubject(subject);
 
         validateBody();
-        final Body modelBody = new Body(body);
+        final Body modelBody = Body.getTrustedBody(body);
 
-        return new Template(modelSubject, modelBody);
+        return new Template(JsonSerializableMyCrm.toModelId(id), modelSubject, modelBody);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted template object into the model's {@code Template} object
+     * without validating it again. Must only be used for a template that was valid when it was saved.
+     */
+    Template toTrustedModelType() throws IllegalValueException {
+        return new Template(JsonSerializableMyCrm.toModelId(id), Subject.getTrustedSubject(subject),
+                Body.getTrustedBody(body));
     }
 
     /**
@@ -0,0 +1,269 @@
+package seedu.mycrm.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.mycrm.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.mycrm.commons.core.LogsCenter;
+import seedu.mycrm.commons.exceptions.DataConversionException;
+import seedu.mycrm.commons.exceptions.IllegalValueException;
+import seedu.mycrm.commons.util.FileUtil;
+import seedu.mycrm.commons.util.JsonUtil;
+import seedu.mycrm.model.EntityLookup;
+import seedu.mycrm.model.ReadOnlyMyCrm;
+import seedu.mycrm.model.contact.Contact;
+import seedu.mycrm.model.job.ArchivedJob;
+import seedu.mycrm.model.job.Job;
+import seedu.mycrm.model.job.JobArchive;
+import seedu.mycrm.model.job.JobDate;
+import seedu.mycrm.model.job.JobDateRange;
+import seedu.mycrm.model.job.JobFee;
+import seedu.mycrm.model.product.Product;
+
+/**
+ * A {@code JobArchive} stored in a directory on the hard disk, with one gzip-compressed json file per month
+ * and an index of the months.
+ * Month files and the index are replaced atomically. A month file is always written before the index,
+ * and the index is rebuilt from the month files if it is missing, cannot be read or was written by an earlier version.
+ */
+public class JsonJobArchive implements JobArchive {
+
+    public static final String ARCHIVE_DIRECTORY_SUFFIX = ".archive";
+    public static final String INDEX_FILE_NAME = "index.json";
+
+    static final String MESSAGE_NOT_WHOLE_MONTHS = "Products are only counted over whole months";
+
+    private static final String MONTH_FILE_PREFIX = "jobs-";
+    private static final String MONTH_FILE_SUFFIX = ".json.gz";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonJobArchive.class);
+
+    private final Path directory;
+    private final Path indexPath;
+
+    // The index as last read or written, or null if it has not been read yet.
+    private JsonAdaptedArchiveIndex index;
+
+    public JsonJobArchive(Path directory) {
+        requireNonNull(directory);
+        this.directory = directory;
+        this.indexPath = directory.resolve(INDEX_FILE_NAME);
+    }
+
+    /**
+     * Returns the directory of the archive that belongs to the MyCrm data at {@code myCrmFilePath}.
+     */
+    public static Path getArchiveDirectory(Path myCrmFilePath) {
+        return JsonMyCrmStorage.getSiblingPath(myCrmFilePath, ARCHIVE_DIRECTORY_SUFFIX);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    Path getMonthFilePath(YearMonth month) {
+        return directory.resolve(MONTH_FILE_PREFIX + month + MONTH_FILE_SUFFIX);
+    }
+
+    @Override
+    public List<YearMonth> getArchivedMonths() {
+        return getIndex().getMonths();
+    }
+
+    @Override
+    public long getRevenueCents(YearMonth month) {
+        requireNonNull(month);
+        return getIndex().getRevenueCents(month);
+    }
+
+    @Override
+    public Map<Long, Integer> getProductCounts(JobDateRange receivedIn) {
+        requireNonNull(receivedIn);
+        checkArgument(receivedIn.hasWholeMonths(), MESSAGE_NOT_WHOLE_MONTHS);
+        return getIndex().getProductCounts(receivedIn);
+    }
+
+    @Override
+    public long getLargestId() {
+        return getIndex().getLargestId();
+    }
+
+    @Override
+    public List<ArchivedJob> readJobs(YearMonth month, ReadOnlyMyCrm myCrm) throws DataConversionException {
+        requireNonNull(month);
+        requireNonNull(myCrm);
+
+        List<JsonAdaptedArchivedJob> records;
+        try {
+            records = readMonth(month);
+        } catch (IOException ioe) {
+            logger.warning("Error reading archived jobs of " + month + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+
+        Map<String, Contact> contactsByName =
+                JsonAdaptedJob.mapByName(myCrm.getContactList(), contact -> contact.getName().toString());
+        Map<String, Product> productsByName =
+                JsonAdaptedJob.mapByName(myCrm.getProductList(), product -> product.getName().toString());
+        List<ArchivedJob> jobs = new ArrayList<>();
+        try {
+            for (JsonAdaptedArchivedJob record : records) {
+                jobs.add(record.toModelType(contactsByName, productsByName));
+            }
+        } catch (IllegalValueException ive) {
+            logger.warning("Illegal archived job in " + month + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        return jobs;
+    }
+
+    @Override
+    public void addJobs(YearMonth month, List<Job> jobs, EntityLookup lookup) throws IOException {
+        requireNonNull(month);
+        requireNonNull(jobs);
+        requireNonNull(lookup);
+
+        Map<List<String>, JsonAdaptedArchivedJob> recordsByIdentity = new LinkedHashMap<>();
+        for (JsonAdaptedArchivedJob record : readMonth(month)) {
+            recordsByIdentity.put(record.getIdentity(), record);
+        }
+        for (Job job : jobs) {
+            JsonAdaptedArchivedJob record = new JsonAdaptedArchivedJob(job, lookup);
+            recordsByIdentity.put(record.getIdentity(), record);
+        }
+        Collection<JsonAdaptedArchivedJob> records = recordsByIdentity.values();
+
+        writeMonth(month, new JsonSerializableArchivedJobs(new ArrayList<>(records)));
+        JsonAdaptedArchiveIndex updatedIndex = getIndex();
+        updatedIndex.putMonth(month, records.size(), getRevenueCents(records), getProductCounts(records));
+        records.forEach(record -> updatedIndex.putId(record.getLargestId()));
+        FileUtil.writeToFileAtomically(indexPath,
+            out -> out.write(JsonUtil.toJsonString(updatedIndex).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Returns the index, reading it or rebuilding it from the month files if this has not been done yet.
+     */
+    private JsonAdaptedArchiveIndex getIndex() {
+        if (index != null) {
+            return index;
+        }
+
+        try {
+            Optional<JsonAdaptedArchiveIndex> readIndex = JsonUtil.readJsonFile(indexPath,
+                    JsonAdaptedArchiveIndex.class);
+            if (readIndex.isPresent() && readIndex.get().isComplete()) {
+                index = readIndex.get();
+                return index;
+            }
+        } catch (DataConversionException dce) {
+            logger.warning("Archive index " + indexPath + " is not in the correct format. It will be rebuilt");
+        }
+        index = rebuildIndex();
+        return index;
+    }
+
+    /**
+     * Returns an index of the month files in the archive directory. Month files that cannot be read are left out.
+     */
+    private JsonAdaptedArchiveIndex rebuildIndex() {
+        JsonAdaptedArchiveIndex rebuiltIndex = new JsonAdaptedArchiveIndex();
+        if (!Files.isDirectory(directory)) {
+            return rebuiltIndex;
+        }
+
+        try (DirectoryStream<Path> monthFiles = Files.newDirectoryStream(directory,
+                MONTH_FILE_PREFIX + "*" + MONTH_FILE_SUFFIX)) {
+            for (Path monthFile : monthFiles) {
+                String fileName = monthFile.getFileName().toString();
+                String monthString = fileName.substring(MONTH_FILE_PREFIX.length(),
+                        fileName.length() - MONTH_FILE_SUFFIX.length());
+                try {
+                    YearMonth month = YearMonth.parse(monthString);
+                    List<JsonAdaptedArchivedJob> records = readMonth(month);
+                    rebuiltIndex.putMonth(month, records.size(), getRevenueCents(records), getProductCounts(records));
+                    records.forEach(record -> rebuiltIndex.putId(record.getLargestId()));
+                } catch (DateTimeParseException | IOException e) {
+                    logger.warning("Skipping unreadable archive file " + monthFile + ": " + e);
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warning("Problem while listing the archive directory " + directory + ": " + ioe);
+        }
+        return rebuiltIndex;
+    }
+
+    /**
+     * Returns the records in the month file of {@code month}, or an empty list if there is no such file.
+     */
+    private List<JsonAdaptedArchivedJob> readMonth(YearMonth month) throws IOException {
+        Path monthFile = getMonthFilePath(month);
+        if (!Files.exists(monthFile)) {
+            return new ArrayList<>();
+        }
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(monthFile))) {
+            return JsonUtil.fromJsonStream(in, JsonSerializableArchivedJobs.class).getJobs();
+        }
+    }
+
+    private void writeMonth(YearMonth month, JsonSerializableArchivedJobs records) throws IOException {
+        FileUtil.writeToFileAtomically(getMonthFilePath(month), out -> {
+            GZIPOutputStream gzip = new GZIPOutputStream(out);
+            try (JsonGenerator generator = JsonUtil.createGenerator(gzip, false)) {
+                JsonUtil.writeJsonValue(generator, records);
+            }
+            gzip.finish();
+        });
+    }
+
+    /**
+     * Returns the total fee in cents of {@code records}. Records with an invalid fee are counted as free.
+     */
+    private static long getRevenueCents(Collection<JsonAdaptedArchivedJob> records) {
+        long revenueCents = 0;
+        for (JsonAdaptedArchivedJob record : records) {
+            String fee = record.getFee();
+            if (fee != null) {
+                revenueCents += JobFee.tryParse(fee).map(JobFee::getCents).orElse(0);
+            }
+        }
+        return revenueCents;
+    }
+
+    /**
+     * Returns the number of {@code records} of each product, keyed by the month the jobs were received in and then by
+     * the id of the product. Records without a valid received date or a product id are left out.
+     */
+    private static Map<YearMonth, Map<Long, Integer>> getProductCounts(Collection<JsonAdaptedArchivedJob> records) {
+        Map<YearMonth, Map<Long, Integer>> productCounts = new HashMap<>();
+        for (JsonAdaptedArchivedJob record : records) {
+            Long productId = record.getProductId();
+            Optional<JobDate> receivedDate = Optional.ofNullable(record.getReceivedDate()).flatMap(JobDate::tryParse);
+            if (productId != null && receivedDate.isPresent()) {
+                productCounts.computeIfAbsent(YearMonth.from(receivedDate.get().value), unused -> new HashMap<>())
+                        .merge(productId, 1, Integer::sum);
+            }
+        }
+        return productCounts;
+    }
+}
@@ -0,0 +1,338 @@
+package seedu.mycrm.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.mycrm.commons.exceptions.IllegalValueException;
+import seedu.mycrm.model.MyCrm;
+import seedu.mycrm.model.contact.Contact;
+import seedu.mycrm.model.job.Job;
+import seedu.mycrm.model.mail.Subject;
+import seedu.mycrm.model.mail.Template;
+import seedu.mycrm.model.product.Product;
+
+/**
+ * Converts the records of a MyCrm json data file into the model's {@code MyCrm}.
+ * Records are collected into batches that are converted in parallel on the common {@code ForkJoinPool},
+ * and then checked for duplicates in file order against hash maps of the records accepted so far.
+ * Records are also checked for duplicate ids against hash maps of the ids accepted so far, and jobs are linked to
+ * their client and product through the maps of contacts and products by id, or by name for jobs saved without ids.
+ * A strict assembler rejects the whole data file at the first invalid record.
+ * A lenient assembler skips invalid records and reports each of them instead.
+ */
+class JsonMyCrmAssembler implements JsonMyCrmRecordHandler {
+
+    public static final String MESSAGE_SKIPPED_RECORD = "Skipped %s #%d: %s";
+    public static final String MESSAGE_EMPTY_RECORD = "Record is empty or unreadable";
+
+    /** Number of records of a type that are collected before they are converted. */
+    static final int BATCH_SIZE = 4096;
+    /** Smallest batch that is worth converting in parallel. */
+    static final int PARALLEL_THRESHOLD = 256;
+
+    private final Consumer<String> invalidRecordHandler;
+    private boolean hasSkippedRecords;
+
+    // Accepted records in file order, keyed by the fields that identify them.
+    private final Map<String, Contact> contactsByName = new LinkedHashMap<>();
+    private final Map<Subject, Template> templatesBySubject = new LinkedHashMap<>();
+    private final Map<String, Product> productsByName = new LinkedHashMap<>();
+    private final Map<List<Object>, Job> jobsByIdentity = new LinkedHashMap<>();
+    private final Map<Long, Contact> contactsById = new HashMap<>();
+    private final Set<Long> templateIds = new HashSet<>();
+    private final Map<Long, Product> productsById = new HashMap<>();
+    private final Set<Long> jobIds = new HashSet<>();
+
+    private final RecordBatch<JsonAdaptedContact, Contact> contactBatch = new RecordBatch<>(
+            JsonMyCrmStreamReader.RECORD_CONTACT, JsonAdaptedContact::toModelType,
+            JsonAdaptedContact::toTrustedModelType, this::acceptContact);
+    private final RecordBatch<JsonAdaptedTemplate, Template> templateBatch = new RecordBatch<>(
+            JsonMyCrmStreamReader.RECORD_TEMPLATE, JsonAdaptedTemplate::toModelType,
+            JsonAdaptedTemplate::toTrustedModelType, this::acceptTemplate);
+    private final RecordBatch<JsonAdaptedProduct, Product> productBatch = new RecordBatch<>(
+            JsonMyCrmStreamReader.RECORD_PRODUCT, JsonAdaptedProduct::toModelType,
+            JsonAdaptedProduct::toModelType, this::acceptProduct);
+    private final RecordBatch<JsonAdaptedJob, Job> jobBatch = new RecordBatch<>(JsonMyCrmStreamReader.RECORD_JOB,
+        job -> job.toModelType(contactsById, contactsByName, productsById, productsByName),
+        job -> job.toTrustedModelType(contactsById, contactsByName, productsById, productsByName), this::acceptJob);
+
+    private boolean isTrusted;
+    private MyCrm myCrm;
+
+    /**
+     * Creates a strict {@code JsonMyCrmAssembler}.
+     */
+    public JsonMyCrmAssembler() {
+        this.invalidRecordHandler = null;
+    }
+
+    /**
+     * Creates a lenient {@code JsonMyCrmAssembler} that reports each skipped record to {@code invalidRecordHandler}.
+     */
+    public JsonMyCrmAssembler(Consumer<String> invalidRecordHandler) {
+        this.invalidRecordHandler = invalidRecordHandler;
+    }
+
+    /**
+     * Returns the {@code MyCrm} holding all the records accepted by this assembler.
+     * No more records should be handled afterwards.
+     *
+     * @throws IllegalValueException if this assembler is strict and one of the remaining records is invalid.
+     */
+    public MyCrm getMyCrm() throws IllegalValueException {
+        if (myCrm == null) {
+            contactBatch.flush();
+            templateBatch.flush();
+            productBatch.flush();
+            jobBatch.flush();
+
+            myCrm = new MyCrm();
+            myCrm.setContacts(new ArrayList<>(contactsByName.values()));
+            myCrm.setTemplates(new ArrayList<>(templatesBySubject.values()));
+            myCrm.setProducts(new ArrayList<>(productsByName.values()));
+            myCrm.setJobs(new ArrayList<>(jobsByIdentity.values()));
+        }
+        return myCrm;
+    }
+
+    /**
+     * Sets whether the records handled from now on are trusted to be valid, such as records read back from
+     * a data file that is unchanged since it was saved. Trusted records are converted without validating their
+     * fields again, but are still checked for duplicates and linked like other records.
+     */
+    public void setTrusted(boolean isTrusted) throws IllegalValueException {
+        if (this.isTrusted == isTrusted) {
+            return;
+        }
+        // Convert the records handled so far as they were trusted when they were handled.
+        contactBatch.flush();
+        templateBatch.flush();
+        productBatch.flush();
+        jobBatch.flush();
+        this.isTrusted = isTrusted;
+    }
+
+    /**
+     * Returns true if any invalid record was skipped, so that the data differs from its json source.
+     * Only complete once {@link #getMyCrm()} has been called.
+     */
+    public boolean hasSkippedRecords() {
+        return hasSkippedRecords;
+    }
+
+    @Override
+    public void handleContact(JsonAdaptedContact jsonAdaptedContact) throws IllegalValueException {
+        contactBatch.add(jsonAdaptedContact);
+    }
+
+    @Override
+    public void handleTemplate(JsonAdaptedTemplate jsonAdaptedTemplate) throws IllegalValueException {
+        templateBatch.add(jsonAdaptedTemplate);
+    }
+
+    @Override
+    public void handleProduct(JsonAdaptedProduct jsonAdaptedProduct) throws IllegalValueException {
+        productBatch.add(jsonAdaptedProduct);
+    }
+
+    @Override
+    public void handleJob(JsonAdaptedJob jsonAdaptedJob) throws IllegalValueException {
+        // Jobs are linked through the maps of accepted contacts and products, which must be complete.
+        contactBatch.flush();
+        productBatch.flush();
+        jobBatch.add(jsonAdaptedJob);
+    }
+
+    @Override
+    public void handleUnreadableRecord(String recordType, String reason) throws IllegalValueException {
+        switch (recordType) {
+        case JsonMyCrmStreamReader.RECORD_CONTACT:
+            contactBatch.addUnreadable(reason);
+            break;
+        case JsonMyCrmStreamReader.RECORD_TEMPLATE:
+            templateBatch.addUnreadable(reason);
+            break;
+        case JsonMyCrmStreamReader.RECORD_PRODUCT:
+            productBatch.addUnreadable(reason);
+            break;
+        default:
+            assert recordType.equals(JsonMyCrmStreamReader.RECORD_JOB);
+            jobBatch.addUnreadable(reason);
+            break;
+        }
+    }
+
+    private void acceptContact(Contact contact) throws IllegalValueException {
+        if (contactsByName.containsKey(contact.getName().toString())) {
+            throw new IllegalValueException(JsonSerializableMyCrm.MESSAGE_DUPLICATE_CONTACT);
+        }
+        checkNewId(contactsById.keySet(), contact.getId());
+        contactsByName.put(contact.getName().toString(), contact);
+        contactsById.put(contact.getId(), contact);
+    }
+
+    private void acceptTemplate(Template template) throws IllegalValueException {
+        if (templatesBySubject.containsKey(template.getSubject())) {
+            throw new IllegalValueException(JsonSerializableMyCrm.MESSAGE_DUPLICATE_TEMPLATE);
+        }
+        checkNewId(templateIds, template.getId());
+        templatesBySubject.put(template.getSubject(), template);
+        templateIds.add(template.getId());
+    }
+
+    private void acceptProduct(Product product) throws IllegalValueException {
+        if (productsByName.containsKey(product.getName().toString())) {
+            throw new IllegalValueException(JsonSerializableMyCrm.MESSAGE_DUPLICATE_PRODUCT);
+        }
+        checkNewId(productsById.keySet(), product.getId());
+        productsByName.put(product.getName().toString(), product);
+        productsById.put(product.getId(), product);
+    }
+
+    private void acceptJob(Job job) throws IllegalValueException {
+        // the fields compared by Job#isSameJob
+        List<Object> identity = Arrays.asList(job.getJobDescription(), job.getClientId(), job.getProductId());
+        if (jobsByIdentity.containsKey(identity)) {
+            throw new IllegalValueException(JsonSerializableMyCrm.MESSAGE_DUPLICATE_JOB);
+        }
+        checkNewId(jobIds, job.getId());
+        jobsByIdentity.put(identity, job);
+        jobIds.add(job.getId());
+    }
+
+    /**
+     * Checks that {@code id} is not one of the {@code acceptedIds} of the records of the same type.
+     */
+    private static void checkNewId(Set<Long> acceptedIds, long id) throws IllegalValueException {
+        if (acceptedIds.contains(id)) {
+            throw new IllegalValueException(String.format(JsonSerializableMyCrm.MESSAGE_DUPLICATE_ID, id));
+        }
+    }
+
+    /**
+     * Rejects the {@code position}-th record of the given type, which is invalid because of {@code cause}.
+     *
+     * @throws IllegalValueException if this assembler is strict.
+     */
+    private void reject(String recordType, int position, IllegalValueException cause) throws IllegalValueException {
+        if (invalidRecordHandler == null) {
+            throw cause;
+        }
+        hasSkippedRecords = true;
+        invalidRecordHandler.accept(String.format(MESSAGE_SKIPPED_RECORD, recordType, position, cause.getMessage()));
+    }
+
+    /**
+     * The records of one type that have been read but not converted yet.
+     *
+     * @param <T> the Jackson-friendly type of the records.
+     * @param <M> the model type the records are converted to.
+     */
+    private class RecordBatch<T, M> {
+        private final String recordType;
+        private final RecordConverter<T, M> converter;
+        private final RecordConverter<T, M> trustedConverter;
+        private final RecordAcceptor<M> acceptor;
+        private final List<T> records = new ArrayList<>();
+        private int handledCount;
+
+        RecordBatch(String recordType, RecordConverter<T, M> converter, RecordConverter<T, M> trustedConverter,
+                    RecordAcceptor<M> acceptor) {
+            this.recordType = recordType;
+            this.converter = converter;
+            this.trustedConverter = trustedConverter;
+            this.acceptor = acceptor;
+        }
+
+        void add(T record) throws IllegalValueException {
+            records.add(record);
+            if (records.size() >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        /**
+         * Rejects a record that could not be read, after the records that came before it.
+         */
+        void addUnreadable(String reason) throws IllegalValueException {
+            flush();
+            reject(recordType, ++handledCount, new IllegalValueException(reason));
+        }
+
+        /**
+         * Converts the collected records, then accepts or rejects them in file order.
+         */
+        void flush() throws IllegalValueException {
+            if (records.isEmpty()) {
+                return;
+            }
+
+            Stream<T> recordStream = records.size() >= PARALLEL_THRESHOLD ? records.parallelStream() : records.stream();
+            List<Conversion<M>> conversions = recordStream.map(this::convert).collect(Collectors.toList());
+            records.clear();
+
+            for (Conversion<M> conversion : conversions) {
+                handledCount++;
+                try {
+                    acceptor.accept(conversion.get());
+                } catch (IllegalValueException ive) {
+                    reject(recordType, handledCount, ive);
+                }
+            }
+        }
+
+        private Conversion<M> convert(T record) {
+            if (record == null) {
+                return new Conversion<>(null, new IllegalValueException(MESSAGE_EMPTY_RECORD));
+            }
+            try {
+                return new Conversion<>((isTrusted ? trustedConverter : converter).convert(record), null);
+            } catch (IllegalValueException ive) {
+                return new Conversion<>(null, ive);
+            }
+        }
+    }
+
+    /**
+     * The outcome of converting a single record: either the converted record or the reason it is invalid.
+     */
+    private static class Conversion<M> {
+        private final M converted;
+        private final IllegalValueException error;
+
+        Conversion(M converted, IllegalValueException error) {
+            this.converted = converted;
+            this.error = error;
+        }
+
+        M get() throws IllegalValueException {
+            if (error != null) {
+                throw error;
+            }
+            return converted;
+        }
+    }
+
+    /**
+     * Converts a Jackson-friendly record into the model's type.
+     */
+    private interface RecordConverter<T, M> {
+        M convert(T record) throws IllegalValueException;
+    }
+
+    /**
+     * Adds a converted record to the data.
+     */
+    private interface RecordAcceptor<M> {
+        void accept(M converted) throws IllegalValueException;
+    }
+}
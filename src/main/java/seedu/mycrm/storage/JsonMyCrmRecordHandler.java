@@ -0,0 +1,38 @@
+package seedu.mycrm.storage;
+
+import seedu.mycrm.commons.exceptions.IllegalValueException;
+
+/**
+ * Receives the records of a MyCrm json data file one at a time, as they are read.
+ */
+interface JsonMyCrmRecordHandler {
+
+    /**
+     * Handles a contact record. {@code contact} is null if the record was json {@code null}.
+     */
+    void handleContact(JsonAdaptedContact contact) throws IllegalValueException;
+
+    /**
+     * Handles a template record. {@code template} is null if the record was json {@code null}.
+     */
+    void handleTemplate(JsonAdaptedTemplate template) throws IllegalValueException;
+
+    /**
+     * Handles a product record. {@code product} is null if the record was json {@code null}.
+     */
+    void handleProduct(JsonAdaptedProduct product) throws IllegalValueException;
+
+    /**
+     * Handles a job record. {@code job} is null if the record was json {@code null}.
+     * Jobs are only handled after all contacts and products.
+     */
+    void handleJob(JsonAdaptedJob job) throws IllegalValueException;
+
+    /**
+     * Handles a record of the given {@code recordType} that is not in the expected format.
+     *
+     * @param recordType one of the {@code RECORD_*} constants of {@link JsonMyCrmStreamReader}.
+     * @param reason why the record could not be read.
+     */
+    void handleUnreadableRecord(String recordType, String reason) throws IllegalValueException;
+}
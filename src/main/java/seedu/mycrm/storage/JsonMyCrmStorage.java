@@ -3,15 +3,16 @@ package seedu.mycrm.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.mycrm.commons.core.LogsCenter;
 import seedu.mycrm.commons.exceptions.DataConversionException;
 import seedu.mycrm.commons.exceptions.IllegalValueException;
-import seedu.mycrm.commons.util.FileUtil;
-import seedu.mycrm.commons.util.JsonUtil;
+import seedu.mycrm.model.MyCrm;
 import seedu.mycrm.model.ReadOnlyMyCrm;
 
 /**
@@ -19,18 +20,59 @@ import seedu.mycrm.model.ReadOnlyMyCrm;
  */
 public class JsonMyCrmStorage implements MyCrmStorage {
 
+    static final String JSON_FILE_EXTENSION = ".json";
+
     private static final Logger logger = LogsCenter.getLogger(JsonMyCrmStorage.class);
 
     private Path filePath;
+    private final Consumer<String> invalidRecordHandler;
+    private boolean isPrettyPrinted = false;
 
+    /**
+     * Creates a {@code JsonMyCrmStorage} that rejects the whole data file if any record in it is invalid.
+     */
     public JsonMyCrmStorage(Path filePath) {
         this.filePath = filePath;
+        this.invalidRecordHandler = null;
+    }
+
+    /**
+     * Creates a {@code JsonMyCrmStorage} that skips invalid records in the data file
+     * and reports each of them to {@code invalidRecordHandler}.
+     */
+    public JsonMyCrmStorage(Path filePath, Consumer<String> invalidRecordHandler) {
+        requireNonNull(invalidRecordHandler);
+        this.filePath = filePath;
+        this.invalidRecordHandler = invalidRecordHandler;
     }
 
     public Path getMyCrmFilePath() {
         return filePath;
     }
 
+    /**
+     * Returns the path of a file next to {@code filePath}, named after it with {@code suffix}
+     * in place of its {@code .json} extension.
+     */
+    static Path getSiblingPath(Path filePath, String suffix) {
+        String fileName = filePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return filePath.resolveSibling(fileName + suffix);
+    }
+
+    public boolean isPrettyPrinted() {
+        return isPrettyPrinted;
+    }
+
+    /**
+     * Sets whether data is saved with indentation and line breaks. Data is saved without them by default.
+     */
+    public void setPrettyPrinted(boolean isPrettyPrinted) {
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
+
     @Override
     public Optional<ReadOnlyMyCrm> readMyCrm() throws DataConversionException {
         return readMyCrm(filePath);
@@ -38,6 +80,7 @@ public class JsonMyCrmStorage implements MyCrmStorage {
 
     /**
      * Similar to {@link #readMyCrm()}.
+     * The file is converted one record at a time as it is read.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
@@ -45,15 +88,68 @@ public class JsonMyCrmStorage implements MyCrmStorage {
     public Optional<ReadOnlyMyCrm> readMyCrm(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableMyCrm> jsonMyCrm = JsonUtil.readJsonFile(
-                filePath, JsonSerializableMyCrm.class);
-
-        if (jsonMyCrm.isEmpty()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
+        JsonMyCrmAssembler assembler = createAssembler();
+        readDataFile(filePath, assembler);
+        return Optional.of(getAssembledMyCrm(filePath, assembler));
+    }
+
+    /**
+     * Returns a new assembler that treats invalid records as configured for this storage.
+     */
+    JsonMyCrmAssembler createAssembler() {
+        return invalidRecordHandler == null
+                ? new JsonMyCrmAssembler()
+                : new JsonMyCrmAssembler(invalidRecordHandler);
+    }
+
+    /**
+     * Reads the records in {@code filePath} into {@code assembler}, which trusts them to be valid
+     * if the file is unchanged since it was saved with its checksum.
+     *
+     * @throws DataConversionException if the file is not in the correct format or a record is rejected.
+     */
+    void readDataFile(Path filePath, JsonMyCrmAssembler assembler) throws DataConversionException {
+        boolean isTrusted = ContentChecksum.isUnchanged(filePath);
+        logger.fine((isTrusted ? "Trusting" : "Validating") + " the records in " + filePath);
+        try {
+            assembler.setTrusted(isTrusted);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found before " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        readRecords(filePath, assembler);
+    }
+
+    /**
+     * Reads the records in {@code filePath} into {@code handler}.
+     *
+     * @throws DataConversionException if the file is not in the correct format or a record is rejected.
+     */
+    void readRecords(Path filePath, JsonMyCrmRecordHandler handler) throws DataConversionException {
+        try {
+            JsonMyCrmStreamReader.read(filePath, handler);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    /**
+     * Returns the data that {@code assembler} assembled from the records in {@code filePath}.
+     *
+     * @throws DataConversionException if one of the records not converted yet is rejected.
+     */
+    MyCrm getAssembledMyCrm(Path filePath, JsonMyCrmAssembler assembler) throws DataConversionException {
         try {
-            return Optional.of(jsonMyCrm.get().toModelType());
+            return assembler.getMyCrm();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -67,6 +163,8 @@ public class JsonMyCrmStorage implements MyCrmStorage {
 
     /**
      * Similar to {@link #saveMyCrm(ReadOnlyMyCrm)}.
+     * The data is streamed to a temporary file that replaces the existing file once it is complete,
+     * and the checksum of the data is kept next to it.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -74,8 +172,7 @@ public class JsonMyCrmStorage implements MyCrmStorage {
         requireNonNull(myCrm);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableMyCrm(myCrm), filePath);
+        ContentChecksum.writeWithChecksum(filePath, out -> JsonMyCrmStreamWriter.write(myCrm, out, isPrettyPrinted));
     }
 
 }
@@ -0,0 +1,144 @@
+package seedu.mycrm.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.TreeNode;
+
+import seedu.mycrm.commons.exceptions.IllegalValueException;
+import seedu.mycrm.commons.util.JsonUtil;
+
+/**
+ * Reads a MyCrm json data file one record at a time, passing each record to a {@code JsonMyCrmRecordHandler}
+ * as soon as it is read. Only a single record is held in memory at any time, apart from jobs that appear
+ * in the file before the contacts or products they refer to.
+ */
+class JsonMyCrmStreamReader {
+
+    public static final String RECORD_CONTACT = "contact";
+    public static final String RECORD_TEMPLATE = "template";
+    public static final String RECORD_PRODUCT = "product";
+    public static final String RECORD_JOB = "job";
+
+    static final String FIELD_CONTACTS = "contacts";
+    static final String FIELD_TEMPLATES = "templates";
+    static final String FIELD_PRODUCTS = "products";
+    static final String FIELD_JOBS = "jobs";
+
+    private final JsonParser parser;
+    private final JsonMyCrmRecordHandler handler;
+
+    private boolean hasReadContacts;
+    private boolean hasReadProducts;
+    private final List<JsonAdaptedJob> pendingJobs = new ArrayList<>();
+
+    private JsonMyCrmStreamReader(JsonParser parser, JsonMyCrmRecordHandler handler) {
+        this.parser = parser;
+        this.handler = handler;
+    }
+
+    /**
+     * Reads the MyCrm data in {@code filePath} and passes its records to {@code handler}.
+     *
+     * @throws IOException if the file cannot be read or is not valid json in the expected structure.
+     * @throws IllegalValueException if {@code handler} rejects a record.
+     */
+    public static void read(Path filePath, JsonMyCrmRecordHandler handler) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            new JsonMyCrmStreamReader(parser, handler).readMyCrm();
+        }
+    }
+
+    private void readMyCrm() throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "MyCrm data should be a json object");
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+            case FIELD_CONTACTS:
+                readRecords(RECORD_CONTACT, JsonAdaptedContact.class, handler::handleContact);
+                hasReadContacts = true;
+                break;
+            case FIELD_TEMPLATES:
+                readRecords(RECORD_TEMPLATE, JsonAdaptedTemplate.class, handler::handleTemplate);
+                break;
+            case FIELD_PRODUCTS:
+                readRecords(RECORD_PRODUCT, JsonAdaptedProduct.class, handler::handleProduct);
+                hasReadProducts = true;
+                break;
+            case FIELD_JOBS:
+                readRecords(RECORD_JOB, JsonAdaptedJob.class, this::handleJob);
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+            handlePendingJobs();
+        }
+
+        hasReadContacts = true;
+        hasReadProducts = true;
+        handlePendingJobs();
+    }
+
+    /**
+     * Reads the json array at the current token, passing each record in it to {@code recordHandler}.
+     * A record that cannot be bound to {@code recordClass} is passed to
+     * {@link JsonMyCrmRecordHandler#handleUnreadableRecord(String, String)} instead.
+     */
+    private <T> void readRecords(String recordType, Class<T> recordClass, RecordConsumer<T> recordHandler)
+            throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected a list of " + recordType + " records");
+        }
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            TreeNode tree = parser.readValueAsTree();
+            T record;
+            try {
+                record = JsonUtil.fromJsonTree(tree, recordClass);
+            } catch (JsonProcessingException jpe) {
+                handler.handleUnreadableRecord(recordType, jpe.getOriginalMessage());
+                continue;
+            }
+            recordHandler.accept(record);
+        }
+    }
+
+    private void handleJob(JsonAdaptedJob job) throws IllegalValueException {
+        if (hasReadContacts && hasReadProducts) {
+            handler.handleJob(job);
+        } else {
+            pendingJobs.add(job);
+        }
+    }
+
+    private void handlePendingJobs() throws IllegalValueException {
+        if (!hasReadContacts || !hasReadProducts) {
+            return;
+        }
+        for (JsonAdaptedJob job : pendingJobs) {
+            handler.handleJob(job);
+        }
+        pendingJobs.clear();
+    }
+
+    /**
+     * Consumes a record read from the file.
+     */
+    private interface RecordConsumer<T> {
+        void accept(T record) throws IllegalValueException;
+    }
+}
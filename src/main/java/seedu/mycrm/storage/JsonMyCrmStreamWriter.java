@@ -0,0 +1,93 @@
+package seedu.mycrm.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.mycrm.commons.util.JsonUtil;
+import seedu.mycrm.model.MyCrmSegment;
+import seedu.mycrm.model.ReadOnlyMyCrm;
+
+/**
+ * Writes a MyCrm json data file one record at a time, straight to an output stream.
+ * Only a single record is converted to its json-friendly form at any time.
+ * The file has the same format as a serialized {@code JsonSerializableMyCrm}.
+ */
+class JsonMyCrmStreamWriter {
+
+    private final JsonGenerator generator;
+
+    private JsonMyCrmStreamWriter(JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * Writes the data in {@code myCrm} to {@code out}.
+     *
+     * @param isPrettyPrinted whether the data is written with indentation and line breaks.
+     */
+    public static void write(ReadOnlyMyCrm myCrm, OutputStream out, boolean isPrettyPrinted) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted)) {
+            new JsonMyCrmStreamWriter(generator).writeMyCrm(myCrm);
+        }
+    }
+
+    /**
+     * Writes only the given {@code segment} of the data in {@code myCrm} to {@code out}.
+     * The output is a MyCrm json data file in which the other segments are missing.
+     *
+     * @param isPrettyPrinted whether the data is written with indentation and line breaks.
+     */
+    public static void writeSegment(ReadOnlyMyCrm myCrm, MyCrmSegment segment, OutputStream out,
+            boolean isPrettyPrinted) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted)) {
+            JsonMyCrmStreamWriter writer = new JsonMyCrmStreamWriter(generator);
+            generator.writeStartObject();
+            writer.writeSegment(myCrm, segment);
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeMyCrm(ReadOnlyMyCrm myCrm) throws IOException {
+        generator.writeStartObject();
+        for (MyCrmSegment segment : MyCrmSegment.values()) {
+            writeSegment(myCrm, segment);
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeSegment(ReadOnlyMyCrm myCrm, MyCrmSegment segment) throws IOException {
+        switch (segment) {
+        case CONTACTS:
+            writeRecords(JsonMyCrmStreamReader.FIELD_CONTACTS, myCrm.getContactList(), JsonAdaptedContact::new);
+            break;
+        case TEMPLATES:
+            writeRecords(JsonMyCrmStreamReader.FIELD_TEMPLATES, myCrm.getTemplateList(), JsonAdaptedTemplate::new);
+            break;
+        case PRODUCTS:
+            writeRecords(JsonMyCrmStreamReader.FIELD_PRODUCTS, myCrm.getProductList(), JsonAdaptedProduct::new);
+            break;
+        case JOBS:
+            writeRecords(JsonMyCrmStreamReader.FIELD_JOBS, myCrm.getJobList(),
+                    job -> new JsonAdaptedJob(job, myCrm));
+            break;
+        default:
+            throw new AssertionError("Unknown segment " + segment);
+        }
+    }
+
+    /**
+     * Writes {@code items} as a json array in the field {@code fieldName},
+     * converting each item with {@code toRecord} just before it is written.
+     */
+    private <T> void writeRecords(String fieldName, List<T> items, Function<T, ?> toRecord) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (T item : items) {
+            JsonUtil.writeJsonValue(generator, toRecord.apply(item));
+        }
+        generator.writeEndArray();
+    }
+}
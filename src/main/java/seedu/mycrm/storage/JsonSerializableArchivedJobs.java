@@ -0,0 +1,29 @@
+package seedu.mycrm.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The jobs archived for one month, in a form that is serializable to JSON format.
+ */
+class JsonSerializableArchivedJobs {
+
+    private final List<JsonAdaptedArchivedJob> jobs = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableArchivedJobs} with the given jobs.
+     */
+    @JsonCreator
+    public JsonSerializableArchivedJobs(@JsonProperty("jobs") List<JsonAdaptedArchivedJob> jobs) {
+        if (jobs != null) {
+            this.jobs.addAll(jobs);
+        }
+    }
+
+    public List<JsonAdaptedArchivedJob> getJobs() {
+        return jobs;
+    }
+}
@@ -9,23 +9,21 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.mycrm.commons.exceptions.IllegalValueException;
+import seedu.mycrm.model.EntityId;
 import seedu.mycrm.model.MyCrm;
 import seedu.mycrm.model.ReadOnlyMyCrm;
-import seedu.mycrm.model.contact.Contact;
-import seedu.mycrm.model.job.Job;
-import seedu.mycrm.model.mail.Template;
-import seedu.mycrm.model.product.Product;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
  */
 @JsonRootName(value = "myCrm")
-class JsonSerializableMyCrm {
+class JsonSerializableMyCrm implements JsonMyCrmRecordHandler {
 
     public static final String MESSAGE_DUPLICATE_CONTACT = "Contacts list contains duplicate contact(s).";
     public static final String MESSAGE_DUPLICATE_TEMPLATE = "Template list contains duplicate template(s)";
     public static final String MESSAGE_DUPLICATE_PRODUCT = "Product list contains duplicate product(s)";
     public static final String MESSAGE_DUPLICATE_JOB = "Job list contains duplicate job(s)";
+    public static final String MESSAGE_DUPLICATE_ID = "Record has the same id as an earlier record: %d";
 
     private final List<JsonAdaptedContact> contacts = new ArrayList<>();
     private final List<JsonAdaptedTemplate> templates = new ArrayList<>();
@@ -46,6 +44,11 @@ class JsonSerializableMyCrm {
         this.jobs.addAll(jobs);
     }
 
+    /**
+     * Constructs an empty {@code JsonSerializableMyCrm}.
+     */
+    JsonSerializableMyCrm() {}
+
     /**
      * Converts a given {@code ReadOnlyMyCrm} into this class for Jackson use.
      *
@@ -55,7 +58,67 @@ class JsonSerializableMyCrm {
         contacts.addAll(source.getContactList().stream().map(JsonAdaptedContact::new).collect(Collectors.toList()));
         templates.addAll(source.getTemplateList().stream().map(JsonAdaptedTemplate::new).collect(Collectors.toList()));
         products.addAll(source.getProductList().stream().map(JsonAdaptedProduct::new).collect(Collectors.toList()));
-        jobs.addAll(source.getJobList().stream().map(JsonAdaptedJob::new).collect(Collectors.toList()));
+        jobs.addAll(source.getJobList().stream().map(job -> new JsonAdaptedJob(job, source))
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public void handleContact(JsonAdaptedContact contact) {
+        contacts.add(contact);
+    }
+
+    @Override
+    public void handleTemplate(JsonAdaptedTemplate template) {
+        templates.add(template);
+    }
+
+    @Override
+    public void handleProduct(JsonAdaptedProduct product) {
+        products.add(product);
+    }
+
+    @Override
+    public void handleJob(JsonAdaptedJob job) {
+        jobs.add(job);
+    }
+
+    /**
+     * Keeps an empty placeholder for the unreadable record, so that the positions of the other records
+     * are unchanged. The placeholder is rejected when converting to the model's {@code MyCrm}.
+     */
+    @Override
+    public void handleUnreadableRecord(String recordType, String reason) {
+        switch (recordType) {
+        case JsonMyCrmStreamReader.RECORD_CONTACT:
+            contacts.add(null);
+            break;
+        case JsonMyCrmStreamReader.RECORD_TEMPLATE:
+            templates.add(null);
+            break;
+        case JsonMyCrmStreamReader.RECORD_PRODUCT:
+            products.add(null);
+            break;
+        default:
+            assert recordType.equals(JsonMyCrmStreamReader.RECORD_JOB);
+            jobs.add(null);
+            break;
+        }
+    }
+
+    List<JsonAdaptedContact> getContacts() {
+        return contacts;
+    }
+
+    List<JsonAdaptedTemplate> getTemplates() {
+        return templates;
+    }
+
+    List<JsonAdaptedProduct> getProducts() {
+        return products;
+    }
+
+    List<JsonAdaptedJob> getJobs() {
+        return jobs;
     }
 
     /**
@@ -64,40 +127,48 @@ class JsonSerializableMyCrm {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public MyCrm toModelType() throws IllegalValueException {
-        MyCrm myCrm = new MyCrm();
+        return toModelType(new JsonMyCrmAssembler());
+    }
+
+    /**
+     * Converts this myCrm into the model's {@code MyCrm} object using {@code assembler}.
+     *
+     * @throws IllegalValueException if {@code assembler} rejects a record.
+     */
+    MyCrm toModelType(JsonMyCrmAssembler assembler) throws IllegalValueException {
         for (JsonAdaptedContact jsonAdaptedContact : contacts) {
-            Contact contact = jsonAdaptedContact.toModelType();
-            if (myCrm.hasContact(contact)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CONTACT);
-            }
-            myCrm.addContact(contact);
+            assembler.handleContact(jsonAdaptedContact);
         }
 
         for (JsonAdaptedTemplate jsonAdaptedTemplate : templates) {
-            Template template = jsonAdaptedTemplate.toModelType();
-            if (myCrm.hasTemplate(template)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_TEMPLATE);
-            }
-            myCrm.addTemplate(template);
+            assembler.handleTemplate(jsonAdaptedTemplate);
         }
 
         for (JsonAdaptedProduct jsonAdaptedProduct : products) {
-            Product product = jsonAdaptedProduct.toModelType();
-            if (myCrm.hasProduct(product)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PRODUCT);
-            }
-            myCrm.addProduct(product);
+            assembler.handleProduct(jsonAdaptedProduct);
         }
 
         for (JsonAdaptedJob jsonAdaptedJob : jobs) {
-            Job job = jsonAdaptedJob.toModelType(myCrm);
-            if (myCrm.hasJob(job)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_JOB);
-            }
-            myCrm.addJob(job);
+            assembler.handleJob(jsonAdaptedJob);
         }
 
-        return myCrm;
+        return assembler.getMyCrm();
     }
 
+    /**
+     * Returns the id of the entity of a record saved with {@code id}, and reserves it so that it is not assigned to
+     * another entity. A record saved before entities had ids is given a new id.
+     *
+     * @throws IllegalValueException if {@code id} is not a valid id.
+     */
+    static long toModelId(Long id) throws IllegalValueException {
+        if (id == null) {
+            return EntityId.next();
+        }
+        if (!EntityId.isValidId(id)) {
+            throw new IllegalValueException(EntityId.MESSAGE_CONSTRAINTS);
+        }
+        EntityId.reserve(id);
+        return id;
+    }
 }
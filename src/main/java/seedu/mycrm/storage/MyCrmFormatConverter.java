@@ -0,0 +1,67 @@
+package seedu.mycrm.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.mycrm.commons.core.LogsCenter;
+import seedu.mycrm.commons.exceptions.DataConversionException;
+import seedu.mycrm.model.ReadOnlyMyCrm;
+
+/**
+ * Converts MyCrm data between storage formats.
+ * Conversions are lossless: the source is read strictly, so data that cannot be converted in full is rejected
+ * instead of being converted in part.
+ */
+public class MyCrmFormatConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(MyCrmFormatConverter.class);
+
+    private MyCrmFormatConverter() {}
+
+    /**
+     * Saves the data in {@code source} to {@code target}.
+     *
+     * @return false if {@code source} has no data, in which case {@code target} is left unchanged.
+     * @throws DataConversionException if the data in {@code source} is not in the correct format.
+     * @throws IOException if there was any problem reading {@code source} or writing to {@code target}.
+     */
+    public static boolean convert(MyCrmStorage source, MyCrmStorage target)
+            throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Optional<ReadOnlyMyCrm> myCrm = source.readMyCrm();
+        if (myCrm.isEmpty()) {
+            return false;
+        }
+        target.saveMyCrm(myCrm.get());
+        logger.info("Converted " + source.getMyCrmFilePath() + " to " + target.getMyCrmFilePath());
+        return true;
+    }
+
+    /**
+     * Converts the json data file at {@code jsonFilePath} into a binary data file at {@code binaryFilePath}.
+     *
+     * @return false if there is no json data file.
+     * @see #convert(MyCrmStorage, MyCrmStorage)
+     */
+    public static boolean jsonToBinary(Path jsonFilePath, Path binaryFilePath)
+            throws DataConversionException, IOException {
+        return convert(new JsonMyCrmStorage(jsonFilePath), new BinaryMyCrmStorage(binaryFilePath));
+    }
+
+    /**
+     * Converts the binary data file at {@code binaryFilePath} into a json data file at {@code jsonFilePath}.
+     *
+     * @return false if there is no binary data file.
+     * @see #convert(MyCrmStorage, MyCrmStorage)
+     */
+    public static boolean binaryToJson(Path binaryFilePath, Path jsonFilePath)
+            throws DataConversionException, IOException {
+        return convert(new BinaryMyCrmStorage(binaryFilePath), new JsonMyCrmStorage(jsonFilePath));
+    }
+}
@@ -0,0 +1,206 @@
+package seedu.mycrm.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.mycrm.commons.core.LogsCenter;
+import seedu.mycrm.commons.exceptions.DataConversionException;
+import seedu.mycrm.commons.util.FileUtil;
+import seedu.mycrm.commons.util.JsonUtil;
+import seedu.mycrm.model.MyCrm;
+import seedu.mycrm.model.MyCrmSegment;
+import seedu.mycrm.model.ReadOnlyMyCrm;
+
+/**
+ * A class to access MyCrm data stored as one json file per segment of the data, plus a manifest naming them.
+ * Saving only writes the segments whose version changed since they were last saved, so the cost of a save
+ * depends on what a command changed rather than on the size of the data.
+ * If there is no manifest yet, data in the format written by {@link JsonMyCrmStorage} is read instead.
+ */
+public class SegmentedMyCrmStorage extends JsonMyCrmStorage {
+
+    public static final String MANIFEST_FILE_SUFFIX = ".segments.json";
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedMyCrmStorage.class);
+
+    private final Path manifestPath;
+
+    // The manifest as last read or written, or null if there is none.
+    private JsonAdaptedSegmentManifest manifest;
+    // Versions of the segments in the manifest, or empty if they are unknown.
+    private final Map<MyCrmSegment, Long> savedVersions = new EnumMap<>(MyCrmSegment.class);
+
+    public SegmentedMyCrmStorage(Path filePath) {
+        super(filePath);
+        this.manifestPath = getSiblingPath(filePath, MANIFEST_FILE_SUFFIX);
+    }
+
+    /**
+     * Creates a {@code SegmentedMyCrmStorage} that skips invalid records and reports each of them
+     * to {@code invalidRecordHandler}.
+     */
+    public SegmentedMyCrmStorage(Path filePath, Consumer<String> invalidRecordHandler) {
+        super(filePath, invalidRecordHandler);
+        this.manifestPath = getSiblingPath(filePath, MANIFEST_FILE_SUFFIX);
+    }
+
+    public Path getManifestFilePath() {
+        return manifestPath;
+    }
+
+    private Path getSegmentFilePath(String segmentFileName) {
+        return manifestPath.resolveSibling(segmentFileName);
+    }
+
+    /**
+     * Similar to {@link JsonMyCrmStorage#readMyCrm(Path)}, but reads the segment files named in the manifest
+     * if {@code filePath} is the data managed by this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the manifest or a segment file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyMyCrm> readMyCrm(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getMyCrmFilePath())) {
+            return super.readMyCrm(filePath);
+        }
+
+        Optional<JsonAdaptedSegmentManifest> readManifest =
+                JsonUtil.readJsonFile(manifestPath, JsonAdaptedSegmentManifest.class);
+        if (readManifest.isEmpty()) {
+            manifest = null;
+            forgetSaved();
+            return super.readMyCrm(filePath);
+        }
+
+        JsonMyCrmAssembler assembler = createAssembler();
+        for (MyCrmSegment segment : MyCrmSegment.values()) {
+            Optional<String> segmentFileName = readManifest.get().getSegmentFileName(segment);
+            if (segmentFileName.isPresent()) {
+                readDataFile(getSegmentFilePath(segmentFileName.get()), assembler);
+            }
+        }
+
+        MyCrm myCrm = getAssembledMyCrm(manifestPath, assembler);
+        rememberSaved(readManifest.get(), myCrm);
+        if (assembler.hasSkippedRecords()) {
+            // The segment files hold records that are not in the model, so they have to be rewritten.
+            forgetSaved();
+        }
+        return Optional.of(myCrm);
+    }
+
+    /**
+     * Similar to {@link JsonMyCrmStorage#saveMyCrm(ReadOnlyMyCrm, Path)}, but only writes the segments that
+     * changed since the last save if {@code filePath} is the data managed by this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveMyCrm(ReadOnlyMyCrm myCrm, Path filePath) throws IOException {
+        requireNonNull(myCrm);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getMyCrmFilePath())) {
+            super.saveMyCrm(myCrm, filePath);
+            return;
+        }
+
+        if (manifest != null && !Files.exists(manifestPath)) {
+            manifest = null;
+            forgetSaved();
+        }
+
+        long generation = manifest == null ? 0 : manifest.getGeneration();
+        Map<MyCrmSegment, String> segmentFileNames = manifest == null
+                ? new EnumMap<>(MyCrmSegment.class)
+                : manifest.getSegmentFileNames();
+        List<String> replacedFileNames = new ArrayList<>();
+        List<String> writtenFileNames = new ArrayList<>();
+
+        try {
+            for (MyCrmSegment segment : MyCrmSegment.values()) {
+                Long savedVersion = savedVersions.get(segment);
+                if (savedVersion != null && savedVersion == myCrm.getSegmentVersion(segment)) {
+                    continue;
+                }
+
+                generation++;
+                String segmentFileName = getSegmentFileName(segment, generation);
+                ContentChecksum.writeWithChecksum(getSegmentFilePath(segmentFileName), out ->
+                        JsonMyCrmStreamWriter.writeSegment(myCrm, segment, out, isPrettyPrinted()));
+                writtenFileNames.add(segmentFileName);
+                String replacedFileName = segmentFileNames.put(segment, segmentFileName);
+                if (replacedFileName != null) {
+                    replacedFileNames.add(replacedFileName);
+                }
+            }
+
+            if (writtenFileNames.isEmpty()) {
+                return;
+            }
+
+            JsonAdaptedSegmentManifest newManifest = new JsonAdaptedSegmentManifest(generation, segmentFileNames);
+            byte[] manifestBytes = JsonUtil.toJsonString(newManifest).getBytes(StandardCharsets.UTF_8);
+            FileUtil.writeToFileAtomically(manifestPath, out -> out.write(manifestBytes));
+            rememberSaved(newManifest, myCrm);
+        } catch (IOException ioe) {
+            // The manifest still names the previous segment files, which are left untouched.
+            deleteSegmentFiles(writtenFileNames);
+            throw ioe;
+        }
+
+        deleteSegmentFiles(replacedFileNames);
+        logger.fine("Saved " + writtenFileNames.size() + " segment(s) of " + filePath);
+    }
+
+    private String getSegmentFileName(MyCrmSegment segment, long generation) {
+        String prefix = getSiblingPath(getMyCrmFilePath(), "").getFileName().toString();
+        return prefix + "." + segment.name().toLowerCase() + "." + generation + JSON_FILE_EXTENSION;
+    }
+
+    /**
+     * Deletes segment files that are no longer named in the manifest, and their checksums.
+     * Failing to delete them only wastes disk space, so failures are logged and otherwise ignored.
+     */
+    private void deleteSegmentFiles(List<String> segmentFileNames) {
+        for (String segmentFileName : segmentFileNames) {
+            try {
+                Files.deleteIfExists(getSegmentFilePath(segmentFileName));
+                Files.deleteIfExists(ContentChecksum.getChecksumFilePath(getSegmentFilePath(segmentFileName)));
+            } catch (IOException ioe) {
+                logger.warning("Failed to delete old segment file " + segmentFileName + ": " + ioe);
+            }
+        }
+    }
+
+    private void rememberSaved(JsonAdaptedSegmentManifest savedManifest, ReadOnlyMyCrm myCrm) {
+        manifest = savedManifest;
+        savedVersions.clear();
+        for (MyCrmSegment segment : MyCrmSegment.values()) {
+            if (savedManifest.getSegmentFileName(segment).isPresent()) {
+                savedVersions.put(segment, myCrm.getSegmentVersion(segment));
+            }
+        }
+    }
+
+    /**
+     * Forgets the versions of the saved segments, so that every segment is written on the next save.
+     */
+    private void forgetSaved() {
+        savedVersions.clear();
+    }
+}
@@ -2,17 +2,19 @@ package seedu.mycrm.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.mycrm.commons.exceptions.DataConversionException;
 import seedu.mycrm.model.ReadOnlyMyCrm;
 import seedu.mycrm.model.ReadOnlyUserPrefs;
 import seedu.mycrm.model.UserPrefs;
+import seedu.mycrm.model.history.History;
 
 /**
  * API of the Storage component
  */
-public interface Storage extends MyCrmStorage, UserPrefsStorage {
+public interface Storage extends MyCrmStorage, UserPrefsStorage, CommandHistoryStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
@@ -29,4 +31,13 @@ public interface Storage extends MyCrmStorage, UserPrefsStorage {
     @Override
     void saveMyCrm(ReadOnlyMyCrm myCrm) throws IOException;
 
+    @Override
+    List<History> readCommandHistory() throws IOException;
+
+    @Override
+    void appendCommandHistory(History history) throws IOException;
+
+    @Override
+    void clearCommandHistory() throws IOException;
+
 }
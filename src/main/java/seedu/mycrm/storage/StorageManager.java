@@ -2,6 +2,7 @@ package seedu.mycrm.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -10,6 +11,7 @@ import seedu.mycrm.commons.exceptions.DataConversionException;
 import seedu.mycrm.model.ReadOnlyMyCrm;
 import seedu.mycrm.model.ReadOnlyUserPrefs;
 import seedu.mycrm.model.UserPrefs;
+import seedu.mycrm.model.history.History;
 
 /**
  * Manages storage of MyCrm data in local storage.
@@ -19,14 +21,27 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private MyCrmStorage myCrmStorage;
     private UserPrefsStorage userPrefsStorage;
+    private CommandHistoryStorage commandHistoryStorage;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code MyCrmStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code MyCrmStorage} and {@code UserPrefStorage},
+     * keeping the command history in a text file next to the MyCrm data file.
      */
     public StorageManager(MyCrmStorage myCrmStorage, UserPrefsStorage userPrefsStorage) {
+        this(myCrmStorage, userPrefsStorage, new TextCommandHistoryStorage(
+                TextCommandHistoryStorage.getHistoryFilePath(myCrmStorage.getMyCrmFilePath())));
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code MyCrmStorage}, {@code UserPrefStorage}
+     * and {@code CommandHistoryStorage}.
+     */
+    public StorageManager(MyCrmStorage myCrmStorage, UserPrefsStorage userPrefsStorage,
+            CommandHistoryStorage commandHistoryStorage) {
         super();
         this.myCrmStorage = myCrmStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.commandHistoryStorage = commandHistoryStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -76,4 +91,27 @@ public class StorageManager implements Storage {
         myCrmStorage.saveMyCrm(myCrm, filePath);
     }
 
+    // ================ CommandHistory methods ==============================
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return commandHistoryStorage.getCommandHistoryFilePath();
+    }
+
+    @Override
+    public List<History> readCommandHistory() throws IOException {
+        logger.fine("Attempting to read command history from file: " + getCommandHistoryFilePath());
+        return commandHistoryStorage.readCommandHistory();
+    }
+
+    @Override
+    public void appendCommandHistory(History history) throws IOException {
+        commandHistoryStorage.appendCommandHistory(history);
+    }
+
+    @Override
+    public void clearCommandHistory() throws IOException {
+        commandHistoryStorage.clearCommandHistory();
+    }
+
 }
@@ -0,0 +1,176 @@
+package seedu.mycrm.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.mycrm.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.mycrm.commons.core.LogsCenter;
+import seedu.mycrm.commons.util.FileUtil;
+import seedu.mycrm.model.history.History;
+import seedu.mycrm.model.history.HistoryList;
+
+/**
+ * Stores entered commands in a text file, one command per line, oldest first.
+ * Each command is appended to the end of the file, so recording a command does not rewrite the earlier ones.
+ * Only the latest {@code capacity} commands are read back, and the file is cut back to them once it holds
+ * twice as many commands.
+ */
+public class TextCommandHistoryStorage implements CommandHistoryStorage {
+
+    public static final String HISTORY_FILE_EXTENSION = ".history";
+    public static final String MESSAGE_INVALID_CAPACITY = "Command history capacity should be positive";
+
+    private static final Logger logger = LogsCenter.getLogger(TextCommandHistoryStorage.class);
+
+    private final Path filePath;
+    private final int capacity;
+
+    /** Number of commands in the file, counted from the last time it was read, cleared or compacted. */
+    private int commandCount;
+
+    public TextCommandHistoryStorage(Path filePath) {
+        this(filePath, HistoryList.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a {@code TextCommandHistoryStorage} reading back the latest {@code capacity} commands in the file
+     * at {@code filePath}.
+     */
+    public TextCommandHistoryStorage(Path filePath, int capacity) {
+        requireNonNull(filePath);
+        checkArgument(capacity > 0, MESSAGE_INVALID_CAPACITY);
+        this.filePath = filePath;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the path of the command history file that goes with the MyCrm data file at {@code myCrmFilePath}.
+     */
+    public static Path getHistoryFilePath(Path myCrmFilePath) {
+        return JsonMyCrmStorage.getSiblingPath(myCrmFilePath, HISTORY_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<History> readCommandHistory() throws IOException {
+        if (!Files.exists(filePath)) {
+            logger.info("Command history file " + filePath + " not found");
+            commandCount = 0;
+            return new ArrayList<>();
+        }
+
+        Deque<History> latest = new ArrayDeque<>(capacity);
+        int count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                if (latest.size() == capacity) {
+                    latest.removeFirst();
+                }
+                latest.addLast(new History(decode(line)));
+                count++;
+            }
+        }
+
+        List<History> histories = new ArrayList<>(latest);
+        commandCount = count;
+        if (commandCount >= 2 * capacity) {
+            compact(histories);
+        }
+        return histories;
+    }
+
+    @Override
+    public void appendCommandHistory(History history) throws IOException {
+        requireNonNull(history);
+        FileUtil.createParentDirsOfFile(filePath);
+        Files.write(filePath, (encode(history.toString()) + "\n").getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+
+        commandCount++;
+        if (commandCount >= 2 * capacity) {
+            readCommandHistory();
+        }
+    }
+
+    @Override
+    public void clearCommandHistory() throws IOException {
+        Files.deleteIfExists(filePath);
+        commandCount = 0;
+    }
+
+    /**
+     * Replaces the commands in the file with {@code histories}.
+     */
+    private void compact(List<History> histories) throws IOException {
+        logger.fine("Compacting command history file " + filePath + " from " + commandCount + " to "
+                + histories.size() + " commands");
+        StringBuilder content = new StringBuilder();
+        for (History history : histories) {
+            content.append(encode(history.toString())).append('\n');
+        }
+        FileUtil.writeToFileAtomically(filePath,
+                out -> out.write(content.toString().getBytes(StandardCharsets.UTF_8)));
+        commandCount = histories.size();
+    }
+
+    /**
+     * Returns {@code command} with its backslashes and line breaks escaped, so that it fits on one line.
+     */
+    static String encode(String command) {
+        StringBuilder encoded = new StringBuilder(command.length());
+        for (int i = 0; i < command.length(); i++) {
+            char c = command.charAt(i);
+            switch (c) {
+            case '\\':
+                encoded.append("\\\\");
+                break;
+            case '\n':
+                encoded.append("\\n");
+                break;
+            case '\r':
+                encoded.append("\\r");
+                break;
+            default:
+                encoded.append(c);
+            }
+        }
+        return encoded.toString();
+    }
+
+    /**
+     * Returns the command that was encoded into {@code line} by {@link #encode(String)}.
+     */
+    static String decode(String line) {
+        StringBuilder decoded = new StringBuilder(line.length());
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c != '\\' || i == line.length() - 1) {
+                decoded.append(c);
+                continue;
+            }
+
+            char escaped = line.charAt(++i);
+            decoded.append(escaped == 'n' ? '\n' : escaped == 'r' ? '\r' : escaped);
+        }
+        return decoded.toString();
+    }
+}
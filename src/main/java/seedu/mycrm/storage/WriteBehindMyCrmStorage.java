@@ -0,0 +1,216 @@
+package seedu.mycrm.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.mycrm.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.mycrm.commons.core.LogsCenter;
+import seedu.mycrm.commons.exceptions.DataConversionException;
+import seedu.mycrm.commons.util.StringUtil;
+import seedu.mycrm.model.MyCrmSnapshot;
+import seedu.mycrm.model.ReadOnlyMyCrm;
+
+/**
+ * A {@code MyCrmStorage} that saves MyCrm data in the background.
+ * Saving only takes a snapshot of the data and returns; a single worker thread then writes the snapshot
+ * through the wrapped storage. Snapshots queued while a write is in progress are coalesced, so that a burst
+ * of commands results in a single write of the latest data.
+ * Failures of background writes are passed to the failure handler given on creation.
+ */
+public class WriteBehindMyCrmStorage implements MyCrmStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindMyCrmStorage.class);
+
+    private final MyCrmStorage storage;
+    private final Consumer<IOException> failureHandler;
+    private final ExecutorService writer;
+
+    // Latest snapshot waiting to be written, for each file path. Guarded by this.
+    private final Map<Path, ReadOnlyMyCrm> pendingSnapshots = new LinkedHashMap<>();
+    private boolean isWriting;
+
+    // Latest snapshot that could not be written, kept so that it can be retried on flush. Guarded by this.
+    private Path failedPath;
+    private ReadOnlyMyCrm failedSnapshot;
+    private IOException lastFailure;
+
+    /**
+     * Creates a {@code WriteBehindMyCrmStorage} that writes through {@code storage} in the background
+     * and reports failed writes to {@code failureHandler}.
+     */
+    public WriteBehindMyCrmStorage(MyCrmStorage storage, Consumer<IOException> failureHandler) {
+        requireAllNonNull(storage, failureHandler);
+        this.storage = storage;
+        this.failureHandler = failureHandler;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MyCrm storage writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getMyCrmFilePath() {
+        return storage.getMyCrmFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyMyCrm> readMyCrm() throws DataConversionException, IOException {
+        return readMyCrm(storage.getMyCrmFilePath());
+    }
+
+    /**
+     * Reads the data at {@code filePath} through the wrapped storage, after any pending writes are done.
+     */
+    @Override
+    public Optional<ReadOnlyMyCrm> readMyCrm(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        awaitPendingWrites();
+        return storage.readMyCrm(filePath);
+    }
+
+    @Override
+    public void saveMyCrm(ReadOnlyMyCrm myCrm) throws IOException {
+        saveMyCrm(myCrm, storage.getMyCrmFilePath());
+    }
+
+    /**
+     * Takes a snapshot of {@code myCrm} and schedules it to be written to {@code filePath}.
+     * Returns without waiting for the write.
+     */
+    @Override
+    public void saveMyCrm(ReadOnlyMyCrm myCrm, Path filePath) {
+        requireAllNonNull(myCrm, filePath);
+        ReadOnlyMyCrm snapshot = myCrm.read(() -> new MyCrmSnapshot(myCrm));
+
+        synchronized (this) {
+            pendingSnapshots.remove(filePath);
+            schedule(filePath, snapshot);
+        }
+    }
+
+    /**
+     * Waits until all scheduled snapshots are written.
+     * If the latest write failed, it is retried once before returning.
+     *
+     * @throws IOException if the retried write failed again.
+     */
+    public synchronized void flush() throws IOException {
+        awaitPendingWrites();
+        if (failedSnapshot != null) {
+            schedule(failedPath, failedSnapshot);
+            awaitPendingWrites();
+        }
+        if (failedSnapshot != null) {
+            throw lastFailure;
+        }
+    }
+
+    /**
+     * Waits until all scheduled snapshots are written, then stops the worker thread.
+     * No data can be saved after this storage is closed.
+     *
+     * @throws IOException if the data could not be written.
+     */
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            writer.shutdown();
+        }
+    }
+
+    /**
+     * Queues {@code snapshot} to be written to {@code filePath}, and starts the writer if it is idle.
+     */
+    private synchronized void schedule(Path filePath, ReadOnlyMyCrm snapshot) {
+        pendingSnapshots.putIfAbsent(filePath, snapshot);
+        if (!isWriting) {
+            isWriting = true;
+            writer.execute(this::writePendingSnapshots);
+        }
+    }
+
+    private synchronized void awaitPendingWrites() throws IOException {
+        try {
+            while (isWriting) {
+                wait();
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for MyCrm data to be saved", ie);
+        }
+    }
+
+    /**
+     * Writes the pending snapshots one at a time until there are none left.
+     * Runs on the worker thread.
+     */
+    private void writePendingSnapshots() {
+        while (true) {
+            Path filePath;
+            ReadOnlyMyCrm snapshot;
+            synchronized (this) {
+                Iterator<Map.Entry<Path, ReadOnlyMyCrm>> pending = pendingSnapshots.entrySet().iterator();
+                if (!pending.hasNext()) {
+                    isWriting = false;
+                    notifyAll();
+                    return;
+                }
+                Map.Entry<Path, ReadOnlyMyCrm> next = pending.next();
+                pending.remove();
+                filePath = next.getKey();
+                snapshot = next.getValue();
+            }
+
+            IOException failure = write(snapshot, filePath);
+            synchronized (this) {
+                if (failure != null) {
+                    failedPath = filePath;
+                    failedSnapshot = snapshot;
+                    lastFailure = failure;
+                } else if (filePath.equals(failedPath)) {
+                    failedPath = null;
+                    failedSnapshot = null;
+                    lastFailure = null;
+                }
+            }
+            if (failure != null) {
+                reportFailure(failure);
+            }
+        }
+    }
+
+    private void reportFailure(IOException failure) {
+        try {
+            failureHandler.accept(failure);
+        } catch (RuntimeException re) {
+            logger.warning("Failed to report a failed save: " + StringUtil.getDetails(re));
+        }
+    }
+
+    private IOException write(ReadOnlyMyCrm snapshot, Path filePath) {
+        try {
+            logger.fine("Writing data in the background to file: " + filePath);
+            storage.saveMyCrm(snapshot, filePath);
+            return null;
+        } catch (IOException ioe) {
+            logger.warning("Failed to save data to " + filePath + ": " + StringUtil.getDetails(ioe));
+            return ioe;
+        } catch (RuntimeException re) {
+            logger.severe("Unexpected error while saving data to " + filePath + ": " + StringUtil.getDetails(re));
+            return new IOException(re);
+        }
+    }
+
+}
@@ -1,5 +1,10 @@
 package seedu.mycrm.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.event.EventHandler;
 import javafx.fxml.FXML;
@@ -7,10 +12,10 @@ import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import seedu.mycrm.logic.Logic;
 import seedu.mycrm.logic.commands.CommandResult;
-import seedu.mycrm.logic.commands.exceptions.CommandException;
-import seedu.mycrm.logic.parser.exceptions.ParseException;
+import seedu.mycrm.logic.commands.CommandType;
 import seedu.mycrm.model.history.History;
 
 
@@ -21,43 +26,73 @@ public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    // How long typing must pause before a find command being typed is previewed.
+    private static final Duration PREVIEW_DELAY = Duration.millis(150);
 
     private final CommandExecutor commandExecutor;
+    private final Consumer<CommandType> previewShower;
+    private final PauseTransition previewDelay = new PauseTransition(PREVIEW_DELAY);
     private Logic logic;
 
+    /** Index in the history list of the command shown by UP/DOWN navigation, or the list size if none. */
+    private int historyIndex;
+
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, that previews find commands as they are
+     * typed and passes the type of the list previewed to {@code previewShower}.
      */
-    public CommandBox(Logic logic, CommandExecutor commandExecutor) {
+    public CommandBox(Logic logic, CommandExecutor commandExecutor, Consumer<CommandType> previewShower) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.previewShower = previewShower;
         this.logic = logic;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // calls #setStyleToDefault() whenever there is a change to the text of the command box,
+        // and previews the text once typing pauses.
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> {
+            setStyleToDefault();
+            previewDelay.playFromStart();
+        });
+        previewDelay.setOnFinished(unused -> previewFind());
         retrieveHistoryCommand();
     }
 
+    /**
+     * Previews the result of the find command being typed, if any, showing the list previewed once it is made.
+     */
+    private void previewFind() {
+        logic.previewFind(commandTextField.getText())
+                .thenAcceptAsync(previewedType -> previewedType.ifPresent(previewShower), Platform::runLater);
+    }
+
     /**
      * Handles the Enter button pressed event.
      */
     @FXML
     private void handleCommandEntered() {
         String commandText = commandTextField.getText();
-        logic.traceUserInput(new History(commandText));
-        //logic.getFilteredHistoryList().add(new History(commandText));
         if (commandText.equals("")) {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        previewDelay.stop();
+        logic.traceUserInput(new History(commandText));
+        // The input is added to the history in the background, so the index is past the end of the history with it.
+        historyIndex = logic.getFilteredHistoryList().size() + 1;
+
+        // The command completes on the JavaFX application thread, possibly after the user has typed on.
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            if (!commandTextField.getText().equals(commandText)) {
+                return;
+            }
+            if (error == null) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
     }
 
     /**
@@ -84,46 +119,31 @@ public class CommandBox extends UiPart<Region> {
      * Retrieves the recent entered command using arrow keys.
      */
     private void retrieveHistoryCommand() {
-        commandTextField.setOnKeyPressed(
-                new EventHandler<KeyEvent>() {
-                    private Integer currentSize = logic.getFilteredHistoryList().size();
-                    private Integer recentCommandIndex = currentSize;
-
-                    @Override
-                    public void handle(KeyEvent event) {
-                        ObservableList<History> histories = logic.getFilteredHistoryList();
-                        if (histories.size() != currentSize) {
-                            currentSize = histories.size();
-                            recentCommandIndex = currentSize;
-                        }
-                        if (event.getCode() == KeyCode.UP) {
-                            if (recentCommandIndex > 0) {
-                                recentCommandIndex--;
-                            } else {
-                                recentCommandIndex = 0;
-                            }
-                            if (currentSize != 0) {
-                                commandTextField.setText(histories.get(recentCommandIndex).toString());
-                            }
-                        } else if (event.getCode() == KeyCode.DOWN) {
-                            if (recentCommandIndex < histories.size() - 1) {
-                                recentCommandIndex++;
-                            } else {
-                                recentCommandIndex = histories.size() - 1;
-                            }
-                            if (currentSize != 0) {
-                                commandTextField.setText(histories.get(recentCommandIndex).toString());
-                            }
-                        }
-                        // Keep the caret at the end of TextField when tracing user input
-                        if (event.getCode() == KeyCode.UP || event.getCode() == KeyCode.DOWN) {
-                            commandTextField.positionCaret(commandTextField.getLength());
-                        }
-                    }
+        historyIndex = logic.getFilteredHistoryList().size();
+        commandTextField.setOnKeyPressed(new EventHandler<KeyEvent>() {
+            @Override
+            public void handle(KeyEvent event) {
+                if (event.getCode() != KeyCode.UP && event.getCode() != KeyCode.DOWN) {
+                    return;
                 }
-        );
 
+                ObservableList<History> histories = logic.getFilteredHistoryList();
+                if (histories.isEmpty()) {
+                    return;
+                }
 
+                // The history may have been cleared or cut short since the last navigation
+                historyIndex = Math.min(historyIndex, histories.size());
+                if (event.getCode() == KeyCode.UP) {
+                    historyIndex = Math.max(historyIndex - 1, 0);
+                } else {
+                    historyIndex = Math.min(historyIndex + 1, histories.size() - 1);
+                }
+                commandTextField.setText(histories.get(historyIndex).toString());
+                // Keep the caret at the end of TextField when tracing user input
+                commandTextField.positionCaret(commandTextField.getLength());
+            }
+        });
     }
 
     /**
@@ -132,11 +152,11 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Executes the command and returns its result, which completes once the result is shown.
          *
-         * @see seedu.mycrm.logic.Logic#execute(String)
+         * @see seedu.mycrm.logic.Logic#executeAsync(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
@@ -48,7 +48,7 @@ public class MainDisplay extends UiPart<Region> {
         mailListPanelPlaceholder.managedProperty().bind(mailListPanelPlaceholder.visibleProperty());
         mailListPanelPlaceholder.getChildren().add(mailListPanel.getRoot());
 
-        JobListPanel jobListPanel = new JobListPanel(logic.getFilteredJobList());
+        JobListPanel jobListPanel = new JobListPanel(logic.getFilteredJobList(), logic);
         jobListPanelPlaceholder.managedProperty().bind(jobListPanelPlaceholder.visibleProperty());
         jobListPanelPlaceholder.getChildren().add(jobListPanel.getRoot());
 
@@ -1,8 +1,11 @@
 package seedu.mycrm.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
 import javafx.application.HostServices;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -16,8 +19,6 @@ import seedu.mycrm.commons.core.LogsCenter;
 import seedu.mycrm.logic.Logic;
 import seedu.mycrm.logic.commands.CommandResult;
 import seedu.mycrm.logic.commands.CommandType;
-import seedu.mycrm.logic.commands.exceptions.CommandException;
-import seedu.mycrm.logic.parser.exceptions.ParseException;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -143,7 +144,7 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getMyCrmFilePath());
         statusBarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(logic, this::executeCommand);
+        CommandBox commandBox = new CommandBox(logic, this::executeCommand, this::showPreview);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -175,6 +176,10 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.show();
     }
 
+    void showFeedbackToUser(String feedbackToUser) {
+        resultDisplay.setFeedbackToUser(feedbackToUser);
+    }
+
     /**
      * Closes the application.
      */
@@ -221,73 +226,92 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Shows the list of {@code commandType} previewing a find command being typed.
      *
-     * @see seedu.mycrm.logic.Logic#execute(String)
+     * @see seedu.mycrm.logic.Logic#previewFind(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            CommandType commandType = commandResult.getCommandType();
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            switch (commandType) {
-            case CONTACTS:
-            case TEMPLATE:
-            case PRODUCTS:
-            case HISTORY:
-                sideDisplay.switchTab(commandType);
-                break;
-
-            case MAIL:
-                mainDisplay.showMailList();
-                break;
-
-            case JOBS:
-                mainDisplay.showJobList();
-                break;
-
-            case HELP:
-                handleHelp();
-                break;
-
-            case EXIT:
-                handleExit();
-                break;
-
-            case THEME:
-                themeManager.changeTheme(commandResult.getThemeName());
-                break;
-
-            case REPORT:
-                handlePrintReport(commandResult.getCommandFlag());
-                break;
-
-            case EXPORT:
-                handleExport();
-                break;
-
-            case COMMON:
-                // do nothing
-                break;
-
-            default:
-                assert false;
-            }
+    private void showPreview(CommandType commandType) {
+        if (commandType == CommandType.JOBS) {
+            mainDisplay.showJobList();
+        } else {
+            sideDisplay.switchTab(commandType);
+        }
+    }
 
-            if (commandType != CommandType.REPORT && commandType != CommandType.EXPORT
-                    && reportWindow.isShowing()) {
-                // update report window
-                reportWindow.updateInnerParts();
-                reportWindow.changeTheme(themeManager.getThemeName());
+    /**
+     * Executes the command in the background and returns its result, which completes once it is shown.
+     *
+     * @see seedu.mycrm.logic.Logic#executeAsync(String)
+     */
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return logic.executeAsync(commandText).whenCompleteAsync((commandResult, error) -> {
+            if (error == null) {
+                showCommandResult(commandResult);
+                return;
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
             logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+            resultDisplay.setFeedbackToUser(cause.getMessage());
+        }, Platform::runLater);
+    }
+
+    /**
+     * Shows the result of a command that has been executed.
+     */
+    private void showCommandResult(CommandResult commandResult) {
+        CommandType commandType = commandResult.getCommandType();
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+
+        switch (commandType) {
+        case CONTACTS:
+        case TEMPLATE:
+        case PRODUCTS:
+        case HISTORY:
+            sideDisplay.switchTab(commandType);
+            break;
+
+        case MAIL:
+            mainDisplay.showMailList();
+            break;
+
+        case JOBS:
+            mainDisplay.showJobList();
+            break;
+
+        case HELP:
+            handleHelp();
+            break;
+
+        case EXIT:
+            handleExit();
+            break;
+
+        case THEME:
+            themeManager.changeTheme(commandResult.getThemeName());
+            break;
+
+        case REPORT:
+            handlePrintReport(commandResult.getCommandFlag());
+            break;
+
+        case EXPORT:
+            handleExport();
+            break;
+
+        case COMMON:
+            // do nothing
+            break;
+
+        default:
+            assert false;
+        }
+
+        if (commandType != CommandType.REPORT && commandType != CommandType.EXPORT
+                && reportWindow.isShowing()) {
+            // update report window
+            reportWindow.updateInnerParts();
+            reportWindow.changeTheme(themeManager.getThemeName());
         }
     }
 }
@@ -69,7 +69,7 @@ public class ReportWindow extends UiPart<Stage> {
         jobDisplayPlaceholder.getChildren().add(jobDisplay.getRoot());
 
         graphDisplay = new GraphDisplay();
-        graphDisplay.init(logic);
+        graphDisplay.init(logic.getReport());
         if (graphDisplayPlaceholder.getChildren().size() > 0) {
             graphDisplayPlaceholder.getChildren().remove(0);
         }
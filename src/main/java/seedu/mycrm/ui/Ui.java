@@ -9,4 +9,7 @@ public interface Ui {
 
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
+
+    /** Shows {@code feedbackToUser} in the result display, outside of the execution of a command. */
+    void showFeedbackToUser(String feedbackToUser);
 }
@@ -55,6 +55,13 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showFeedbackToUser(String feedbackToUser) {
+        if (mainWindow != null) {
+            mainWindow.showFeedbackToUser(feedbackToUser);
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
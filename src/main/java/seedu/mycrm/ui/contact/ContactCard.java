@@ -54,7 +54,7 @@ public class ContactCard extends UiPart<Region> {
     }
 
     private void setContactInfo(Contact contact, int displayedIndex) {
-        id.setText(displayedIndex + ". ");
+        id.setText(displayedIndex + ". (#" + contact.getId() + ") ");
         name.setText(contact.getName().toString());
         phone.setText("Phone: " + contact.getPhone().toString());
         address.setText("Address: " + contact.getAddress().toString());
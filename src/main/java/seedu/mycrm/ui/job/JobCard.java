@@ -8,6 +8,7 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
+import seedu.mycrm.model.EntityLookup;
 import seedu.mycrm.model.contact.Contact;
 import seedu.mycrm.model.job.Job;
 import seedu.mycrm.model.product.Product;
@@ -79,22 +80,26 @@ public class JobCard extends UiPart<Region> {
     private Label productDescription;
 
     /**
-     * Creates a {@code JobCard} with the given {@code Job} and index to display.
+     * Creates a {@code JobCard} with the given {@code Job} and index to display, showing the client and product
+     * the job is linked to as looked up in {@code lookup}.
      */
-    public JobCard(Job job, int displayedIndex) {
+    public JobCard(Job job, int displayedIndex, EntityLookup lookup) {
         super(FXML);
         this.job = job;
 
-        setJobInfo(job, displayedIndex);
-        setClientInfo(job.getClient());
-        setProductInfo(job.getProduct());
+        Contact client = job.getClient(lookup).orElse(null);
+        setJobInfo(job, displayedIndex, client);
+        setClientInfo(client);
+        setProductInfo(job.getProduct(lookup).orElse(null));
     }
 
-    private void setJobInfo(Job job, int displayedIndex) {
-        id.setText(displayedIndex + ". ");
+    private void setJobInfo(Job job, int displayedIndex, Contact client) {
+        id.setText(displayedIndex + ". (#" + job.getId() + ") ");
 
-        String titleText = job.getJobDescription().toString()
-                + " - " + job.getClient().getName().fullName;;
+        String titleText = job.getJobDescription().toString();
+        if (client != null) {
+            titleText += " - " + client.getName().fullName;
+        }
 
         title.setText(titleText);
 
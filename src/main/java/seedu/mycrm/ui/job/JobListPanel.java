@@ -2,12 +2,15 @@ package seedu.mycrm.ui.job;
 
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.mycrm.commons.core.LogsCenter;
+import seedu.mycrm.logic.Logic;
+import seedu.mycrm.model.EntityLookup;
 import seedu.mycrm.model.job.Job;
 import seedu.mycrm.ui.UiPart;
 
@@ -17,17 +20,25 @@ import seedu.mycrm.ui.UiPart;
 public class JobListPanel extends UiPart<Region> {
     private static final String FXML = "JobListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(JobListPanel.class);
+    private final EntityLookup lookup;
 
     @FXML
     private ListView<Job> jobListView;
 
     /**
-     * Creates a {@code ContactListPanel} with the given {@code ObservableList}.
+     * Creates a {@code JobListPanel} with the given {@code ObservableList}, showing the clients and products of
+     * the jobs as {@code logic} looks them up.
      */
-    public JobListPanel(ObservableList<Job> jobList) {
+    public JobListPanel(ObservableList<Job> jobList, Logic logic) {
         super(FXML);
+        this.lookup = logic.getEntityLookup();
         jobListView.setItems(jobList);
         jobListView.setCellFactory(listView -> new JobListViewCell());
+
+        // jobs hold only the ids of their clients and products, so the cards are redrawn when those change
+        ListChangeListener<Object> redraw = change -> jobListView.refresh();
+        logic.getFilteredContactList().addListener(redraw);
+        logic.getFilteredProductList().addListener(redraw);
     }
 
     /**
@@ -42,7 +53,7 @@ public class JobListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new JobCard(job, getIndex() + 1).getRoot());
+                setGraphic(new JobCard(job, getIndex() + 1, lookup).getRoot());
             }
         }
     }
@@ -36,7 +36,7 @@ public class ProductCard extends UiPart<Region> {
         super(FXML);
         this.product = product;
 
-        id.setText(displayedIndex + ". ");
+        id.setText(displayedIndex + ". (#" + product.getId() + ") ");
         name.setText(product.getName().toString());
         type.setText("Type: " + product.getType());
         manufacturer.setText("Manufacturer: " + product.getManufacturer());
@@ -1,21 +1,21 @@
 package seedu.mycrm.ui.report;
 
-import java.time.LocalDate;
-import java.time.Month;
+import java.time.YearMonth;
 
 import javafx.fxml.FXML;
 import javafx.scene.chart.BarChart;
 import javafx.scene.chart.XYChart;
 import javafx.scene.layout.Region;
-import seedu.mycrm.logic.Logic;
+import seedu.mycrm.logic.ReportSnapshot;
 import seedu.mycrm.ui.UiPart;
 
+/**
+ * A bar chart of the monthly revenue of the latest months, compared with the same months of earlier years.
+ */
 public class GraphDisplay extends UiPart<Region> {
 
     private static final String FXML = "GraphDisplay.fxml";
 
-    private static final LocalDate now = LocalDate.now();
-
     @FXML
     private BarChart<String, Number> bc;
 
@@ -25,37 +25,20 @@ public class GraphDisplay extends UiPart<Region> {
 
     /**
      * Initialize inner parts.
+     * Draws the revenue of the latest months of each of the latest years that {@code report} was taken with, as
+     * totalled when it was taken.
      */
-    public void init(Logic logic) {
-
-        XYChart.Series<String, Number> series1 = new XYChart.Series<>();
-        addToChart(series1, logic, 1);
-
-        XYChart.Series<String, Number> series2 = new XYChart.Series<>();
-        addToChart(series2, logic, 0);
-
-        bc.getData().add(series1);
-        bc.getData().add(series2);
-
-    }
-
-    private void addToChart(XYChart.Series<String, Number> series, Logic logic, int year) {
-        double[] revenueOfYear = getLastFourMonthRevenue(logic, year);
-        Month month = now.getMonth();
-
-        series.setName(Integer.toString(now.getYear() - year));
-        for (int i = 0; i < 4; i++) {
-            series.getData().add(new XYChart.Data<>(month.minus(3 - i).toString(), revenueOfYear[i]));
-        }
-    }
-
-    private double[] getLastFourMonthRevenue(Logic logic, int year) {
-        double[] lastFourMonthRevenue = new double[4];
-
-        for (int i = 0; i < 4; i++) {
-            lastFourMonthRevenue[i] = logic.getRevenue(now.minusYears(year).minusMonths(3 - i));
+    public void init(ReportSnapshot report) {
+        YearMonth thisMonth = report.getLatestGraphMonth();
+        for (int year = report.getGraphYears() - 1; year >= 0; year--) {
+            XYChart.Series<String, Number> series = new XYChart.Series<>();
+            series.setName(Integer.toString(thisMonth.getYear() - year));
+            for (int i = report.getGraphMonths() - 1; i >= 0; i--) {
+                YearMonth month = thisMonth.minusYears(year).minusMonths(i);
+                series.getData().add(new XYChart.Data<>(month.getMonth().toString(),
+                        report.getGraphRevenueCents(month) / 100.0));
+            }
+            bc.getData().add(series);
         }
-
-        return lastFourMonthRevenue;
     }
 }
@@ -6,9 +6,11 @@ import static seedu.mycrm.logic.commands.PrintReportCommand.SHOW_IN_PROGRESS_FLA
 import static seedu.mycrm.logic.commands.PrintReportCommand.SHOW_PRODUCT_FLAG;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.TextStyle;
 import java.util.Locale;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Tab;
 import javafx.scene.control.TabPane;
@@ -17,6 +19,10 @@ import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import seedu.mycrm.logic.Logic;
+import seedu.mycrm.logic.ReportSnapshot;
+import seedu.mycrm.model.job.Job;
+import seedu.mycrm.model.job.JobAggregates;
+import seedu.mycrm.model.job.JobDateRange;
 import seedu.mycrm.ui.UiPart;
 import seedu.mycrm.ui.job.JobListPanel;
 import seedu.mycrm.ui.product.ProductListPanel;
@@ -28,7 +34,7 @@ public class JobDisplay extends UiPart<Region> {
 
     private static final String FXML = "JobDisplay.fxml";
 
-    private static final String COMPLETED_JOB_NUMBER_MESSAGE = "The total number of jobs completed in this month: ";
+    private static final String COMPLETED_JOB_NUMBER_MESSAGE = "The total number of jobs completed %s: ";
     private static final String IN_PROGRESS_JOB_NUMBER_MESSAGE = "The total number of in-progress jobs: ";
 
     private JobListPanel completedJobListPanel;
@@ -71,31 +77,41 @@ public class JobDisplay extends UiPart<Region> {
      * Initialize inner parts.
      */
     public void init(Logic logic) {
-        int numberOfCompletedJob = logic.getFilteredMonthlyCompletedJobList().size();
-        int numberOfInProgressJob = logic.getFilteredIncompleteJobList().size();
-
-        completedJobListPanel = new JobListPanel(logic.getFilteredMonthlyCompletedJobList());
-        numberOfCompletedJobDisplay = new NumberCard(COMPLETED_JOB_NUMBER_MESSAGE, numberOfCompletedJob);
+        ReportSnapshot report = logic.getReport();
+        ObservableList<Job> completedJobs = report.getCompletedJobs();
+        JobAggregates jobAggregates = report.getAggregates();
+        JobDateRange reportRange = report.getRange();
+        boolean isThisMonth = reportRange.equals(JobDateRange.ofMonth(LocalDate.now()));
+        // Jobs of the current month are never archived, so the aggregates count all of them.
+        int numberOfCompletedJob = isThisMonth
+                ? jobAggregates.getCompletedJobCount(YearMonth.now())
+                : completedJobs.size();
+        int numberOfInProgressJob = jobAggregates.getIncompleteJobCount();
+
+        completedJobListPanel = new JobListPanel(completedJobs, logic);
+        numberOfCompletedJobDisplay = new NumberCard(String.format(COMPLETED_JOB_NUMBER_MESSAGE,
+                isThisMonth ? "in this month" : reportRange), numberOfCompletedJob);
         VBox vBox1 = new VBox(numberOfCompletedJobDisplay.getRoot(), completedJobListPanel.getRoot());
         vBox1.setVgrow(completedJobListPanel.getRoot(), Priority.ALWAYS);
         completedJobListPanelPlaceholder.managedProperty().bind(completedJobListPanelPlaceholder.visibleProperty());
         completedJobListPanelPlaceholder.getChildren().add(vBox1);
 
-        inProgressJobListPanel = new JobListPanel(logic.getFilteredIncompleteJobList());
+        inProgressJobListPanel = new JobListPanel(logic.getFilteredIncompleteJobList(), logic);
         numberOfInProgressJobDisplay = new NumberCard(IN_PROGRESS_JOB_NUMBER_MESSAGE, numberOfInProgressJob);
         VBox vBox2 = new VBox(numberOfInProgressJobDisplay.getRoot(), inProgressJobListPanel.getRoot());
         vBox2.setVgrow(inProgressJobListPanel.getRoot(), Priority.ALWAYS);
         inProgressJobListPanelPlaceholder.managedProperty().bind(inProgressJobListPanelPlaceholder.visibleProperty());
         inProgressJobListPanelPlaceholder.getChildren().add(vBox2);
 
-        topThreeProductListPanel = new ProductListPanel(logic.getFilteredTopThreeProductList());
+        topThreeProductListPanel = new ProductListPanel(logic.getTopProductList());
         topThreeProductListPanelPlaceholder
                 .managedProperty()
                 .bind(topThreeProductListPanelPlaceholder.visibleProperty());
         topThreeProductListPanelPlaceholder.getChildren().add(topThreeProductListPanel.getRoot());
 
-        topThreeProductTab.setText("Top-Three Products Received in "
-                + LocalDate.now().getMonth().getDisplayName(TextStyle.SHORT, Locale.ENGLISH));
+        topThreeProductTab.setText("Top-" + report.getTopProductCount() + " Products Received " + (isThisMonth
+                ? "in " + LocalDate.now().getMonth().getDisplayName(TextStyle.SHORT, Locale.ENGLISH)
+                : reportRange));
     }
 
     /**
@@ -9,6 +9,7 @@ import javafx.scene.control.TextArea;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import seedu.mycrm.logic.Logic;
+import seedu.mycrm.logic.ReportSnapshot;
 import seedu.mycrm.model.job.Job;
 import seedu.mycrm.model.product.Product;
 import seedu.mycrm.ui.UiPart;
@@ -50,24 +51,25 @@ public class Printable extends UiPart<VBox> {
      * Initialize inner parts.
      */
     public void init(Logic logic) {
+        ReportSnapshot report = logic.getReport();
         graphDisplay = new GraphDisplay();
-        graphDisplay.init(logic);
+        graphDisplay.init(report);
         if (graphDisplayPlaceholder.getChildren().size() > 0) {
             graphDisplayPlaceholder.getChildren().remove(0);
         }
         graphDisplayPlaceholder.getChildren().add(graphDisplay.getRoot());
 
-        setTextArea(logic);
+        setTextArea(logic, report);
     }
 
-    private void setTextArea(Logic logic) {
+    private void setTextArea(Logic logic, ReportSnapshot report) {
         int id;
 
         id = 1;
         completedJobList.setText("");
-        for (Job j: logic.getFilteredMonthlyCompletedJobList()) {
+        for (Job j: report.getCompletedJobs()) {
             completedJobList.setText(completedJobList.getText() + id + ". "
-                    + j.toString() + "\n" + getJobInfo(j) + "\n\n");
+                    + j.toDisplayString(logic.getEntityLookup()) + "\n" + getJobInfo(j) + "\n\n");
             id++;
         }
         enableResize(completedJobList);
@@ -77,7 +79,7 @@ public class Printable extends UiPart<VBox> {
         inProgressJobList.setText("");
         for (Job j: logic.getFilteredJobList()) {
             inProgressJobList.setText(inProgressJobList.getText() + id + ". "
-                    + j.toString() + "\n" + getJobInfo(j) + "\n\n");
+                    + j.toDisplayString(logic.getEntityLookup()) + "\n" + getJobInfo(j) + "\n\n");
             id++;
         }
         enableResize(inProgressJobList);
@@ -85,13 +87,13 @@ public class Printable extends UiPart<VBox> {
 
         id = 1;
         topThreeProductList.setText("");
-        for (Product p: logic.getFilteredTopThreeProductList()) {
+        for (Product p: logic.getTopProductList()) {
             topThreeProductList.setText(topThreeProductList.getText() + id + ". "
                     + p.toString() + "\n" + getProductInfo(p) + "\n\n");
             id++;
         }
         enableResize(topThreeProductList);
-        topThreeProductListTitle.setText("Top Three Products:");
+        topThreeProductListTitle.setText("Top " + report.getTopProductCount() + " Products:");
     }
 
     private String getJobInfo(Job j) {
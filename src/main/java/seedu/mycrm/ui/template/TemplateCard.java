@@ -31,7 +31,7 @@ public class TemplateCard extends UiPart<Region> {
     public TemplateCard(Template template, int displayedIndex) {
         super(FXML);
         this.template = template;
-        id.setText(displayedIndex + ". ");
+        id.setText(displayedIndex + ". (#" + template.getId() + ") ");
         subject.setText(template.getSubject().toString());
         body.setText(template.getMailReadyBody());
     }
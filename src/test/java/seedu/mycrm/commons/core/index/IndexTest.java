@@ -5,6 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.mycrm.testutil.Assert.assertThrows;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 public class IndexTest {
@@ -37,6 +40,32 @@ public class IndexTest {
         assertEquals(6, Index.fromZeroBased(5).getOneBased());
     }
 
+    @Test
+    public void createEntityIdIndex() {
+        // invalid id
+        assertThrows(IndexOutOfBoundsException.class, () -> Index.fromEntityId(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> Index.fromEntityId(-1));
+
+        assertTrue(Index.fromEntityId(12).isEntityId());
+        assertEquals(12, Index.fromEntityId(12).getEntityId());
+        assertFalse(Index.fromOneBased(12).isEntityId());
+    }
+
+    @Test
+    public void resolve() {
+        List<String> shownList = List.of("a", "b");
+
+        // by position
+        assertEquals(Optional.of("b"), Index.fromOneBased(2).resolve(shownList, id -> Optional.empty()));
+        assertEquals(Optional.empty(), Index.fromOneBased(3).resolve(shownList, id -> Optional.of("c")));
+
+        // by id, whether or not shown
+        assertEquals(Optional.of("c"), Index.fromEntityId(1).resolve(shownList,
+            id -> id == 1 ? Optional.of("c") : Optional.empty()));
+        assertEquals(Optional.empty(), Index.fromEntityId(2).resolve(shownList,
+            id -> id == 1 ? Optional.of("c") : Optional.empty()));
+    }
+
     @Test
     public void equals() {
         final Index fifthContactIndex = Index.fromOneBased(5);
@@ -56,5 +85,9 @@ public class IndexTest {
 
         // different index -> returns false
         assertFalse(fifthContactIndex.equals(Index.fromOneBased(1)));
+
+        // entity id instead of index -> returns false
+        assertFalse(fifthContactIndex.equals(Index.fromEntityId(5)));
+        assertTrue(Index.fromEntityId(5).equals(Index.fromEntityId(5)));
     }
 }
@@ -1,5 +1,6 @@
 package seedu.mycrm.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.mycrm.testutil.Assert.assertThrows;
@@ -123,6 +124,26 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("abc", null));
+    }
+
+    @Test
+    public void editDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.editDistance("", ""));
+        assertEquals(0, StringUtil.editDistance("john", "john"));
+        assertEquals(4, StringUtil.editDistance("", "john"));
+        assertEquals(1, StringUtil.editDistance("jon", "john")); // insertion
+        assertEquals(1, StringUtil.editDistance("john", "jon")); // deletion
+        assertEquals(1, StringUtil.editDistance("jahn", "john")); // replacement
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+        assertEquals(1, StringUtil.editDistance("John", "john")); // case-sensitive
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -1,35 +1,59 @@
 package seedu.mycrm.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.mycrm.commons.core.Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX;
 import static seedu.mycrm.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.mycrm.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.mycrm.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.mycrm.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.mycrm.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.mycrm.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.mycrm.testutil.Assert.assertThrows;
+import static seedu.mycrm.testutil.TypicalContacts.ALICE;
 import static seedu.mycrm.testutil.TypicalContacts.AMY;
+import static seedu.mycrm.testutil.TypicalContacts.BENSON;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.ListChangeListener;
 import seedu.mycrm.logic.commands.CommandResult;
+import seedu.mycrm.logic.commands.CommandType;
 import seedu.mycrm.logic.commands.contacts.AddContactCommand;
+import seedu.mycrm.logic.commands.contacts.DeleteContactCommand;
+import seedu.mycrm.logic.commands.contacts.FindContactCommand;
 import seedu.mycrm.logic.commands.contacts.ListContactCommand;
 import seedu.mycrm.logic.commands.exceptions.CommandException;
+import seedu.mycrm.logic.commands.history.ClearHistoryCommand;
 import seedu.mycrm.logic.parser.exceptions.ParseException;
 import seedu.mycrm.model.Model;
 import seedu.mycrm.model.ModelManager;
 import seedu.mycrm.model.ReadOnlyMyCrm;
 import seedu.mycrm.model.UserPrefs;
 import seedu.mycrm.model.contact.Contact;
+import seedu.mycrm.model.history.History;
 import seedu.mycrm.storage.JsonMyCrmStorage;
 import seedu.mycrm.storage.JsonUserPrefsStorage;
 import seedu.mycrm.storage.StorageManager;
+import seedu.mycrm.storage.TextCommandHistoryStorage;
 import seedu.mycrm.testutil.ContactBuilder;
 
 public class LogicManagerTest {
@@ -39,6 +63,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -46,7 +71,7 @@ public class LogicManagerTest {
         JsonMyCrmStorage myCrmStorage =
                 new JsonMyCrmStorage(temporaryFolder.resolve("myCrm.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(myCrmStorage, userPrefsStorage);
+        storage = new StorageManager(myCrmStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -88,6 +113,102 @@ public class LogicManagerTest {
         assertCommandFailure(addContactCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void executeAsync_validCommand_publishedOnceAsOneChange() throws Exception {
+        CountingExecutor publisher = new CountingExecutor();
+        logic = new LogicManager(model, storage, publisher);
+        AtomicInteger contactListChanges = new AtomicInteger();
+        model.getMyCrm().getContactList().addListener((ListChangeListener<Contact>) change ->
+                contactListChanges.incrementAndGet());
+
+        String addContactCommand = AddContactCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        CommandResult result = logic.executeAsync(addContactCommand).get(5, TimeUnit.SECONDS);
+
+        Contact expectedContact = new ContactBuilder(AMY).withTags().build();
+        assertEquals(String.format(AddContactCommand.MESSAGE_SUCCESS, expectedContact), result.getFeedbackToUser());
+        assertEquals(List.of(expectedContact), logic.getFilteredContactList());
+        assertEquals(1, publisher.getCount());
+        assertEquals(1, contactListChanges.get());
+    }
+
+    @Test
+    public void executeAsync_validCommand_listsChangedOnlyByPublisher() throws Exception {
+        List<Runnable> publishedTasks = new ArrayList<>();
+        List<Thread> executingThreads = new ArrayList<>();
+        logic = new LogicManager(model, storage, publishedTasks::add);
+        model.getMyCrm().getContactList().addListener((ListChangeListener<Contact>) change ->
+                executingThreads.add(Thread.currentThread()));
+
+        logic.executeAsync(AddContactCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY)
+                .get(5, TimeUnit.SECONDS);
+        // the command is executed on the writer, while the list of the logic waits for the publisher
+        assertEquals(1, model.getFilteredContactList().size());
+        assertNotEquals(Thread.currentThread(), executingThreads.get(0));
+        assertEquals(List.of(), logic.getFilteredContactList());
+
+        assertEquals(1, publishedTasks.size());
+        publishedTasks.get(0).run();
+        assertEquals(model.getFilteredContactList(), logic.getFilteredContactList());
+    }
+
+    @Test
+    public void executeAsync_validCommand_reportReplacedOnlyByPublisher() throws Exception {
+        List<Runnable> publishedTasks = new ArrayList<>();
+        logic = new LogicManager(model, storage, publishedTasks::add);
+        ReportSnapshot report = logic.getReport();
+
+        logic.executeAsync(AddContactCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY)
+                .get(5, TimeUnit.SECONDS);
+        assertSame(report, logic.getReport());
+
+        // the report is taken after the command and replaced in the same task as the lists
+        assertEquals(1, publishedTasks.size());
+        publishedTasks.get(0).run();
+        assertNotSame(report, logic.getReport());
+        assertEquals(model.getReportRange(), logic.getReport().getRange());
+    }
+
+    @Test
+    public void executeAsync_invalidCommandFormat_completesWithParseException() throws Exception {
+        CountingExecutor publisher = new CountingExecutor();
+        logic = new LogicManager(model, storage, publisher);
+
+        Throwable cause = getFailure(logic.executeAsync("uicfhmowqewca"));
+        assertTrue(cause instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, cause.getMessage());
+        // commands that cannot be parsed are not published
+        assertEquals(0, publisher.getCount());
+    }
+
+    @Test
+    public void executeAsync_commandExecutionError_completesWithCommandException() throws Exception {
+        Throwable cause = getFailure(logic.executeAsync("deleteContact 9"));
+        assertTrue(cause instanceof CommandException);
+        assertEquals(MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX, cause.getMessage());
+    }
+
+    @Test
+    public void executeAsync_manyCommands_executedInOrder() throws Exception {
+        List<CompletableFuture<CommandResult>> results = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            names.add("Contact " + i);
+            results.add(logic.executeAsync(AddContactCommand.COMMAND_WORD + " " + PREFIX_NAME + "Contact " + i
+                    + PHONE_DESC_AMY));
+        }
+        results.add(logic.executeAsync(AddContactCommand.COMMAND_WORD + " " + PREFIX_NAME + "Contact 0"
+                + PHONE_DESC_AMY));
+
+        for (int i = 0; i < names.size(); i++) {
+            results.get(i).get(5, TimeUnit.SECONDS);
+        }
+        // the last command is a duplicate of the first, so it fails only if it is executed after it
+        assertTrue(getFailure(results.get(names.size())) instanceof CommandException);
+        assertEquals(names, model.getMyCrm().getContactList().stream()
+                .map(contact -> contact.getName().toString()).collect(Collectors.toList()));
+    }
+
     @Test
     public void getFilteredContactList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredContactList().remove(0));
@@ -98,6 +219,96 @@ public class LogicManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredTemplateList().remove(0));
     }
 
+    @Test
+    public void previewFind_findContactBeingTyped_contactsWithWordPrefixShown() throws Exception {
+        model.addContact(ALICE);
+        model.addContact(BENSON);
+
+        assertEquals(Optional.of(CommandType.CONTACTS), preview("findContact ali"));
+        assertEquals(List.of(ALICE), logic.getFilteredContactList());
+        assertEquals(Optional.of(CommandType.CONTACTS), preview("findContact 9876"));
+        assertEquals(List.of(BENSON), logic.getFilteredContactList());
+        // flags and field terms are not previewed
+        assertEquals(Optional.of(CommandType.CONTACTS), preview("findContact -f tag:vip ali"));
+        assertEquals(List.of(ALICE), logic.getFilteredContactList());
+
+        // the list is restored once the text is no longer a find command
+        assertEquals(Optional.empty(), preview("findContact"));
+        assertEquals(List.of(ALICE, BENSON), logic.getFilteredContactList());
+
+        // executing a command ends the preview
+        preview("findContact zzz");
+        logic.execute(ListContactCommand.COMMAND_WORD);
+        assertEquals(List.of(ALICE, BENSON), logic.getFilteredContactList());
+    }
+
+    @Test
+    public void previewFind_filteredList_filterRestoredExactly() throws Exception {
+        model.addContact(ALICE);
+        model.addContact(BENSON);
+        logic.execute(FindContactCommand.COMMAND_WORD + " Alice");
+
+        preview("findContact ben");
+        assertEquals(List.of(BENSON), logic.getFilteredContactList());
+        preview("findContact benson");
+        // the filter of the list is restored to the one before the first preview, not to the full list
+        assertEquals(Optional.empty(), preview("findContact"));
+        assertEquals(List.of(ALICE), logic.getFilteredContactList());
+        assertEquals(List.of(ALICE), model.getFilteredContactList());
+    }
+
+    @Test
+    public void previewFind_commandRequestedBeforePreviewMade_previewCancelled() throws Exception {
+        model.addContact(ALICE);
+        model.addContact(BENSON);
+        CountDownLatch isPublisherBlocked = new CountDownLatch(1);
+        logic = new LogicManager(model, storage, task -> {
+            try {
+                isPublisherBlocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            task.run();
+        });
+
+        // the writer waits for the publisher with the changes of the first command, while the preview is pending
+        CompletableFuture<CommandResult> firstCommand = logic.executeAsync(AddContactCommand.COMMAND_WORD
+                + NAME_DESC_AMY + PHONE_DESC_AMY);
+        CompletableFuture<Optional<CommandType>> pendingPreview = logic.previewFind("findContact ali");
+        CompletableFuture<CommandResult> secondCommand = logic.executeAsync(ListContactCommand.COMMAND_WORD);
+        isPublisherBlocked.countDown();
+
+        firstCommand.get(5, TimeUnit.SECONDS);
+        secondCommand.get(5, TimeUnit.SECONDS);
+        assertEquals(Optional.empty(), pendingPreview.get(5, TimeUnit.SECONDS));
+        assertEquals(3, logic.getFilteredContactList().size());
+    }
+
+    @Test
+    public void execute_indexCommandDuringPreview_indexOfRestoredList() throws Exception {
+        model.addContact(ALICE);
+        model.addContact(BENSON);
+
+        preview("findContact ben");
+        logic.execute(DeleteContactCommand.COMMAND_WORD + " 1");
+        assertEquals(List.of(BENSON), logic.getFilteredContactList());
+    }
+
+    @Test
+    public void traceUserInput_historySavedUntilCleared() throws Exception {
+        Path historyFilePath = TextCommandHistoryStorage.getHistoryFilePath(temporaryFolder.resolve("myCrm.json"));
+        TextCommandHistoryStorage historyStorage = new TextCommandHistoryStorage(historyFilePath);
+
+        logic.traceUserInput(new History(ListContactCommand.COMMAND_WORD));
+        logic.traceUserInput(new History(ListContactCommand.COMMAND_WORD)).get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(new History(ListContactCommand.COMMAND_WORD)), historyStorage.readCommandHistory());
+
+        logic.traceUserInput(new History(ClearHistoryCommand.COMMAND_WORD));
+        logic.execute(ClearHistoryCommand.COMMAND_WORD);
+        assertEquals(List.of(), historyStorage.readCommandHistory());
+        assertEquals(List.of(), logic.getFilteredHistoryList());
+    }
+
     @Test
     public void getFilteredMailList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredMailList().remove(0));
@@ -161,6 +372,42 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * Previews {@code commandText} and waits for the preview to be made.
+     */
+    private Optional<CommandType> preview(String commandText) throws Exception {
+        return logic.previewFind(commandText).get(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Waits for {@code result} and returns the exception it completes with.
+     */
+    private static Throwable getFailure(CompletableFuture<CommandResult> result) throws Exception {
+        try {
+            result.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            return e.getCause();
+        }
+        throw new AssertionError("The command should have failed.");
+    }
+
+    /**
+     * An executor that runs tasks right away and counts them.
+     */
+    private static class CountingExecutor implements Executor {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public void execute(Runnable command) {
+            count.incrementAndGet();
+            command.run();
+        }
+
+        public int getCount() {
+            return count.get();
+        }
+    }
+
     /**
      * A stub class to throw an {@code IOException} when the save method is called.
      */
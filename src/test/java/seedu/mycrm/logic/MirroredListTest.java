@@ -0,0 +1,64 @@
+package seedu.mycrm.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+
+public class MirroredListTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c", "d");
+    private final MirroredList<String> mirroredList = new MirroredList<>(source);
+
+    @Test
+    public void asUnmodifiableObservableList_sourceChanged_unchangedUntilReplayed() {
+        source.add("e");
+        source.remove("b");
+
+        assertTrue(mirroredList.hasChanges());
+        assertEquals(Arrays.asList("a", "b", "c", "d"), mirroredList.asUnmodifiableObservableList());
+
+        mirroredList.takeChanges().run();
+        assertFalse(mirroredList.hasChanges());
+        assertEquals(source, mirroredList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void takeChanges_manyChanges_replayedInOrder() {
+        source.set(0, "x");
+        source.addAll(2, List.of("y", "z"));
+        source.removeAll("c", "d");
+        source.add(0, "w");
+
+        mirroredList.takeChanges().run();
+        assertEquals(source, mirroredList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void takeChanges_filterChanged_replayed() {
+        FilteredList<String> filtered = new FilteredList<>(source);
+        MirroredList<String> mirroredFilter = new MirroredList<>(filtered);
+
+        filtered.setPredicate(element -> !element.equals("b"));
+        source.add(1, "e");
+        filtered.setPredicate(element -> element.compareTo("c") >= 0);
+
+        mirroredFilter.takeChanges().run();
+        assertEquals(Arrays.asList("e", "c", "d"), mirroredFilter.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void takeChanges_noChanges_nothingReplayed() {
+        assertFalse(mirroredList.hasChanges());
+        mirroredList.takeChanges().run();
+        assertEquals(source, mirroredList.asUnmodifiableObservableList());
+    }
+}
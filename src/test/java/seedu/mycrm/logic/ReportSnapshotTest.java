@@ -0,0 +1,54 @@
+package seedu.mycrm.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.mycrm.testutil.TypicalJobs.COMPLETED;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.mycrm.model.ModelManager;
+import seedu.mycrm.model.UserPrefs;
+import seedu.mycrm.model.job.Job;
+import seedu.mycrm.model.job.JobDateRange;
+import seedu.mycrm.testutil.JobBuilder;
+import seedu.mycrm.testutil.TypicalJobs;
+
+public class ReportSnapshotTest {
+
+    private static final YearMonth DECEMBER = YearMonth.of(2021, 12);
+
+    private final ModelManager model = new ModelManager(TypicalJobs.getTypicalMyCrm(), new UserPrefs());
+
+    @Test
+    public void of_model_reportCopied() throws Exception {
+        JobDateRange december = JobDateRange.ofMonth(DECEMBER.atDay(1));
+        model.setReport(december, 5);
+        ReportSnapshot report = ReportSnapshot.of(model, DECEMBER);
+
+        assertEquals(december, report.getRange());
+        assertEquals(5, report.getTopProductCount());
+        assertEquals(List.of(COMPLETED), report.getCompletedJobs());
+        assertEquals(1, report.getAggregates().getIncompleteJobCount());
+        assertEquals(DECEMBER, report.getLatestGraphMonth());
+        assertEquals(4, report.getGraphMonths());
+        assertEquals(2, report.getGraphYears());
+        assertEquals(3000, report.getGraphRevenueCents(DECEMBER));
+        assertEquals(0, report.getGraphRevenueCents(DECEMBER.minusYears(1).minusMonths(3)));
+    }
+
+    @Test
+    public void of_modelChangedAfterwards_reportUnchanged() throws Exception {
+        model.setReport(JobDateRange.ofMonth(DECEMBER.atDay(1)), 3);
+        ReportSnapshot report = ReportSnapshot.of(model, DECEMBER);
+
+        Job laterJob = new JobBuilder().withJobDescription("Replace battery").withCompletionDate("20/12/2021")
+                .withCompletionStatus(true).build();
+        model.addJob(laterJob);
+
+        assertEquals(List.of(COMPLETED), report.getCompletedJobs());
+        assertEquals(1, report.getAggregates().getCompletedJobCount(DECEMBER));
+        assertEquals(3000, report.getGraphRevenueCents(DECEMBER));
+    }
+}
@@ -3,9 +3,15 @@ package seedu.mycrm.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.mycrm.logic.commands.PrintReportCommand.MESSAGE_EMPTY_JOB_LIST;
 import static seedu.mycrm.logic.commands.PrintReportCommand.SHOWING_REPORT_MESSAGE;
+import static seedu.mycrm.logic.commands.PrintReportCommand.SHOW_COMPLETED_FLAG;
+import static seedu.mycrm.logic.commands.PrintReportCommand.SHOW_PRODUCT_FLAG;
 import static seedu.mycrm.testutil.Assert.assertThrows;
+import static seedu.mycrm.testutil.TypicalJobs.COMPLETED;
 import static seedu.mycrm.testutil.TypicalJobs.getTypicalMyCrm;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.mycrm.logic.StateManager;
@@ -14,6 +20,8 @@ import seedu.mycrm.model.Model;
 import seedu.mycrm.model.ModelManager;
 import seedu.mycrm.model.MyCrm;
 import seedu.mycrm.model.UserPrefs;
+import seedu.mycrm.model.job.JobDateRange;
+import seedu.mycrm.model.job.ReportPeriod;
 
 class PrintReportCommandTest {
 
@@ -39,5 +47,25 @@ class PrintReportCommandTest {
 
         assertEquals(expectedCommandResult.getFeedbackToUser(),
                 commandResult.getFeedbackToUser());
+        assertEquals(JobDateRange.ofMonth(LocalDate.now()), model.getReportRange());
+    }
+
+    @Test
+    void execute_printReportOfRange_reportRangeSet() throws CommandException {
+        JobDateRange december = JobDateRange.ofMonth(LocalDate.of(2021, 12, 1));
+
+        new PrintReportCommand(SHOW_COMPLETED_FLAG, december).execute(model, new StateManager(model));
+
+        assertEquals(december, model.getReportRange());
+        assertEquals(List.of(COMPLETED), model.getReportCompletedJobList());
+    }
+
+    @Test
+    void execute_printReportOfPeriod_topProductsRanked() throws CommandException {
+        Command command = new PrintReportCommand(SHOW_PRODUCT_FLAG, null, ReportPeriod.QUARTER, 1);
+        command.execute(model, new StateManager(model));
+
+        assertEquals(ReportPeriod.QUARTER.getRange(LocalDate.now()), model.getReportRange());
+        assertEquals(1, model.getTopProductCount());
     }
 }
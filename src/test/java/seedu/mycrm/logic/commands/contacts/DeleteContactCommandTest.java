@@ -43,6 +43,26 @@ public class DeleteContactCommandTest {
         assertCommandSuccess(deleteCommand, modelTypicalContact, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_validEntityId_success() {
+        Contact contactToDelete = modelTypicalContact.getFilteredContactList().get(INDEX_SECOND_CONTACT.getZeroBased());
+        DeleteContactCommand deleteCommand = new DeleteContactCommand(Index.fromEntityId(contactToDelete.getId()));
+
+        String expectedMessage = String.format(DeleteContactCommand.MESSAGE_DELETE_CONTACT_SUCCESS, contactToDelete);
+
+        ModelManager expectedModel = new ModelManager(modelTypicalContact.getMyCrm(), new UserPrefs());
+        expectedModel.deleteContact(contactToDelete);
+
+        assertCommandSuccess(deleteCommand, modelTypicalContact, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_unknownEntityId_throwsCommandException() {
+        DeleteContactCommand deleteCommand = new DeleteContactCommand(Index.fromEntityId(Long.MAX_VALUE));
+
+        assertCommandFailure(deleteCommand, modelTypicalContact, Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX);
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(modelTypicalContact.getFilteredContactList().size() + 1);
@@ -47,7 +47,7 @@ class AddJobCommandTest {
 
         CommandResult commandResult = addCommand.execute(model, new StateManager(model));
 
-        assertEquals(String.format(AddJobCommand.MESSAGE_SUCCESS, newJob), commandResult.getFeedbackToUser());
+        assertEquals(expectedMsg, commandResult.getFeedbackToUser());
         assertEquals(expectedModel.getFilteredJobList(), model.getFilteredJobList());
     }
 
@@ -36,7 +36,8 @@ public class CompleteJobCommandTest {
         Job jobToMarkComplete = model.getFilteredJobList().get(INDEX_FIRST_JOB.getZeroBased());
         CompleteJobCommand completeCommand = new CompleteJobCommand(INDEX_FIRST_JOB, new JobDate("13/12/2021"));
 
-        String expectedMessage = String.format(CompleteJobCommand.MESSAGE_SUCCESS, jobToMarkComplete);
+        String expectedMessage = String.format(CompleteJobCommand.MESSAGE_SUCCESS,
+                jobToMarkComplete.toDisplayString(model.getEntityLookup()));
 
         Model expectedModel = new ModelManager(model.getMyCrm(), new UserPrefs());
         Job jobMarkedComplete = new JobBuilder(jobToMarkComplete).withCompletionDate("13/12/2021")
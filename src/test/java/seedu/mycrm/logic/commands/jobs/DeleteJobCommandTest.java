@@ -38,7 +38,8 @@ public class DeleteJobCommandTest {
         Job jobToDelete = model.getFilteredJobList().get(INDEX_FIRST_JOB.getZeroBased());
         DeleteJobCommand deleteCommand = new DeleteJobCommand(INDEX_FIRST_JOB);
 
-        String expectedMessage = String.format(DeleteJobCommand.MESSAGE_DELETE_JOB_SUCCESS, jobToDelete);
+        String expectedMessage = String.format(DeleteJobCommand.MESSAGE_DELETE_JOB_SUCCESS,
+                jobToDelete.toDisplayString(model.getEntityLookup()));
 
         ModelManager expectedModel = new ModelManager(model.getMyCrm(), new UserPrefs());
         expectedModel.deleteJob(jobToDelete);
@@ -46,7 +46,8 @@ public class EditJobCommandTest {
                 new EditJobDescriptorBuilder(editedJob, clientIndex, productIndex).build();
         EditJobCommand editCommand = new EditJobCommand(INDEX_FIRST_JOB, descriptor);
 
-        String expectedMsg = String.format(EditJobCommand.MESSAGE_EDIT_JOB_SUCCESS, editedJob);
+        String expectedMsg = String.format(EditJobCommand.MESSAGE_EDIT_JOB_SUCCESS,
+                editedJob.toDisplayString(model.getEntityLookup()));
         Model expectedModel = new ModelManager(new MyCrm(model.getMyCrm()), new UserPrefs());
         expectedModel.setJob(model.getFilteredJobList().get(0), editedJob);
 
@@ -72,7 +73,8 @@ public class EditJobCommandTest {
             new EditJobDescriptorBuilder(editedJob, clientIndex, productIndex).build();
         EditJobCommand editCommand = new EditJobCommand(INDEX_FIRST_JOB, descriptor);
 
-        String expectedMsg = String.format(EditJobCommand.MESSAGE_EDIT_JOB_SUCCESS, editedJob);
+        String expectedMsg = String.format(EditJobCommand.MESSAGE_EDIT_JOB_SUCCESS,
+                editedJob.toDisplayString(model.getEntityLookup()));
         Model expectedModel = new ModelManager(new MyCrm(model.getMyCrm()), new UserPrefs());
         expectedModel.setJob(model.getFilteredJobList().get(0), editedJob);
 
@@ -1,15 +1,26 @@
 package seedu.mycrm.logic.commands.jobs;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.mycrm.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.mycrm.model.Model.PREDICATE_SHOW_ALL_COMPLETED_JOBS;
 import static seedu.mycrm.model.Model.PREDICATE_SHOW_ALL_INCOMPLETE_JOBS;
+import static seedu.mycrm.testutil.TypicalJobs.CARL_JOB;
+import static seedu.mycrm.testutil.TypicalJobs.COMPLETED;
 import static seedu.mycrm.testutil.TypicalTemplates.getTypicalMyCrm;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.mycrm.model.Model;
 import seedu.mycrm.model.ModelManager;
 import seedu.mycrm.model.UserPrefs;
+import seedu.mycrm.model.job.Job;
+import seedu.mycrm.model.job.JobDateRange;
+import seedu.mycrm.testutil.JobBuilder;
+import seedu.mycrm.testutil.TypicalJobs;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListJobCommand.
@@ -31,4 +42,22 @@ public class ListJobCommandTest {
                 ListJobCommand.MESSAGE_SUCCESS_ONLY_PENDING, expectedModel);
     }
 
+    @Test
+    public void execute_completedJobsInRange_showsJobsCompletedInRange() {
+        Model model = new ModelManager(TypicalJobs.getTypicalMyCrm(), new UserPrefs());
+        Model expectedModel = new ModelManager(model.getMyCrm(), new UserPrefs());
+        JobDateRange december = JobDateRange.ofMonth(LocalDate.of(2021, 12, 1));
+        Job completedInJanuary = new JobBuilder(CARL_JOB).withCompletionDate("3/1/2022").withCompletionStatus(true)
+                .build();
+        model.setJob(CARL_JOB, completedInJanuary);
+        expectedModel.setJob(CARL_JOB, completedInJanuary);
+        expectedModel.updateFilteredJobList(job -> job.equals(COMPLETED));
+
+        String expectedMessage = String.format(ListJobCommand.MESSAGE_SUCCESS_IN_RANGE,
+                ListJobCommand.MESSAGE_SUCCESS_ONLY_COMPLETED, december);
+        assertCommandSuccess(new ListJobCommand(PREDICATE_SHOW_ALL_COMPLETED_JOBS, december), model,
+                expectedMessage, expectedModel);
+        assertEquals(List.of(COMPLETED), model.getFilteredJobList());
+    }
+
 }
@@ -34,7 +34,8 @@ public class UndoCompleteJobCommandTest {
         Job jobToMarkIncomplete = model.getFilteredJobList().get(INDEX_FIRST_JOB.getZeroBased());
         UndoCompleteJobCommand undoCompleteJobCommand = new UndoCompleteJobCommand(INDEX_FIRST_JOB);
 
-        String expectedMessage = String.format(UndoCompleteJobCommand.MESSAGE_SUCCESS, jobToMarkIncomplete);
+        String expectedMessage = String.format(UndoCompleteJobCommand.MESSAGE_SUCCESS,
+                jobToMarkIncomplete.toDisplayString(model.getEntityLookup()));
 
         Model expectedModel = new ModelManager(model.getMyCrm(), new UserPrefs());
         Job jobMarkedIncomplete = new JobBuilder(jobToMarkIncomplete).withCompletionStatus(false).build();
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.mycrm.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.mycrm.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.mycrm.testutil.Assert.assertThrows;
+import static seedu.mycrm.testutil.TypicalContacts.ALICE;
 import static seedu.mycrm.testutil.TypicalIndexes.INDEX_FIRST_JOB;
 import static seedu.mycrm.testutil.TypicalIndexes.INDEX_FIRST_TEMPLATE;
 import static seedu.mycrm.testutil.TypicalIndexes.INDEX_SECOND_TEMPLATE;
@@ -19,7 +20,9 @@ import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 
@@ -28,11 +31,14 @@ import javafx.collections.ObservableList;
 import seedu.mycrm.commons.core.GuiSettings;
 import seedu.mycrm.commons.core.Messages;
 import seedu.mycrm.commons.core.index.Index;
+import seedu.mycrm.commons.exceptions.DataConversionException;
 import seedu.mycrm.logic.StateManager;
 import seedu.mycrm.logic.commands.CommandResult;
 import seedu.mycrm.logic.commands.exceptions.CommandException;
+import seedu.mycrm.model.EntityLookup;
 import seedu.mycrm.model.Model;
 import seedu.mycrm.model.ModelManager;
+import seedu.mycrm.model.ModelQuery;
 import seedu.mycrm.model.MyCrm;
 import seedu.mycrm.model.ReadOnlyMyCrm;
 import seedu.mycrm.model.ReadOnlyUserPrefs;
@@ -40,6 +46,10 @@ import seedu.mycrm.model.UserPrefs;
 import seedu.mycrm.model.contact.Contact;
 import seedu.mycrm.model.history.History;
 import seedu.mycrm.model.job.Job;
+import seedu.mycrm.model.job.JobAggregates;
+import seedu.mycrm.model.job.JobDateRange;
+import seedu.mycrm.model.job.RevenueGranularity;
+import seedu.mycrm.model.job.RevenueSeries;
 import seedu.mycrm.model.mail.Mail;
 import seedu.mycrm.model.mail.Template;
 import seedu.mycrm.model.product.Product;
@@ -59,7 +69,8 @@ class MailCommandTest {
 
         Job jobToMail = model.getFilteredJobList().get(INDEX_FIRST_JOB.getZeroBased());
         Template templateToMail = model.getFilteredTemplateList().get(INDEX_FIRST_TEMPLATE.getZeroBased());
-        Mail validMail = new Mail(jobToMail, templateToMail);
+        Mail validMail = new Mail(jobToMail, templateToMail,
+                model.getEntityLookup().getContactById(jobToMail.getClientId()).orElseThrow().getEmail());
 
         MailCommand expectedCommand = new MailCommand(INDEX_FIRST_JOB, INDEX_FIRST_TEMPLATE);
 
@@ -76,6 +87,7 @@ class MailCommandTest {
         MailCommandTest.ModelStubAcceptingMailAdded modelStub =
                 new MailCommandTest.ModelStubAcceptingMailAdded();
         modelStub.addJob(COMPLETED_JOB);
+        modelStub.addContact(ALICE);
         modelStub.addTemplate(COMPLETED);
 
         Mail validMail = new MailBuilder().withJob(COMPLETED_JOB).withTemplate(COMPLETED).build();
@@ -196,7 +208,7 @@ class MailCommandTest {
         }
 
         @Override
-        public void addHistory(History history) {
+        public boolean addHistory(History history) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -215,6 +227,16 @@ class MailCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void applyBatch(Runnable changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public <R> R read(Supplier<R> reader) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasContact(Contact contact) {
             throw new AssertionError("This method should not be called.");
@@ -230,6 +252,51 @@ class MailCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Contact> getContactById(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Product> getProductById(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public EntityLookup getEntityLookup() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Template> getTemplateById(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Job> getJobById(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Job> getJobsForContact(Contact contact) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Job> getJobsForProduct(Product product) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasJobsForContact(Contact contact) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasJobsForProduct(Product product) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteContact(Contact target) {
             throw new AssertionError("This method should not be called.");
@@ -255,6 +322,21 @@ class MailCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void loadArchivedJobs(JobDateRange completedIn) throws DataConversionException {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void unloadArchivedJobs() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isArchivedJob(Job job) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void hideContact(Contact target) {
             throw new AssertionError("This method should not be called.");
@@ -291,7 +373,47 @@ class MailCommandTest {
         }
 
         @Override
-        public ObservableList<Product> getFilteredTopThreeProductList() {
+        public JobAggregates getJobAggregates() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public RevenueSeries getRevenueSeries(JobDateRange range, RevenueGranularity granularity) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Job> getJobsReceivedIn(JobDateRange range) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Job> getJobsExpectedIn(JobDateRange range) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Job> getJobsCompletedIn(JobDateRange range) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setReport(JobDateRange range, int topProductCount) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public JobDateRange getReportRange() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getTopProductCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Product> getTopProductList() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -301,12 +423,37 @@ class MailCommandTest {
         }
 
         @Override
-        public ObservableList<Job> getFilteredAllJobList() {
+        public ModelQuery<Contact> queryContacts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModelQuery<Template> queryTemplates() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public ObservableList<Job> getFilteredMonthlyCompletedJobList() {
+        public ModelQuery<Product> queryProducts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModelQuery<Job> queryJobs() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Job> getReportCompletedJobList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Contact> getLatestContactPredicate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Product> getLatestProductPredicate() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -428,5 +575,12 @@ class MailCommandTest {
         public ReadOnlyMyCrm getMyCrm() {
             return new MyCrm();
         }
+
+        @Override
+        public EntityLookup getEntityLookup() {
+            MyCrm myCrm = new MyCrm();
+            myCrm.setContacts(contactsAdded);
+            return myCrm;
+        }
     }
 }
@@ -11,23 +11,33 @@ import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
 import seedu.mycrm.commons.core.GuiSettings;
+import seedu.mycrm.commons.exceptions.DataConversionException;
 import seedu.mycrm.logic.StateManager;
 import seedu.mycrm.logic.commands.ClearCommand;
 import seedu.mycrm.logic.commands.CommandResult;
 import seedu.mycrm.logic.commands.exceptions.CommandException;
+import seedu.mycrm.model.EntityLookup;
 import seedu.mycrm.model.Model;
+import seedu.mycrm.model.ModelQuery;
 import seedu.mycrm.model.MyCrm;
 import seedu.mycrm.model.ReadOnlyMyCrm;
 import seedu.mycrm.model.ReadOnlyUserPrefs;
 import seedu.mycrm.model.contact.Contact;
 import seedu.mycrm.model.history.History;
 import seedu.mycrm.model.job.Job;
+import seedu.mycrm.model.job.JobAggregates;
+import seedu.mycrm.model.job.JobDateRange;
+import seedu.mycrm.model.job.RevenueGranularity;
+import seedu.mycrm.model.job.RevenueSeries;
 import seedu.mycrm.model.mail.Mail;
 import seedu.mycrm.model.mail.Template;
 import seedu.mycrm.model.product.Product;
@@ -153,6 +163,16 @@ public class AddProductCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void applyBatch(Runnable changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public <R> R read(Supplier<R> reader) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasContact(Contact contact) {
             throw new AssertionError("This method should not be called.");
@@ -168,6 +188,51 @@ public class AddProductCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Contact> getContactById(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Product> getProductById(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public EntityLookup getEntityLookup() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Template> getTemplateById(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Job> getJobById(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Job> getJobsForContact(Contact contact) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Job> getJobsForProduct(Product product) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasJobsForContact(Contact contact) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasJobsForProduct(Product product) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteContact(Contact target) {
             throw new AssertionError("This method should not be called.");
@@ -193,6 +258,21 @@ public class AddProductCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void loadArchivedJobs(JobDateRange completedIn) throws DataConversionException {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void unloadArchivedJobs() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isArchivedJob(Job job) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void hideContact(Contact target) {
             throw new AssertionError("This method should not be called.");
@@ -224,7 +304,7 @@ public class AddProductCommandTest {
         }
 
         @Override
-        public void addHistory(History history) {
+        public boolean addHistory(History history) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -239,7 +319,47 @@ public class AddProductCommandTest {
         }
 
         @Override
-        public ObservableList<Product> getFilteredTopThreeProductList() {
+        public JobAggregates getJobAggregates() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public RevenueSeries getRevenueSeries(JobDateRange range, RevenueGranularity granularity) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Job> getJobsReceivedIn(JobDateRange range) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Job> getJobsExpectedIn(JobDateRange range) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Job> getJobsCompletedIn(JobDateRange range) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setReport(JobDateRange range, int topProductCount) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public JobDateRange getReportRange() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getTopProductCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Product> getTopProductList() {
             throw new AssertionError("This method should not be called.");
         }
         @Override
@@ -248,12 +368,37 @@ public class AddProductCommandTest {
         }
 
         @Override
-        public ObservableList<Job> getFilteredAllJobList() {
+        public ModelQuery<Contact> queryContacts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModelQuery<Template> queryTemplates() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModelQuery<Product> queryProducts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModelQuery<Job> queryJobs() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Job> getReportCompletedJobList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Contact> getLatestContactPredicate() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public ObservableList<Job> getFilteredMonthlyCompletedJobList() {
+        public Predicate<Product> getLatestProductPredicate() {
             throw new AssertionError("This method should not be called.");
         }
 
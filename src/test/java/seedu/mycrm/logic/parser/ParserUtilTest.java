@@ -13,6 +13,7 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.mycrm.commons.core.index.Index;
 import seedu.mycrm.logic.parser.exceptions.ParseException;
 import seedu.mycrm.model.contact.Address;
 import seedu.mycrm.model.contact.Email;
@@ -58,6 +59,21 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_CONTACT, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndex_entityId_success() throws Exception {
+        assertEquals(Index.fromEntityId(12), ParserUtil.parseIndex("#12"));
+        assertEquals(Index.fromEntityId(Long.MAX_VALUE), ParserUtil.parseIndex(" #" + Long.MAX_VALUE + " "));
+    }
+
+    @Test
+    public void parseIndex_invalidEntityId_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndex("#"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndex("#0"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndex("#-1"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndex("# 1"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndex("#99999999999999999999"));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -0,0 +1,44 @@
+package seedu.mycrm.logic.parser;
+
+import static seedu.mycrm.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.mycrm.logic.commands.PrintReportCommand.SHOW_COMPLETED_FLAG;
+import static seedu.mycrm.logic.commands.PrintReportCommand.SHOW_PRODUCT_FLAG;
+import static seedu.mycrm.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.mycrm.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.mycrm.logic.commands.PrintReportCommand;
+import seedu.mycrm.model.job.JobDateRange;
+import seedu.mycrm.model.job.ProductRanking;
+import seedu.mycrm.model.job.ReportPeriod;
+
+public class PrintReportCommandParserTest {
+    private final PrintReportCommandParser parser = new PrintReportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsPrintReportCommand() {
+        JobDateRange year = new JobDateRange(LocalDate.of(2021, 1, 1), LocalDate.of(2021, 12, 31));
+
+        assertParseSuccess(parser, "", new PrintReportCommand());
+        assertParseSuccess(parser, "-p", new PrintReportCommand(SHOW_PRODUCT_FLAG));
+        assertParseSuccess(parser, " from/1/1/2021 to/31/12/2021", new PrintReportCommand(SHOW_COMPLETED_FLAG, year));
+        assertParseSuccess(parser, " -p from/1/1/2021 to/31/12/2021", new PrintReportCommand(SHOW_PRODUCT_FLAG, year));
+        assertParseSuccess(parser, " -p period/quarter top/5",
+                new PrintReportCommand(SHOW_PRODUCT_FLAG, null, ReportPeriod.QUARTER, 5));
+        assertParseSuccess(parser, " from/1/1/2021 to/31/12/2021 top/1",
+                new PrintReportCommand(SHOW_COMPLETED_FLAG, year, null, 1));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " -x from/1/1/2021", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                PrintReportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " to/1/1/2021 from/2/1/2021", JobDateRange.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " period/week", ReportPeriod.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " period/month from/1/1/2021", PrintReportCommand.MESSAGE_PERIOD_AND_DATES);
+        assertParseFailure(parser, " top/0", ProductRanking.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.mycrm.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mycrm.logic.parser.QueryParser.MESSAGE_INVALID_DATE;
+import static seedu.mycrm.logic.parser.QueryParser.MESSAGE_INVALID_OPERATOR;
+import static seedu.mycrm.logic.parser.QueryParser.MESSAGE_INVALID_VALUE;
+import static seedu.mycrm.logic.parser.QueryParser.MESSAGE_NO_WORDS;
+import static seedu.mycrm.model.job.UniqueJobList.DESCRIPTION_FIELD;
+import static seedu.mycrm.model.job.UniqueJobList.PRODUCT_FIELD;
+import static seedu.mycrm.model.job.UniqueJobList.STATUS_FIELD;
+import static seedu.mycrm.model.job.UniqueJobList.WORD_FIELDS;
+import static seedu.mycrm.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.mycrm.logic.parser.exceptions.ParseException;
+import seedu.mycrm.model.job.Job;
+import seedu.mycrm.model.query.PatternCondition;
+import seedu.mycrm.model.query.QueryCondition;
+import seedu.mycrm.model.query.QueryPlan;
+import seedu.mycrm.model.query.RangeCondition;
+import seedu.mycrm.model.query.WordCondition;
+
+public class QueryParserTest {
+
+    private final QueryParser<Job> parser = new QueryParser<Job>(Map.of(DESCRIPTION_FIELD,
+            WORD_FIELDS.get(DESCRIPTION_FIELD)))
+            .withWordField("product", PRODUCT_FIELD, WORD_FIELDS.get(PRODUCT_FIELD))
+            .withWordField("status", STATUS_FIELD, WORD_FIELDS.get(STATUS_FIELD), Map.of("inprogress", "progress"))
+            .withFeeField("fee", Job::getFee)
+            .withDateField("received", Job::getReceivedDate);
+
+    @Test
+    public void hasFieldTermFormat() {
+        assertTrue(QueryParser.hasFieldTermFormat("fee>=200"));
+        assertTrue(QueryParser.hasFieldTermFormat("note:urgent"));
+        assertFalse(QueryParser.hasFieldTermFormat("alice@example.com"));
+        assertFalse(QueryParser.hasFieldTermFormat("product:"));
+        assertFalse(QueryParser.hasFieldTermFormat(":iphone"));
+    }
+
+    @Test
+    public void isFieldTerm() {
+        assertTrue(parser.isFieldTerm("fee>=200"));
+        assertTrue(parser.isFieldTerm("Product:iphone"));
+        assertFalse(parser.isFieldTerm("note:urgent"));
+        assertFalse(parser.isFieldTerm("alice@example.com"));
+    }
+
+    @Test
+    public void parse_unknownFieldTerms_keywords() throws Exception {
+        assertEquals(Optional.empty(), parser.parse(List.of("note:urgent", "screen")));
+
+        QueryPlan<Job> expectedPlan = new QueryPlan<>(List.of(
+                new WordCondition<>(Map.of(DESCRIPTION_FIELD, WORD_FIELDS.get(DESCRIPTION_FIELD)),
+                        List.of("note:urgent")),
+                feeRange(20001, null)));
+        assertEquals(Optional.of(expectedPlan), parser.parse(List.of("note:urgent", "fee>200")));
+    }
+
+    @Test
+    public void parse_keywordsOnly_returnsEmpty() throws Exception {
+        assertEquals(Optional.empty(), parser.parse(List.of("screen", "cracked")));
+    }
+
+    @Test
+    public void parse_fieldTermsAndKeywords_keywordsFirst() throws Exception {
+        QueryPlan<Job> expectedPlan = new QueryPlan<>(List.of(
+                new WordCondition<>(Map.of(DESCRIPTION_FIELD, WORD_FIELDS.get(DESCRIPTION_FIELD)),
+                        List.of("screen", "cracked")),
+                feeRange(20001, null),
+                new WordCondition<>(Map.of(STATUS_FIELD, WORD_FIELDS.get(STATUS_FIELD)), List.of("progress")),
+                receivedRange(LocalDate.of(2021, 9, 1),
+                        LocalDate.of(2021, 10, 31)),
+                new WordCondition<>(Map.of(PRODUCT_FIELD, WORD_FIELDS.get(PRODUCT_FIELD)), List.of("iphone", "ipad"))));
+        assertEquals(Optional.of(expectedPlan), parser.parse(List.of("screen", "fee>200", "STATUS:inprogress",
+                "received:2021-09..2021-10", "cracked", "product:iPhone,ipad")));
+    }
+
+    @Test
+    public void parse_wildcard_patternCondition() throws Exception {
+        assertEquals(Optional.of(new QueryPlan<>(List.of(
+                new PatternCondition<>(PRODUCT_FIELD, WORD_FIELDS.get(PRODUCT_FIELD), "i*")))),
+                parser.parse(List.of("product:i*")));
+    }
+
+    @Test
+    public void parse_comparisons_boundsOfLiteral() throws Exception {
+        assertParsedCondition("fee:$150.50", feeRange(15050, 15050));
+        assertParsedCondition("fee>=150", feeRange(15000, null));
+        assertParsedCondition("fee<150", feeRange(null, 14999));
+        assertParsedCondition("fee<=150", feeRange(null, 15000));
+        assertParsedCondition("fee:..150", feeRange(null, 15000));
+
+        LocalDate firstOfSeptember = LocalDate.of(2021, 9, 1);
+        LocalDate lastOfSeptember = LocalDate.of(2021, 9, 30);
+        assertParsedCondition("received:2021-09",
+                receivedRange(firstOfSeptember, lastOfSeptember));
+        assertParsedCondition("received>2021-09",
+                receivedRange(LocalDate.of(2021, 10, 1), null));
+        assertParsedCondition("received<2021-09-01",
+                receivedRange(null, LocalDate.of(2021, 8, 31)));
+        assertParsedCondition("received:1/9/2021..",
+                receivedRange(firstOfSeptember, null));
+    }
+
+    @Test
+    public void parse_invalidTerms_throwsParseException() {
+        assertParseFailure("product>iphone", String.format(MESSAGE_INVALID_OPERATOR, "product", ">"));
+        assertParseFailure("fee>100..200", String.format(MESSAGE_INVALID_OPERATOR, "fee", ">.."));
+        assertParseFailure("product:,", String.format(MESSAGE_INVALID_VALUE, ",", "product", MESSAGE_NO_WORDS));
+        assertParseFailure("received:2021-13",
+                String.format(MESSAGE_INVALID_VALUE, "2021-13", "received", MESSAGE_INVALID_DATE));
+        assertParseFailure("received:Sept", String.format(MESSAGE_INVALID_VALUE, "Sept", "received",
+                MESSAGE_INVALID_DATE));
+        assertParseFailure("fee:300..200", String.format(MESSAGE_INVALID_VALUE, "300..200", "fee",
+                RangeCondition.MESSAGE_CONSTRAINTS));
+    }
+
+    private static RangeCondition<Job, Integer> feeRange(Integer lower, Integer upper) {
+        return new RangeCondition<>("fee", job -> job.getFee().getCents(), lower, upper);
+    }
+
+    private static RangeCondition<Job, LocalDate> receivedRange(LocalDate lower, LocalDate upper) {
+        return new RangeCondition<>("received", job -> job.getReceivedDate().value, lower, upper);
+    }
+
+    private void assertParsedCondition(String term, QueryCondition<Job> expectedCondition) throws Exception {
+        assertEquals(Optional.of(new QueryPlan<>(List.of(expectedCondition))), parser.parse(List.of(term)));
+    }
+
+    private void assertParseFailure(String term, String expectedMessage) {
+        assertThrows(ParseException.class, expectedMessage, () -> parser.parse(List.of(term)));
+    }
+}
@@ -5,11 +5,20 @@ import static seedu.mycrm.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.mycrm.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.mycrm.logic.commands.contacts.FindContactCommand;
+import seedu.mycrm.logic.parser.QueryParser;
+import seedu.mycrm.model.FuzzyWordPredicate;
+import seedu.mycrm.model.contact.Contact;
 import seedu.mycrm.model.contact.NameContainsKeywordsPredicate;
+import seedu.mycrm.model.contact.UniqueContactList;
+import seedu.mycrm.model.query.PatternCondition;
+import seedu.mycrm.model.query.QueryPlan;
+import seedu.mycrm.model.query.WordCondition;
 
 public class FindContactCommandParserTest {
 
@@ -32,4 +41,29 @@ public class FindContactCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyFlagWithoutKeywords_throwsParseException() {
+        assertParseFailure(parser, " -f  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindContactCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_fuzzyFlag_returnsFuzzyFindCommand() {
+        FindContactCommand expectedFindCommand = new FindContactCommand(new FuzzyWordPredicate<>(
+                List.of("Jon", "Alise"), UniqueContactList.WORD_FIELDS, List.of(UniqueContactList.NAME_FIELD)));
+        assertParseSuccess(parser, "-f Jon Alise", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_fieldTerms_returnsQueryFindCommand() {
+        FindContactCommand expectedFindCommand = new FindContactCommand(new QueryPlan<>(List.of(
+                new WordCondition<>(Map.of("tag", Contact::getTags), List.of("vip")),
+                new PatternCondition<>(UniqueContactList.EMAIL_FIELD, Contact::getEmail, "*@corp.com"))));
+        assertParseSuccess(parser, "tag:vip email:*@corp.com", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_fuzzyFlagWithFieldTerms_throwsParseException() {
+        assertParseFailure(parser, "-f jon tag:vip", QueryParser.MESSAGE_FUZZY_FIELD_TERMS);
+    }
 }
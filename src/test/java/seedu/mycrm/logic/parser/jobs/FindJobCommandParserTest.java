@@ -4,12 +4,22 @@ import static seedu.mycrm.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.mycrm.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.mycrm.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.mycrm.logic.commands.jobs.FindJobCommand;
+import seedu.mycrm.model.FuzzyWordPredicate;
+import seedu.mycrm.model.job.Job;
 import seedu.mycrm.model.job.JobContainsKeywordsPredicate;
+import seedu.mycrm.model.job.JobDateRange;
+import seedu.mycrm.model.job.UniqueJobList;
+import seedu.mycrm.model.query.QueryPlan;
+import seedu.mycrm.model.query.RangeCondition;
+import seedu.mycrm.model.query.WordCondition;
 
 public class FindJobCommandParserTest {
 
@@ -30,5 +40,81 @@ public class FindJobCommandParserTest {
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
+
+        // terms on fields that cannot be searched are keywords
+        assertParseSuccess(parser, "note:urgent",
+                new FindJobCommand(new JobContainsKeywordsPredicate(List.of("note:urgent"))));
+    }
+
+    @Test
+    public void parse_fuzzyFlagWithoutKeywords_throwsParseException() {
+        assertParseFailure(parser, " -f  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindJobCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_fuzzyFlag_returnsFuzzyFindCommand() {
+        FindJobCommand expectedFindCommand = new FindJobCommand(new FuzzyWordPredicate<>(List.of("screem"),
+                UniqueJobList.WORD_FIELDS, List.of(UniqueJobList.DESCRIPTION_FIELD,
+                UniqueJobList.CLIENT_FIELD, UniqueJobList.PRODUCT_FIELD)));
+        assertParseSuccess(parser, "-f screem", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_fieldTerms_returnsQueryFindCommand() {
+        FindJobCommand expectedFindCommand = new FindJobCommand(new QueryPlan<>(List.of(
+                new WordCondition<>(UniqueJobList.WORD_FIELDS, List.of("screen")),
+                new WordCondition<>(Map.of(UniqueJobList.STATUS_FIELD, Job::getJobStatus), List.of("completed")),
+                new WordCondition<>(Map.of(UniqueJobList.CLIENT_FIELD,
+                        UniqueJobList.WORD_FIELDS.get(UniqueJobList.CLIENT_FIELD)), List.of("alice")))));
+        assertParseSuccess(parser, "screen status:completed contact:Alice", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_archiveFlag_returnsFindCommandSearchingArchive() {
+        JobContainsKeywordsPredicate keywordsPredicate = new JobContainsKeywordsPredicate(List.of("Alice"));
+        assertParseSuccess(parser, "-a Alice", new FindJobCommand(keywordsPredicate, JobDateRange.ALL_DATES));
+
+        FuzzyWordPredicate<Job> fuzzyPredicate = new FuzzyWordPredicate<>(List.of("screem"),
+                UniqueJobList.WORD_FIELDS, List.of(UniqueJobList.DESCRIPTION_FIELD,
+                UniqueJobList.CLIENT_FIELD, UniqueJobList.PRODUCT_FIELD));
+        FindJobCommand expectedFindCommand = new FindJobCommand(fuzzyPredicate, JobDateRange.ALL_DATES);
+        assertParseSuccess(parser, "-f -a screem", expectedFindCommand);
+        assertParseSuccess(parser, "-a -f screem", expectedFindCommand);
+
+        QueryPlan<Job> statusPlan = new QueryPlan<>(List.of(new WordCondition<>(
+                Map.of(UniqueJobList.STATUS_FIELD, Job::getJobStatus), List.of("completed"))));
+        assertParseSuccess(parser, "-a status:completed", new FindJobCommand(statusPlan, JobDateRange.ALL_DATES));
+
+        // without the flag or a date term, archived jobs are not searched
+        assertParseSuccess(parser, "status:completed", new FindJobCommand(statusPlan, null));
+        assertParseSuccess(parser, "Alice", new FindJobCommand(keywordsPredicate, null));
+
+        assertParseFailure(parser, "-a", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindJobCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_dateTerms_returnsFindCommandWithArchiveRange() {
+        LocalDate december = LocalDate.of(2021, 12, 1);
+        RangeCondition<Job, LocalDate> completedInDecember = new RangeCondition<>("completed", unused -> null,
+                december, LocalDate.of(2021, 12, 31));
+        RangeCondition<Job, LocalDate> receivedFromDecember = new RangeCondition<>("received", unused -> null,
+                december, null);
+        FindJobCommand expectedFindCommand = new FindJobCommand(
+                new QueryPlan<>(List.of(completedInDecember)), JobDateRange.ofMonth(december));
+        assertParseSuccess(parser, "completed:2021-12", expectedFindCommand);
+
+        // jobs received in December were not completed before it
+        expectedFindCommand = new FindJobCommand(new QueryPlan<>(List.of(receivedFromDecember)),
+                new JobDateRange(december, LocalDate.MAX));
+        assertParseSuccess(parser, "received>2021-11-30", expectedFindCommand);
+
+        // no job is completed before it is received
+        RangeCondition<Job, LocalDate> completedBeforeDecember = new RangeCondition<>("completed", unused -> null,
+                null, LocalDate.of(2021, 11, 30));
+        expectedFindCommand = new FindJobCommand(
+                new QueryPlan<>(List.of(completedBeforeDecember, receivedFromDecember)), null);
+        assertParseSuccess(parser, "completed<2021-12-01 received>=2021-12-01", expectedFindCommand);
     }
 }
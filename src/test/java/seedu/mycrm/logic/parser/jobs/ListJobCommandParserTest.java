@@ -7,9 +7,13 @@ import static seedu.mycrm.model.Model.PREDICATE_SHOW_ALL_COMPLETED_JOBS;
 import static seedu.mycrm.model.Model.PREDICATE_SHOW_ALL_INCOMPLETE_JOBS;
 import static seedu.mycrm.model.Model.PREDICATE_SHOW_ALL_JOBS;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.mycrm.logic.commands.jobs.ListJobCommand;
+import seedu.mycrm.model.job.JobDate;
+import seedu.mycrm.model.job.JobDateRange;
 
 public class ListJobCommandParserTest {
     private ListJobCommandParser parser = new ListJobCommandParser();
@@ -21,9 +25,21 @@ public class ListJobCommandParserTest {
         assertParseSuccess(parser, "-c", new ListJobCommand(PREDICATE_SHOW_ALL_COMPLETED_JOBS));
     }
 
+    @Test
+    public void parse_validDateRange_returnsListCommand() {
+        JobDateRange december = new JobDateRange(LocalDate.of(2021, 12, 1), LocalDate.of(2021, 12, 31));
+        assertParseSuccess(parser, " -c from/1/12/2021 to/31/12/2021",
+                new ListJobCommand(PREDICATE_SHOW_ALL_COMPLETED_JOBS, december));
+        assertParseSuccess(parser, " from/1/12/2021",
+                new ListJobCommand(PREDICATE_SHOW_ALL_INCOMPLETE_JOBS,
+                        JobDateRange.between(new JobDate("1/12/2021"), null)));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "-rflag", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                 ListJobCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " -a from/2021-12-01", "Start " + JobDate.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " -a from/31/12/2021 to/1/12/2021", JobDateRange.MESSAGE_CONSTRAINTS);
     }
 }
@@ -5,11 +5,14 @@ import static seedu.mycrm.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.mycrm.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.mycrm.logic.commands.products.FindProductCommand;
+import seedu.mycrm.model.FuzzyWordPredicate;
 import seedu.mycrm.model.product.ProductNameContainsKeywordsPredicate;
+import seedu.mycrm.model.product.UniqueProductList;
 
 public class FindProductCommandParserTest {
 
@@ -32,4 +35,16 @@ public class FindProductCommandParserTest {
         assertParseSuccess(parser, " \n AsUS \n \t samsung  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyFlagWithoutKeywords_throwsParseException() {
+        assertParseFailure(parser, " -f  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindProductCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_fuzzyFlag_returnsFuzzyFindCommand() {
+        FindProductCommand expectedFindCommand = new FindProductCommand(new FuzzyWordPredicate<>(List.of("samsng"),
+                UniqueProductList.WORD_FIELDS, List.of(UniqueProductList.NAME_FIELD)));
+        assertParseSuccess(parser, "-f samsng", expectedFindCommand);
+    }
 }
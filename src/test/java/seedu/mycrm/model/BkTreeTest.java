@@ -0,0 +1,47 @@
+package seedu.mycrm.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mycrm.testutil.Assert.assertThrows;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    @Test
+    public void add_duplicateWord_notAdded() {
+        BkTree tree = new BkTree();
+        assertTrue(tree.add("samsung"));
+        assertTrue(tree.add("asus"));
+        assertFalse(tree.add("samsung"));
+        assertEquals(2, tree.size());
+    }
+
+    @Test
+    public void getWordsWithin_emptyTree_noWords() {
+        assertEquals(Map.of(), new BkTree().getWordsWithin("john", 2));
+    }
+
+    @Test
+    public void getWordsWithin_negativeDistance_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BkTree().getWordsWithin("john", -1));
+    }
+
+    @Test
+    public void getWordsWithin_wordsAtManyDistances_onlyNearWordsFound() {
+        BkTree tree = new BkTree();
+        for (String word : new String[] {"john", "jon", "joan", "johnny", "jane", "samsung", "samsng", "intel"}) {
+            tree.add(word);
+        }
+
+        assertEquals(Map.of("john", 0), tree.getWordsWithin("john", 0));
+        assertEquals(Map.of("john", 0, "jon", 1, "joan", 1), tree.getWordsWithin("john", 1));
+        assertEquals(Map.of("john", 0, "jon", 1, "joan", 1, "johnny", 2), tree.getWordsWithin("john", 2));
+        assertEquals(Map.of("jane", 0, "john", 3, "joan", 2, "jon", 2), tree.getWordsWithin("jane", 3));
+        assertEquals(Map.of("samsung", 1, "samsng", 0), tree.getWordsWithin("samsng", 1));
+        assertEquals(Map.of(), tree.getWordsWithin("xyz", 1));
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.mycrm.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mycrm.model.contact.UniqueContactList.EMAIL_FIELD;
+import static seedu.mycrm.model.contact.UniqueContactList.NAME_FIELD;
+import static seedu.mycrm.model.contact.UniqueContactList.WORD_FIELDS;
+import static seedu.mycrm.testutil.TypicalContacts.ALICE;
+import static seedu.mycrm.testutil.TypicalContacts.BENSON;
+import static seedu.mycrm.testutil.TypicalContacts.CARL;
+import static seedu.mycrm.testutil.TypicalContacts.ELLE;
+import static seedu.mycrm.testutil.TypicalContacts.FIONA;
+import static seedu.mycrm.testutil.TypicalContacts.IDA;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.mycrm.model.contact.Contact;
+
+public class FuzzyWordPredicateTest {
+
+    @Test
+    public void getMaxDistance() {
+        assertEquals(0, FuzzyWordPredicate.getMaxDistance("hp"));
+        assertEquals(1, FuzzyWordPredicate.getMaxDistance("jon"));
+        assertEquals(1, FuzzyWordPredicate.getMaxDistance("intel"));
+        assertEquals(2, FuzzyWordPredicate.getMaxDistance("samsng"));
+    }
+
+    @Test
+    public void test_wordWithinMaxDistance_returnsTrue() {
+        // "Meier" is one edit from "Meyer", "Mueller" is three
+        FuzzyWordPredicate<Contact> predicate = new FuzzyWordPredicate<>(List.of("MEYER"), WORD_FIELDS,
+                List.of(NAME_FIELD));
+        assertTrue(predicate.test(ELLE));
+        assertTrue(predicate.test(BENSON));
+        assertFalse(predicate.test(IDA));
+
+        // only the fields given are searched
+        assertFalse(new FuzzyWordPredicate<>(List.of("alise"), WORD_FIELDS, List.of(EMAIL_FIELD)).test(ALICE));
+        assertTrue(new FuzzyWordPredicate<>(List.of("alise"), WORD_FIELDS, List.of(NAME_FIELD)).test(ALICE));
+    }
+
+    @Test
+    public void getRanking_closestFirst() {
+        FuzzyWordPredicate<Contact> predicate = new FuzzyWordPredicate<>(List.of("kunz"), WORD_FIELDS,
+                List.of(NAME_FIELD));
+        List<Contact> contacts = new ArrayList<>(List.of(CARL, FIONA));
+        contacts.sort(predicate.getRanking());
+        assertEquals(List.of(FIONA, CARL), contacts);
+    }
+
+    @Test
+    public void withIndexes_indexedElements_sameAsTest() {
+        WordIndex<Contact> index = new WordIndex<>(Contact::getId, WORD_FIELDS);
+        index.add(CARL);
+        index.add(FIONA);
+        index.add(IDA);
+        FuzzyWordPredicate<Contact> predicate = new FuzzyWordPredicate<>(List.of("kunz"), WORD_FIELDS,
+                List.of(NAME_FIELD));
+
+        Predicate<Contact> boundPredicate = predicate.withIndexes(List.of(index));
+        assertTrue(boundPredicate.test(CARL));
+        assertTrue(boundPredicate.test(FIONA));
+        assertFalse(boundPredicate.test(IDA));
+        // elements in no index are tested as before
+        assertFalse(boundPredicate.test(ALICE));
+
+        List<Contact> contacts = new ArrayList<>(List.of(CARL, FIONA));
+        contacts.sort(((RankedPredicate<Contact>) boundPredicate).getRanking());
+        assertEquals(List.of(FIONA, CARL), contacts);
+    }
+
+    @Test
+    public void equals() {
+        FuzzyWordPredicate<Contact> predicate = new FuzzyWordPredicate<>(List.of("jon"), WORD_FIELDS,
+                List.of(NAME_FIELD));
+        assertTrue(predicate.equals(new FuzzyWordPredicate<>(List.of("JON"), WORD_FIELDS, List.of(NAME_FIELD))));
+        assertNotEquals(predicate, new FuzzyWordPredicate<>(List.of("jon"), WORD_FIELDS, List.of(EMAIL_FIELD)));
+        assertNotEquals(predicate, new WordPrefixPredicate<>(List.of("jon"), WORD_FIELDS, List.of(NAME_FIELD)));
+        assertNotEquals(predicate, null);
+    }
+}
@@ -0,0 +1,269 @@
+package seedu.mycrm.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mycrm.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class IndexedUniqueListTest {
+
+    /** Strings that are the same regardless of case. */
+    private final IndexedUniqueList<String> list = new IndexedUniqueList<>(String::toLowerCase,
+            DuplicateException::new, NotFoundException::new);
+
+    @Test
+    public void contains_sameIdentity_true() {
+        list.add("Alice");
+        assertTrue(list.contains("ALICE"));
+        assertFalse(list.contains("Bob"));
+    }
+
+    @Test
+    public void add_sameIdentity_throwsDuplicateException() {
+        list.add("Alice");
+        assertThrows(DuplicateException.class, () -> list.add("alice"));
+    }
+
+    @Test
+    public void indexOf_sameIdentityDifferentFields_notFound() {
+        list.add("Alice");
+        assertEquals(0, list.indexOf("Alice"));
+        assertEquals(-1, list.indexOf("alice"));
+    }
+
+    @Test
+    public void setElement_newIdentity_indexUpdated() {
+        list.add("Alice");
+        list.add("Bob");
+        list.setElement("Alice", "Carol");
+
+        assertFalse(list.contains("Alice"));
+        assertEquals(0, list.indexOf("Carol"));
+        assertThrows(DuplicateException.class, () -> list.setElement("Carol", "BOB"));
+        assertThrows(NotFoundException.class, () -> list.setElement("Alice", "Dave"));
+
+        // same identity, different fields
+        list.setElement("Bob", "BOB");
+        assertEquals(Arrays.asList("Carol", "BOB"), list.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_middleElement_laterPositionsUpdated() {
+        List<String> names = new ArrayList<>(Arrays.asList("a", "b", "c", "d", "e"));
+        names.forEach(list::add);
+
+        list.remove("b");
+        names.remove("b");
+        assertThrows(NotFoundException.class, () -> list.remove("b"));
+        for (int i = 0; i < names.size(); i++) {
+            assertEquals(i, list.indexOf(names.get(i)));
+        }
+
+        list.setElement("e", "f");
+        assertEquals(Arrays.asList("a", "c", "d", "f"), list.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_elementsBeforeOthers_positionsFoundAfterShifts() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            names.add("n" + i);
+        }
+        names.forEach(list::add);
+
+        // the later elements are not looked up between removals, so they shift several positions
+        for (String removed : List.of("n0", "n5", "n6", "n13")) {
+            list.remove(removed);
+            names.remove(removed);
+        }
+        list.add("n20");
+        names.add("n20");
+        list.remove("n19");
+        names.remove("n19");
+        for (int i = names.size() - 1; i >= 0; i--) {
+            assertEquals(i, list.indexOf(names.get(i)));
+        }
+
+        list.setElement("n18", "n21");
+        assertEquals(names.size() - 2, list.indexOf("n21"));
+        assertEquals(-1, list.indexOf("n18"));
+    }
+
+    @Test
+    public void setElements_duplicateIdentities_throwsDuplicateException() {
+        list.add("Alice");
+        assertThrows(DuplicateException.class, () -> list.setElements(Arrays.asList("Bob", "bob")));
+        // the list is left unchanged
+        assertTrue(list.contains("Alice"));
+
+        list.setElements(Arrays.asList("Bob", "Carol"));
+        assertFalse(list.contains("Alice"));
+        assertEquals(1, list.indexOf("Carol"));
+    }
+
+    @Test
+    public void setElements_replacementList_indexCopied() {
+        IndexedUniqueList<String> replacement = new IndexedUniqueList<>(String::toLowerCase,
+                DuplicateException::new, NotFoundException::new);
+        replacement.add("Bob");
+        list.add("Alice");
+
+        list.setElements(replacement);
+        assertEquals(replacement, list);
+        assertTrue(list.contains("bob"));
+        assertFalse(list.contains("alice"));
+    }
+
+    @Test
+    public void getById_elementsWithIds_indexUpdated() {
+        // strings identified by their length
+        IndexedUniqueList<String> listWithIds = new IndexedUniqueList<>(String::toLowerCase, String::length,
+                DuplicateException::new, NotFoundException::new);
+        listWithIds.add("Alice");
+        listWithIds.add("Bob");
+        assertEquals(Optional.of("Alice"), listWithIds.getById(5));
+        assertEquals(Optional.of("Bob"), listWithIds.getById(3));
+
+        listWithIds.setElement("Alice", "Carol");
+        assertEquals(Optional.of("Carol"), listWithIds.getById(5));
+
+        listWithIds.remove("Bob");
+        assertEquals(Optional.empty(), listWithIds.getById(3));
+
+        listWithIds.setElements(Arrays.asList("Dave", "Eve"));
+        assertEquals(Optional.empty(), listWithIds.getById(5));
+        assertEquals(Optional.of("Dave"), listWithIds.getById(4));
+    }
+
+    @Test
+    public void getById_elementsWithoutIds_notFound() {
+        list.add("Alice");
+        assertEquals(Optional.empty(), list.getById(5));
+    }
+
+    @Test
+    public void commitBatch_stagedChanges_publishedAsOneChange() {
+        Arrays.asList("a", "b", "c").forEach(list::add);
+        List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+        list.asUnmodifiableObservableList().addListener(changes::add);
+
+        list.beginBatch();
+        list.setElement("a", "x");
+        list.remove("b");
+        list.add("d");
+
+        // lookups see the staged elements, while the list is unchanged until the batch is committed
+        assertEquals(0, list.indexOf("x"));
+        assertEquals(2, list.indexOf("d"));
+        assertFalse(list.contains("b"));
+        assertEquals(3, list.size());
+        assertEquals(Arrays.asList("a", "b", "c"), list.asUnmodifiableObservableList());
+        assertTrue(changes.isEmpty());
+
+        list.commitBatch();
+        assertEquals(Arrays.asList("x", "c", "d"), list.asUnmodifiableObservableList());
+        assertEquals(1, changes.size());
+        assertEquals(1, list.indexOf("c"));
+    }
+
+    @Test
+    public void commitBatch_middleChanged_onlyChangedRangePublished() {
+        Arrays.asList("a", "b", "c", "d", "e").forEach(list::add);
+        List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+        list.asUnmodifiableObservableList().addListener(changes::add);
+
+        list.beginBatch();
+        list.setElement("b", "x");
+        list.remove("c");
+        list.commitBatch();
+
+        assertEquals(Arrays.asList("a", "x", "d", "e"), list.asUnmodifiableObservableList());
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends String> change = changes.get(0);
+        change.reset();
+        assertTrue(change.next());
+        assertEquals(1, change.getFrom());
+        assertEquals(2, change.getTo());
+        assertEquals(Arrays.asList("b", "c"), change.getRemoved());
+        assertFalse(change.next());
+    }
+
+    @Test
+    public void commitBatch_noChanges_nothingPublished() {
+        list.add("a");
+        List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+        list.asUnmodifiableObservableList().addListener(changes::add);
+
+        list.beginBatch();
+        list.commitBatch();
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void rollbackBatch_stagedChanges_discarded() {
+        // strings identified by their length
+        IndexedUniqueList<String> listWithIds = new IndexedUniqueList<>(String::toLowerCase, String::length,
+                DuplicateException::new, NotFoundException::new);
+        listWithIds.add("Alice");
+        listWithIds.add("Bob");
+        List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+        listWithIds.asUnmodifiableObservableList().addListener(changes::add);
+
+        listWithIds.beginBatch();
+        listWithIds.setElement("Alice", "Carol");
+        listWithIds.remove("Bob");
+        listWithIds.add("Dave");
+        assertThrows(DuplicateException.class, () -> listWithIds.add("dave"));
+        listWithIds.rollbackBatch();
+
+        assertTrue(changes.isEmpty());
+        assertEquals(Arrays.asList("Alice", "Bob"), listWithIds.asUnmodifiableObservableList());
+        assertEquals(0, listWithIds.indexOf("Alice"));
+        assertEquals(1, listWithIds.indexOf("Bob"));
+        assertFalse(listWithIds.contains("Carol"));
+        assertEquals(Optional.of("Alice"), listWithIds.getById(5));
+        assertEquals(Optional.of("Bob"), listWithIds.getById(3));
+        assertEquals(Optional.empty(), listWithIds.getById(4));
+    }
+
+    @Test
+    public void beginBatch_batchInProgress_throwsIllegalStateException() {
+        list.beginBatch();
+        assertThrows(IllegalStateException.class, list::beginBatch);
+        list.commitBatch();
+        assertThrows(IllegalStateException.class, list::commitBatch);
+        assertThrows(IllegalStateException.class, list::rollbackBatch);
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> list.asUnmodifiableObservableList().add("a"));
+    }
+
+    @Test
+    public void equals() {
+        IndexedUniqueList<String> other = new IndexedUniqueList<>(String::toLowerCase,
+                DuplicateException::new, NotFoundException::new);
+        list.add("Alice");
+        other.add("Alice");
+        assertEquals(list, other);
+
+        other.add("Bob");
+        assertNotEquals(list, other);
+        assertNotEquals(list, null);
+    }
+
+    private static class DuplicateException extends RuntimeException {}
+
+    private static class NotFoundException extends RuntimeException {}
+}
@@ -8,17 +8,53 @@ import static seedu.mycrm.model.Model.PREDICATE_SHOW_NOT_HIDDEN_CONTACTS;
 import static seedu.mycrm.testutil.Assert.assertThrows;
 import static seedu.mycrm.testutil.TypicalContacts.ALICE;
 import static seedu.mycrm.testutil.TypicalContacts.BENSON;
+import static seedu.mycrm.testutil.TypicalContacts.DANIEL;
+import static seedu.mycrm.testutil.TypicalContacts.ELLE;
+import static seedu.mycrm.testutil.TypicalJobs.BENSON_JOB;
+import static seedu.mycrm.testutil.TypicalJobs.CARL_JOB;
+import static seedu.mycrm.testutil.TypicalJobs.COMPLETED;
+import static seedu.mycrm.testutil.TypicalProducts.ASUS_GPU;
 import static seedu.mycrm.testutil.TypicalProducts.INTEL_CPU;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.mycrm.commons.core.GuiSettings;
+import seedu.mycrm.model.contact.Contact;
 import seedu.mycrm.model.contact.NameContainsKeywordsPredicate;
+import seedu.mycrm.model.contact.UniqueContactList;
+import seedu.mycrm.model.job.ArchivedJob;
+import seedu.mycrm.model.job.Job;
+import seedu.mycrm.model.job.JobAggregates;
+import seedu.mycrm.model.job.JobArchive;
+import seedu.mycrm.model.job.JobContainsKeywordsPredicate;
+import seedu.mycrm.model.job.JobDateRange;
+import seedu.mycrm.model.job.ProductRanking;
+import seedu.mycrm.model.job.RevenueGranularity;
+import seedu.mycrm.model.job.RevenueSeries;
+import seedu.mycrm.model.query.PatternCondition;
+import seedu.mycrm.model.query.QueryPlan;
+import seedu.mycrm.model.query.WordCondition;
+import seedu.mycrm.testutil.ConcurrentReaders;
+import seedu.mycrm.testutil.ContactBuilder;
+import seedu.mycrm.testutil.JobBuilder;
 import seedu.mycrm.testutil.MyCrmBuilder;
+import seedu.mycrm.testutil.TypicalContacts;
+import seedu.mycrm.testutil.TypicalJobs;
 
 public class ModelManagerTest {
 
@@ -116,6 +152,319 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredProductList().remove(0));
     }
 
+    @Test
+    public void archiveCompletedJobs_noJobArchive_nothingArchived() throws Exception {
+        modelManager = new ModelManager(TypicalJobs.getTypicalMyCrm(), new UserPrefs());
+        assertEquals(0, modelManager.archiveCompletedJobs(YearMonth.of(2022, 1)));
+        assertEquals(TypicalJobs.getTypicalJobs(), modelManager.getMyCrm().getJobList());
+    }
+
+    @Test
+    public void archiveCompletedJobs_oldCompletedJobs_movedToArchive() throws Exception {
+        JobArchiveStub archive = new JobArchiveStub();
+        modelManager = new ModelManager(TypicalJobs.getTypicalMyCrm(), new UserPrefs(), archive);
+
+        // jobs completed in the given month are not archived yet
+        assertEquals(0, modelManager.archiveCompletedJobs(YearMonth.of(2021, 12)));
+
+        assertEquals(1, modelManager.archiveCompletedJobs(YearMonth.of(2022, 1)));
+        assertEquals(Collections.singletonList(CARL_JOB), modelManager.getMyCrm().getJobList());
+        assertEquals(Collections.singletonList(COMPLETED), archive.jobsByMonth.get(YearMonth.of(2021, 12)).stream()
+                .map(ArchivedJob::getJob).collect(Collectors.toList()));
+        assertEquals(Collections.singletonList(CARL_JOB), getAllJobs());
+
+        // archived jobs still count towards the revenue of their month
+        assertEquals(30, modelManager.getRevenue(LocalDate.of(2021, 12, 1)));
+    }
+
+    @Test
+    public void loadArchivedJobs_archivedJobs_addedToJobListsOnly() throws Exception {
+        JobArchiveStub archive = new JobArchiveStub();
+        modelManager = new ModelManager(TypicalJobs.getTypicalMyCrm(), new UserPrefs(), archive);
+        modelManager.archiveCompletedJobs(YearMonth.of(2022, 1));
+
+        modelManager.loadArchivedJobs(JobDateRange.ALL_DATES);
+        modelManager.loadArchivedJobs(JobDateRange.ALL_DATES);
+        assertEquals(Arrays.asList(CARL_JOB, COMPLETED), getAllJobs());
+        assertEquals(Collections.singletonList(CARL_JOB), modelManager.getMyCrm().getJobList());
+        assertTrue(modelManager.isArchivedJob(getAllJobs().get(1)));
+        assertFalse(modelManager.isArchivedJob(CARL_JOB));
+
+        // later changes to the myCrm's jobs keep the loaded archived jobs
+        modelManager.addJob(BENSON_JOB);
+        assertEquals(Arrays.asList(CARL_JOB, BENSON_JOB, COMPLETED), getAllJobs());
+        modelManager.deleteJob(CARL_JOB);
+        assertEquals(Arrays.asList(BENSON_JOB, COMPLETED), getAllJobs());
+        assertEquals(30, modelManager.getRevenue(LocalDate.of(2021, 12, 1)));
+    }
+
+    @Test
+    public void loadArchivedJobs_range_onlyOverlappingMonthsLoaded() throws Exception {
+        JobArchiveStub archive = new JobArchiveStub();
+        modelManager = new ModelManager(TypicalJobs.getTypicalMyCrm(), new UserPrefs(), archive);
+        modelManager.archiveCompletedJobs(YearMonth.of(2022, 1));
+        Job novemberJob = new JobBuilder(COMPLETED).withJobDescription("November job")
+                .withCompletionDate("5/11/2021").build();
+        archive.addJobs(YearMonth.of(2021, 11), List.of(novemberJob), modelManager.getEntityLookup());
+
+        modelManager.loadArchivedJobs(new JobDateRange(LocalDate.of(2021, 12, 20), LocalDate.MAX));
+        assertEquals(List.of(YearMonth.of(2021, 12)), archive.readMonths);
+        assertEquals(Arrays.asList(CARL_JOB, COMPLETED), getAllJobs());
+
+        // months already loaded are not read again, and months out of the range are unloaded
+        modelManager.loadArchivedJobs(JobDateRange.ofMonth(LocalDate.of(2021, 11, 1)));
+        assertEquals(List.of(YearMonth.of(2021, 12), YearMonth.of(2021, 11)), archive.readMonths);
+        assertEquals(Arrays.asList(CARL_JOB, novemberJob), getAllJobs());
+        assertFalse(modelManager.isArchivedJob(COMPLETED));
+        assertEquals(List.of(), modelManager.getJobsCompletedIn(JobDateRange.ofMonth(LocalDate.of(2021, 12, 1))));
+    }
+
+    @Test
+    public void unloadArchivedJobs_reportRange_reportMonthsKept() throws Exception {
+        JobArchiveStub archive = new JobArchiveStub();
+        modelManager = new ModelManager(TypicalJobs.getTypicalMyCrm(), new UserPrefs(), archive);
+        modelManager.archiveCompletedJobs(YearMonth.of(2022, 1));
+        modelManager.loadArchivedJobs(JobDateRange.ALL_DATES);
+        modelManager.unloadArchivedJobs();
+        assertEquals(List.of(CARL_JOB), getAllJobs());
+
+        // the report still needs the months in its range
+        JobDateRange december = JobDateRange.ofMonth(LocalDate.of(2021, 12, 1));
+        modelManager.setReport(december, ProductRanking.DEFAULT_SIZE);
+        modelManager.loadArchivedJobs(JobDateRange.ALL_DATES);
+        modelManager.unloadArchivedJobs();
+        assertEquals(List.of(COMPLETED), modelManager.getReportCompletedJobList());
+        assertEquals(List.of(CARL_JOB, COMPLETED), getAllJobs());
+
+        // until it covers other dates
+        modelManager.setReport(JobDateRange.ofMonth(LocalDate.of(2022, 1, 1)), ProductRanking.DEFAULT_SIZE);
+        assertEquals(List.of(CARL_JOB), getAllJobs());
+    }
+
+    @Test
+    public void getJobsCompletedIn_loadedArchivedJobs_mergedByDate() throws Exception {
+        JobArchiveStub archive = new JobArchiveStub();
+        modelManager = new ModelManager(TypicalJobs.getTypicalMyCrm(), new UserPrefs(), archive);
+        modelManager.archiveCompletedJobs(YearMonth.of(2022, 1));
+        Job earlierJob = new JobBuilder(CARL_JOB).withCompletionDate("2/12/2021").withCompletionStatus(true).build();
+        modelManager.setJob(CARL_JOB, earlierJob);
+
+        JobDateRange december = JobDateRange.ofMonth(LocalDate.of(2021, 12, 1));
+        assertEquals(List.of(earlierJob), modelManager.getJobsCompletedIn(december));
+
+        modelManager.loadArchivedJobs(JobDateRange.ALL_DATES);
+        assertEquals(List.of(earlierJob, COMPLETED), modelManager.getJobsCompletedIn(december));
+        assertEquals(List.of(earlierJob, COMPLETED), modelManager.getJobsReceivedIn(december));
+
+        modelManager.setReport(december, ProductRanking.DEFAULT_SIZE);
+        assertEquals(List.of(earlierJob, COMPLETED), modelManager.getReportCompletedJobList());
+        assertEquals(december, modelManager.getReportRange());
+    }
+
+    @Test
+    public void setReport_archivedJobs_countedInTopProducts() throws Exception {
+        JobArchiveStub archive = new JobArchiveStub();
+        MyCrm myCrm = TypicalJobs.getTypicalMyCrm();
+        myCrm.addJob(new JobBuilder(COMPLETED).withJobDescription("Second repair").build());
+        myCrm.addJob(new JobBuilder().withJobDescription("First upgrade").withProduct(INTEL_CPU).build());
+        myCrm.addJob(new JobBuilder().withJobDescription("Second upgrade").withProduct(INTEL_CPU).build());
+        modelManager = new ModelManager(myCrm, new UserPrefs(), archive);
+
+        // the two completed jobs of ASUS_GPU and the job of CARL_JOB outnumber the two jobs of INTEL_CPU
+        modelManager.archiveCompletedJobs(YearMonth.of(2022, 1));
+        modelManager.setReport(JobDateRange.ofMonth(LocalDate.of(2021, 12, 1)), 1);
+        assertEquals(List.of(ASUS_GPU), modelManager.getTopProductList());
+
+        // a range of part of a month reads the archived jobs
+        modelManager.setReport(new JobDateRange(LocalDate.of(2021, 12, 1), LocalDate.of(2021, 12, 15)), 1);
+        assertEquals(List.of(ASUS_GPU), modelManager.getTopProductList());
+
+        // the archived jobs are not counted in other ranges
+        modelManager.setReport(JobDateRange.ofMonth(LocalDate.of(2021, 11, 1)), 1);
+        assertEquals(List.of(), modelManager.getTopProductList());
+    }
+
+    @Test
+    public void getRevenueSeries_archivedJobs_countedOnce() throws Exception {
+        JobArchiveStub archive = new JobArchiveStub();
+        modelManager = new ModelManager(TypicalJobs.getTypicalMyCrm(), new UserPrefs(), archive);
+        modelManager.archiveCompletedJobs(YearMonth.of(2022, 1));
+        Job januaryJob = new JobBuilder(CARL_JOB).withCompletionDate("3/1/2022").withCompletionStatus(true)
+                .withFee("$12.34").build();
+        modelManager.setJob(CARL_JOB, januaryJob);
+
+        // the archived month is counted from the archive's revenue
+        JobDateRange quarters = new JobDateRange(LocalDate.of(2021, 10, 1), LocalDate.of(2022, 3, 31));
+        RevenueSeries quarterly = modelManager.getRevenueSeries(quarters, RevenueGranularity.QUARTER);
+        assertEquals(2, quarterly.size());
+        assertEquals(3000, quarterly.getCents(0));
+        assertEquals(1234, quarterly.getCents(LocalDate.of(2022, 1, 3)));
+
+        // weeks do not hold whole months, so the archived jobs are read
+        JobDateRange weeks = new JobDateRange(LocalDate.of(2021, 12, 10), LocalDate.of(2022, 1, 5));
+        RevenueSeries weekly = modelManager.getRevenueSeries(weeks, RevenueGranularity.WEEK);
+        assertEquals(LocalDate.of(2021, 12, 6), weekly.getPeriodStart(0));
+        assertEquals(3000, weekly.getCents(LocalDate.of(2021, 12, 13)));
+        assertEquals(1234, weekly.getCents(LocalDate.of(2022, 1, 3)));
+        assertEquals(4234, weekly.getTotalCents());
+
+        // loading the archived jobs does not count them again
+        modelManager.loadArchivedJobs(JobDateRange.ALL_DATES);
+        assertEquals(weekly, modelManager.getRevenueSeries(weeks, RevenueGranularity.WEEK));
+        assertEquals(30, modelManager.getRevenue(LocalDate.of(2021, 12, 1)));
+    }
+
+    @Test
+    public void updateFilteredJobList_keywordsPredicate_indexedJobsMatched() throws Exception {
+        modelManager = new ModelManager(TypicalJobs.getTypicalMyCrm(), new UserPrefs(), new JobArchiveStub());
+        modelManager.archiveCompletedJobs(YearMonth.of(2022, 1));
+        modelManager.loadArchivedJobs(JobDateRange.ALL_DATES);
+
+        // archived jobs are matched too
+        modelManager.updateFilteredJobList(new JobContainsKeywordsPredicate(List.of("ALICE")));
+        assertEquals(List.of(COMPLETED), modelManager.getFilteredJobList());
+
+        // jobs edited after the find are matched by their new words
+        modelManager.updateFilteredJobList(new JobContainsKeywordsPredicate(List.of("cracked")));
+        Job screenJob = new JobBuilder(CARL_JOB).withJobDescription("Cracked screen").build();
+        modelManager.setJob(CARL_JOB, screenJob);
+        assertEquals(List.of(screenJob), modelManager.getFilteredJobList());
+
+        modelManager.setJob(screenJob, new JobBuilder(screenJob).withJobDescription("Swollen battery").build());
+        assertEquals(List.of(), modelManager.getFilteredJobList());
+    }
+
+    @Test
+    public void updateFilteredContactList_fuzzyPredicate_rankedByDistance() {
+        modelManager = new ModelManager(TypicalContacts.getTypicalMyCrm(), new UserPrefs());
+
+        modelManager.updateFilteredContactList(new FuzzyWordPredicate<>(List.of("meyer"),
+                UniqueContactList.WORD_FIELDS, List.of(UniqueContactList.NAME_FIELD)));
+        assertEquals(List.of(ELLE, BENSON, DANIEL), modelManager.getFilteredContactList());
+
+        // lists are in their own order again when the predicate does not rank
+        modelManager.updateFilteredContactList(new NameContainsKeywordsPredicate(List.of("meyer", "meier")));
+        assertEquals(List.of(BENSON, DANIEL, ELLE), modelManager.getFilteredContactList());
+    }
+
+    @Test
+    public void updateFilteredContactList_queryPlan_contactsMeetingAllConditions() {
+        modelManager = new ModelManager(TypicalContacts.getTypicalMyCrm(), new UserPrefs());
+
+        modelManager.updateFilteredContactList(new QueryPlan<>(List.of(
+                new WordCondition<>(Map.of("tag", contact -> contact.getTags().stream()
+                        .map(tag -> tag.tagName).collect(Collectors.joining(" "))), List.of("tier")),
+                new PatternCondition<>(UniqueContactList.EMAIL_FIELD, Contact::getEmail, "c*@example.com"))));
+        assertEquals(List.of(DANIEL), modelManager.getFilteredContactList());
+    }
+
+    @Test
+    public void applyBatch_jobChanges_mirroredBeforeLoadedArchivedJobs() throws Exception {
+        modelManager = new ModelManager(TypicalJobs.getTypicalMyCrm(), new UserPrefs(), new JobArchiveStub());
+        modelManager.archiveCompletedJobs(YearMonth.of(2022, 1));
+        modelManager.loadArchivedJobs(JobDateRange.ALL_DATES);
+        List<ListChangeListener.Change<? extends Job>> changes = new ArrayList<>();
+        modelManager.getMyCrm().getJobList().addListener(changes::add);
+
+        Job screenJob = new JobBuilder(CARL_JOB).withJobDescription("Cracked screen").build();
+        modelManager.applyBatch(() -> {
+            modelManager.setJob(CARL_JOB, screenJob);
+            modelManager.addJob(BENSON_JOB);
+        });
+
+        assertEquals(Arrays.asList(screenJob, BENSON_JOB, COMPLETED), getAllJobs());
+        assertTrue(modelManager.isArchivedJob(getAllJobs().get(2)));
+        assertTrue(modelManager.getFilteredJobList().contains(screenJob));
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void queryContacts_filteredContactList_unchanged() {
+        modelManager = new ModelManager(TypicalContacts.getTypicalMyCrm(), new UserPrefs());
+        modelManager.updateFilteredContactList(new NameContainsKeywordsPredicate(List.of("alice")));
+
+        assertEquals(TypicalContacts.getTypicalContacts().size(), modelManager.queryContacts().count());
+        assertEquals(List.of(BENSON, DANIEL), modelManager.queryContacts()
+                .collect(new NameContainsKeywordsPredicate(List.of("meier")), Collectors.toList()));
+        assertEquals(List.of(ALICE), modelManager.getFilteredContactList());
+    }
+
+    @Test
+    public void queryJobs_loadedArchivedJobs_queried() throws Exception {
+        modelManager = new ModelManager(TypicalJobs.getTypicalMyCrm(), new UserPrefs(), new JobArchiveStub());
+        modelManager.archiveCompletedJobs(YearMonth.of(2022, 1));
+        modelManager.loadArchivedJobs(JobDateRange.ALL_DATES);
+        modelManager.updateFilteredJobList(Model.PREDICATE_SHOW_ALL_INCOMPLETE_JOBS);
+
+        assertTrue(modelManager.queryJobs().anyMatch(Model.PREDICATE_SHOW_ALL_COMPLETED_JOBS));
+        assertEquals(List.of(COMPLETED), modelManager.queryJobs()
+                .collect(new JobContainsKeywordsPredicate(List.of("ALICE")), Collectors.toList()));
+        assertEquals(List.of(CARL_JOB), modelManager.getFilteredJobList());
+    }
+
+    @Test
+    public void read_queriesDuringBatches_batchesSeenWhole() throws Exception {
+        // Each batch adds a contact with an incomplete job, and completes the job of the batch before.
+        ConcurrentReaders readers = new ConcurrentReaders(4, () -> modelManager.read(() -> {
+            List<Job> jobs = modelManager.queryJobs().stream().collect(Collectors.toList());
+            assertEquals(modelManager.getMyCrm().getJobList(), jobs);
+            assertEquals(modelManager.queryContacts().count(), jobs.size());
+            long incompleteJobCount = modelManager.queryJobs().count(Model.PREDICATE_SHOW_ALL_INCOMPLETE_JOBS);
+            assertEquals(Math.min(jobs.size(), 1), incompleteJobCount);
+            return null;
+        }));
+
+        Job previousJob = null;
+        for (int i = 0; i < 300; i++) {
+            Contact client = new ContactBuilder().withName("Client " + i).build();
+            Job job = new JobBuilder().withClient(client).withCompletionStatus(false).build();
+            Job jobToComplete = previousJob;
+            modelManager.applyBatch(() -> {
+                modelManager.addContact(client);
+                modelManager.addJob(job);
+                if (jobToComplete != null) {
+                    modelManager.setJob(jobToComplete, new JobBuilder(jobToComplete).withCompletionStatus(true)
+                            .withCompletionDate("13/12/2021").build());
+                }
+            });
+            previousJob = job;
+        }
+
+        assertEquals(List.of(), readers.stop());
+        assertEquals(300, getAllJobs().size());
+    }
+
+    @Test
+    public void reportQueries_duringBatches_batchesSeenWhole() throws Exception {
+        // Each batch adds a contact with two jobs completed in December 2021 for $10.00 each.
+        JobDateRange december = JobDateRange.ofMonth(LocalDate.of(2021, 12, 1));
+        modelManager.setReport(december, ProductRanking.DEFAULT_SIZE);
+        ConcurrentReaders readers = new ConcurrentReaders(4, () -> {
+            JobAggregates aggregates = modelManager.getJobAggregates();
+            assertEquals(1000L * aggregates.getCompletedJobCount(), aggregates.getRevenueCents(YearMonth.of(2021, 12)));
+            assertEquals(0, aggregates.getCompletedJobCount() % 2);
+
+            assertEquals(0, modelManager.getRevenueSeries(december, RevenueGranularity.MONTH).getTotalCents() % 2000);
+            assertEquals(0, modelManager.getJobsCompletedIn(december).size() % 2);
+            assertEquals(0, modelManager.getReportCompletedJobList().size() % 2);
+        });
+
+        for (int i = 0; i < 300; i++) {
+            Contact client = new ContactBuilder().withName("Client " + i).build();
+            Job firstJob = new JobBuilder().withJobDescription("First repair").withClient(client).withFee("$10.00")
+                    .withCompletionStatus(true).withCompletionDate("13/12/2021").build();
+            Job secondJob = new JobBuilder(firstJob).withJobDescription("Second repair").build();
+            modelManager.applyBatch(() -> {
+                modelManager.addContact(client);
+                modelManager.addJob(firstJob);
+                modelManager.addJob(secondJob);
+            });
+        }
+
+        assertEquals(List.of(), readers.stop());
+        assertEquals(600, modelManager.getReportCompletedJobList().size());
+    }
+
     @Test
     public void equals() {
         MyCrm myCrm = new MyCrmBuilder().withContact(ALICE).withContact(BENSON).build();
@@ -153,4 +502,59 @@ public class ModelManagerTest {
         differentUserPrefs.setMyCrmFilePath(Paths.get("differentFilePath"));
         assertNotEquals(modelManager, new ModelManager(myCrm, differentUserPrefs));
     }
+
+    /**
+     * Returns the jobs of the myCrm followed by the loaded archived jobs.
+     */
+    private List<Job> getAllJobs() {
+        return modelManager.queryJobs().stream().collect(Collectors.toList());
+    }
+
+    /**
+     * A {@code JobArchive} stub that keeps the archived jobs in memory.
+     */
+    private static class JobArchiveStub implements JobArchive {
+        private final Map<YearMonth, List<ArchivedJob>> jobsByMonth = new TreeMap<>();
+        private final List<YearMonth> readMonths = new ArrayList<>();
+
+        @Override
+        public List<YearMonth> getArchivedMonths() {
+            return new ArrayList<>(jobsByMonth.keySet());
+        }
+
+        @Override
+        public long getRevenueCents(YearMonth month) {
+            return jobsByMonth.getOrDefault(month, Collections.emptyList()).stream()
+                    .mapToLong(archivedJob -> archivedJob.getJob().getFee().getCents()).sum();
+        }
+
+        @Override
+        public Map<Long, Integer> getProductCounts(JobDateRange receivedIn) {
+            Map<Long, Integer> productCounts = new HashMap<>();
+            jobsByMonth.values().stream().flatMap(List::stream).map(ArchivedJob::getJob)
+                    .filter(job -> receivedIn.contains(job.getReceivedDate()))
+                    .forEach(job -> productCounts.merge(job.getProductId(), 1, Integer::sum));
+            return productCounts;
+        }
+
+        @Override
+        public long getLargestId() {
+            return jobsByMonth.values().stream().flatMap(List::stream)
+                    .flatMapToLong(archivedJob -> LongStream.of(archivedJob.getJob().getId(),
+                            archivedJob.getClient().getId(), archivedJob.getProduct().getId()))
+                    .max().orElse(EntityId.NONE);
+        }
+
+        @Override
+        public List<ArchivedJob> readJobs(YearMonth month, ReadOnlyMyCrm myCrm) {
+            readMonths.add(month);
+            return new ArrayList<>(jobsByMonth.getOrDefault(month, Collections.emptyList()));
+        }
+
+        @Override
+        public void addJobs(YearMonth month, List<Job> jobs, EntityLookup lookup) {
+            jobs.forEach(job -> jobsByMonth.computeIfAbsent(month, unused -> new ArrayList<>()).add(
+                    new ArchivedJob(job, job.getClient(lookup).orElseThrow(), job.getProduct(lookup).orElseThrow())));
+        }
+    }
 }
@@ -0,0 +1,79 @@
+package seedu.mycrm.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mycrm.testutil.TypicalContacts.ALICE;
+import static seedu.mycrm.testutil.TypicalContacts.BENSON;
+import static seedu.mycrm.testutil.TypicalContacts.CARL;
+import static seedu.mycrm.testutil.TypicalContacts.DANIEL;
+import static seedu.mycrm.testutil.TypicalContacts.HOON;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.mycrm.model.contact.Contact;
+import seedu.mycrm.model.contact.NameContainsKeywordsPredicate;
+import seedu.mycrm.model.contact.UniqueContactList;
+
+public class ModelQueryTest {
+    private final List<Contact> contacts = new ArrayList<>();
+    private final WordIndex<Contact> index = new WordIndex<>(Contact::getId, UniqueContactList.WORD_FIELDS);
+    private ModelQuery<Contact> query;
+
+    @BeforeEach
+    public void setUp() {
+        for (Contact contact : List.of(ALICE, BENSON, CARL, DANIEL)) {
+            contacts.add(contact);
+            index.add(contact);
+        }
+        query = new ModelQuery<>(contacts, List.of(index));
+    }
+
+    @Test
+    public void stream_allElementsInOrder() {
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL), query.stream().collect(Collectors.toList()));
+        assertEquals(4, query.count());
+        assertFalse(query.isEmpty());
+    }
+
+    @Test
+    public void stream_elementsAddedAfterCreation_included() {
+        contacts.add(HOON);
+        index.add(HOON);
+        assertEquals(5, query.count());
+        assertTrue(query.anyMatch(contact -> contact == HOON));
+    }
+
+    @Test
+    public void stream_indexedPredicate_matchingElements() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("meier", "kurz"));
+        assertEquals(List.of(BENSON, CARL, DANIEL), query.collect(predicate, Collectors.toList()));
+        assertEquals(3, query.count(predicate));
+        assertFalse(query.anyMatch(new NameContainsKeywordsPredicate(List.of("zed"))));
+    }
+
+    @Test
+    public void withWords_indexedField_candidatesOnly() {
+        ModelQuery<Contact> meiers = query.withWords(UniqueContactList.NAME_FIELD, List.of("MEIER"));
+        assertEquals(List.of(BENSON, DANIEL), meiers.stream().collect(Collectors.toList()));
+        assertEquals(2, meiers.count());
+
+        // narrowing again keeps the candidates with both words
+        ModelQuery<Contact> daniels = meiers.withWords(UniqueContactList.NAME_FIELD, List.of("daniel", "alice"));
+        assertEquals(List.of(DANIEL), daniels.stream().collect(Collectors.toList()));
+        assertEquals(1, daniels.count(contact -> true));
+
+        assertTrue(query.withWords(UniqueContactList.NAME_FIELD, List.of("zed")).isEmpty());
+    }
+
+    @Test
+    public void withWords_unindexedField_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> query.withWords("address", List.of("street")));
+    }
+}
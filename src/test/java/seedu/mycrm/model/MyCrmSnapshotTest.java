@@ -0,0 +1,40 @@
+package seedu.mycrm.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.mycrm.testutil.TypicalContacts.HOON;
+import static seedu.mycrm.testutil.TypicalProducts.SAMSUNG_SSD;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.mycrm.testutil.TypicalJobs;
+
+public class MyCrmSnapshotTest {
+
+    @Test
+    public void constructor_copiesAllData() {
+        MyCrm myCrm = TypicalJobs.getTypicalMyCrm();
+        MyCrmSnapshot snapshot = new MyCrmSnapshot(myCrm);
+
+        assertEquals(myCrm.getContactList(), snapshot.getContactList());
+        assertEquals(myCrm.getTemplateList(), snapshot.getTemplateList());
+        assertEquals(myCrm.getProductList(), snapshot.getProductList());
+        assertEquals(myCrm.getJobList(), snapshot.getJobList());
+    }
+
+    @Test
+    public void laterChangesToSource_notVisibleInSnapshot() {
+        MyCrm myCrm = TypicalJobs.getTypicalMyCrm();
+        MyCrmSnapshot snapshot = new MyCrmSnapshot(myCrm);
+        MyCrm copy = new MyCrm(snapshot);
+
+        myCrm.addContact(HOON);
+        myCrm.addProduct(SAMSUNG_SSD);
+        myCrm.removeJob(myCrm.getJobList().get(0));
+
+        assertNotEquals(myCrm.getContactList(), snapshot.getContactList());
+        assertEquals(copy.getContactList(), snapshot.getContactList());
+        assertEquals(copy.getProductList(), snapshot.getProductList());
+        assertEquals(copy.getJobList(), snapshot.getJobList());
+    }
+}
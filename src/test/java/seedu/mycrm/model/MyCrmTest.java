@@ -2,6 +2,7 @@ package seedu.mycrm.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.mycrm.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.mycrm.logic.commands.CommandTestUtil.VALID_TAG_FIRST_TIER;
@@ -10,6 +11,9 @@ import static seedu.mycrm.testutil.TypicalContacts.ALICE;
 import static seedu.mycrm.testutil.TypicalContacts.getTypicalMyCrm;
 import static seedu.mycrm.testutil.TypicalProducts.INTEL_CPU;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -18,15 +22,21 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.mycrm.model.contact.Contact;
 import seedu.mycrm.model.contact.exceptions.DuplicateContactException;
 import seedu.mycrm.model.history.History;
 import seedu.mycrm.model.job.Job;
+import seedu.mycrm.model.job.JobAggregates;
+import seedu.mycrm.model.job.JobDateRange;
+import seedu.mycrm.model.job.RevenueGranularity;
 import seedu.mycrm.model.mail.Mail;
 import seedu.mycrm.model.mail.Template;
 import seedu.mycrm.model.product.Product;
+import seedu.mycrm.testutil.ConcurrentReaders;
 import seedu.mycrm.testutil.ContactBuilder;
+import seedu.mycrm.testutil.JobBuilder;
 import seedu.mycrm.testutil.ProductBuilder;
 
 public class MyCrmTest {
@@ -61,6 +71,157 @@ public class MyCrmTest {
         assertThrows(DuplicateContactException.class, () -> myCrm.resetData(newData));
     }
 
+    @Test
+    public void resetData_withDuplicateContacts_dataUnchanged() {
+        myCrm.addContact(ALICE);
+        myCrm.addProduct(INTEL_CPU);
+        Contact editedAlice = new ContactBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        MyCrmStub newData = new MyCrmStub(Arrays.asList(ALICE, editedAlice));
+
+        assertThrows(DuplicateContactException.class, () -> myCrm.resetData(newData));
+        assertEquals(List.of(ALICE), myCrm.getContactList());
+        assertEquals(List.of(INTEL_CPU), myCrm.getProductList());
+    }
+
+    @Test
+    public void applyBatch_manyChanges_oneChangePerList() {
+        List<ListChangeListener.Change<? extends Contact>> changes = new ArrayList<>();
+        myCrm.getContactList().addListener(changes::add);
+        Contact bob = new ContactBuilder().withName("Bob").build();
+        Contact carl = new ContactBuilder().withName("Carl").build();
+        long productsVersion = myCrm.getSegmentVersion(MyCrmSegment.PRODUCTS);
+
+        myCrm.applyBatch(() -> {
+            myCrm.addContact(ALICE);
+            myCrm.addContact(bob);
+            myCrm.removeContact(ALICE);
+            // a nested batch is part of the outer batch
+            myCrm.applyBatch(() -> myCrm.addContact(carl));
+            assertTrue(myCrm.hasContact(carl));
+            assertTrue(myCrm.getContactList().isEmpty());
+        });
+
+        assertEquals(1, changes.size());
+        assertEquals(List.of(bob, carl), myCrm.getContactList());
+        assertEquals(productsVersion, myCrm.getSegmentVersion(MyCrmSegment.PRODUCTS));
+    }
+
+    @Test
+    public void applyBatch_duplicateContact_rolledBack() {
+        myCrm.addContact(ALICE);
+        List<ListChangeListener.Change<? extends Contact>> changes = new ArrayList<>();
+        myCrm.getContactList().addListener(changes::add);
+        Contact bob = new ContactBuilder().withName("Bob").build();
+
+        assertThrows(DuplicateContactException.class, () -> myCrm.applyBatch(() -> {
+            myCrm.addProduct(INTEL_CPU);
+            myCrm.addContact(bob);
+            myCrm.addContact(ALICE);
+        }));
+
+        assertTrue(changes.isEmpty());
+        assertEquals(List.of(ALICE), myCrm.getContactList());
+        assertFalse(myCrm.hasContact(bob));
+        assertFalse(myCrm.hasProduct(INTEL_CPU));
+
+        // the myCrm takes changes as usual afterwards
+        myCrm.addContact(bob);
+        assertEquals(List.of(ALICE, bob), myCrm.getContactList());
+    }
+
+    @Test
+    public void read_duringBatches_batchesSeenWhole() throws Exception {
+        // Each batch adds two contacts and a job, none of them completed.
+        ConcurrentReaders readers = new ConcurrentReaders(4, () -> myCrm.read(() -> {
+            int jobCount = myCrm.getJobList().size();
+            assertEquals(2 * jobCount, myCrm.getContactList().size());
+            assertEquals(jobCount, myCrm.getJobAggregates().getIncompleteJobCount());
+            myCrm.getContactList().forEach(contact -> assertTrue(myCrm.getContactWordIndex().contains(contact)));
+            myCrm.getJobList().forEach(job -> assertTrue(myCrm.getContactById(job.getClientId()).isPresent()));
+            return null;
+        }));
+
+        for (int i = 0; i < 500; i++) {
+            Contact client = new ContactBuilder().withName("Client " + i).build();
+            Contact partner = new ContactBuilder().withName("Partner " + i).build();
+            Job job = new JobBuilder().withClient(client).withCompletionStatus(false).build();
+            myCrm.applyBatch(() -> {
+                myCrm.addContact(client);
+                myCrm.addJob(job);
+                myCrm.addContact(partner);
+            });
+        }
+
+        assertEquals(List.of(), readers.stop());
+        assertEquals(1000, myCrm.getContactList().size());
+    }
+
+    @Test
+    public void jobQueries_duringBatches_batchesSeenWhole() throws Exception {
+        // Each batch adds an incomplete job and two jobs completed in December 2021 for $10.00 each.
+        JobDateRange december = JobDateRange.ofMonth(LocalDate.of(2021, 12, 1));
+        ConcurrentReaders readers = new ConcurrentReaders(4, () -> {
+            JobAggregates aggregates = myCrm.getJobAggregates();
+            assertEquals(2 * aggregates.getIncompleteJobCount(), aggregates.getCompletedJobCount());
+            assertEquals(1000L * aggregates.getCompletedJobCount(), aggregates.getRevenueCents(YearMonth.of(2021, 12)));
+
+            assertEquals(0, myCrm.getRevenueSeries(december, RevenueGranularity.MONTH).getTotalCents() % 2000);
+            List<Job> completedJobs = myCrm.getJobsCompletedIn(december);
+            assertEquals(0, completedJobs.size() % 2);
+            completedJobs.forEach(job -> assertTrue(job.isCompleted()));
+        });
+
+        for (int i = 0; i < 300; i++) {
+            Contact client = new ContactBuilder().withName("Client " + i).build();
+            Job incompleteJob = new JobBuilder().withClient(client).withCompletionStatus(false).build();
+            Job firstCompletedJob = new JobBuilder().withJobDescription("First repair").withClient(client)
+                    .withFee("$10.00").withCompletionStatus(true).withCompletionDate("13/12/2021").build();
+            Job secondCompletedJob = new JobBuilder(firstCompletedJob).withJobDescription("Second repair").build();
+            myCrm.applyBatch(() -> {
+                myCrm.addContact(client);
+                myCrm.addJob(incompleteJob);
+                myCrm.addJob(firstCompletedJob);
+                myCrm.addJob(secondCompletedJob);
+            });
+        }
+
+        assertEquals(List.of(), readers.stop());
+        assertEquals(600, myCrm.getJobsCompletedIn(december).size());
+    }
+
+    @Test
+    public void read_duringSingleChanges_listsSeenWhole() throws Exception {
+        ConcurrentReaders readers = new ConcurrentReaders(4, () -> myCrm.read(() -> {
+            List<Contact> contacts = new ArrayList<>(myCrm.getContactList());
+            contacts.forEach(contact -> assertTrue(myCrm.hasContact(contact)));
+            assertEquals(contacts.size(), new MyCrmSnapshot(myCrm).getContactList().size());
+            return null;
+        }));
+
+        for (int i = 0; i < 500; i++) {
+            Contact contact = new ContactBuilder().withName("Contact " + i).build();
+            myCrm.addContact(contact);
+            if (i % 2 == 1) {
+                myCrm.removeContact(contact);
+            }
+        }
+
+        assertEquals(List.of(), readers.stop());
+        assertEquals(250, myCrm.getContactList().size());
+    }
+
+    @Test
+    public void read_changeWhileReading_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> myCrm.read(() -> {
+            myCrm.addContact(ALICE);
+            return null;
+        }));
+        assertFalse(myCrm.hasContact(ALICE));
+
+        // the writer can read what it is changing
+        myCrm.applyBatch(() -> assertEquals(List.of(), myCrm.read(myCrm::getContactList)));
+    }
+
     @Test
     public void hasContact_nullContact_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> myCrm.hasContact(null));
@@ -121,6 +282,26 @@ public class MyCrmTest {
         assertThrows(UnsupportedOperationException.class, () -> myCrm.getProductList().remove(0));
     }
 
+    @Test
+    public void getSegmentVersion_segmentChanged_onlyChangedSegmentVersionUpdated() {
+        MyCrm typicalMyCrm = getTypicalMyCrm();
+        long contactsVersion = typicalMyCrm.getSegmentVersion(MyCrmSegment.CONTACTS);
+        long productsVersion = typicalMyCrm.getSegmentVersion(MyCrmSegment.PRODUCTS);
+
+        typicalMyCrm.removeContact(ALICE);
+
+        assertNotEquals(contactsVersion, typicalMyCrm.getSegmentVersion(MyCrmSegment.CONTACTS));
+        assertEquals(productsVersion, typicalMyCrm.getSegmentVersion(MyCrmSegment.PRODUCTS));
+    }
+
+    @Test
+    public void getSegmentVersion_differentMyCrm_differentVersions() {
+        MyCrm other = new MyCrm();
+        for (MyCrmSegment segment : MyCrmSegment.values()) {
+            assertNotEquals(myCrm.getSegmentVersion(segment), other.getSegmentVersion(segment));
+        }
+    }
+
     /**
      * A stub ReadOnlyMyCrm whose contacts list can violate interface constraints.
      */
@@ -167,8 +348,8 @@ public class MyCrmTest {
         }
 
         @Override
-        public ObservableList<Product> getTopThreeProductList() {
-            return products;
+        public long getSegmentVersion(MyCrmSegment segment) {
+            return 0;
         }
     }
 
@@ -0,0 +1,87 @@
+package seedu.mycrm.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mycrm.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class RangeReplaceableListTest {
+
+    private final RangeReplaceableList<String> list = new RangeReplaceableList<>(Arrays.asList("a", "b", "c", "d"));
+    private final List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        list.addListener(changes::add);
+    }
+
+    @Test
+    public void replaceRange_middleRange_oneChangeOfRange() {
+        list.replaceRange(1, 3, Arrays.asList("x", "y", "z"));
+
+        assertEquals(Arrays.asList("a", "x", "y", "z", "d"), list);
+        assertChange(1, 4, Arrays.asList("b", "c"));
+    }
+
+    @Test
+    public void replaceRange_emptyRangeAndReplacement_nothingPublished() {
+        list.replaceRange(2, 2, Collections.emptyList());
+
+        assertEquals(Arrays.asList("a", "b", "c", "d"), list);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void replaceRange_invalidRange_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> list.replaceRange(3, 2, Collections.emptyList()));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.replaceRange(0, 5, Collections.emptyList()));
+    }
+
+    @Test
+    public void addAll_manyElements_oneChange() {
+        list.addAll(2, Arrays.asList("x", "y"));
+
+        assertEquals(Arrays.asList("a", "b", "x", "y", "c", "d"), list);
+        assertChange(2, 4, Collections.emptyList());
+    }
+
+    @Test
+    public void remove_rangeOfElements_oneChange() {
+        list.remove(1, 3);
+
+        assertEquals(Arrays.asList("a", "d"), list);
+        assertChange(1, 1, Arrays.asList("b", "c"));
+    }
+
+    @Test
+    public void set_element_changeOfElement() {
+        assertEquals("c", list.set(2, "x"));
+
+        assertEquals(Arrays.asList("a", "b", "x", "d"), list);
+        assertChange(2, 3, List.of("c"));
+    }
+
+    /**
+     * Asserts that exactly one change was published, of one range.
+     */
+    private void assertChange(int from, int to, List<String> removed) {
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends String> change = changes.get(0);
+        change.reset();
+        assertTrue(change.next());
+        assertEquals(from, change.getFrom());
+        assertEquals(to, change.getTo());
+        assertEquals(removed, change.getRemoved());
+        assertFalse(change.next());
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.mycrm.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.mycrm.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -18,4 +19,21 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setMyCrmFilePath(null));
     }
 
+    @Test
+    public void setRevenueGraphSize_noMonthsOrYears_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setRevenueGraphSize(0, 2));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setRevenueGraphSize(4, 0));
+    }
+
+    @Test
+    public void resetData_revenueGraphSize_copied() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setRevenueGraphSize(6, 3);
+        UserPrefs copy = new UserPrefs(userPrefs);
+        assertEquals(6, copy.getRevenueGraphMonths());
+        assertEquals(3, copy.getRevenueGraphYears());
+        assertEquals(userPrefs, copy);
+    }
+
 }
@@ -0,0 +1,71 @@
+package seedu.mycrm.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class WordIndexTest {
+
+    /** Strings whose ids are their lengths, indexed by their words and by their first word. */
+    private final WordIndex<String> index = new WordIndex<>(String::length,
+            Map.of("all", text -> text, "first", text -> text.isEmpty() ? null : text.split(" ")[0]));
+
+    @Test
+    public void add_element_wordsIndexedIgnoringCase() {
+        index.add("Graphics  card");
+        assertEquals(Set.of(14L), index.getIds("all", "CARD"));
+        assertEquals(Set.of(14L), index.getIds("first", "graphics"));
+        assertEquals(Set.of(), index.getIds("first", "card"));
+        assertTrue(index.contains("Graphics  card"));
+    }
+
+    @Test
+    public void hasAnyWord_normalizedWords_matchesAnyField() {
+        index.add("Graphics card");
+        assertTrue(index.hasAnyWord("Graphics card", List.of("first"), List.of("cpu", "graphics")));
+        assertFalse(index.hasAnyWord("Graphics card", List.of("first"), List.of("card")));
+        assertFalse(index.hasAnyWord("Graphics card", List.of("all"), List.of("graph")));
+    }
+
+    @Test
+    public void getIdsWithWordStartingWith_prefixes_onlyWordsWithPrefixMatched() {
+        index.add("Graphics card");
+        index.add("Graph paper");
+        index.add("Gravel");
+        assertEquals(Set.of(13L, 11L), index.getIdsWithWordStartingWith(List.of("all"), List.of("graph")));
+        assertEquals(Set.of(13L, 11L, 6L), index.getIdsWithWordStartingWith(List.of("first"), List.of("gra")));
+        assertEquals(Set.of(13L, 11L), index.getIdsWithWordStartingWith(List.of("all"), List.of("ca", "pa")));
+
+        index.remove("Graph paper");
+        assertEquals(Set.of(13L), index.getIdsWithWordStartingWith(List.of("all"), List.of("pa", "card")));
+    }
+
+    @Test
+    public void getWordsWithin_misspeltWord_nearWordsOfFieldsFound() {
+        index.add("Samsung monitor");
+        index.add("Samsonite");
+        assertEquals(Map.of("samsung", 1), index.getWordsWithin(List.of("all"), "samsng", 1));
+        assertEquals(Map.of("samsung", 1, "samsonite", 4), index.getWordsWithin(List.of("first"), "samsng", 4));
+        assertEquals(Map.of("monitor", 1), index.getWordsWithin(List.of("first", "all"), "monitr", 1));
+
+        // removed words are not found
+        index.remove("Samsung monitor");
+        assertEquals(Map.of(), index.getWordsWithin(List.of("all"), "samsng", 1));
+        assertEquals(Set.of("samsonite"), index.getWords("Samsonite", List.of("all", "first")));
+    }
+
+    @Test
+    public void remove_changedElement_removedByIndexedWords() {
+        index.add("Graphics card");
+        // a different string with the same id stands for the element after it was changed in place
+        index.remove("Processor fan");
+        assertFalse(index.contains("Graphics card"));
+        assertEquals(Set.of(), index.getIds("all", "graphics"));
+    }
+}
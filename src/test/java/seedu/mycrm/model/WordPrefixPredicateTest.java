@@ -0,0 +1,54 @@
+package seedu.mycrm.model;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mycrm.model.contact.UniqueContactList.EMAIL_FIELD;
+import static seedu.mycrm.model.contact.UniqueContactList.NAME_FIELD;
+import static seedu.mycrm.model.contact.UniqueContactList.WORD_FIELDS;
+import static seedu.mycrm.testutil.TypicalContacts.ALICE;
+import static seedu.mycrm.testutil.TypicalContacts.BENSON;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.mycrm.model.contact.Contact;
+
+public class WordPrefixPredicateTest {
+
+    @Test
+    public void test_wordStartsWithPrefix_returnsTrue() {
+        WordPrefixPredicate<Contact> predicate = new WordPrefixPredicate<>(List.of("PAU", "xyz"), WORD_FIELDS,
+                List.of(NAME_FIELD));
+        assertTrue(predicate.test(ALICE));
+        assertFalse(predicate.test(BENSON));
+
+        // only the fields given are searched
+        assertFalse(new WordPrefixPredicate<>(List.of("alice@"), WORD_FIELDS, List.of(NAME_FIELD)).test(ALICE));
+        assertTrue(new WordPrefixPredicate<>(List.of("alice@"), WORD_FIELDS, List.of(EMAIL_FIELD)).test(ALICE));
+    }
+
+    @Test
+    public void withIndexes_indexedElements_sameAsTest() {
+        WordIndex<Contact> index = new WordIndex<>(Contact::getId, WORD_FIELDS);
+        index.add(ALICE);
+        WordPrefixPredicate<Contact> predicate = new WordPrefixPredicate<>(List.of("mei", "ali"), WORD_FIELDS,
+                List.of(NAME_FIELD));
+
+        Predicate<Contact> boundPredicate = predicate.withIndexes(List.of(index));
+        assertTrue(boundPredicate.test(ALICE));
+        // elements in no index are tested as before
+        assertTrue(boundPredicate.test(BENSON));
+    }
+
+    @Test
+    public void equals() {
+        WordPrefixPredicate<Contact> predicate = new WordPrefixPredicate<>(List.of("ali"), WORD_FIELDS,
+                List.of(NAME_FIELD));
+        assertTrue(predicate.equals(new WordPrefixPredicate<>(List.of("ALI"), WORD_FIELDS, List.of(NAME_FIELD))));
+        assertNotEquals(predicate, new WordPrefixPredicate<>(List.of("ali"), WORD_FIELDS, List.of(EMAIL_FIELD)));
+        assertNotEquals(predicate, null);
+    }
+}
@@ -1,10 +1,15 @@
 package seedu.mycrm.model.history;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.mycrm.testutil.Assert.assertThrows;
 import static seedu.mycrm.testutil.TypicalHistories.HISTORY_ONE;
+import static seedu.mycrm.testutil.TypicalHistories.HISTORY_THREE;
 import static seedu.mycrm.testutil.TypicalHistories.HISTORY_TWO;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 class HistoryListTest {
@@ -15,6 +20,30 @@ class HistoryListTest {
         assertThrows(NullPointerException.class, () -> historyList.add(null));
     }
 
+    @Test
+    void add_sameAsLastHistory_notAdded() {
+        assertTrue(historyList.add(HISTORY_ONE));
+        assertFalse(historyList.add(new History(HISTORY_ONE.toString())));
+        assertTrue(historyList.add(HISTORY_TWO));
+        assertTrue(historyList.add(HISTORY_ONE));
+        assertEquals(Arrays.asList(HISTORY_ONE, HISTORY_TWO, HISTORY_ONE),
+                historyList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    void add_fullHistoryList_oldestHistoryDropped() {
+        HistoryList fullHistoryList = new HistoryList(2);
+        fullHistoryList.add(HISTORY_ONE);
+        fullHistoryList.add(HISTORY_TWO);
+        fullHistoryList.add(HISTORY_THREE);
+        assertEquals(Arrays.asList(HISTORY_TWO, HISTORY_THREE), fullHistoryList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new HistoryList(0));
+    }
+
     @Test
     void clearHistory_emptyHistoryList_success() {
         HistoryList expectedHistoryList = new HistoryList();
@@ -0,0 +1,60 @@
+package seedu.mycrm.model.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.mycrm.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+class HistoryRingBufferTest {
+
+    private final HistoryRingBuffer buffer = new HistoryRingBuffer(3);
+
+    @Test
+    void append_wrapsAround_keepsLatestInOrder() {
+        List<History> expected = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            History history = new History("command " + i);
+            buffer.append(history);
+            expected.add(history);
+        }
+
+        assertEquals(expected.subList(5, 8), buffer);
+        assertEquals(new History("command 7"), buffer.getNewest());
+    }
+
+    @Test
+    void append_notifiesListeners() {
+        List<Integer> sizes = new ArrayList<>();
+        buffer.addListener((ListChangeListener<History>) change -> sizes.add(change.getList().size()));
+
+        for (int i = 0; i < 4; i++) {
+            buffer.append(new History("command " + i));
+        }
+        buffer.clear();
+
+        assertEquals(List.of(1, 2, 3, 3, 0), sizes);
+    }
+
+    @Test
+    void clear_thenAppend_startsOver() {
+        buffer.append(new History("a"));
+        buffer.append(new History("b"));
+        buffer.clear();
+        assertNull(buffer.getNewest());
+
+        buffer.append(new History("c"));
+        assertEquals(List.of(new History("c")), buffer);
+    }
+
+    @Test
+    void get_outOfBounds_throwsIndexOutOfBoundsException() {
+        buffer.append(new History("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(1));
+    }
+}
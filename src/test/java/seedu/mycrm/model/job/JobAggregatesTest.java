@@ -0,0 +1,53 @@
+package seedu.mycrm.model.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.mycrm.testutil.Assert.assertThrows;
+
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.mycrm.testutil.JobBuilder;
+
+public class JobAggregatesTest {
+
+    private static final YearMonth DECEMBER = YearMonth.of(2021, 12);
+
+    private final Job incompleteJob = new JobBuilder().withCompletionStatus(false).withFee("$30.00").build();
+    private final Job completedJob = new JobBuilder().withJobDescription("Another description")
+            .withCompletionStatus(true).withCompletionDate("20/12/2021").withFee("$12.50").build();
+
+    @Test
+    public void add_jobs_countedByStatusAndMonth() {
+        JobAggregates aggregates = new JobAggregates();
+        aggregates.add(incompleteJob);
+        aggregates.add(completedJob);
+
+        assertEquals(1, aggregates.getIncompleteJobCount());
+        assertEquals(1, aggregates.getCompletedJobCount());
+        assertEquals(1, aggregates.getCompletedJobCount(DECEMBER));
+        assertEquals(0, aggregates.getCompletedJobCount(DECEMBER.plusMonths(1)));
+        assertEquals(1250, aggregates.getRevenueCents(DECEMBER));
+        assertEquals(0, aggregates.getRevenueCents(DECEMBER.minusMonths(1)));
+    }
+
+    @Test
+    public void remove_addedJobs_countsBackToZero() {
+        JobAggregates aggregates = new JobAggregates();
+        aggregates.add(incompleteJob);
+        aggregates.add(completedJob);
+        aggregates.remove(completedJob);
+        aggregates.remove(incompleteJob);
+
+        assertEquals(0, aggregates.getIncompleteJobCount());
+        assertEquals(0, aggregates.getCompletedJobCount());
+        assertEquals(0, aggregates.getCompletedJobCount(DECEMBER));
+        assertEquals(0, aggregates.getRevenueCents(DECEMBER));
+    }
+
+    @Test
+    public void getCompletedJobCount_nullMonth_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JobAggregates().getCompletedJobCount(null));
+        assertThrows(NullPointerException.class, () -> new JobAggregates().getRevenueCents(null));
+    }
+}
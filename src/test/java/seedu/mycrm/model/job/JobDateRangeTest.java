@@ -0,0 +1,59 @@
+package seedu.mycrm.model.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mycrm.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+public class JobDateRangeTest {
+
+    private static final LocalDate DECEMBER_FIRST = LocalDate.of(2021, 12, 1);
+    private static final LocalDate DECEMBER_LAST = LocalDate.of(2021, 12, 31);
+
+    @Test
+    public void constructor_startAfterEnd_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new JobDateRange(DECEMBER_LAST, DECEMBER_FIRST));
+    }
+
+    @Test
+    public void ofMonth() {
+        assertEquals(new JobDateRange(DECEMBER_FIRST, DECEMBER_LAST), JobDateRange.ofMonth(LocalDate.of(2021, 12, 13)));
+    }
+
+    @Test
+    public void between_missingDate_openRange() {
+        JobDateRange since = JobDateRange.between(new JobDate(DECEMBER_FIRST), null);
+        assertTrue(since.contains(new JobDate(LocalDate.of(3000, 1, 1))));
+        assertFalse(since.contains(new JobDate("30/11/2021")));
+        assertEquals("since Dec 1 2021", since.toString());
+
+        JobDateRange until = JobDateRange.between(null, new JobDate(DECEMBER_LAST));
+        assertTrue(until.contains(new JobDate("1/1/1900")));
+        assertFalse(until.contains(new JobDate("1/1/2022")));
+        assertEquals("until Dec 31 2021", until.toString());
+    }
+
+    @Test
+    public void contains() {
+        JobDateRange december = JobDateRange.ofMonth(DECEMBER_FIRST);
+        assertTrue(december.contains(new JobDate("1/12/2021"))); // start date
+        assertTrue(december.contains(new JobDate("31/12/2021"))); // end date
+        assertFalse(december.contains(new JobDate("30/11/2021")));
+        assertFalse(december.contains(new JobDate("1/1/2022")));
+        assertFalse(december.contains((JobDate) null)); // missing date
+    }
+
+    @Test
+    public void equals() {
+        JobDateRange december = JobDateRange.ofMonth(DECEMBER_FIRST);
+        assertEquals(december, new JobDateRange(DECEMBER_FIRST, DECEMBER_LAST));
+        assertNotEquals(december, JobDateRange.ofMonth(LocalDate.of(2022, 12, 1)));
+        assertNotEquals(december, null);
+        assertEquals("from Dec 1 2021 to Dec 31 2021", december.toString());
+    }
+}
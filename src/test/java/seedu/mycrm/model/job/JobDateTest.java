@@ -0,0 +1,52 @@
+package seedu.mycrm.model.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mycrm.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class JobDateTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JobDate((String) null));
+    }
+
+    @Test
+    public void constructor_invalidJobDate_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new JobDate("2021/01/01"));
+    }
+
+    @Test
+    public void isValidJobDate() {
+        // invalid dates
+        assertFalse(JobDate.isValidJobDate(""));
+        assertFalse(JobDate.isValidJobDate("2021/01/01"));
+        assertFalse(JobDate.isValidJobDate("32/01/2021"));
+        assertFalse(JobDate.isValidJobDate(" 01/01/2021"));
+
+        // valid dates
+        assertTrue(JobDate.isValidJobDate("01/01/2021"));
+        assertTrue(JobDate.isValidJobDate("1/1/2021"));
+    }
+
+    @Test
+    public void tryParse() {
+        assertEquals(Optional.of(new JobDate(LocalDate.of(2021, 12, 10))), JobDate.tryParse("10/12/2021"));
+        assertEquals(Optional.empty(), JobDate.tryParse("10-12-2021"));
+    }
+
+    @Test
+    public void getTrustedJobDate_rawDate_sameJobDate() {
+        JobDate date = new JobDate("01/02/2021");
+        assertEquals(date, JobDate.getTrustedJobDate(date.raw()));
+
+        date = new JobDate("31/12/2021");
+        assertEquals(date, JobDate.getTrustedJobDate(date.raw()));
+    }
+}
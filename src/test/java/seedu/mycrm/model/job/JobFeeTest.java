@@ -0,0 +1,62 @@
+package seedu.mycrm.model.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mycrm.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class JobFeeTest {
+
+    @Test
+    public void constructor_invalidJobFee_throwsNumberFormatException() {
+        assertThrows(NumberFormatException.class, () -> new JobFee("abc"));
+    }
+
+    @Test
+    public void isValidJobFee() {
+        // invalid fees
+        assertFalse(JobFee.isValidJobFee("")); // empty string
+        assertFalse(JobFee.isValidJobFee("$")); // dollar sign only
+        assertFalse(JobFee.isValidJobFee("-30.00")); // negative
+        assertFalse(JobFee.isValidJobFee("10000000")); // maximum value
+        assertFalse(JobFee.isValidJobFee("1000000000000")); // more than an int
+        assertFalse(JobFee.isValidJobFee("30.00$")); // dollar sign at the end
+        assertFalse(JobFee.isValidJobFee("30.$00")); // dollar sign in cents
+        assertFalse(JobFee.isValidJobFee("10.-01")); // negative cents
+        assertFalse(JobFee.isValidJobFee(".50")); // no dollars
+        assertFalse(JobFee.isValidJobFee("5.")); // no cents after decimal point
+        assertFalse(JobFee.isValidJobFee("1.2.3")); // several decimal points
+        assertFalse(JobFee.isValidJobFee(" 5")); // spaces
+
+        // valid fees
+        assertTrue(JobFee.isValidJobFee("0"));
+        assertTrue(JobFee.isValidJobFee("$30.00"));
+        assertTrue(JobFee.isValidJobFee("9999999.99")); // just below the maximum value
+        assertTrue(JobFee.isValidJobFee("0.000001")); // more precision than cents
+    }
+
+    @Test
+    public void parse_validJobFee_returnsCents() {
+        assertEquals(3000, JobFee.parse("$30.00"));
+        assertEquals(3000, JobFee.parse("30"));
+        assertEquals(999999999, JobFee.parse("9999999.999"));
+        assertEquals(0, JobFee.parse("0.000001"));
+    }
+
+    @Test
+    public void tryParse() {
+        assertEquals(Optional.of(new JobFee(1230)), JobFee.tryParse("$12.30"));
+        assertEquals(Optional.empty(), JobFee.tryParse("$12.3a"));
+    }
+
+    @Test
+    public void toString_parsedBack_sameJobFee() {
+        JobFee fee = new JobFee(123456);
+        assertEquals("$1234.56", fee.toString());
+        assertEquals(fee, new JobFee(fee.toString()));
+    }
+}
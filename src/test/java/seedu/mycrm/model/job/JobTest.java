@@ -5,11 +5,14 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.mycrm.testutil.TypicalContacts.CARL;
+import static seedu.mycrm.testutil.TypicalJobs.CARL_JOB;
 import static seedu.mycrm.testutil.TypicalJobs.COMPLETED;
+import static seedu.mycrm.testutil.TypicalJobs.getTypicalMyCrm;
 import static seedu.mycrm.testutil.TypicalProducts.SAMSUNG_SSD;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.mycrm.model.EntityLookup;
 import seedu.mycrm.testutil.JobBuilder;
 
 public class JobTest {
@@ -50,4 +53,14 @@ public class JobTest {
         // different type -> returns false
         assertNotEquals(5, COMPLETED);
     }
+
+    @Test
+    public void toDisplayString() {
+        // client found -> shows its name
+        assertEquals(CARL_JOB.getJobDescription() + " for " + CARL.getName().fullName,
+                CARL_JOB.toDisplayString(getTypicalMyCrm()));
+
+        // client not found -> shows the description only
+        assertEquals(CARL_JOB.getJobDescription().toString(), CARL_JOB.toDisplayString(EntityLookup.NONE));
+    }
 }
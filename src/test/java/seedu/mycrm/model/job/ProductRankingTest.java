@@ -0,0 +1,68 @@
+package seedu.mycrm.model.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.mycrm.testutil.Assert.assertThrows;
+import static seedu.mycrm.testutil.TypicalProducts.ASUS_GPU;
+import static seedu.mycrm.testutil.TypicalProducts.INTEL_CPU;
+import static seedu.mycrm.testutil.TypicalProducts.SAMSUNG_SSD;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.mycrm.model.EntityLookup;
+import seedu.mycrm.testutil.JobBuilder;
+import seedu.mycrm.testutil.MyCrmBuilder;
+
+public class ProductRankingTest {
+
+    private static final JobDateRange DECEMBER = JobDateRange.ofMonth(LocalDate.of(2021, 12, 1));
+
+    private final EntityLookup products = new MyCrmBuilder().withProduct(ASUS_GPU).withProduct(INTEL_CPU)
+            .withProduct(SAMSUNG_SSD).build();
+
+    @Test
+    public void constructor_invalidSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, ProductRanking.MESSAGE_CONSTRAINTS, () ->
+                new ProductRanking(products, DECEMBER, 0));
+    }
+
+    @Test
+    public void add_jobs_rankedByNumberOfJobsThenFirstCounted() {
+        ProductRanking ranking = new ProductRanking(products, DECEMBER, 2);
+        ranking.addCount(INTEL_CPU.getId(), 1);
+        ranking.addCount(SAMSUNG_SSD.getId(), 1);
+        ranking.addCount(ASUS_GPU.getId(), 2);
+        assertEquals(List.of(ASUS_GPU, INTEL_CPU), ranking.asUnmodifiableObservableList());
+
+        ranking.addCount(ASUS_GPU.getId(), -2);
+        assertEquals(List.of(INTEL_CPU, SAMSUNG_SSD), ranking.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_jobOutsideRange_notCounted() {
+        ProductRanking ranking = new ProductRanking(products, DECEMBER, 3);
+        ranking.add(new JobBuilder().withProduct(INTEL_CPU).withReceivedDate("30/11/2021").build());
+        ranking.add(new JobBuilder().withProduct(SAMSUNG_SSD).withReceivedDate("1/12/2021").build());
+        assertEquals(List.of(SAMSUNG_SSD), ranking.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void reset_newRange_liveListCleared() {
+        ProductRanking ranking = new ProductRanking(products, DECEMBER, 3);
+        List<?> topProducts = ranking.asUnmodifiableObservableList();
+        ranking.addCount(INTEL_CPU.getId(), 1);
+
+        ranking.reset(JobDateRange.ofMonth(LocalDate.of(2022, 1, 1)), 1);
+        assertEquals(List.of(), topProducts);
+        assertEquals(1, ranking.getSize());
+    }
+
+    @Test
+    public void addCount_productNotFound_leftOutOfTopProducts() {
+        ProductRanking ranking = new ProductRanking(EntityLookup.NONE, DECEMBER, 3);
+        ranking.addCount(INTEL_CPU.getId(), 1);
+        assertEquals(List.of(), ranking.asUnmodifiableObservableList());
+    }
+}
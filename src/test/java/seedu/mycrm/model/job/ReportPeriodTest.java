@@ -0,0 +1,28 @@
+package seedu.mycrm.model.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class ReportPeriodTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2021, 11, 15);
+
+    @Test
+    public void fromKeyword() {
+        assertEquals(Optional.of(ReportPeriod.QUARTER), ReportPeriod.fromKeyword("Quarter"));
+        assertEquals(Optional.of(ReportPeriod.ROLLING_30_DAYS), ReportPeriod.fromKeyword("30days"));
+        assertEquals(Optional.empty(), ReportPeriod.fromKeyword("week"));
+    }
+
+    @Test
+    public void getRange() {
+        assertEquals(JobDateRange.ofMonth(TODAY), ReportPeriod.MONTH.getRange(TODAY));
+        assertEquals(new JobDateRange(LocalDate.of(2021, 10, 1), LocalDate.of(2021, 12, 31)),
+                ReportPeriod.QUARTER.getRange(TODAY));
+        assertEquals(new JobDateRange(LocalDate.of(2021, 10, 17), TODAY), ReportPeriod.ROLLING_30_DAYS.getRange(TODAY));
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.mycrm.model.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.mycrm.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.mycrm.testutil.JobBuilder;
+
+public class RevenueSeriesTest {
+
+    private static final JobDateRange YEAR_2021 = new JobDateRange(LocalDate.of(2021, 1, 1),
+            LocalDate.of(2021, 12, 31));
+
+    @Test
+    public void constructor_unboundedRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, RevenueSeries.MESSAGE_UNBOUNDED_RANGE, () ->
+                new RevenueSeries(JobDateRange.between(new JobDate("1/1/2021"), null), RevenueGranularity.DAY));
+    }
+
+    @Test
+    public void constructor_granularity_periodsOverlappingRange() {
+        assertEquals(365, new RevenueSeries(YEAR_2021, RevenueGranularity.DAY).size());
+        assertEquals(12, new RevenueSeries(YEAR_2021, RevenueGranularity.MONTH).size());
+        assertEquals(4, new RevenueSeries(YEAR_2021, RevenueGranularity.QUARTER).size());
+        assertEquals(1, new RevenueSeries(YEAR_2021, RevenueGranularity.YEAR).size());
+
+        // 1 Jan 2021 is a Friday, so the first week starts in 2020
+        RevenueSeries weekly = new RevenueSeries(YEAR_2021, RevenueGranularity.WEEK);
+        assertEquals(53, weekly.size());
+        assertEquals(LocalDate.of(2020, 12, 28), weekly.getPeriodStart(0));
+        assertEquals(LocalDate.of(2021, 12, 27), weekly.getPeriodStart(52));
+    }
+
+    @Test
+    public void add_jobs_exactCentsInPeriod() {
+        RevenueSeries quarterly = new RevenueSeries(YEAR_2021, RevenueGranularity.QUARTER);
+        quarterly.add(new JobBuilder().withCompletionDate("31/3/2021").withFee("$0.10").build());
+        quarterly.add(new JobBuilder().withCompletionDate("1/4/2021").withFee("$0.20").build());
+        quarterly.add(new JobBuilder().withCompletionDate("30/6/2021").withFee("$0.10").build());
+        quarterly.add(new JobBuilder().withCompletionDate("1/1/2022").withFee("$5").build()); // outside the range
+        quarterly.add(new JobBuilder().build()); // not completed
+
+        assertEquals(10, quarterly.getCents(0));
+        assertEquals(30, quarterly.getCents(LocalDate.of(2021, 5, 1)));
+        assertEquals(0, quarterly.getCents(3));
+        assertEquals(40, quarterly.getTotalCents());
+    }
+
+    @Test
+    public void addAll_sameRangeAndGranularity_periodsAdded() {
+        RevenueSeries monthly = new RevenueSeries(YEAR_2021, RevenueGranularity.MONTH);
+        monthly.add(LocalDate.of(2021, 2, 1), 100);
+        RevenueSeries other = new RevenueSeries(YEAR_2021, RevenueGranularity.MONTH);
+        other.add(LocalDate.of(2021, 2, 28), 23);
+
+        monthly.addAll(other);
+        assertEquals(123, monthly.getCents(1));
+        assertThrows(IllegalArgumentException.class, () ->
+                monthly.addAll(new RevenueSeries(YEAR_2021, RevenueGranularity.QUARTER)));
+    }
+}
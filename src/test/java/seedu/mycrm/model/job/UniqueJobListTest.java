@@ -4,18 +4,36 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.mycrm.testutil.Assert.assertThrows;
+import static seedu.mycrm.testutil.TypicalContacts.ALICE;
+import static seedu.mycrm.testutil.TypicalContacts.BENSON;
+import static seedu.mycrm.testutil.TypicalContacts.CARL;
+import static seedu.mycrm.testutil.TypicalJobs.BENSON_JOB;
+import static seedu.mycrm.testutil.TypicalJobs.CARL_JOB;
 import static seedu.mycrm.testutil.TypicalJobs.COMPLETED;
+import static seedu.mycrm.testutil.TypicalProducts.ASUS_GPU;
+import static seedu.mycrm.testutil.TypicalProducts.INTEL_CPU;
+import static seedu.mycrm.testutil.TypicalProducts.SAMSUNG_SSD;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.mycrm.model.WordIndex;
 import seedu.mycrm.model.job.exceptions.DuplicateJobException;
+import seedu.mycrm.model.contact.Contact;
 import seedu.mycrm.model.job.exceptions.JobNotFoundException;
+import seedu.mycrm.model.product.Product;
+import seedu.mycrm.testutil.ContactBuilder;
+import seedu.mycrm.testutil.JobBuilder;
+import seedu.mycrm.testutil.MyCrmBuilder;
 
 public class UniqueJobListTest {
-    private final UniqueJobList uniqueJobList = new UniqueJobList();
+    private final UniqueJobList uniqueJobList = new UniqueJobList(new MyCrmBuilder().withProduct(ASUS_GPU)
+            .withProduct(INTEL_CPU).withProduct(SAMSUNG_SSD).build());
 
     @Test
     public void contains_nullJob_throwsNullPointerException() {
@@ -94,6 +112,180 @@ public class UniqueJobListTest {
             -> uniqueJobList.setJobs(listWithDuplicateJobs));
     }
 
+    @Test
+    public void getJobsForClient_linkedJobs_jobsOfSameContact() {
+        Job secondBensonJob = new JobBuilder(BENSON_JOB).withJobDescription("Another description").build();
+        uniqueJobList.add(BENSON_JOB);
+        uniqueJobList.add(CARL_JOB);
+        uniqueJobList.add(secondBensonJob);
+
+        // an edited contact keeps its id
+        Contact editedBenson = new ContactBuilder(BENSON).withPhone("99999999").build();
+        assertEquals(List.of(BENSON_JOB, secondBensonJob), uniqueJobList.getJobsForClient(editedBenson));
+        assertTrue(uniqueJobList.hasJobsForClient(CARL));
+        assertFalse(uniqueJobList.hasJobsForClient(ALICE));
+        assertEquals(List.of(), uniqueJobList.getJobsForClient(ALICE));
+    }
+
+    @Test
+    public void getJobsForClient_jobsChanged_indexUpdated() {
+        uniqueJobList.add(BENSON_JOB);
+        Job aliceJob = new JobBuilder(BENSON_JOB).withClient(ALICE).build();
+        uniqueJobList.setJob(BENSON_JOB, aliceJob);
+        assertFalse(uniqueJobList.hasJobsForClient(BENSON));
+        assertEquals(List.of(aliceJob), uniqueJobList.getJobsForClient(ALICE));
+
+        uniqueJobList.remove(aliceJob);
+        assertFalse(uniqueJobList.hasJobsForClient(ALICE));
+
+        uniqueJobList.setJobs(List.of(CARL_JOB));
+        assertEquals(List.of(CARL_JOB), uniqueJobList.getJobsForClient(CARL));
+        uniqueJobList.setJobs(new UniqueJobList());
+        assertFalse(uniqueJobList.hasJobsForClient(CARL));
+    }
+
+    @Test
+    public void getJobsForProduct_jobsChanged_indexUpdated() {
+        Job intelJob = new JobBuilder().withProduct(INTEL_CPU).build();
+        uniqueJobList.add(intelJob);
+        uniqueJobList.add(BENSON_JOB);
+        assertEquals(List.of(intelJob), uniqueJobList.getJobsForProduct(INTEL_CPU));
+        assertFalse(uniqueJobList.hasJobsForProduct(SAMSUNG_SSD));
+
+        Job samsungJob = new JobBuilder(intelJob).withProduct(SAMSUNG_SSD).build();
+        uniqueJobList.setJob(intelJob, samsungJob);
+        assertFalse(uniqueJobList.hasJobsForProduct(INTEL_CPU));
+        assertEquals(List.of(samsungJob), uniqueJobList.getJobsForProduct(SAMSUNG_SSD));
+    }
+
+    @Test
+    public void getJobsCompletedIn_jobsChanged_indexUpdated() {
+        JobDateRange december = JobDateRange.ofMonth(LocalDate.of(2021, 12, 1));
+        uniqueJobList.add(CARL_JOB);
+        assertEquals(List.of(), uniqueJobList.getJobsCompletedIn(december));
+        assertEquals(List.of(CARL_JOB), uniqueJobList.getJobsReceivedIn(december));
+
+        // completing and undoing completing a job replaces it
+        Job completedJob = new Job(CARL_JOB);
+        completedJob.markCompleted(new JobDate("20/12/2021"));
+        uniqueJobList.setJob(CARL_JOB, completedJob);
+        assertEquals(List.of(completedJob), uniqueJobList.getJobsCompletedIn(december));
+        assertEquals(3000, uniqueJobList.getRevenueSeries(december, RevenueGranularity.MONTH).getTotalCents());
+
+        Job incompleteJob = new Job(completedJob);
+        incompleteJob.markIncomplete();
+        uniqueJobList.setJob(completedJob, incompleteJob);
+        assertEquals(List.of(), uniqueJobList.getJobsCompletedIn(december));
+        assertEquals(0, uniqueJobList.getRevenueSeries(december, RevenueGranularity.MONTH).getTotalCents());
+
+        uniqueJobList.remove(incompleteJob);
+        assertEquals(List.of(), uniqueJobList.getJobsReceivedIn(december));
+    }
+
+    @Test
+    public void getWordIndex_dateRanges_countedFromDateIndex() {
+        uniqueJobList.add(CARL_JOB);
+        WordIndex<Job> index = uniqueJobList.getWordIndex();
+        LocalDate firstOfDecember = LocalDate.of(2021, 12, 1);
+        assertEquals(1, index.countInRange(UniqueJobList.RECEIVED_FIELD, firstOfDecember, LocalDate.of(2021, 12, 31)));
+        assertEquals(1, index.countInRange(UniqueJobList.RECEIVED_FIELD, null, null));
+        assertEquals(0, index.countInRange(UniqueJobList.RECEIVED_FIELD, null, firstOfDecember.minusDays(1)));
+        assertEquals(0, index.countInRange(UniqueJobList.COMPLETED_FIELD, null, null));
+
+        Job completedJob = new Job(CARL_JOB);
+        completedJob.markCompleted(new JobDate("20/12/2021"));
+        uniqueJobList.setJob(CARL_JOB, completedJob);
+        assertEquals(1, index.countInRange(UniqueJobList.COMPLETED_FIELD, firstOfDecember, null));
+    }
+
+    @Test
+    public void getAggregates_jobsChanged_aggregatesUpdated() {
+        uniqueJobList.add(CARL_JOB);
+        assertEquals(1, uniqueJobList.getAggregates().getIncompleteJobCount());
+
+        Job completedJob = new Job(CARL_JOB);
+        completedJob.markCompleted(new JobDate("20/12/2021"));
+        uniqueJobList.setJob(CARL_JOB, completedJob);
+        assertEquals(0, uniqueJobList.getAggregates().getIncompleteJobCount());
+        assertEquals(1, uniqueJobList.getAggregates().getCompletedJobCount(YearMonth.of(2021, 12)));
+
+        uniqueJobList.remove(completedJob);
+        assertEquals(0, uniqueJobList.getAggregates().getCompletedJobCount());
+        assertEquals(0, uniqueJobList.getAggregates().getCompletedJobCount(YearMonth.of(2021, 12)));
+    }
+
+    @Test
+    public void getRevenueSeries_wholeMonths_sameAsVisitingJobs() {
+        Job decemberJob = new JobBuilder().withCompletionStatus(true).withCompletionDate("20/12/2021")
+                .withFee("$12.50").build();
+        Job januaryJob = new JobBuilder(CARL_JOB).withCompletionStatus(true).withCompletionDate("3/1/2022")
+                .withFee("$7.25").build();
+        uniqueJobList.setJobs(List.of(decemberJob, januaryJob));
+
+        JobDateRange wholeMonths = new JobDateRange(LocalDate.of(2021, 11, 1), LocalDate.of(2022, 1, 31));
+        RevenueSeries fromAggregates = uniqueJobList.getRevenueSeries(wholeMonths, RevenueGranularity.MONTH);
+        RevenueSeries fromJobs = new RevenueSeries(wholeMonths, RevenueGranularity.MONTH);
+        fromJobs.add(decemberJob);
+        fromJobs.add(januaryJob);
+        assertEquals(fromJobs, fromAggregates);
+
+        // a range that is not made up of whole months visits the jobs instead
+        JobDateRange partialMonths = new JobDateRange(LocalDate.of(2021, 12, 21), LocalDate.of(2022, 1, 31));
+        assertEquals(725, uniqueJobList.getRevenueSeries(partialMonths, RevenueGranularity.MONTH).getTotalCents());
+    }
+
+    @Test
+    public void getJobsExpectedIn_range_jobsOrderedByDate() {
+        Job lateJob = new JobBuilder(BENSON_JOB).withExpectedCompletionDate("30/12/2021").build();
+        Job earlyJob = new JobBuilder(CARL_JOB).withExpectedCompletionDate("2/12/2021").build();
+        Job nextYearJob = new JobBuilder().withExpectedCompletionDate("2/1/2022").build();
+        uniqueJobList.setJobs(List.of(lateJob, nextYearJob, earlyJob));
+
+        JobDateRange december = JobDateRange.ofMonth(LocalDate.of(2021, 12, 1));
+        assertEquals(List.of(earlyJob, lateJob), uniqueJobList.getJobsExpectedIn(december));
+        assertEquals(List.of(earlyJob, lateJob, nextYearJob),
+                uniqueJobList.getJobsExpectedIn(JobDateRange.between(new JobDate("2/12/2021"), null)));
+    }
+
+    @Test
+    public void rankProducts_range_productsReceivedInRange() {
+        Job intelJob = new JobBuilder().withProduct(INTEL_CPU).withReceivedDate("1/11/2021").build();
+        uniqueJobList.add(intelJob);
+        uniqueJobList.add(BENSON_JOB);
+
+        uniqueJobList.rankProducts(JobDateRange.ofMonth(LocalDate.of(2021, 12, 1)), 3, Map.of());
+        assertEquals(List.of(ASUS_GPU), uniqueJobList.getTopProductList());
+
+        // a range that is not made up of whole months visits the jobs instead
+        uniqueJobList.rankProducts(new JobDateRange(LocalDate.of(2021, 11, 1), LocalDate.of(2021, 11, 15)), 3,
+                Map.of());
+        assertEquals(List.of(INTEL_CPU), uniqueJobList.getTopProductList());
+
+        // jobs not in the list are counted along with those in it
+        uniqueJobList.rankProducts(JobDateRange.ofMonth(LocalDate.of(2021, 12, 1)), 3, Map.of(INTEL_CPU.getId(), 2));
+        assertEquals(List.of(INTEL_CPU, ASUS_GPU), uniqueJobList.getTopProductList());
+    }
+
+    @Test
+    public void getTopProductList_jobsChanged_listUpdated() {
+        Job intelJob = new JobBuilder().withProduct(INTEL_CPU).withReceivedDate("1/12/2021").build();
+        Job samsungJob = new JobBuilder().withProduct(SAMSUNG_SSD).withReceivedDate("2/12/2021").build();
+        uniqueJobList.rankProducts(JobDateRange.ofMonth(LocalDate.of(2021, 12, 1)), 1, Map.of());
+        List<Product> topProducts = uniqueJobList.getTopProductList();
+
+        uniqueJobList.add(intelJob);
+        assertEquals(List.of(INTEL_CPU), topProducts);
+
+        Job secondSamsungJob = new JobBuilder(samsungJob).withJobDescription("Another description").build();
+        uniqueJobList.add(samsungJob);
+        uniqueJobList.add(secondSamsungJob);
+        assertEquals(List.of(SAMSUNG_SSD), topProducts);
+
+        uniqueJobList.remove(secondSamsungJob);
+        uniqueJobList.remove(samsungJob);
+        assertEquals(List.of(INTEL_CPU), topProducts);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.mycrm.testutil.Assert.assertThrows;
+import static seedu.mycrm.testutil.TypicalContacts.ALICE;
+import static seedu.mycrm.testutil.TypicalContacts.BENSON;
 import static seedu.mycrm.testutil.TypicalJobs.BENSON_JOB;
 import static seedu.mycrm.testutil.TypicalMails.COMPLETED_JOB;
 import static seedu.mycrm.testutil.TypicalMails.COMPLETED_MAIL;
@@ -15,6 +17,7 @@ import static seedu.mycrm.testutil.TypicalTemplates.THANK_YOU;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.mycrm.model.contact.Email;
 import seedu.mycrm.model.job.Job;
 import seedu.mycrm.testutil.JobBuilder;
 import seedu.mycrm.testutil.MailBuilder;
@@ -27,9 +30,12 @@ public class MailTest {
         Job validJob = new JobBuilder().build();
         Template validTemplate = new TemplateBuilder().build();
 
-        assertThrows(NullPointerException.class, () -> new Mail(null, null));
-        assertThrows(NullPointerException.class, () -> new Mail(validJob, null));
-        assertThrows(NullPointerException.class, () -> new Mail(null, validTemplate));
+        Email validEmail = ALICE.getEmail();
+
+        assertThrows(NullPointerException.class, () -> new Mail(null, null, null));
+        assertThrows(NullPointerException.class, () -> new Mail(validJob, null, validEmail));
+        assertThrows(NullPointerException.class, () -> new Mail(null, validTemplate, validEmail));
+        assertThrows(NullPointerException.class, () -> new Mail(validJob, validTemplate, null));
     }
 
     @Test
@@ -71,6 +77,10 @@ public class MailTest {
         // different template -> returns false
         editedMail = new MailBuilder(COMPLETED_MAIL).withTemplate(THANK_YOU).build();
         assertNotEquals(COMPLETED_MAIL, editedMail);
+
+        // different email -> returns false
+        editedMail = new MailBuilder(COMPLETED_MAIL).withEmail(BENSON.getEmail()).build();
+        assertNotEquals(COMPLETED_MAIL, editedMail);
     }
 
     @Test
@@ -87,11 +97,11 @@ public class MailTest {
         Mail thankMail = new MailBuilder().withJob(COMPLETED_JOB).withTemplate(THANK_YOU).build();
 
         assertEquals(completedMail.constructMail(), String.format("mailto:%s?subject=%s&body=%s",
-                COMPLETED_JOB.getClientEmail(), Mail.urlEncode(COMPLETED.getSubject().toString()),
+                ALICE.getEmail().value, Mail.urlEncode(COMPLETED.getSubject().toString()),
                 Mail.urlEncode(COMPLETED.getBody().toString())));
 
         assertNotEquals(thankMail.constructMail(), String.format("mailto:%s?subject=%s&body=%s",
-                COMPLETED_JOB.getClientEmail(), Mail.urlEncode(COMPLETED.getSubject().toString()),
+                ALICE.getEmail().value, Mail.urlEncode(COMPLETED.getSubject().toString()),
                 Mail.urlEncode(COMPLETED.getBody().toString())));
     }
 
@@ -106,7 +116,7 @@ public class MailTest {
     @Test
     public void isSameEmail() {
         String email = COMPLETED_MAIL.getMailEmail();
-        String expectedEmail = COMPLETED_JOB.getClientEmail();
+        String expectedEmail = ALICE.getEmail().value;
 
         assertEquals(email, expectedEmail);
     }
@@ -0,0 +1,63 @@
+package seedu.mycrm.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mycrm.model.contact.UniqueContactList.EMAIL_FIELD;
+import static seedu.mycrm.model.contact.UniqueContactList.NAME_FIELD;
+import static seedu.mycrm.model.contact.UniqueContactList.WORD_FIELDS;
+import static seedu.mycrm.testutil.TypicalContacts.ALICE;
+import static seedu.mycrm.testutil.TypicalContacts.BENSON;
+import static seedu.mycrm.testutil.TypicalContacts.CARL;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.mycrm.model.WordIndex;
+import seedu.mycrm.model.contact.Contact;
+
+public class PatternConditionTest {
+
+    @Test
+    public void test_wildcards_matchAnyCharacters() {
+        assertTrue(new PatternCondition<>(EMAIL_FIELD, Contact::getEmail, "*@EXAMPLE.com").test(ALICE));
+        assertTrue(new PatternCondition<>(EMAIL_FIELD, Contact::getEmail, "al*@*.com").test(ALICE));
+        assertFalse(new PatternCondition<>(EMAIL_FIELD, Contact::getEmail, "al*@*.org").test(ALICE));
+        // characters other than the wildcard are matched literally
+        assertFalse(new PatternCondition<>(EMAIL_FIELD, Contact::getEmail, "alice@example.co.").test(ALICE));
+    }
+
+    @Test
+    public void estimateMatches_prefixPattern_countedFromIndex() {
+        WordIndex<Contact> index = new WordIndex<>(Contact::getId, WORD_FIELDS);
+        List.of(ALICE, BENSON, CARL).forEach(index::add);
+        assertEquals(1, new PatternCondition<>(NAME_FIELD, Contact::getName, "C*").estimateMatches(List.of(index)));
+        assertEquals(3, new PatternCondition<>(NAME_FIELD, Contact::getName, "*").estimateMatches(List.of(index)));
+
+        PatternCondition<Contact> suffixCondition =
+                new PatternCondition<>(EMAIL_FIELD, Contact::getEmail, "*@example.com");
+        assertEquals(QueryCondition.UNKNOWN_MATCHES, suffixCondition.estimateMatches(List.of(index)));
+    }
+
+    @Test
+    public void withIndexes_indexedElements_sameAsTest() {
+        WordIndex<Contact> index = new WordIndex<>(Contact::getId, WORD_FIELDS);
+        index.add(ALICE);
+        Predicate<Contact> boundCondition = new PatternCondition<>(EMAIL_FIELD, Contact::getEmail, "*@example.com")
+                .withIndexes(List.of(index));
+        assertTrue(boundCondition.test(ALICE));
+        // elements in no index are tested as before
+        assertTrue(boundCondition.test(BENSON));
+    }
+
+    @Test
+    public void equals() {
+        PatternCondition<Contact> condition = new PatternCondition<>(EMAIL_FIELD, Contact::getEmail, "*@corp.com");
+        assertEquals(condition, new PatternCondition<>(EMAIL_FIELD, Contact::getEmail, "*@CORP.com"));
+        assertNotEquals(condition, new PatternCondition<>(NAME_FIELD, Contact::getName, "*@corp.com"));
+        assertNotEquals(condition, null);
+    }
+}
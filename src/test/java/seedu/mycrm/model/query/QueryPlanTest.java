@@ -0,0 +1,69 @@
+package seedu.mycrm.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mycrm.model.contact.UniqueContactList.EMAIL_FIELD;
+import static seedu.mycrm.model.contact.UniqueContactList.NAME_FIELD;
+import static seedu.mycrm.model.contact.UniqueContactList.WORD_FIELDS;
+import static seedu.mycrm.testutil.TypicalContacts.ALICE;
+import static seedu.mycrm.testutil.TypicalContacts.DANIEL;
+import static seedu.mycrm.testutil.TypicalContacts.ELLE;
+import static seedu.mycrm.testutil.TypicalContacts.getTypicalContacts;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.mycrm.model.WordIndex;
+import seedu.mycrm.model.contact.Contact;
+
+public class QueryPlanTest {
+
+    private final PatternCondition<Contact> exampleEmail =
+            new PatternCondition<>(EMAIL_FIELD, WORD_FIELDS.get(EMAIL_FIELD), "*@example.com");
+    private final RangeCondition<Contact, Integer> shortName =
+            new RangeCondition<>("length", contact -> contact.getName().fullName.length(), null, 10);
+    private final WordCondition<Contact> meier =
+            new WordCondition<>(Map.of(NAME_FIELD, WORD_FIELDS.get(NAME_FIELD)), List.of("meier"));
+    private final WordCondition<Contact> meierOrMeyer =
+            new WordCondition<>(Map.of(NAME_FIELD, WORD_FIELDS.get(NAME_FIELD)), List.of("meier", "meyer"));
+
+    @Test
+    public void test_allConditionsMet_returnsTrue() {
+        QueryPlan<Contact> plan = new QueryPlan<>(List.of(exampleEmail, shortName, meierOrMeyer));
+        assertTrue(plan.test(ELLE));
+        assertFalse(plan.test(DANIEL)); // name too long
+        assertFalse(plan.test(ALICE)); // not a Meier or Meyer
+    }
+
+    @Test
+    public void getOrderedConditions_fewestMatchesThenCheapestFirst() {
+        WordIndex<Contact> index = new WordIndex<>(Contact::getId, WORD_FIELDS);
+        getTypicalContacts().forEach(index::add);
+        QueryPlan<Contact> plan = new QueryPlan<>(List.of(exampleEmail, shortName, meierOrMeyer, meier));
+        assertEquals(List.of(meier, meierOrMeyer, shortName, exampleEmail), plan.getOrderedConditions(List.of(index)));
+    }
+
+    @Test
+    public void withIndexes_sameAsTest() {
+        WordIndex<Contact> index = new WordIndex<>(Contact::getId, WORD_FIELDS);
+        getTypicalContacts().forEach(index::add);
+        QueryPlan<Contact> plan = new QueryPlan<>(List.of(exampleEmail, shortName, meierOrMeyer));
+        Predicate<Contact> boundPlan = plan.withIndexes(List.of(index));
+        for (Contact contact : getTypicalContacts()) {
+            assertEquals(plan.test(contact), boundPlan.test(contact));
+        }
+    }
+
+    @Test
+    public void equals() {
+        QueryPlan<Contact> plan = new QueryPlan<>(List.of(meier, shortName));
+        assertEquals(plan, new QueryPlan<>(List.of(meier, shortName)));
+        assertNotEquals(plan, new QueryPlan<>(List.of(shortName, meier)));
+        assertNotEquals(plan, null);
+    }
+}
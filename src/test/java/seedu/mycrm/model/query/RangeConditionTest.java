@@ -0,0 +1,81 @@
+package seedu.mycrm.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mycrm.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.mycrm.model.RangeCounter;
+import seedu.mycrm.model.WordIndex;
+
+public class RangeConditionTest {
+
+    /** Strings whose values are their lengths, and null if they are empty. */
+    private static final Function<String, Integer> LENGTH = text -> text.isEmpty() ? null : text.length();
+
+    @Test
+    public void constructor_lowerAboveUpper_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RangeCondition<>("length", LENGTH, 3, 2));
+    }
+
+    @Test
+    public void test_boundsInclusive() {
+        RangeCondition<String, Integer> condition = new RangeCondition<>("length", LENGTH, 2, 3);
+        assertFalse(condition.test("a"));
+        assertTrue(condition.test("ab"));
+        assertTrue(condition.test("abc"));
+        assertFalse(condition.test("abcd"));
+        // elements without the value never match
+        assertFalse(new RangeCondition<>("length", LENGTH, null, null).test(""));
+    }
+
+    @Test
+    public void test_missingBound_openAtThatEnd() {
+        assertTrue(new RangeCondition<>("length", LENGTH, 2, null).test("abcdefgh"));
+        assertTrue(new RangeCondition<>("length", LENGTH, null, 3).test("a"));
+    }
+
+    @Test
+    public void estimateMatches_notRangeField_unknown() {
+        WordIndex<String> index = new WordIndex<>(String::length, Map.of());
+        assertEquals(QueryCondition.UNKNOWN_MATCHES, new RangeCondition<>("length", LENGTH, 2, 3).estimateMatches(
+                List.of(index)));
+    }
+
+    @Test
+    public void estimateMatches_rangeField_countedFromIndexes() {
+        List<String> liveStrings = List.of("a", "ab", "abc");
+        List<String> archivedStrings = List.of("abcd", "abcde");
+        List<WordIndex<String>> indexes = List.of(createIndex(liveStrings), createIndex(archivedStrings));
+
+        assertEquals(2, new RangeCondition<>("length", LENGTH, 2, 3).estimateMatches(indexes));
+        assertEquals(3, new RangeCondition<>("length", LENGTH, 3, null).estimateMatches(indexes));
+        assertEquals(5, new RangeCondition<>("length", LENGTH, null, null).estimateMatches(indexes));
+    }
+
+    /**
+     * Returns an index of {@code strings} that counts them by length.
+     */
+    private static WordIndex<String> createIndex(List<String> strings) {
+        RangeCounter<Integer> counter = (lower, upper) -> strings.stream()
+                .filter(new RangeCondition<>("length", LENGTH, lower, upper))
+                .count();
+        return new WordIndex<String>(String::length, Map.of()).withRangeField("length", counter);
+    }
+
+    @Test
+    public void equals() {
+        RangeCondition<String, Integer> condition = new RangeCondition<>("length", LENGTH, 2, null);
+        assertEquals(condition, new RangeCondition<>("length", String::length, 2, null));
+        assertNotEquals(condition, new RangeCondition<>("length", LENGTH, 2, 3));
+        assertNotEquals(condition, new RangeCondition<>("size", LENGTH, 2, null));
+        assertNotEquals(condition, null);
+    }
+}
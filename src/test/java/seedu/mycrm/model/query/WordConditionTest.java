@@ -0,0 +1,63 @@
+package seedu.mycrm.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mycrm.model.contact.UniqueContactList.EMAIL_FIELD;
+import static seedu.mycrm.model.contact.UniqueContactList.NAME_FIELD;
+import static seedu.mycrm.model.contact.UniqueContactList.WORD_FIELDS;
+import static seedu.mycrm.testutil.TypicalContacts.ALICE;
+import static seedu.mycrm.testutil.TypicalContacts.BENSON;
+import static seedu.mycrm.testutil.TypicalContacts.DANIEL;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.mycrm.model.WordIndex;
+import seedu.mycrm.model.contact.Contact;
+
+public class WordConditionTest {
+
+    private final WordCondition<Contact> meierCondition =
+            new WordCondition<>(Map.of(NAME_FIELD, WORD_FIELDS.get(NAME_FIELD)), List.of("MEIER", "xyz"));
+
+    @Test
+    public void test_anyWordInAnyField_returnsTrue() {
+        assertTrue(meierCondition.test(BENSON));
+        assertFalse(meierCondition.test(ALICE));
+    }
+
+    @Test
+    public void estimateMatches_indexedFields_countedFromIndex() {
+        WordIndex<Contact> index = new WordIndex<>(Contact::getId, WORD_FIELDS);
+        List.of(ALICE, BENSON, DANIEL).forEach(index::add);
+        assertEquals(2, meierCondition.estimateMatches(List.of(index)));
+
+        WordCondition<Contact> tagCondition = new WordCondition<>(Map.of("tag", Contact::getTags), List.of("tier"));
+        assertEquals(QueryCondition.UNKNOWN_MATCHES, tagCondition.estimateMatches(List.of(index)));
+    }
+
+    @Test
+    public void withIndexes_indexedElements_sameAsTest() {
+        WordIndex<Contact> index = new WordIndex<>(Contact::getId, WORD_FIELDS);
+        index.add(BENSON);
+        Predicate<Contact> boundCondition = meierCondition.withIndexes(List.of(index));
+        assertTrue(boundCondition.test(BENSON));
+        // elements in no index are tested as before
+        assertTrue(boundCondition.test(DANIEL));
+        assertFalse(boundCondition.test(ALICE));
+    }
+
+    @Test
+    public void equals() {
+        assertEquals(meierCondition,
+                new WordCondition<>(Map.of(NAME_FIELD, WORD_FIELDS.get(NAME_FIELD)), List.of("meier", "XYZ")));
+        assertNotEquals(meierCondition,
+                new WordCondition<>(Map.of(EMAIL_FIELD, WORD_FIELDS.get(EMAIL_FIELD)), List.of("meier", "xyz")));
+        assertNotEquals(meierCondition, null);
+    }
+}
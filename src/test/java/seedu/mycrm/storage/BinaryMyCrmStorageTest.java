@@ -0,0 +1,159 @@
+package seedu.mycrm.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mycrm.testutil.Assert.assertThrows;
+import static seedu.mycrm.testutil.TypicalContacts.BENSON;
+import static seedu.mycrm.testutil.TypicalContacts.HOON;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.mycrm.commons.exceptions.DataConversionException;
+import seedu.mycrm.model.MyCrm;
+import seedu.mycrm.model.EntityId;
+import seedu.mycrm.model.ReadOnlyMyCrm;
+import seedu.mycrm.model.contact.Contact;
+import seedu.mycrm.model.job.Job;
+import seedu.mycrm.model.mail.Template;
+import seedu.mycrm.model.product.Product;
+import seedu.mycrm.testutil.TypicalJobs;
+import seedu.mycrm.testutil.TypicalTemplates;
+
+public class BinaryMyCrmStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath_jsonDataFile_siblingFile() {
+        assertEquals(testFolder.resolve("myCrm" + BinaryMyCrmStorage.BINARY_FILE_EXTENSION),
+                BinaryMyCrmStorage.getBinaryFilePath(testFolder.resolve("myCrm.json")));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        BinaryMyCrmStorage storage = new BinaryMyCrmStorage(testFolder.resolve("NonExistentFile.bin"));
+        assertFalse(storage.readMyCrm().isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("myCrm.bin");
+        new JsonMyCrmStorage(filePath).saveMyCrm(TypicalJobs.getTypicalMyCrm());
+        assertThrows(DataConversionException.class, () -> new BinaryMyCrmStorage(filePath).readMyCrm());
+    }
+
+    @Test
+    public void read_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("myCrm.bin");
+        BinaryMyCrmStorage storage = new BinaryMyCrmStorage(filePath);
+        storage.saveMyCrm(getFullMyCrm());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataConversionException.class, storage::readMyCrm);
+    }
+
+    @Test
+    public void readAndSave_compressed_success() throws Exception {
+        BinaryMyCrmStorage storage = new BinaryMyCrmStorage(testFolder.resolve("myCrm.bin"));
+        MyCrm original = getFullMyCrm();
+        storage.saveMyCrm(original);
+        assertSameData(original, storage.readMyCrm().get());
+
+        // Modify data, overwrite existing file, and read back
+        original.removeContact(BENSON);
+        storage.saveMyCrm(original);
+        assertSameData(original, storage.readMyCrm().get());
+    }
+
+    @Test
+    public void readAndSave_uncompressed_success() throws Exception {
+        BinaryMyCrmStorage storage = new BinaryMyCrmStorage(testFolder.resolve("myCrm.bin"));
+        storage.setCompressed(false);
+        MyCrm original = getFullMyCrm();
+        storage.saveMyCrm(original);
+
+        // data is read back by a storage that would save it compressed
+        assertSameData(original, new BinaryMyCrmStorage(storage.getMyCrmFilePath()).readMyCrm().get());
+    }
+
+    @Test
+    public void read_versionWithoutIds_idsAssigned() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(BinaryMyCrmFormat.MAGIC);
+        bytes.write(BinaryMyCrmFormat.VERSION_WITHOUT_IDS);
+        bytes.write(0); // uncompressed
+        bytes.write(1); // one string
+        BinaryMyCrmFormat.writeString(bytes, "Alice");
+        bytes.write(new byte[] {1, 1, 0, 0, 0, 0, 0}); // one contact named "Alice", with no other fields
+        bytes.write(new byte[] {0, 0, 0}); // no templates, products or jobs
+        Path filePath = testFolder.resolve("myCrm.bin");
+        Files.write(filePath, bytes.toByteArray());
+
+        List<Contact> contacts = new BinaryMyCrmStorage(filePath).readMyCrm().get().getContactList();
+        assertEquals(1, contacts.size());
+        assertEquals("Alice", contacts.get(0).getName().fullName);
+        assertTrue(EntityId.isValidId(contacts.get(0).getId()));
+    }
+
+    @Test
+    public void save_compressed_smallerThanJson() throws Exception {
+        MyCrm myCrm = getFullMyCrm();
+        Path jsonFilePath = testFolder.resolve("myCrm.json");
+        Path binaryFilePath = testFolder.resolve("myCrm.bin");
+        new JsonMyCrmStorage(jsonFilePath).saveMyCrm(myCrm);
+        new BinaryMyCrmStorage(binaryFilePath).saveMyCrm(myCrm);
+
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    /**
+     * Returns a MyCrm with hidden and tagged contacts, templates, products and both completed
+     * and incomplete jobs.
+     */
+    static MyCrm getFullMyCrm() {
+        MyCrm myCrm = TypicalJobs.getTypicalMyCrm();
+        myCrm.addContact(BENSON);
+        myCrm.addContact(HOON);
+        myCrm.hideContact(HOON);
+        for (Template template : TypicalTemplates.getTypicalTemplates()) {
+            myCrm.addTemplate(template);
+        }
+        return myCrm;
+    }
+
+    static void assertSameData(ReadOnlyMyCrm expected, ReadOnlyMyCrm actual) {
+        assertEquals(expected.getContactList(), actual.getContactList());
+        for (int i = 0; i < expected.getContactList().size(); i++) {
+            assertEquals(expected.getContactList().get(i).checkIsHidden(),
+                    actual.getContactList().get(i).checkIsHidden());
+        }
+        assertEquals(expected.getTemplateList(), actual.getTemplateList());
+        assertEquals(expected.getProductList(), actual.getProductList());
+        assertEquals(expected.getJobList(), actual.getJobList());
+
+        // entities keep their ids, which are not compared by equals
+        assertEquals(getIds(expected.getContactList(), Contact::getId),
+                getIds(actual.getContactList(), Contact::getId));
+        assertEquals(getIds(expected.getTemplateList(), Template::getId),
+                getIds(actual.getTemplateList(), Template::getId));
+        assertEquals(getIds(expected.getProductList(), Product::getId),
+                getIds(actual.getProductList(), Product::getId));
+        assertEquals(getIds(expected.getJobList(), Job::getId), getIds(actual.getJobList(), Job::getId));
+    }
+
+    private static <T> List<Long> getIds(List<T> items, ToLongFunction<T> idOf) {
+        return items.stream().map(idOf::applyAsLong).collect(Collectors.toList());
+    }
+}
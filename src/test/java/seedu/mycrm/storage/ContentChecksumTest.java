@@ -0,0 +1,67 @@
+package seedu.mycrm.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.mycrm.commons.util.FileUtil;
+
+public class ContentChecksumTest {
+
+    private static final byte[] CONTENT = "some content".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getChecksumFilePath_dataFile_siblingFile() {
+        assertEquals(testFolder.resolve("myCrm.json" + ContentChecksum.CHECKSUM_FILE_SUFFIX),
+                ContentChecksum.getChecksumFilePath(testFolder.resolve("myCrm.json")));
+    }
+
+    @Test
+    public void writeAtomically_returnsChecksumOfContent() throws Exception {
+        Path file = testFolder.resolve("data");
+        long checksum = ContentChecksum.writeAtomically(file, out -> out.write(CONTENT));
+
+        assertEquals(ContentChecksum.checksumOf(file), checksum);
+        assertFalse(Files.exists(ContentChecksum.getChecksumFilePath(file)));
+    }
+
+    @Test
+    public void isUnchanged_writtenWithChecksum_true() throws Exception {
+        Path file = testFolder.resolve("data");
+        ContentChecksum.writeWithChecksum(file, out -> out.write(CONTENT));
+        assertTrue(ContentChecksum.isUnchanged(file));
+    }
+
+    @Test
+    public void isUnchanged_changedSinceWritten_false() throws Exception {
+        Path file = testFolder.resolve("data");
+        ContentChecksum.writeWithChecksum(file, out -> out.write(CONTENT));
+        FileUtil.writeToFile(file, "other content");
+        assertFalse(ContentChecksum.isUnchanged(file));
+    }
+
+    @Test
+    public void isUnchanged_noChecksumKept_false() throws Exception {
+        Path file = testFolder.resolve("data");
+        Files.write(file, CONTENT);
+        assertFalse(ContentChecksum.isUnchanged(file));
+    }
+
+    @Test
+    public void isUnchanged_unreadableChecksum_false() throws Exception {
+        Path file = testFolder.resolve("data");
+        ContentChecksum.writeWithChecksum(file, out -> out.write(CONTENT));
+        FileUtil.writeToFile(ContentChecksum.getChecksumFilePath(file), "not a checksum");
+        assertFalse(ContentChecksum.isUnchanged(file));
+    }
+}
@@ -0,0 +1,162 @@
+package seedu.mycrm.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mycrm.testutil.TypicalContacts.HOON;
+import static seedu.mycrm.testutil.TypicalContacts.IDA;
+import static seedu.mycrm.testutil.TypicalProducts.INTEL_CPU;
+import static seedu.mycrm.testutil.TypicalProducts.SAMSUNG_SSD;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.mycrm.model.MyCrm;
+import seedu.mycrm.model.ReadOnlyMyCrm;
+import seedu.mycrm.model.job.Job;
+import seedu.mycrm.testutil.JobBuilder;
+import seedu.mycrm.testutil.TypicalJobs;
+
+public class JournaledMyCrmStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        JournaledMyCrmStorage storage = new JournaledMyCrmStorage(testFolder.resolve("NonExistentFile.json"));
+        assertFalse(storage.readMyCrm().isPresent());
+    }
+
+    @Test
+    public void save_changes_appendedToJournalOnly() throws Exception {
+        Path filePath = testFolder.resolve("myCrm.json");
+        JournaledMyCrmStorage storage = new JournaledMyCrmStorage(filePath);
+        MyCrm original = TypicalJobs.getTypicalMyCrm();
+        storage.saveMyCrm(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        original.addContact(HOON);
+        original.removeProduct(INTEL_CPU);
+        Job job = original.getJobList().get(1);
+        Job completedJob = new Job(job);
+        completedJob.markCompleted(job.getReceivedDate());
+        original.setJob(job, completedJob);
+        storage.saveMyCrm(original);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(4, readJournal(storage).size());
+        assertTrue(ContentChecksum.isUnchanged(storage.getJournalFilePath()));
+        assertSameData(original, new JournaledMyCrmStorage(filePath).readMyCrm().get());
+    }
+
+    @Test
+    public void save_noChanges_journalUntouched() throws Exception {
+        Path filePath = testFolder.resolve("myCrm.json");
+        JournaledMyCrmStorage storage = new JournaledMyCrmStorage(filePath);
+        MyCrm original = TypicalJobs.getTypicalMyCrm();
+        storage.saveMyCrm(original);
+        original.addContact(IDA);
+        storage.saveMyCrm(original);
+        List<String> journal = readJournal(storage);
+
+        storage.saveMyCrm(original);
+        storage.saveMyCrm(new MyCrm(original));
+
+        assertEquals(journal, readJournal(storage));
+    }
+
+    @Test
+    public void save_continuesJournalAfterRead() throws Exception {
+        Path filePath = testFolder.resolve("myCrm.json");
+        MyCrm original = TypicalJobs.getTypicalMyCrm();
+        JournaledMyCrmStorage storage = new JournaledMyCrmStorage(filePath);
+        storage.saveMyCrm(original);
+        original.addContact(IDA);
+        storage.saveMyCrm(original);
+
+        JournaledMyCrmStorage reopened = new JournaledMyCrmStorage(filePath);
+        MyCrm readBack = new MyCrm(reopened.readMyCrm().get());
+        reopened.saveMyCrm(readBack);
+        assertEquals(2, readJournal(reopened).size());
+
+        readBack.addProduct(SAMSUNG_SSD);
+        reopened.saveMyCrm(readBack);
+        assertEquals(3, readJournal(reopened).size());
+        assertSameData(readBack, new JournaledMyCrmStorage(filePath).readMyCrm().get());
+    }
+
+    @Test
+    public void save_thresholdReached_journalCompacted() throws Exception {
+        Path filePath = testFolder.resolve("myCrm.json");
+        JournaledMyCrmStorage storage = new JournaledMyCrmStorage(filePath, 2);
+        MyCrm original = TypicalJobs.getTypicalMyCrm();
+        storage.saveMyCrm(original);
+
+        original.addContact(HOON);
+        storage.saveMyCrm(original);
+        assertEquals(2, readJournal(storage).size());
+
+        original.addContact(IDA);
+        storage.saveMyCrm(original);
+        assertEquals(1, readJournal(storage).size());
+        assertSameData(original, new JsonMyCrmStorage(filePath).readMyCrm().get());
+        assertSameData(original, new JournaledMyCrmStorage(filePath).readMyCrm().get());
+    }
+
+    @Test
+    public void read_journalOfOlderSnapshot_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("myCrm.json");
+        JournaledMyCrmStorage storage = new JournaledMyCrmStorage(filePath);
+        MyCrm original = TypicalJobs.getTypicalMyCrm();
+        storage.saveMyCrm(original);
+        original.addContact(HOON);
+        storage.saveMyCrm(original);
+
+        // a snapshot written after the journal was started, e.g. by a compaction interrupted before the journal reset
+        original.addJob(new JobBuilder().withJobDescription("Replace screen").build());
+        new JsonMyCrmStorage(filePath).saveMyCrm(original);
+
+        assertSameData(original, new JournaledMyCrmStorage(filePath).readMyCrm().get());
+    }
+
+    @Test
+    public void read_partiallyWrittenLastEntry_entryIgnored() throws Exception {
+        Path filePath = testFolder.resolve("myCrm.json");
+        JournaledMyCrmStorage storage = new JournaledMyCrmStorage(filePath);
+        MyCrm original = TypicalJobs.getTypicalMyCrm();
+        storage.saveMyCrm(original);
+        original.addContact(HOON);
+        storage.saveMyCrm(original);
+        Files.write(storage.getJournalFilePath(), "{\"list\":\"contacts\",\"ind".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournaledMyCrmStorage reopened = new JournaledMyCrmStorage(filePath);
+        MyCrm readBack = new MyCrm(reopened.readMyCrm().get());
+        assertSameData(original, readBack);
+
+        // the damaged journal is compacted away instead of being appended to
+        readBack.addContact(IDA);
+        reopened.saveMyCrm(readBack);
+        assertEquals(1, readJournal(reopened).size());
+        assertSameData(readBack, new JournaledMyCrmStorage(filePath).readMyCrm().get());
+    }
+
+    private static List<String> readJournal(JournaledMyCrmStorage storage) throws Exception {
+        return Files.readAllLines(storage.getJournalFilePath(), StandardCharsets.UTF_8);
+    }
+
+    private static void assertSameData(ReadOnlyMyCrm expected, ReadOnlyMyCrm actual) {
+        assertEquals(expected.getContactList(), actual.getContactList());
+        assertEquals(expected.getTemplateList(), actual.getTemplateList());
+        assertEquals(expected.getProductList(), actual.getProductList());
+        assertEquals(expected.getJobList(), actual.getJobList());
+    }
+}
@@ -5,9 +5,11 @@ import static seedu.mycrm.storage.JsonAdaptedJob.MESSAGE_INVALID_COMPLETION_DATE
 import static seedu.mycrm.storage.JsonAdaptedJob.MESSAGE_INVALID_STATUS;
 import static seedu.mycrm.storage.JsonAdaptedJob.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.mycrm.testutil.Assert.assertThrows;
+import static seedu.mycrm.testutil.TypicalContacts.ALICE;
 import static seedu.mycrm.testutil.TypicalContacts.GEORGE;
 import static seedu.mycrm.testutil.TypicalJobs.COMPLETED;
 import static seedu.mycrm.testutil.TypicalJobs.INCOMPLETED;
+import static seedu.mycrm.testutil.TypicalProducts.ASUS_GPU;
 import static seedu.mycrm.testutil.TypicalProducts.SAMSUNG_SSD;
 
 import org.junit.jupiter.api.Test;
@@ -32,8 +34,8 @@ public class JsonAdaptedJobTest {
     private static final String INVALID_CLIENT = GEORGE.getName().toString();
 
     private static final String VALID_JOB_DESCRIPTION = COMPLETED.getJobDescription().toString();
-    private static final String VALID_CLIENT = COMPLETED.getClient().getName().toString();
-    private static final String VALID_PRODUCT = COMPLETED.getProduct().getName().toString();
+    private static final String VALID_CLIENT = ALICE.getName().toString();
+    private static final String VALID_PRODUCT = ASUS_GPU.getName().toString();
     private static final String VALID_EXPECTED_COMPLETION_DATE = COMPLETED.getExpectedCompletionDate().raw();
     private static final String VALID_COMPLETION_DATE = COMPLETED.getCompletionDate().raw();
     private static final String VALID_RECEIVED_DATE = COMPLETED.getReceivedDate().raw();
@@ -43,12 +45,11 @@ public class JsonAdaptedJobTest {
     private static final String VALID_INCOMPLETE_JOB_STATUS = INCOMPLETED.getJobStatus().toString();
     private static final String VALID_INCOMPLETE_DATE = null;
 
-    private final MyCrm myCrm = new MyCrmBuilder().withProduct(COMPLETED.getProduct())
-            .withContact(COMPLETED.getClient()).build();
+    private final MyCrm myCrm = new MyCrmBuilder().withProduct(ASUS_GPU).withContact(ALICE).build();
 
     @Test
     public void toModelType_validJob_returnsJob() throws IllegalValueException {
-        JsonAdaptedJob jsonJob = new JsonAdaptedJob(COMPLETED);
+        JsonAdaptedJob jsonJob = new JsonAdaptedJob(COMPLETED, myCrm);
         Job job = jsonJob.toModelType(myCrm);
         assertEquals(COMPLETED, job);
     }
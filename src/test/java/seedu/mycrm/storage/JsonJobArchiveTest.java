@@ -0,0 +1,179 @@
+package seedu.mycrm.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mycrm.testutil.Assert.assertThrows;
+import static seedu.mycrm.testutil.TypicalJobs.COMPLETED;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.mycrm.model.EntityId;
+import seedu.mycrm.model.Model;
+import seedu.mycrm.model.ModelManager;
+import seedu.mycrm.model.MyCrm;
+import seedu.mycrm.model.UserPrefs;
+import seedu.mycrm.model.contact.Contact;
+import seedu.mycrm.model.job.ArchivedJob;
+import seedu.mycrm.model.job.Job;
+import seedu.mycrm.model.job.JobDateRange;
+import seedu.mycrm.testutil.ContactBuilder;
+import seedu.mycrm.testutil.JobBuilder;
+import seedu.mycrm.testutil.TypicalJobs;
+
+public class JsonJobArchiveTest {
+
+    private static final YearMonth DECEMBER_2021 = YearMonth.of(2021, 12);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getArchiveDirectory_jsonDataFile_siblingDirectory() {
+        assertEquals(testFolder.resolve("myCrm" + JsonJobArchive.ARCHIVE_DIRECTORY_SUFFIX),
+                JsonJobArchive.getArchiveDirectory(testFolder.resolve("myCrm.json")));
+    }
+
+    @Test
+    public void getArchivedMonths_emptyArchive_noMonths() {
+        JsonJobArchive archive = new JsonJobArchive(testFolder.resolve("archive"));
+        assertTrue(archive.getArchivedMonths().isEmpty());
+        assertEquals(0, archive.getRevenueCents(DECEMBER_2021));
+    }
+
+    @Test
+    public void addJobs_thenReadJobs_jobsLinkedToMyCrm() throws Exception {
+        JsonJobArchive archive = new JsonJobArchive(testFolder.resolve("archive"));
+        MyCrm myCrm = TypicalJobs.getTypicalMyCrm();
+        archive.addJobs(DECEMBER_2021, Collections.singletonList(COMPLETED), myCrm);
+
+        List<ArchivedJob> jobs = archive.readJobs(DECEMBER_2021, myCrm);
+        assertEquals(Collections.singletonList(COMPLETED), getJobs(jobs));
+        assertSame(myCrm.getContactList().get(0), jobs.get(0).getClient());
+        assertEquals(3000, archive.getRevenueCents(DECEMBER_2021));
+
+        // month files are compressed
+        byte[] monthFile = Files.readAllBytes(archive.getMonthFilePath(DECEMBER_2021));
+        assertEquals((byte) 0x1f, monthFile[0]);
+        assertEquals((byte) 0x8b, monthFile[1]);
+    }
+
+    @Test
+    public void readJobs_clientNoLongerInMyCrm_linkedToArchivedClient() throws Exception {
+        JsonJobArchive archive = new JsonJobArchive(testFolder.resolve("archive"));
+        MyCrm myCrm = TypicalJobs.getTypicalMyCrm();
+        archive.addJobs(DECEMBER_2021, Collections.singletonList(COMPLETED), myCrm);
+
+        List<ArchivedJob> jobs = archive.readJobs(DECEMBER_2021, new MyCrm());
+        assertEquals(Collections.singletonList(COMPLETED), getJobs(jobs));
+        assertEquals(myCrm.getContactList().get(0), jobs.get(0).getClient());
+        assertNotSame(myCrm.getContactList().get(0), jobs.get(0).getClient());
+    }
+
+    @Test
+    public void addJobs_sameJobArchivedAgain_replaced() throws Exception {
+        JsonJobArchive archive = new JsonJobArchive(testFolder.resolve("archive"));
+        Job updatedJob = new JobBuilder(COMPLETED).withFee("$45.50").build();
+        archive.addJobs(DECEMBER_2021, Collections.singletonList(COMPLETED), TypicalJobs.getTypicalMyCrm());
+        archive.addJobs(DECEMBER_2021, Collections.singletonList(updatedJob), TypicalJobs.getTypicalMyCrm());
+
+        assertEquals(Collections.singletonList(updatedJob), getJobs(archive.readJobs(DECEMBER_2021, new MyCrm())));
+        assertEquals(4550, archive.getRevenueCents(DECEMBER_2021));
+    }
+
+    @Test
+    public void getArchivedMonths_newInstance_readsIndex() throws Exception {
+        Path directory = testFolder.resolve("archive");
+        new JsonJobArchive(directory).addJobs(DECEMBER_2021, Collections.singletonList(COMPLETED),
+                TypicalJobs.getTypicalMyCrm());
+
+        JsonJobArchive archive = new JsonJobArchive(directory);
+        assertEquals(Collections.singletonList(DECEMBER_2021), archive.getArchivedMonths());
+        assertEquals(3000, archive.getRevenueCents(DECEMBER_2021));
+    }
+
+    @Test
+    public void getArchivedMonths_indexMissing_rebuiltFromMonthFiles() throws Exception {
+        Path directory = testFolder.resolve("archive");
+        new JsonJobArchive(directory).addJobs(DECEMBER_2021, Collections.singletonList(COMPLETED),
+                TypicalJobs.getTypicalMyCrm());
+        Files.delete(directory.resolve(JsonJobArchive.INDEX_FILE_NAME));
+
+        JsonJobArchive archive = new JsonJobArchive(directory);
+        assertEquals(Collections.singletonList(DECEMBER_2021), archive.getArchivedMonths());
+        assertEquals(3000, archive.getRevenueCents(DECEMBER_2021));
+    }
+
+    @Test
+    public void getRevenueCents_indexWithoutCents_rebuiltFromMonthFiles() throws Exception {
+        Path directory = testFolder.resolve("archive");
+        new JsonJobArchive(directory).addJobs(DECEMBER_2021, Collections.singletonList(COMPLETED),
+                TypicalJobs.getTypicalMyCrm());
+        // an index written when the revenue was kept in dollars
+        Files.writeString(directory.resolve(JsonJobArchive.INDEX_FILE_NAME),
+                "{ \"months\" : { \"2021-12\" : { \"jobCount\" : 1, \"revenue\" : 30.0 } }, \"largestId\" : 1 }");
+
+        assertEquals(3000, new JsonJobArchive(directory).getRevenueCents(DECEMBER_2021));
+    }
+
+    @Test
+    public void getProductCounts_archivedJobs_countedByReceivedMonth() throws Exception {
+        Path directory = testFolder.resolve("archive");
+        Job secondJob = new JobBuilder(COMPLETED).withJobDescription("Second repair").build();
+        new JsonJobArchive(directory).addJobs(DECEMBER_2021, List.of(COMPLETED, secondJob),
+                TypicalJobs.getTypicalMyCrm());
+        JobDateRange december = JobDateRange.ofMonth(DECEMBER_2021.atDay(1));
+
+        JsonJobArchive archive = new JsonJobArchive(directory);
+        assertEquals(Map.of(COMPLETED.getProductId(), 2), archive.getProductCounts(december));
+        assertEquals(Map.of(), archive.getProductCounts(JobDateRange.ofMonth(LocalDate.of(2021, 11, 1))));
+
+        // counted again when the index is rebuilt
+        Files.delete(directory.resolve(JsonJobArchive.INDEX_FILE_NAME));
+        assertEquals(Map.of(COMPLETED.getProductId(), 2), new JsonJobArchive(directory).getProductCounts(december));
+
+        assertThrows(IllegalArgumentException.class, () -> archive.getProductCounts(
+                new JobDateRange(LocalDate.of(2021, 12, 1), LocalDate.of(2021, 12, 15))));
+    }
+
+    @Test
+    public void getLargestId_afterRestart_archivedIdsNotReused() throws Exception {
+        Path directory = testFolder.resolve("archive");
+        MyCrm myCrm = TypicalJobs.getTypicalMyCrm();
+        // An id larger than those given so far, as if given in an earlier session that created more entities.
+        long archivedClientId = EntityId.next() + 1000;
+        Contact archivedClient = new ContactBuilder().withId(archivedClientId).withName("Archived Client").build();
+        myCrm.addContact(archivedClient);
+        Job archivedJob = new JobBuilder(COMPLETED).withClient(archivedClient).build();
+        new JsonJobArchive(directory).addJobs(DECEMBER_2021, Collections.singletonList(archivedJob), myCrm);
+        myCrm.removeContact(archivedClient);
+
+        Model model = new ModelManager(myCrm, new UserPrefs(), new JsonJobArchive(directory));
+        Contact newContact = new ContactBuilder().withName("New Client").build();
+        model.addContact(newContact);
+        assertTrue(newContact.getId() > archivedClientId);
+
+        model.loadArchivedJobs(JobDateRange.ALL_DATES);
+        model.updateFilteredJobList(Model.PREDICATE_SHOW_ALL_JOBS);
+        Job loadedJob = model.getFilteredJobList().stream().filter(model::isArchivedJob).findFirst().orElseThrow();
+        assertEquals(archivedClient, loadedJob.getClient(model.getEntityLookup()).orElseThrow());
+
+        // the index records the largest id
+        assertEquals(archivedClientId, new JsonJobArchive(directory).getLargestId());
+    }
+
+    private static List<Job> getJobs(List<ArchivedJob> archivedJobs) {
+        return archivedJobs.stream().map(ArchivedJob::getJob).collect(Collectors.toList());
+    }
+}
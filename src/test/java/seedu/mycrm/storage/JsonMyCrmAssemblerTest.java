@@ -0,0 +1,143 @@
+package seedu.mycrm.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mycrm.testutil.Assert.assertThrows;
+import static seedu.mycrm.testutil.TypicalContacts.ALICE;
+import static seedu.mycrm.testutil.TypicalProducts.INTEL_CPU;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.mycrm.commons.exceptions.IllegalValueException;
+import seedu.mycrm.model.MyCrm;
+import seedu.mycrm.model.contact.Contact;
+import seedu.mycrm.model.contact.Name;
+import seedu.mycrm.model.job.Job;
+import seedu.mycrm.testutil.ContactBuilder;
+import seedu.mycrm.testutil.JobBuilder;
+import seedu.mycrm.testutil.MyCrmBuilder;
+
+public class JsonMyCrmAssemblerTest {
+
+    private static final int CONTACT_COUNT = 2 * JsonMyCrmAssembler.BATCH_SIZE + 1;
+    private static final MyCrm ALICE_AND_INTEL_CPU = new MyCrmBuilder().withContact(ALICE).withProduct(INTEL_CPU)
+            .build();
+
+    @Test
+    public void getMyCrm_manyRecords_fileOrderKept() throws Exception {
+        JsonMyCrmAssembler assembler = new JsonMyCrmAssembler();
+        List<Contact> contacts = getContacts(CONTACT_COUNT);
+        for (Contact contact : contacts) {
+            assembler.handleContact(new JsonAdaptedContact(contact));
+        }
+        assembler.handleProduct(new JsonAdaptedProduct(INTEL_CPU));
+        MyCrm source = new MyCrm();
+        contacts.forEach(source::addContact);
+        source.addProduct(INTEL_CPU);
+        List<Job> jobs = new ArrayList<>();
+        for (Contact contact : contacts) {
+            Job job = new JobBuilder().withClient(contact).withProduct(INTEL_CPU).build();
+            jobs.add(job);
+            assembler.handleJob(new JsonAdaptedJob(job, source));
+        }
+
+        MyCrm myCrm = assembler.getMyCrm();
+        assertEquals(contacts, myCrm.getContactList());
+        assertEquals(jobs, myCrm.getJobList());
+        // jobs are linked to the contacts and products of the loaded data
+        Job lastJob = myCrm.getJobList().get(CONTACT_COUNT - 1);
+        assertSame(myCrm.getContactList().get(CONTACT_COUNT - 1), lastJob.getClient(myCrm).orElseThrow());
+        assertSame(myCrm.getProductList().get(0), myCrm.getJobList().get(0).getProduct(myCrm).orElseThrow());
+    }
+
+    @Test
+    public void getMyCrm_lenientWithInvalidRecords_invalidRecordsReportedInFileOrder() throws Exception {
+        List<String> skipped = new ArrayList<>();
+        JsonMyCrmAssembler assembler = new JsonMyCrmAssembler(skipped::add);
+        List<Contact> contacts = getContacts(CONTACT_COUNT);
+        int duplicatePosition = JsonMyCrmAssembler.BATCH_SIZE + 2;
+        for (int i = 0; i < contacts.size(); i++) {
+            assembler.handleContact(new JsonAdaptedContact(contacts.get(i)));
+            if (i + 2 == duplicatePosition) {
+                assembler.handleContact(new JsonAdaptedContact(contacts.get(0)));
+            }
+        }
+        assembler.handleUnreadableRecord(JsonMyCrmStreamReader.RECORD_CONTACT, "Unreadable");
+
+        assertEquals(contacts, assembler.getMyCrm().getContactList());
+        assertTrue(assembler.hasSkippedRecords());
+        assertEquals(List.of(
+                String.format(JsonMyCrmAssembler.MESSAGE_SKIPPED_RECORD, JsonMyCrmStreamReader.RECORD_CONTACT,
+                        duplicatePosition, JsonSerializableMyCrm.MESSAGE_DUPLICATE_CONTACT),
+                String.format(JsonMyCrmAssembler.MESSAGE_SKIPPED_RECORD, JsonMyCrmStreamReader.RECORD_CONTACT,
+                        CONTACT_COUNT + 2, "Unreadable")), skipped);
+    }
+
+    @Test
+    public void getMyCrm_strictWithDuplicateRecord_throwsIllegalValueException() throws Exception {
+        JsonMyCrmAssembler assembler = new JsonMyCrmAssembler();
+        assembler.handleContact(new JsonAdaptedContact(ALICE));
+        assembler.handleContact(new JsonAdaptedContact(ALICE));
+        assertThrows(IllegalValueException.class, JsonSerializableMyCrm.MESSAGE_DUPLICATE_CONTACT,
+                assembler::getMyCrm);
+    }
+
+    @Test
+    public void getMyCrm_strictWithDuplicateId_throwsIllegalValueException() throws Exception {
+        JsonMyCrmAssembler assembler = new JsonMyCrmAssembler();
+        assembler.handleContact(new JsonAdaptedContact(7L, "Alice", null, null, null, null, false));
+        assembler.handleContact(new JsonAdaptedContact(7L, "Bob", null, null, null, null, false));
+        assertThrows(IllegalValueException.class, String.format(JsonSerializableMyCrm.MESSAGE_DUPLICATE_ID, 7),
+                assembler::getMyCrm);
+    }
+
+    @Test
+    public void getMyCrm_jobOfRenamedClient_linkedById() throws Exception {
+        Contact renamedAlice = new Contact(ALICE.getId(), new Name("Alicia"), ALICE.getPhone(), ALICE.getEmail(),
+                ALICE.getAddress(), ALICE.getTags(), false);
+        JsonMyCrmAssembler assembler = new JsonMyCrmAssembler();
+        assembler.handleContact(new JsonAdaptedContact(renamedAlice));
+        assembler.handleProduct(new JsonAdaptedProduct(INTEL_CPU));
+        // the job still holds the name of its client before it was renamed
+        assembler.handleJob(new JsonAdaptedJob(new JobBuilder().withClient(ALICE).withProduct(INTEL_CPU).build(),
+                ALICE_AND_INTEL_CPU));
+
+        MyCrm myCrm = assembler.getMyCrm();
+        Job job = myCrm.getJobList().get(0);
+        assertSame(myCrm.getContactList().get(0), job.getClient(myCrm).orElseThrow());
+        assertEquals(ALICE.getId(), job.getClientId());
+        assertEquals(INTEL_CPU.getId(), job.getProductId());
+    }
+
+    @Test
+    public void getMyCrm_jobWithUnknownClient_jobSkipped() throws Exception {
+        JsonMyCrmAssembler assembler = new JsonMyCrmAssembler(message -> { });
+        assembler.handleProduct(new JsonAdaptedProduct(INTEL_CPU));
+        assembler.handleJob(new JsonAdaptedJob(new JobBuilder().withClient(ALICE).withProduct(INTEL_CPU).build(),
+                ALICE_AND_INTEL_CPU));
+
+        assertTrue(assembler.getMyCrm().getJobList().isEmpty());
+        assertTrue(assembler.hasSkippedRecords());
+    }
+
+    @Test
+    public void hasSkippedRecords_validRecords_false() throws Exception {
+        JsonMyCrmAssembler assembler = new JsonMyCrmAssembler(message -> { });
+        assembler.handleContact(new JsonAdaptedContact(ALICE));
+        assembler.getMyCrm();
+        assertFalse(assembler.hasSkippedRecords());
+    }
+
+    private static List<Contact> getContacts(int count) {
+        List<Contact> contacts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            contacts.add(new ContactBuilder().withName("Contact " + i).build());
+        }
+        return contacts;
+    }
+}
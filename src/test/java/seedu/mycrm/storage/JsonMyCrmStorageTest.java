@@ -2,6 +2,7 @@ package seedu.mycrm.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.mycrm.testutil.Assert.assertThrows;
 import static seedu.mycrm.testutil.TypicalContacts.ALICE;
 import static seedu.mycrm.testutil.TypicalContacts.HOON;
@@ -9,13 +10,18 @@ import static seedu.mycrm.testutil.TypicalContacts.IDA;
 import static seedu.mycrm.testutil.TypicalContacts.getTypicalMyCrm;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.mycrm.commons.exceptions.DataConversionException;
+import seedu.mycrm.commons.util.FileUtil;
+import seedu.mycrm.commons.util.JsonUtil;
 import seedu.mycrm.model.MyCrm;
 import seedu.mycrm.model.ReadOnlyMyCrm;
 
@@ -90,6 +96,50 @@ public class JsonMyCrmStorageTest {
         assertThrows(DataConversionException.class, () -> readMyCrm("invalidAndValidJobMyCrm.json"));
     }
 
+    @Test
+    public void readMyCrm_invalidAndValidContactMyCrmSkippingInvalid_validContactRead() throws Exception {
+        List<String> skipped = new ArrayList<>();
+        ReadOnlyMyCrm myCrm = readMyCrmSkippingInvalid("invalidAndValidContactMyCrm.json", skipped).get();
+        assertEquals(1, myCrm.getContactList().size());
+        assertEquals(1, skipped.size());
+        assertTrue(skipped.get(0).startsWith(String.format(JsonMyCrmAssembler.MESSAGE_SKIPPED_RECORD,
+                JsonMyCrmStreamReader.RECORD_CONTACT, 2, "")));
+    }
+
+    @Test
+    public void readMyCrm_invalidAndValidJobMyCrmSkippingInvalid_validJobRead() throws Exception {
+        List<String> skipped = new ArrayList<>();
+        ReadOnlyMyCrm myCrm = readMyCrmSkippingInvalid("invalidAndValidJobMyCrm.json", skipped).get();
+        assertEquals(1, myCrm.getJobList().size());
+        assertEquals(1, skipped.size());
+    }
+
+    @Test
+    public void readMyCrm_unreadableContactSkippingInvalid_validContactRead() throws Exception {
+        List<String> skipped = new ArrayList<>();
+        ReadOnlyMyCrm myCrm = readMyCrmSkippingInvalid("unreadableContactMyCrm.json", skipped).get();
+        assertEquals(1, myCrm.getContactList().size());
+        assertEquals(1, skipped.size());
+    }
+
+    @Test
+    public void readMyCrm_unreadableContact_throwDataConversionException() {
+        assertThrows(DataConversionException.class, () -> readMyCrm("unreadableContactMyCrm.json"));
+    }
+
+    @Test
+    public void readMyCrm_jobsBeforeContacts_success() throws Exception {
+        ReadOnlyMyCrm myCrm = readMyCrm("jobsBeforeContactsMyCrm.json").get();
+        assertEquals(1, myCrm.getJobList().size());
+        assertEquals(myCrm.getContactList().get(0), myCrm.getJobList().get(0).getClient(myCrm).orElseThrow());
+    }
+
+    private java.util.Optional<ReadOnlyMyCrm> readMyCrmSkippingInvalid(String filePath, List<String> skipped)
+            throws Exception {
+        return new JsonMyCrmStorage(Paths.get(filePath), skipped::add)
+                .readMyCrm(addToTestDataPathIfNotNull(filePath));
+    }
+
     @Test
     public void readAndSaveMyCrm_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempMyCrm.json");
@@ -116,6 +166,53 @@ public class JsonMyCrmStorageTest {
 
     }
 
+    @Test
+    public void saveMyCrm_prettyPrintedOrNot_sameDataRead() throws Exception {
+        Path filePath = testFolder.resolve("TempMyCrm.json");
+        MyCrm original = getTypicalMyCrm();
+        JsonMyCrmStorage jsonMyCrmStorage = new JsonMyCrmStorage(filePath);
+
+        jsonMyCrmStorage.saveMyCrm(original);
+        String compact = FileUtil.readFromFile(filePath);
+        assertFalse(compact.contains("\n"));
+        assertEquals(original, new MyCrm(jsonMyCrmStorage.readMyCrm().get()));
+
+        jsonMyCrmStorage.setPrettyPrinted(true);
+        jsonMyCrmStorage.saveMyCrm(original);
+        assertTrue(FileUtil.readFromFile(filePath).contains("\n"));
+        assertEquals(original, new MyCrm(jsonMyCrmStorage.readMyCrm().get()));
+
+        // the file can still be read as a whole
+        JsonSerializableMyCrm jsonMyCrm = JsonUtil.readJsonFile(filePath, JsonSerializableMyCrm.class).get();
+        assertEquals(original, jsonMyCrm.toModelType());
+    }
+
+    @Test
+    public void saveMyCrm_checksumKept_unchangedFileTrusted() throws Exception {
+        Path filePath = testFolder.resolve("TempMyCrm.json");
+        MyCrm original = getTypicalMyCrm();
+        new JsonMyCrmStorage(filePath).saveMyCrm(original);
+
+        assertTrue(ContentChecksum.isUnchanged(filePath));
+        assertEquals(original, new MyCrm(new JsonMyCrmStorage(filePath).readMyCrm().get()));
+    }
+
+    @Test
+    public void readMyCrm_invalidFileWithKeptChecksum_notValidatedAgain() throws Exception {
+        Path filePath = testFolder.resolve("TempMyCrm.json");
+        Files.copy(TEST_DATA_FOLDER.resolve("invalidContactMyCrm.json"), filePath);
+        JsonMyCrmStorage storage = new JsonMyCrmStorage(filePath);
+        assertThrows(DataConversionException.class, storage::readMyCrm);
+
+        // a file is only trusted if its checksum was kept when it was saved, which never happens to invalid data
+        ContentChecksum.keepChecksum(filePath, ContentChecksum.checksumOf(filePath));
+        assertEquals(1, storage.readMyCrm().get().getContactList().size());
+
+        // once changed, the file is validated again
+        Files.write(filePath, FileUtil.readFromFile(filePath).replace("4th street", "5th street").getBytes());
+        assertThrows(DataConversionException.class, storage::readMyCrm);
+    }
+
     @Test
     public void saveMyCrm_nullMyCrm_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveMyCrm(null, "SomeFile.json"));
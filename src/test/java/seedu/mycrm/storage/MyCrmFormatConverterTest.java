@@ -0,0 +1,61 @@
+package seedu.mycrm.storage;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mycrm.storage.BinaryMyCrmStorageTest.assertSameData;
+import static seedu.mycrm.storage.BinaryMyCrmStorageTest.getFullMyCrm;
+import static seedu.mycrm.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.mycrm.commons.exceptions.DataConversionException;
+import seedu.mycrm.model.MyCrm;
+
+public class MyCrmFormatConverterTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonMyCrmStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_nullStorage_throwsNullPointerException() {
+        MyCrmStorage storage = new BinaryMyCrmStorage(testFolder.resolve("myCrm.bin"));
+        assertThrows(NullPointerException.class, () -> MyCrmFormatConverter.convert(null, storage));
+        assertThrows(NullPointerException.class, () -> MyCrmFormatConverter.convert(storage, null));
+    }
+
+    @Test
+    public void jsonToBinary_missingSource_returnsFalse() throws Exception {
+        Path binaryFilePath = testFolder.resolve("myCrm.bin");
+        assertFalse(MyCrmFormatConverter.jsonToBinary(testFolder.resolve("NonExistentFile.json"), binaryFilePath));
+        assertFalse(Files.exists(binaryFilePath));
+    }
+
+    @Test
+    public void jsonToBinary_invalidSource_throwsDataConversionException() {
+        Path binaryFilePath = testFolder.resolve("myCrm.bin");
+        assertThrows(DataConversionException.class, () -> MyCrmFormatConverter.jsonToBinary(
+                TEST_DATA_FOLDER.resolve("invalidAndValidContactMyCrm.json"), binaryFilePath));
+        assertFalse(Files.exists(binaryFilePath));
+    }
+
+    @Test
+    public void jsonToBinaryToJson_sameData() throws Exception {
+        Path jsonFilePath = testFolder.resolve("myCrm.json");
+        Path binaryFilePath = testFolder.resolve("myCrm.bin");
+        Path convertedFilePath = testFolder.resolve("converted.json");
+        MyCrm original = getFullMyCrm();
+        new JsonMyCrmStorage(jsonFilePath).saveMyCrm(original);
+
+        assertTrue(MyCrmFormatConverter.jsonToBinary(jsonFilePath, binaryFilePath));
+        assertSameData(original, new BinaryMyCrmStorage(binaryFilePath).readMyCrm().get());
+
+        assertTrue(MyCrmFormatConverter.binaryToJson(binaryFilePath, convertedFilePath));
+        assertSameData(original, new JsonMyCrmStorage(convertedFilePath).readMyCrm().get());
+    }
+}
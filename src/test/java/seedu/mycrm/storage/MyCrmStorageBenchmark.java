@@ -0,0 +1,119 @@
+package seedu.mycrm.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.mycrm.model.MyCrm;
+import seedu.mycrm.model.contact.Contact;
+import seedu.mycrm.model.product.Product;
+import seedu.mycrm.testutil.ContactBuilder;
+import seedu.mycrm.testutil.JobBuilder;
+import seedu.mycrm.testutil.ProductBuilder;
+
+/**
+ * Compares the save time, load time and file size of the json and binary data formats
+ * on generated MyCrm data. Run with {@code gradlew benchmark}, optionally passing the number of jobs
+ * as {@code --args=<jobs>}.
+ */
+public class MyCrmStorageBenchmark {
+
+    private static final int DEFAULT_JOB_COUNT = 20000;
+    private static final int JOBS_PER_CONTACT = 4;
+    private static final int JOBS_PER_PRODUCT = 50;
+    private static final String[] MANUFACTURERS = {"Intel", "AMD", "Asus", "Samsung", "Gigabyte"};
+    private static final String[] TAGS = {"regular", "corporate", "student", "owesMoney"};
+    private static final int WARM_UP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+
+    public static void main(String[] args) throws Exception {
+        int jobCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_JOB_COUNT;
+        MyCrm myCrm = generateMyCrm(jobCount);
+        System.out.printf("%d contacts, %d products, %d jobs%n", myCrm.getContactList().size(),
+                myCrm.getProductList().size(), myCrm.getJobList().size());
+        System.out.printf("%-20s %12s %12s %12s%n", "format", "save (ms)", "load (ms)", "size (KiB)");
+
+        Path folder = Files.createTempDirectory("myCrmBenchmark");
+        try {
+            JsonMyCrmStorage json = new JsonMyCrmStorage(folder.resolve("myCrm.json"));
+            BinaryMyCrmStorage binary = new BinaryMyCrmStorage(folder.resolve("myCrm.bin"));
+            BinaryMyCrmStorage uncompressedBinary = new BinaryMyCrmStorage(folder.resolve("uncompressed.bin"));
+            uncompressedBinary.setCompressed(false);
+
+            run("json", json, myCrm);
+            run("binary", binary, myCrm);
+            run("binary uncompressed", uncompressedBinary, myCrm);
+        } finally {
+            for (String fileName : new String[] {"myCrm.json", "myCrm.bin", "uncompressed.bin"}) {
+                Files.deleteIfExists(folder.resolve(fileName));
+            }
+            Files.deleteIfExists(folder);
+        }
+    }
+
+    private static void run(String format, MyCrmStorage storage, MyCrm myCrm) throws Exception {
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            storage.saveMyCrm(myCrm);
+            storage.readMyCrm();
+        }
+
+        long saveNanos = 0;
+        long loadNanos = 0;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            storage.saveMyCrm(myCrm);
+            saveNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            storage.readMyCrm();
+            loadNanos += System.nanoTime() - start;
+        }
+
+        Path filePath = storage.getMyCrmFilePath();
+        System.out.printf("%-20s %12.1f %12.1f %12.1f%n", format, saveNanos / 1e6 / MEASURED_RUNS,
+                loadNanos / 1e6 / MEASURED_RUNS, Files.size(filePath) / 1024.0);
+    }
+
+    /**
+     * Returns a MyCrm with {@code jobCount} jobs, and contacts and products shared between them.
+     */
+    private static MyCrm generateMyCrm(int jobCount) {
+        MyCrm myCrm = new MyCrm();
+
+        List<Contact> contacts = new ArrayList<>();
+        for (int i = 0; i < Math.max(1, jobCount / JOBS_PER_CONTACT); i++) {
+            Contact contact = new ContactBuilder().withName("Client " + i)
+                    .withPhone(String.valueOf(80000000 + i))
+                    .withEmail("client" + i + "@example.com")
+                    .withAddress("Blk " + i + " Clementi Ave 3, #0" + (i % 9 + 1) + "-01")
+                    .withTags(TAGS[i % TAGS.length]).build();
+            contacts.add(contact);
+            myCrm.addContact(contact);
+        }
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < Math.max(1, jobCount / JOBS_PER_PRODUCT); i++) {
+            String manufacturer = MANUFACTURERS[i % MANUFACTURERS.length];
+            Product product = new ProductBuilder().withName(manufacturer + " Part " + i).withType("Component")
+                    .withManufacturer(manufacturer).withDescription("Model " + i).build();
+            products.add(product);
+            myCrm.addProduct(product);
+        }
+
+        for (int i = 0; i < jobCount; i++) {
+            int day = i % 28 + 1;
+            JobBuilder job = new JobBuilder().withJobDescription("Repair job " + i)
+                    .withClient(contacts.get(i % contacts.size()))
+                    .withProduct(products.get(i % products.size()))
+                    .withReceivedDate(String.format("%02d/01/2021", day))
+                    .withExpectedCompletionDate(String.format("%02d/02/2021", day))
+                    .withFee(String.format("$%d.%02d", 20 + i % 200, i % 100));
+            if (i % 2 == 0) {
+                job.withCompletionStatus(true).withCompletionDate(String.format("%02d/03/2021", day));
+            }
+            myCrm.addJob(job.build());
+        }
+        return myCrm;
+    }
+}
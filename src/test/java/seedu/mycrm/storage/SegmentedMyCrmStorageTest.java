@@ -0,0 +1,131 @@
+package seedu.mycrm.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mycrm.testutil.TypicalContacts.HOON;
+import static seedu.mycrm.testutil.TypicalTemplates.COMPLETED;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.mycrm.commons.util.JsonUtil;
+import seedu.mycrm.model.MyCrm;
+import seedu.mycrm.model.MyCrmSegment;
+import seedu.mycrm.model.ReadOnlyMyCrm;
+import seedu.mycrm.testutil.TypicalJobs;
+
+public class SegmentedMyCrmStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        SegmentedMyCrmStorage storage = new SegmentedMyCrmStorage(testFolder.resolve("NonExistentFile.json"));
+        assertFalse(storage.readMyCrm().isPresent());
+    }
+
+    @Test
+    public void save_oneSegmentChanged_onlyChangedSegmentWritten() throws Exception {
+        Path filePath = testFolder.resolve("myCrm.json");
+        SegmentedMyCrmStorage storage = new SegmentedMyCrmStorage(filePath);
+        MyCrm original = TypicalJobs.getTypicalMyCrm();
+        storage.saveMyCrm(original);
+        JsonAdaptedSegmentManifest manifest = readManifest(storage);
+
+        original.addContact(HOON);
+        storage.saveMyCrm(original);
+        JsonAdaptedSegmentManifest newManifest = readManifest(storage);
+
+        assertNotEquals(manifest.getSegmentFileName(MyCrmSegment.CONTACTS),
+                newManifest.getSegmentFileName(MyCrmSegment.CONTACTS));
+        for (MyCrmSegment segment : List.of(MyCrmSegment.TEMPLATES, MyCrmSegment.PRODUCTS, MyCrmSegment.JOBS)) {
+            assertEquals(manifest.getSegmentFileName(segment), newManifest.getSegmentFileName(segment));
+        }
+        // the replaced contacts segment file and its checksum are deleted
+        assertEquals(2 * MyCrmSegment.values().length + 1, countFiles());
+        assertSameData(original, new SegmentedMyCrmStorage(filePath).readMyCrm().get());
+    }
+
+    @Test
+    public void save_noChanges_nothingWritten() throws Exception {
+        Path filePath = testFolder.resolve("myCrm.json");
+        SegmentedMyCrmStorage storage = new SegmentedMyCrmStorage(filePath);
+        MyCrm original = TypicalJobs.getTypicalMyCrm();
+        storage.saveMyCrm(original);
+        JsonAdaptedSegmentManifest manifest = readManifest(storage);
+
+        storage.saveMyCrm(original);
+
+        assertEquals(manifest.getGeneration(), readManifest(storage).getGeneration());
+    }
+
+    @Test
+    public void save_differentMyCrmWithSameData_allSegmentsWritten() throws Exception {
+        Path filePath = testFolder.resolve("myCrm.json");
+        SegmentedMyCrmStorage storage = new SegmentedMyCrmStorage(filePath);
+        MyCrm original = TypicalJobs.getTypicalMyCrm();
+        storage.saveMyCrm(original);
+        long generation = readManifest(storage).getGeneration();
+
+        storage.saveMyCrm(new MyCrm(original));
+
+        assertEquals(generation + MyCrmSegment.values().length, readManifest(storage).getGeneration());
+    }
+
+    @Test
+    public void save_continuesAfterRead() throws Exception {
+        Path filePath = testFolder.resolve("myCrm.json");
+        new SegmentedMyCrmStorage(filePath).saveMyCrm(TypicalJobs.getTypicalMyCrm());
+
+        SegmentedMyCrmStorage storage = new SegmentedMyCrmStorage(filePath);
+        MyCrm readBack = (MyCrm) storage.readMyCrm().get();
+        JsonAdaptedSegmentManifest manifest = readManifest(storage);
+        readBack.addTemplate(COMPLETED);
+        storage.saveMyCrm(readBack);
+
+        JsonAdaptedSegmentManifest newManifest = readManifest(storage);
+        assertEquals(manifest.getGeneration() + 1, newManifest.getGeneration());
+        assertSameData(readBack, new SegmentedMyCrmStorage(filePath).readMyCrm().get());
+    }
+
+    @Test
+    public void read_singleFileData_readAndConvertedOnSave() throws Exception {
+        Path filePath = testFolder.resolve("myCrm.json");
+        MyCrm original = TypicalJobs.getTypicalMyCrm();
+        new JsonMyCrmStorage(filePath).saveMyCrm(original);
+
+        SegmentedMyCrmStorage storage = new SegmentedMyCrmStorage(filePath);
+        ReadOnlyMyCrm readBack = storage.readMyCrm().get();
+        assertSameData(original, readBack);
+        assertFalse(Files.exists(storage.getManifestFilePath()));
+
+        storage.saveMyCrm(readBack);
+        assertTrue(Files.exists(storage.getManifestFilePath()));
+        assertSameData(original, new SegmentedMyCrmStorage(filePath).readMyCrm().get());
+    }
+
+    private static JsonAdaptedSegmentManifest readManifest(SegmentedMyCrmStorage storage) throws Exception {
+        return JsonUtil.readJsonFile(storage.getManifestFilePath(), JsonAdaptedSegmentManifest.class).get();
+    }
+
+    private long countFiles() throws Exception {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            return files.count();
+        }
+    }
+
+    private static void assertSameData(ReadOnlyMyCrm expected, ReadOnlyMyCrm actual) {
+        assertEquals(expected.getContactList(), actual.getContactList());
+        assertEquals(expected.getTemplateList(), actual.getTemplateList());
+        assertEquals(expected.getProductList(), actual.getProductList());
+        assertEquals(expected.getJobList(), actual.getJobList());
+    }
+}
@@ -3,8 +3,11 @@ package seedu.mycrm.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static seedu.mycrm.testutil.TypicalContacts.getTypicalMyCrm;
+import static seedu.mycrm.testutil.TypicalHistories.HISTORY_ONE;
+import static seedu.mycrm.testutil.TypicalHistories.HISTORY_TWO;
 
 import java.nio.file.Path;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,6 +63,20 @@ public class StorageManagerTest {
         assertEquals(original, new MyCrm(retrieved));
     }
 
+    @Test
+    public void commandHistoryAppendRead() throws Exception {
+        /*
+         * Note: This is an integration test that verifies the StorageManager is properly wired to the
+         * {@link TextCommandHistoryStorage} class.
+         * More extensive testing of command history saving/reading is done in
+         * {@link TextCommandHistoryStorageTest} class.
+         */
+        storageManager.appendCommandHistory(HISTORY_ONE);
+        storageManager.appendCommandHistory(HISTORY_TWO);
+        assertEquals(Arrays.asList(HISTORY_ONE, HISTORY_TWO), storageManager.readCommandHistory());
+        assertEquals(getTempFilePath("ab.history"), storageManager.getCommandHistoryFilePath());
+    }
+
     @Test
     public void getMyCrmFilePath() {
         assertNotNull(storageManager.getMyCrmFilePath());
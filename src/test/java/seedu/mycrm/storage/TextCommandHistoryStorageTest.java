@@ -0,0 +1,106 @@
+package seedu.mycrm.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mycrm.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.mycrm.model.history.History;
+
+public class TextCommandHistoryStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getHistoryFilePath_jsonFile_siblingFile() {
+        assertEquals(testFolder.resolve("myCrm.history"),
+                TextCommandHistoryStorage.getHistoryFilePath(testFolder.resolve("myCrm.json")));
+    }
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new TextCommandHistoryStorage(testFolder.resolve("myCrm.history"), 0));
+    }
+
+    @Test
+    public void readCommandHistory_missingFile_emptyList() throws Exception {
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(testFolder.resolve("missing.history"));
+        assertTrue(storage.readCommandHistory().isEmpty());
+    }
+
+    @Test
+    public void appendCommandHistory_thenRead_sameCommands() throws Exception {
+        Path filePath = testFolder.resolve("sub").resolve("myCrm.history");
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(filePath);
+        List<History> histories = List.of(new History("listJob"), new History("findContact a\\b"),
+                new History("line\nbreak"), new History(""));
+        for (History history : histories) {
+            storage.appendCommandHistory(history);
+        }
+
+        // empty commands are not read back
+        assertEquals(histories.subList(0, 3), new TextCommandHistoryStorage(filePath).readCommandHistory());
+    }
+
+    @Test
+    public void readCommandHistory_moreThanCapacity_latestCommandsOnly() throws Exception {
+        Path filePath = testFolder.resolve("myCrm.history");
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(filePath, 3);
+        List<History> histories = appendCommands(storage, 5);
+
+        assertEquals(histories.subList(2, 5), new TextCommandHistoryStorage(filePath, 3).readCommandHistory());
+    }
+
+    @Test
+    public void appendCommandHistory_twiceCapacity_fileCompacted() throws Exception {
+        Path filePath = testFolder.resolve("myCrm.history");
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(filePath, 3);
+        List<History> histories = appendCommands(storage, 6);
+
+        assertEquals(3, Files.readAllLines(filePath, StandardCharsets.UTF_8).size());
+        assertEquals(histories.subList(3, 6), storage.readCommandHistory());
+
+        storage.appendCommandHistory(new History("command 6"));
+        assertEquals(4, Files.readAllLines(filePath, StandardCharsets.UTF_8).size());
+    }
+
+    @Test
+    public void clearCommandHistory_removesCommands() throws Exception {
+        Path filePath = testFolder.resolve("myCrm.history");
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(filePath);
+        appendCommands(storage, 2);
+
+        storage.clearCommandHistory();
+        assertFalse(Files.exists(filePath));
+        assertTrue(storage.readCommandHistory().isEmpty());
+    }
+
+    @Test
+    public void decode_encodedCommand_sameCommand() {
+        String command = "a\\nb\\\\c\nd\re\\";
+        String encoded = TextCommandHistoryStorage.encode(command);
+        assertFalse(encoded.contains("\n") || encoded.contains("\r"));
+        assertEquals(command, TextCommandHistoryStorage.decode(encoded));
+    }
+
+    private static List<History> appendCommands(CommandHistoryStorage storage, int count) throws Exception {
+        List<History> histories = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            History history = new History("command " + i);
+            storage.appendCommandHistory(history);
+            histories.add(history);
+        }
+        return histories;
+    }
+}
@@ -0,0 +1,163 @@
+package seedu.mycrm.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mycrm.testutil.Assert.assertThrows;
+import static seedu.mycrm.testutil.TypicalContacts.HOON;
+import static seedu.mycrm.testutil.TypicalContacts.IDA;
+import static seedu.mycrm.testutil.TypicalContacts.getTypicalMyCrm;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.mycrm.model.MyCrm;
+import seedu.mycrm.model.ReadOnlyMyCrm;
+
+public class WriteBehindMyCrmStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveMyCrm_writtenInBackground_snapshotUnaffectedByLaterChanges() throws Exception {
+        MyCrmStorageStub stub = new MyCrmStorageStub();
+        List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+        WriteBehindMyCrmStorage storage = new WriteBehindMyCrmStorage(stub, failures::add);
+        MyCrm myCrm = getTypicalMyCrm();
+
+        storage.saveMyCrm(myCrm);
+        int savedSize = myCrm.getContactList().size();
+        myCrm.addContact(HOON);
+        storage.flush();
+
+        assertEquals(1, stub.saved.size());
+        assertEquals(savedSize, stub.saved.get(0).getContactList().size());
+        assertTrue(failures.isEmpty());
+        storage.close();
+    }
+
+    @Test
+    public void saveMyCrm_burstOfSaves_coalesced() throws Exception {
+        MyCrmStorageStub stub = new MyCrmStorageStub();
+        stub.blockWrites();
+        WriteBehindMyCrmStorage storage = new WriteBehindMyCrmStorage(stub, e -> { });
+        MyCrm myCrm = getTypicalMyCrm();
+
+        storage.saveMyCrm(myCrm);
+        assertTrue(stub.writeStarted.await(5, TimeUnit.SECONDS));
+        myCrm.addContact(HOON);
+        storage.saveMyCrm(myCrm);
+        myCrm.addContact(IDA);
+        storage.saveMyCrm(myCrm);
+        stub.unblockWrites();
+        storage.flush();
+
+        // the first write was in progress, the two saves queued behind it result in a single write
+        assertEquals(2, stub.saved.size());
+        assertEquals(myCrm.getContactList(), stub.saved.get(1).getContactList());
+        storage.close();
+    }
+
+    @Test
+    public void saveMyCrm_writeFails_failureReportedAndRetriedOnFlush() throws Exception {
+        MyCrmStorageStub stub = new MyCrmStorageStub();
+        stub.failingWrites = 1;
+        List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+        WriteBehindMyCrmStorage storage = new WriteBehindMyCrmStorage(stub, failures::add);
+        MyCrm myCrm = getTypicalMyCrm();
+
+        storage.saveMyCrm(myCrm);
+        storage.close();
+
+        assertEquals(1, failures.size());
+        assertEquals(1, stub.saved.size());
+        assertEquals(myCrm.getContactList(), stub.saved.get(0).getContactList());
+    }
+
+    @Test
+    public void close_writesKeepFailing_throwsIoException() throws Exception {
+        MyCrmStorageStub stub = new MyCrmStorageStub();
+        stub.failingWrites = Integer.MAX_VALUE;
+        WriteBehindMyCrmStorage storage = new WriteBehindMyCrmStorage(stub, e -> { });
+
+        storage.saveMyCrm(getTypicalMyCrm());
+        assertThrows(IOException.class, storage::close);
+    }
+
+    @Test
+    public void readMyCrm_pendingWrites_readsLatestData() throws Exception {
+        Path filePath = testFolder.resolve("myCrm.json");
+        WriteBehindMyCrmStorage storage = new WriteBehindMyCrmStorage(new JsonMyCrmStorage(filePath), e -> { });
+        MyCrm myCrm = getTypicalMyCrm();
+
+        storage.saveMyCrm(myCrm);
+        myCrm.addContact(HOON);
+        storage.saveMyCrm(myCrm);
+
+        assertEquals(myCrm, new MyCrm(storage.readMyCrm().get()));
+        storage.close();
+    }
+
+    /**
+     * A {@code MyCrmStorage} stub that records the data it is asked to save.
+     */
+    private static class MyCrmStorageStub implements MyCrmStorage {
+        private final List<ReadOnlyMyCrm> saved = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private CountDownLatch writeAllowed = new CountDownLatch(0);
+        private volatile int failingWrites;
+
+        void blockWrites() {
+            writeAllowed = new CountDownLatch(1);
+        }
+
+        void unblockWrites() {
+            writeAllowed.countDown();
+        }
+
+        @Override
+        public Path getMyCrmFilePath() {
+            return Paths.get("myCrm.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyMyCrm> readMyCrm() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyMyCrm> readMyCrm(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveMyCrm(ReadOnlyMyCrm myCrm) throws IOException {
+            saveMyCrm(myCrm, getMyCrmFilePath());
+        }
+
+        @Override
+        public void saveMyCrm(ReadOnlyMyCrm myCrm, Path filePath) throws IOException {
+            writeStarted.countDown();
+            try {
+                writeAllowed.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            if (failingWrites > 0) {
+                failingWrites--;
+                throw new IOException("Write failed");
+            }
+            saved.add(myCrm);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.mycrm.testutil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Threads that read repeatedly, each at least once, until stopped, while a test makes changes on its own thread.
+ * Whatever the reads throw, such as a failed assertion, is collected for the test to check.
+ */
+public class ConcurrentReaders {
+
+    private final List<Thread> threads = new ArrayList<>();
+    private final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+    private volatile boolean isStopped;
+
+    /**
+     * Starts {@code count} threads that each run {@code read} repeatedly.
+     */
+    public ConcurrentReaders(int count, Runnable read) {
+        for (int i = 0; i < count; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    do {
+                        read.run();
+                    } while (!isStopped);
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            }, "Test reader " + i);
+            thread.setDaemon(true);
+            threads.add(thread);
+        }
+        threads.forEach(Thread::start);
+    }
+
+    /**
+     * Stops the readers, waits for them to finish, and returns what their reads threw.
+     */
+    public List<Throwable> stop() throws InterruptedException {
+        isStopped = true;
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return new ArrayList<>(failures);
+    }
+}
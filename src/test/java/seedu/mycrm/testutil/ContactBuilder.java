@@ -21,6 +21,7 @@ public class ContactBuilder {
     public static final String DEFAULT_EMAIL = "amy@gmail.com";
     public static final String DEFAULT_ADDRESS = "123, Jurong West Ave 6, #08-111";
 
+    private Long id;
     private Name name;
     private Phone phone;
     private Email email;
@@ -42,6 +43,7 @@ public class ContactBuilder {
      * Initializes the ContactBuilder with the data of {@code contactToCopy}.
      */
     public ContactBuilder(Contact contactToCopy) {
+        id = contactToCopy.getId();
         name = contactToCopy.getName();
         phone = contactToCopy.getPhone();
         email = contactToCopy.getEmail();
@@ -49,6 +51,14 @@ public class ContactBuilder {
         tags = new HashSet<>(contactToCopy.getTags());
     }
 
+    /**
+     * Sets the id of the {@code Contact} that we are building.
+     */
+    public ContactBuilder withId(long id) {
+        this.id = id;
+        return this;
+    }
+
     /**
      * Sets the {@code Name} of the {@code Contact} that we are building.
      */
@@ -101,8 +111,14 @@ public class ContactBuilder {
         return this;
     }
 
+    /**
+     * Builds the contact, with the id of the contact copied if any, or a new id otherwise.
+     */
     public Contact build() {
-        return new Contact(name, phone, email, address, tags);
+        if (id == null) {
+            return new Contact(name, phone, email, address, tags);
+        }
+        return new Contact(id, name, phone, email, address, tags, false);
     }
 
 }
@@ -3,6 +3,7 @@ package seedu.mycrm.testutil;
 import static seedu.mycrm.testutil.TypicalContacts.ALICE;
 import static seedu.mycrm.testutil.TypicalProducts.ASUS_GPU;
 
+import seedu.mycrm.model.EntityId;
 import seedu.mycrm.model.contact.Contact;
 import seedu.mycrm.model.job.Job;
 import seedu.mycrm.model.job.JobDate;
@@ -24,8 +25,8 @@ public class JobBuilder {
     private static final String DEFAULT_FEE = "$30.00";
 
     private JobDescription jobDescription;
-    private Contact client;
-    private Product product;
+    private long clientId;
+    private long productId;
     private JobDate expectedCompletionDate;
     private JobStatus completionStatus;
     private JobDate receivedDate;
@@ -39,8 +40,8 @@ public class JobBuilder {
         jobDescription = new JobDescription(DEFAULT_JOB_DESCRIPTION);
         expectedCompletionDate = new JobDate(DEFAULT_EXPECTED_COMPLETION_DATE);
         completionStatus = new JobStatus(DEFAULT_COMPLETION_STATUS);
-        client = ALICE;
-        product = ASUS_GPU;
+        clientId = ALICE.getId();
+        productId = ASUS_GPU.getId();
         receivedDate = new JobDate(DEFAULT_RECEIVED_DATE);
         completionDate = null;
         fee = new JobFee(DEFAULT_FEE);
@@ -52,8 +53,8 @@ public class JobBuilder {
     public JobBuilder(Job jobToCopy) {
         jobDescription = jobToCopy.getJobDescription();
         expectedCompletionDate = jobToCopy.getExpectedCompletionDate();
-        client = jobToCopy.getClient();
-        product = jobToCopy.getProduct();
+        clientId = jobToCopy.getClientId();
+        productId = jobToCopy.getProductId();
         completionStatus = jobToCopy.getJobStatus();
         receivedDate = jobToCopy.getReceivedDate();
         completionDate = jobToCopy.getCompletionDate();
@@ -77,18 +78,18 @@ public class JobBuilder {
     }
 
     /**
-     * Sets the {@code client} of the {@code Job} that we are building.
+     * Sets the {@code client} of the {@code Job} that we are building, or no client if {@code client} is null.
      */
     public JobBuilder withClient(Contact client) {
-        this.client = client;
+        this.clientId = client == null ? EntityId.NONE : client.getId();
         return this;
     }
 
     /**
-     * Sets the {@code product} of the {@code Job} that we are building.
+     * Sets the {@code product} of the {@code Job} that we are building, or no product if {@code product} is null.
      */
     public JobBuilder withProduct(Product product) {
-        this.product = product;
+        this.productId = product == null ? EntityId.NONE : product.getId();
         return this;
     }
 
@@ -128,7 +129,7 @@ public class JobBuilder {
      * Constructs the job object.
      */
     public Job build() {
-        return new Job(jobDescription, client, product, expectedCompletionDate, completionStatus,
+        return new Job(jobDescription, clientId, productId, expectedCompletionDate, completionStatus,
                 receivedDate, completionDate, fee);
     }
 }
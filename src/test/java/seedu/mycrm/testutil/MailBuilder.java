@@ -1,5 +1,8 @@
 package seedu.mycrm.testutil;
 
+import static seedu.mycrm.testutil.TypicalContacts.ALICE;
+
+import seedu.mycrm.model.contact.Email;
 import seedu.mycrm.model.job.Job;
 import seedu.mycrm.model.mail.Mail;
 import seedu.mycrm.model.mail.Template;
@@ -10,6 +13,7 @@ import seedu.mycrm.model.mail.Template;
 public class MailBuilder {
     private Job job;
     private Template template;
+    private Email email;
 
     /**
      * Creates a {@code MailBuilder} with the default details.
@@ -17,6 +21,7 @@ public class MailBuilder {
     public MailBuilder() {
         job = new JobBuilder().build();
         template = new TemplateBuilder().build();
+        email = ALICE.getEmail();
     }
 
     /**
@@ -25,6 +30,7 @@ public class MailBuilder {
     public MailBuilder(Mail mailToCopy) {
         job = mailToCopy.getJob();
         template = mailToCopy.getTemplate();
+        email = new Email(mailToCopy.getMailEmail());
     }
 
     /**
@@ -43,8 +49,16 @@ public class MailBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Email} the {@code Mail} that we are building is sent to.
+     */
+    public MailBuilder withEmail(Email email) {
+        this.email = email;
+        return this;
+    }
+
     public Mail build() {
-        return new Mail(job, template);
+        return new Mail(job, template, email);
     }
 
 }
@@ -31,6 +31,7 @@ public class ProductBuilder {
     public static final Description DEFAULT_PRODUCT_FOUR_DESCRIPTION = Description.getDescription(
             "Chipset type: AMD B450");
 
+    private Long id;
     private ProductName name;
     private Type type;
     private Manufacturer manufacturer;
@@ -74,6 +75,7 @@ public class ProductBuilder {
      * Creates a product builder with provided product.
      */
     public ProductBuilder(Product product) {
+        this.id = product.getId();
         this.name = product.getName();
         this.type = product.getType();
         this.manufacturer = product.getManufacturer();
@@ -148,8 +150,14 @@ public class ProductBuilder {
         return this;
     }
 
+    /**
+     * Builds the product, with the id of the product copied if any, or a new id otherwise.
+     */
     public Product build() {
-        return new Product(name, type, manufacturer, description);
+        if (id == null) {
+            return new Product(name, type, manufacturer, description);
+        }
+        return new Product(id, name, type, manufacturer, description);
     }
 
     public enum DefaultProductIndex { ONE, TWO, THREE, FOUR };
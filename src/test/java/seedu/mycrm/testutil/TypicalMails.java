@@ -4,8 +4,10 @@ import static seedu.mycrm.logic.commands.CommandTestUtil.VALID_BODY_COMPLETE;
 import static seedu.mycrm.logic.commands.CommandTestUtil.VALID_BODY_DONE;
 import static seedu.mycrm.logic.commands.CommandTestUtil.VALID_SUBJECT_COMPLETE;
 import static seedu.mycrm.logic.commands.CommandTestUtil.VALID_SUBJECT_DONE;
+import static seedu.mycrm.testutil.TypicalContacts.CARL;
 import static seedu.mycrm.testutil.TypicalContacts.FIONA;
 import static seedu.mycrm.testutil.TypicalJobs.CARL_JOB;
+import static seedu.mycrm.testutil.TypicalProducts.ASUS_GPU;
 
 import seedu.mycrm.model.MyCrm;
 import seedu.mycrm.model.contact.Contact;
@@ -36,11 +38,13 @@ public class TypicalMails {
     private TypicalMails() {}
 
     /**
-     * Returns an {@code MyCrm} with all the typical templates.
+     * Returns an {@code MyCrm} with all the typical templates, and a job with its client and product.
      */
     public static MyCrm getTypicalMyCrm() {
         MyCrm ab = new MyCrm();
         ab.addTemplate(COMPLETED_TEMPLATE);
+        ab.addContact(CARL);
+        ab.addProduct(ASUS_GPU);
         ab.addJob(CARL_JOB);
         return ab;
     }